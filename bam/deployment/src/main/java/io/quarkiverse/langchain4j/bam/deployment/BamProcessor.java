@@ -2,6 +2,7 @@ package io.quarkiverse.langchain4j.bam.deployment;
 
 import static io.quarkiverse.langchain4j.deployment.Langchain4jDotNames.CHAT_MODEL;
 import static io.quarkiverse.langchain4j.deployment.Langchain4jDotNames.EMBEDDING_MODEL;
+import static io.quarkiverse.langchain4j.deployment.Langchain4jDotNames.STREAMING_CHAT_MODEL;
 
 import java.util.List;
 
@@ -61,14 +62,25 @@ public class BamProcessor {
         for (var selected : selectedChatItem) {
             if (PROVIDER.equals(selected.getProvider())) {
                 String modelName = selected.getModelName();
+                // the model is also the streaming model, both beans are created from the same configuration
+                var chatModel = recorder.chatModel(config, modelName);
                 var builder = SyntheticBeanBuildItem
                         .configure(CHAT_MODEL)
                         .setRuntimeInit()
                         .defaultBean()
                         .scope(ApplicationScoped.class)
-                        .supplier(recorder.chatModel(config, modelName));
+                        .supplier(chatModel);
                 addQualifierIfNecessary(builder, modelName);
                 beanProducer.produce(builder.done());
+
+                var streamingBuilder = SyntheticBeanBuildItem
+                        .configure(STREAMING_CHAT_MODEL)
+                        .setRuntimeInit()
+                        .defaultBean()
+                        .scope(ApplicationScoped.class)
+                        .supplier(chatModel);
+                addQualifierIfNecessary(streamingBuilder, modelName);
+                beanProducer.produce(streamingBuilder.done());
             }
         }
 
@@ -0,0 +1,125 @@
+package io.quarkiverse.langchain4j.bam.deployment;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import io.quarkiverse.langchain4j.bam.BamRestApi;
+import io.quarkiverse.langchain4j.bam.EmbeddingRequest;
+import io.quarkiverse.langchain4j.bam.EmbeddingResponse;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class EmbeddingModelTest {
+
+    static String URL_EMBEDDING_API = "/v2/text/embeddings?version=%s".formatted(WireMockUtil.VERSION);
+    static String MODEL_ID = "ibm/slate.30m.english.rtrvr-26.10.2023";
+
+    static WireMockServer wireMockServer;
+    static ObjectMapper mapper;
+
+    @RegisterExtension
+    static QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .overrideRuntimeConfigKey("quarkus.langchain4j.bam.base-url", WireMockUtil.URL)
+            .overrideRuntimeConfigKey("quarkus.langchain4j.bam.api-key", WireMockUtil.API_KEY)
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClass(WireMockUtil.class));
+
+    @Inject
+    EmbeddingModel model;
+
+    @BeforeAll
+    static void beforeAll() {
+        wireMockServer = new WireMockServer(options().port(WireMockUtil.PORT));
+        wireMockServer.start();
+        mapper = BamRestApi.objectMapper(new ObjectMapper());
+    }
+
+    @AfterAll
+    static void afterAll() {
+        wireMockServer.stop();
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        wireMockServer.resetAll();
+    }
+
+    @Test
+    void should_batch_inputs_and_keep_their_order() throws Exception {
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < 45; i++) {
+            segments.add(TextSegment.from("text " + i));
+        }
+        stubBatch(segments.subList(0, 20), 0);
+        stubBatch(segments.subList(20, 40), 20);
+        stubBatch(segments.subList(40, 45), 40);
+
+        List<Embedding> embeddings = model.embedAll(segments).content();
+
+        assertEquals(45, embeddings.size());
+        for (int i = 0; i < embeddings.size(); i++) {
+            assertEquals(i, embeddings.get(i).vector()[0]);
+        }
+        wireMockServer.verify(3, postRequestedFor(urlEqualTo(URL_EMBEDDING_API)));
+    }
+
+    @Test
+    void should_retry_failed_batch() throws Exception {
+        String body = mapper.writeValueAsString(new EmbeddingRequest(MODEL_ID, List.of("retry")));
+        wireMockServer.stubFor(post(urlEqualTo(URL_EMBEDDING_API))
+                .inScenario("retry")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willSetStateTo("failed")
+                .withRequestBody(equalToJson(body))
+                .willReturn(aResponse().withStatus(503).withHeader("Content-Type", "text/plain").withBody("unavailable")));
+        wireMockServer.stubFor(post(urlEqualTo(URL_EMBEDDING_API))
+                .inScenario("retry")
+                .whenScenarioStateIs("failed")
+                .withRequestBody(equalToJson(body))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(mapper.writeValueAsString(new EmbeddingResponse(List.of(List.of(1f, 2f)))))));
+
+        Embedding embedding = model.embed("retry").content();
+
+        assertEquals(List.of(1f, 2f), embedding.vectorAsList());
+        wireMockServer.verify(2, postRequestedFor(urlEqualTo(URL_EMBEDDING_API)));
+    }
+
+    private void stubBatch(List<TextSegment> segments, int firstIndex) throws Exception {
+        List<String> input = new ArrayList<>();
+        List<List<Float>> results = new ArrayList<>();
+        for (int i = 0; i < segments.size(); i++) {
+            input.add(segments.get(i).text());
+            results.add(List.of((float) (firstIndex + i)));
+        }
+        wireMockServer.stubFor(post(urlEqualTo(URL_EMBEDDING_API))
+                .withRequestBody(equalToJson(mapper.writeValueAsString(new EmbeddingRequest(MODEL_ID, input))))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(mapper.writeValueAsString(new EmbeddingResponse(results)))));
+    }
+}
@@ -0,0 +1,135 @@
+package io.quarkiverse.langchain4j.bam.deployment;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.chat.TokenCountEstimator;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.Response;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StreamingTest {
+
+    static WireMockServer wireMockServer;
+    static WireMockUtil mockServers;
+
+    @RegisterExtension
+    static QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .overrideRuntimeConfigKey("quarkus.langchain4j.bam.base-url", WireMockUtil.URL)
+            .overrideRuntimeConfigKey("quarkus.langchain4j.bam.api-key", WireMockUtil.API_KEY)
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClass(WireMockUtil.class));
+
+    @Inject
+    StreamingChatLanguageModel model;
+
+    @BeforeAll
+    static void beforeAll() {
+        wireMockServer = new WireMockServer(options().port(WireMockUtil.PORT));
+        wireMockServer.start();
+        mockServers = new WireMockUtil(wireMockServer);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void generate() throws Exception {
+
+        mockServers.mockStreamingBuilder(200)
+                .response(
+                        """
+                                id: 1
+                                event: message
+                                data: {"results":[{"generated_text":"","generated_token_count":0,"input_token_count":12,"stop_reason":"NOT_FINISHED"}]}
+
+                                id: 2
+                                event: message
+                                data: {"results":[{"generated_text":"Hello","generated_token_count":1,"stop_reason":"NOT_FINISHED"}]}
+
+                                id: 3
+                                event: message
+                                data: {"results":[{"generated_text":" world","generated_token_count":2,"stop_reason":"NOT_FINISHED"}]}
+
+                                id: 4
+                                event: message
+                                data: {"results":[{"generated_text":"","generated_token_count":2,"stop_reason":"EOS_TOKEN"}]}
+
+                                """)
+                .build();
+
+        List<String> tokens = new CopyOnWriteArrayList<>();
+        CompletableFuture<Response<AiMessage>> future = new CompletableFuture<>();
+        model.generate("Hi", new StreamingResponseHandler<>() {
+
+            @Override
+            public void onNext(String token) {
+                tokens.add(token);
+            }
+
+            @Override
+            public void onComplete(Response<AiMessage> response) {
+                future.complete(response);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                future.completeExceptionally(error);
+            }
+        });
+
+        Response<AiMessage> response = future.get(10, TimeUnit.SECONDS);
+        assertEquals(List.of("Hello", " world"), tokens);
+        assertEquals("Hello world", response.content().text());
+        assertEquals(12, response.tokenUsage().inputTokenCount());
+        assertEquals(2, response.tokenUsage().outputTokenCount());
+        assertEquals(FinishReason.STOP, response.finishReason());
+    }
+
+    @Test
+    void tokenization_is_cached() {
+
+        mockServers.mockTokenizationBuilder(200)
+                .response("""
+                        {
+                            "model_id": "meta-llama/llama-2-70b-chat",
+                            "results": [{ "token_count": 7, "tokens": [] }],
+                            "token_count": 7
+                        }
+                        """)
+                .build();
+
+        var estimator = (TokenCountEstimator) ClientProxy.unwrap(model);
+        List<ChatMessage> messages = List.of(UserMessage.from("How many tokens?"));
+        assertEquals(7, estimator.estimateTokenCount(messages));
+        assertEquals(7, estimator.estimateTokenCount(messages));
+
+        wireMockServer.verify(1,
+                postRequestedFor(urlEqualTo(WireMockUtil.URL_TOKENIZATION_API.formatted(WireMockUtil.VERSION))));
+    }
+}
@@ -15,6 +15,8 @@ public class WireMockUtil {
 
     public static String URL = "http://localhost:8089";
     public static String URL_CHAT_API = "/v2/text/chat?version=%s";
+    public static String URL_CHAT_STREAMING_API = "/v2/text/chat_stream?version=%s";
+    public static String URL_TOKENIZATION_API = "/v2/text/tokenization?version=%s";
     public static int PORT = 8089;
     public static String API_KEY = "my_super_token";
     public static String VERSION = "2024-01-10";
@@ -33,6 +35,15 @@ public class WireMockUtil {
         return new Builder(server, status, version);
     }
 
+    public Builder mockStreamingBuilder(int status) {
+        return new Builder(server, status, VERSION, URL_CHAT_STREAMING_API)
+                .responseMediaType(MediaType.SERVER_SENT_EVENTS);
+    }
+
+    public Builder mockTokenizationBuilder(int status) {
+        return new Builder(server, status, VERSION, URL_TOKENIZATION_API);
+    }
+
     public static class Builder {
 
         private MappingBuilder builder;
@@ -43,9 +54,13 @@ public class WireMockUtil {
         private WireMockServer server;
 
         protected Builder(WireMockServer server, int status, String version) {
+            this(server, status, version, WireMockUtil.URL_CHAT_API);
+        }
+
+        protected Builder(WireMockServer server, int status, String version, String url) {
             this.server = server;
             this.status = status;
-            this.builder = post(urlEqualTo(WireMockUtil.URL_CHAT_API.formatted(version)));
+            this.builder = post(urlEqualTo(url.formatted(version)));
         }
 
         protected Builder(WireMockServer server, int status) {
@@ -1,13 +1,22 @@
 package io.quarkiverse.langchain4j.bam;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.stream.Collectors.joining;
 
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import org.jboss.resteasy.reactive.client.api.LoggingScope;
 
@@ -16,12 +25,25 @@ import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
 import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
 import dev.langchain4j.model.chat.TokenCountEstimator;
+import dev.langchain4j.model.output.FinishReason;
 import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.bam.TextGenerationResponse.Results;
+import io.quarkiverse.langchain4j.runtime.RetryPolicy;
+import io.quarkiverse.langchain4j.runtime.StreamingResponseSubscriber;
 import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
+import io.smallrye.mutiny.Uni;
 
-public class BamChatModel implements ChatLanguageModel, TokenCountEstimator {
+/**
+ * A BAM model generating text either at once, as a {@link ChatLanguageModel}, or token by token, as a
+ * {@link StreamingChatLanguageModel}.
+ */
+public class BamChatModel implements ChatLanguageModel, StreamingChatLanguageModel, TokenCountEstimator {
+
+    private static final String NOT_FINISHED = "NOT_FINISHED";
 
     private final String token;
     private final String modelId;
@@ -41,6 +63,9 @@ public class BamChatModel implements ChatLanguageModel, TokenCountEstimator {
     private Integer truncateInputTokens;
     private Integer beamWidth;
     private final BamRestApi client;
+    private final RetryPolicy retryPolicy;
+    // the token counts of the most recently tokenized inputs, by hash
+    private final Map<String, Integer> tokenCounts;
 
     public BamChatModel(Builder config) {
 
@@ -56,6 +81,11 @@ public class BamChatModel implements ChatLanguageModel, TokenCountEstimator {
         }
 
         this.client = builder.build(BamRestApi.class);
+        this.retryPolicy = RetryPolicy.builder()
+                .maxRetries(config.maxRetries)
+                .retryable(BamException::isRetryable)
+                .retryAfter(BamException::retryAfter)
+                .build();
         this.token = config.accessToken;
         this.modelId = config.modelId;
         this.version = config.version;
@@ -73,6 +103,14 @@ public class BamChatModel implements ChatLanguageModel, TokenCountEstimator {
         this.repetitionPenalty = config.repetitionPenalty;
         this.truncateInputTokens = config.truncateInputTokens;
         this.beamWidth = config.beamWidth;
+
+        int tokenizationCacheSize = config.tokenizationCacheSize;
+        this.tokenCounts = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                return size() > tokenizationCacheSize;
+            }
+        });
     }
 
     public static Builder builder() {
@@ -82,6 +120,103 @@ public class BamChatModel implements ChatLanguageModel, TokenCountEstimator {
     @Override
     public Response<AiMessage> generate(List<ChatMessage> messages) {
 
+        TextGenerationResponse textGenerationResponse = retryPolicy.apply(client.asyncChat(toRequest(messages), token, version))
+                .await().indefinitely();
+
+        return toResponse(textGenerationResponse);
+    }
+
+    /**
+     * Generates the response without blocking the calling thread.
+     */
+    public Uni<Response<AiMessage>> generateAsync(List<ChatMessage> messages) {
+
+        return retryPolicy.apply(client.asyncChat(toRequest(messages), token, version))
+                .map(new Function<TextGenerationResponse, Response<AiMessage>>() {
+                    @Override
+                    public Response<AiMessage> apply(TextGenerationResponse textGenerationResponse) {
+                        return toResponse(textGenerationResponse);
+                    }
+                });
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, StreamingResponseHandler<AiMessage> handler) {
+
+        new StreamingResponseSubscriber<TextGenerationResponse>(handler) {
+
+            private String stopReason;
+
+            @Override
+            protected String onEvent(TextGenerationResponse response) {
+                if (response.results() == null || response.results().isEmpty())
+                    return null;
+
+                Results result = response.results().get(0);
+                countTokens(result.inputTokenCount(), result.generatedTokenCount());
+                if (result.stopReason() != null && !NOT_FINISHED.equalsIgnoreCase(result.stopReason()))
+                    stopReason = result.stopReason();
+                return result.generatedText();
+            }
+
+            @Override
+            protected Response<AiMessage> toResponse(AiMessage message) {
+                return Response.from(message, tokenUsage(), toFinishReason(stopReason));
+            }
+        }.subscribe(client.chatStreaming(toRequest(messages), token, version));
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications,
+            StreamingResponseHandler<AiMessage> handler) {
+        throw new IllegalArgumentException("Tools are currently not supported for BAM models");
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, ToolSpecification toolSpecification,
+            StreamingResponseHandler<AiMessage> handler) {
+        throw new IllegalArgumentException("Tools are currently not supported for BAM models");
+    }
+
+    @Override
+    public int estimateTokenCount(List<ChatMessage> messages) {
+
+        var input = toTokenizationInput(messages);
+        var key = tokenizationKey(input);
+
+        Integer tokenCount = tokenCounts.get(key);
+        if (tokenCount == null) {
+            // not computed under the lock, two threads may tokenize the same input but the result is the same
+            tokenCount = client.tokenization(new TokenizationRequest(modelId, input), token, version).tokenCount();
+            tokenCounts.put(key, tokenCount);
+        }
+        return tokenCount;
+    }
+
+    /**
+     * Estimates the token count without blocking the calling thread.
+     */
+    public Uni<Integer> estimateTokenCountAsync(List<ChatMessage> messages) {
+
+        var input = toTokenizationInput(messages);
+        var key = tokenizationKey(input);
+
+        Integer tokenCount = tokenCounts.get(key);
+        if (tokenCount != null) {
+            return Uni.createFrom().item(tokenCount);
+        }
+        return client.asyncTokenization(new TokenizationRequest(modelId, input), token, version)
+                .map(new Function<TokenizationResponse, Integer>() {
+                    @Override
+                    public Integer apply(TokenizationResponse response) {
+                        tokenCounts.put(key, response.tokenCount());
+                        return response.tokenCount();
+                    }
+                });
+    }
+
+    private TextGenerationRequest toRequest(List<ChatMessage> messages) {
+
         Parameters parameters = Parameters.builder()
                 .decodingMethod(decodingMethod)
                 .includeStopSequence(includeStopSequence)
@@ -99,24 +234,50 @@ public class BamChatModel implements ChatLanguageModel, TokenCountEstimator {
                 .beamWidth(beamWidth)
                 .build();
 
-        TextGenerationRequest request = new TextGenerationRequest(modelId,
+        return new TextGenerationRequest(modelId,
                 messages.stream().map(cm -> new Message(getRole(cm), cm.text())).toList(), parameters);
+    }
 
-        TextGenerationResponse textGenerationResponse = client.chat(request, token, version);
-
+    private static Response<AiMessage> toResponse(TextGenerationResponse textGenerationResponse) {
         return Response.from(AiMessage.from(textGenerationResponse.results().get(0).generatedText()));
     }
 
-    @Override
-    public int estimateTokenCount(List<ChatMessage> messages) {
-
-        var input = messages
+    private static String toTokenizationInput(List<ChatMessage> messages) {
+        return messages
                 .stream()
                 .map(ChatMessage::text)
                 .collect(joining("\n"));
+    }
 
-        var request = new TokenizationRequest(modelId, input);
-        return client.tokenization(request, token, version).tokenCount();
+    /**
+     * The inputs are hashed with the model, so that the cache does not keep whole conversations.
+     */
+    private String tokenizationKey(String input) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(modelId.getBytes(UTF_8));
+            digest.update((byte) 0);
+            digest.update(input.getBytes(UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static FinishReason toFinishReason(String stopReason) {
+        if (stopReason == null) {
+            return null;
+        }
+        switch (stopReason.toUpperCase(Locale.ROOT)) {
+            case "MAX_TOKENS":
+            case "TOKEN_LIMIT":
+                return FinishReason.LENGTH;
+            case "EOS_TOKEN":
+            case "STOP_SEQUENCE":
+                return FinishReason.STOP;
+            default:
+                return FinishReason.OTHER;
+        }
     }
 
     private String getRole(ChatMessage chatMessage) {
@@ -161,6 +322,8 @@ public class BamChatModel implements ChatLanguageModel, TokenCountEstimator {
         private Double repetitionPenalty;
         private Integer truncateInputTokens;
         private Integer beamWidth;
+        private int tokenizationCacheSize = 1000;
+        private int maxRetries = 3;
         public boolean logResponses;
         public boolean logRequests;
 
@@ -268,6 +431,22 @@ public class BamChatModel implements ChatLanguageModel, TokenCountEstimator {
             return this;
         }
 
+        /**
+         * The number of inputs whose token count is remembered by {@link BamChatModel#estimateTokenCount(List)}
+         */
+        public Builder tokenizationCacheSize(int tokenizationCacheSize) {
+            this.tokenizationCacheSize = tokenizationCacheSize;
+            return this;
+        }
+
+        /**
+         * How many times a request failing because of the rate limit or of a server error is retried
+         */
+        public Builder maxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
         public BamChatModel build() {
             return new BamChatModel(this);
         }
@@ -15,16 +15,21 @@ import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.embedding.TokenCountEstimator;
 import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.runtime.BatchDispatcher;
 import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
 
 public class BamEmbeddingModel implements EmbeddingModel, TokenCountEstimator {
 
+    // the maximum number of inputs accepted by a single embeddings request
+    private static final int MAX_BATCH_SIZE = 20;
+
     private final String token;
     private final String modelId;
     private final String version;
     public boolean logResponses;
     public boolean logRequests;
     private final BamRestApi client;
+    private final BatchDispatcher dispatcher;
 
     public BamEmbeddingModel(Builder config) {
 
@@ -44,6 +49,13 @@ public class BamEmbeddingModel implements EmbeddingModel, TokenCountEstimator {
         this.token = config.accessToken;
         this.modelId = config.modelId;
         this.version = config.version;
+        this.dispatcher = BatchDispatcher.builder()
+                .maxBatchSize(MAX_BATCH_SIZE)
+                .maxConcurrency(config.maxConcurrency)
+                .maxRetries(config.maxRetries)
+                .retryable(BamException::isRetryable)
+                .retryAfter(BamException::retryAfter)
+                .build();
     }
 
     public static Builder builder() {
@@ -53,16 +65,22 @@ public class BamEmbeddingModel implements EmbeddingModel, TokenCountEstimator {
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
 
-        List<Embedding> result = new ArrayList<>();
+        List<String> texts = new ArrayList<>(textSegments.size());
         for (TextSegment textSegment : textSegments) {
-
-            var request = new EmbeddingRequest(modelId, textSegment.text());
-            var response = client.embeddings(request, token, version);
-
-            var vector = response.results().get(0);
-            result.add(Embedding.from(vector));
+            texts.add(textSegment.text());
         }
 
+        List<Embedding> result = dispatcher.dispatch(texts, batch -> {
+            var request = new EmbeddingRequest(modelId, batch);
+            return client.asyncEmbeddings(request, token, version).map(response -> {
+                List<Embedding> embeddings = new ArrayList<>(response.results().size());
+                for (List<Float> vector : response.results()) {
+                    embeddings.add(Embedding.from(vector));
+                }
+                return embeddings;
+            });
+        });
+
         return Response.from(result);
     }
 
@@ -80,6 +98,8 @@ public class BamEmbeddingModel implements EmbeddingModel, TokenCountEstimator {
         private URI url = URI.create("https://bam-api.res.ibm.com");
         private Duration timeout = Duration.ofSeconds(15);
         private String modelId;
+        private int maxConcurrency = 4;
+        private int maxRetries = 3;
         public boolean logResponses;
         public boolean logRequests;
 
@@ -112,6 +132,16 @@ public class BamEmbeddingModel implements EmbeddingModel, TokenCountEstimator {
             return this;
         }
 
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        public Builder maxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
         public Builder logRequests(boolean logRequests) {
             this.logRequests = logRequests;
             return this;
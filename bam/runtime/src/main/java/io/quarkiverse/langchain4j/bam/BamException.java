@@ -1,11 +1,13 @@
 package io.quarkiverse.langchain4j.bam;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonFormat.Feature;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
@@ -22,6 +24,8 @@ public class BamException extends RuntimeException {
     String error;
     String message;
     Optional<Extensions> extensions;
+    @JsonIgnore
+    Duration retryAfter;
 
     public BamException() {
     }
@@ -64,6 +68,37 @@ public class BamException extends RuntimeException {
         this.extensions = extensions;
     }
 
+    /**
+     * @return how long the API asked to wait before sending new requests, {@code null} if it did not
+     */
+    @JsonIgnore
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @JsonIgnore
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Client errors will fail again, except when the rate limit has been hit
+     */
+    static boolean isRetryable(Throwable failure) {
+        if (failure instanceof BamException bamException && bamException.getStatusCode() != null) {
+            int status = bamException.getStatusCode();
+            return status == 429 || status >= 500;
+        }
+        return true;
+    }
+
+    static Duration retryAfter(Throwable failure) {
+        if (failure instanceof BamException bamException) {
+            return bamException.getRetryAfter();
+        }
+        return null;
+    }
+
     @Override
     public String toString() {
         return "BamHttpException [statusCode=" + statusCode + ", error=" + error + ", message=" + message + ", extensions="
@@ -12,19 +12,24 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.NoContentException;
 
 import org.eclipse.microprofile.rest.client.annotation.ClientHeaderParam;
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.RestStreamElementType;
 import org.jboss.resteasy.reactive.client.api.ClientLogger;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.quarkiverse.langchain4j.QuarkusJsonCodecFactory;
+import io.quarkiverse.langchain4j.runtime.RetryPolicy;
 import io.quarkus.rest.client.reactive.ClientExceptionMapper;
 import io.quarkus.rest.client.reactive.NotBody;
 import io.quarkus.rest.client.reactive.jackson.ClientObjectMapper;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
@@ -47,15 +52,40 @@ public interface BamRestApi {
     @Path("text/chat")
     TextGenerationResponse chat(TextGenerationRequest request, @NotBody String token, @QueryParam("version") String version);
 
+    @POST
+    @Path("text/chat")
+    Uni<TextGenerationResponse> asyncChat(TextGenerationRequest request, @NotBody String token,
+            @QueryParam("version") String version);
+
+    /**
+     * The generated text is sent as server-sent events, each of them holding the tokens generated since the previous one.
+     */
+    @POST
+    @Path("text/chat_stream")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    Multi<TextGenerationResponse> chatStreaming(TextGenerationRequest request, @NotBody String token,
+            @QueryParam("version") String version);
+
     @POST
     @Path("/text/embeddings")
     EmbeddingResponse embeddings(EmbeddingRequest request, @NotBody String token, @QueryParam("version") String version);
 
+    @POST
+    @Path("/text/embeddings")
+    Uni<EmbeddingResponse> asyncEmbeddings(EmbeddingRequest request, @NotBody String token,
+            @QueryParam("version") String version);
+
     @POST
     @Path("/text/tokenization")
     public TokenizationResponse tokenization(TokenizationRequest request, @NotBody String token,
             @QueryParam("version") String version);
 
+    @POST
+    @Path("/text/tokenization")
+    Uni<TokenizationResponse> asyncTokenization(TokenizationRequest request, @NotBody String token,
+            @QueryParam("version") String version);
+
     @ClientObjectMapper
     static ObjectMapper objectMapper(ObjectMapper defaultObjectMapper) {
         return QuarkusJsonCodecFactory.SnakeCaseObjectMapperHolder.MAPPER;
@@ -64,6 +94,13 @@ public interface BamRestApi {
     @ClientExceptionMapper
     static BamException toException(jakarta.ws.rs.core.Response response) {
 
+        BamException ex = toBamException(response);
+        ex.setRetryAfter(RetryPolicy.parseRetryAfter(response.getHeaderString(HttpHeaders.RETRY_AFTER)));
+        return ex;
+    }
+
+    private static BamException toBamException(jakarta.ws.rs.core.Response response) {
+
         if (!MediaType.APPLICATION_JSON.equals(response.getHeaderString("Content-Type"))) {
 
             BamException ex = new BamException();
@@ -1,5 +1,7 @@
 package io.quarkiverse.langchain4j.bam;
 
-public record EmbeddingRequest(String modelId, String input) {
+import java.util.List;
+
+public record EmbeddingRequest(String modelId, List<String> input) {
 
 }
@@ -2,9 +2,14 @@ package io.quarkiverse.langchain4j.bam;
 
 import java.util.List;
 
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
 public record TextGenerationResponse(List<Results> results) {
 
-    public record Results(String generatedText) {
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record Results(String generatedText, Integer generatedTokenCount, Integer inputTokenCount, String stopReason) {
 
     }
 }
@@ -9,6 +9,7 @@ import io.quarkiverse.langchain4j.bam.BamEmbeddingModel;
 import io.quarkiverse.langchain4j.bam.runtime.config.ChatModelConfig;
 import io.quarkiverse.langchain4j.bam.runtime.config.EmbeddingModelConfig;
 import io.quarkiverse.langchain4j.bam.runtime.config.Langchain4jBamConfig;
+import io.quarkiverse.langchain4j.runtime.CachingEmbeddingModel;
 import io.quarkiverse.langchain4j.runtime.NamedModelUtil;
 import io.quarkus.runtime.annotations.Recorder;
 import io.smallrye.config.ConfigValidationException;
@@ -72,7 +73,8 @@ public class BamRecorder {
                 .accessToken(bamConfig.apiKey())
                 .timeout(bamConfig.timeout())
                 .version(bamConfig.version())
-                .modelId(embeddingModelConfig.modelId());
+                .modelId(embeddingModelConfig.modelId())
+                .maxConcurrency(embeddingModelConfig.maxConcurrency());
 
         if (bamConfig.baseUrl().isPresent()) {
             builder.url(bamConfig.baseUrl().get());
@@ -81,7 +83,7 @@ public class BamRecorder {
         return new Supplier<>() {
             @Override
             public Object get() {
-                return builder.build();
+                return CachingEmbeddingModel.decorate(builder.build(), "bam:" + embeddingModelConfig.modelId());
             }
         };
     }
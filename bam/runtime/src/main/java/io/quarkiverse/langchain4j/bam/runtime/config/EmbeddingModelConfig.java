@@ -11,4 +11,11 @@ public interface EmbeddingModelConfig {
      */
     @WithDefault("ibm/slate.30m.english.rtrvr-26.10.2023")
     String modelId();
+
+    /**
+     * The maximum number of embedding requests sent concurrently when embedding many texts at once. Each request embeds up
+     * to 20 texts.
+     */
+    @WithDefault("4")
+    Integer maxConcurrency();
 }
@@ -47,6 +47,7 @@ import org.objectweb.asm.tree.MethodNode;
 import org.objectweb.asm.tree.analysis.AnalyzerException;
 
 import dev.langchain4j.exception.IllegalConfigurationException;
+import dev.langchain4j.service.TokenStream;
 import dev.langchain4j.service.V;
 import io.quarkiverse.langchain4j.ModelName;
 import io.quarkiverse.langchain4j.deployment.items.SelectedChatModelProviderBuildItem;
@@ -60,17 +61,22 @@ import io.quarkiverse.langchain4j.runtime.aiservice.DeclarativeAiServiceCreateIn
 import io.quarkiverse.langchain4j.runtime.aiservice.MetricsCountedWrapper;
 import io.quarkiverse.langchain4j.runtime.aiservice.MetricsTimedWrapper;
 import io.quarkiverse.langchain4j.runtime.aiservice.QuarkusAiServiceContext;
+import io.quarkiverse.langchain4j.runtime.aiservice.ResponseCacheMetrics;
+import io.quarkiverse.langchain4j.runtime.aiservice.ResponseCacheProducer;
+import io.quarkiverse.langchain4j.runtime.aiservice.SemanticResponseCacheSupport;
 import io.quarkiverse.langchain4j.runtime.aiservice.SpanWrapper;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.ExcludedTypeBuildItem;
 import io.quarkus.arc.deployment.GeneratedBeanBuildItem;
 import io.quarkus.arc.deployment.GeneratedBeanGizmoAdaptor;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.processor.BuiltinScope;
 import io.quarkus.arc.processor.ScopeInfo;
+import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
 import io.quarkus.builder.item.MultiBuildItem;
 import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.Capability;
@@ -162,6 +168,27 @@ public class AiServicesProcessor {
         }
     }
 
+    @BuildStep
+    public void responseCache(BuildProducer<ExcludedTypeBuildItem> excludedTypeProducer) {
+        // quarkus-caffeine is an optional dependency, the default cache is only provided when the application depends on it
+        if (!QuarkusClassLoader.isClassPresentAtRuntime("com.github.benmanes.caffeine.cache.Caffeine")) {
+            excludedTypeProducer.produce(new ExcludedTypeBuildItem(ResponseCacheProducer.class.getName()));
+        }
+    }
+
+    @BuildStep
+    public void semanticResponseCache(CombinedIndexBuildItem indexBuildItem,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeanProducer) {
+        // only registered when used, as it requires an embedding model
+        if (!indexBuildItem.getIndex().getAnnotations(Langchain4jDotNames.SEMANTIC_CACHE_RESPONSE).isEmpty()) {
+            additionalBeanProducer.produce(AdditionalBeanBuildItem.builder()
+                    .addBeanClass(SemanticResponseCacheSupport.class)
+                    .setUnremovable()
+                    .setDefaultScope(BuiltinScope.SINGLETON.getName())
+                    .build());
+        }
+    }
+
     @BuildStep
     public void findDeclarativeServices(CombinedIndexBuildItem indexBuildItem,
             BuildProducer<RequestChatModelBeanBuildItem> requestChatModelBeanProducer,
@@ -491,6 +518,11 @@ public class AiServicesProcessor {
         if (addMicrometerMetrics) {
             additionalBeanProducer.produce(AdditionalBeanBuildItem.builder().addBeanClass(MetricsTimedWrapper.class).build());
             additionalBeanProducer.produce(AdditionalBeanBuildItem.builder().addBeanClass(MetricsCountedWrapper.class).build());
+            additionalBeanProducer.produce(AdditionalBeanBuildItem.builder()
+                    .addBeanClass(ResponseCacheMetrics.class)
+                    .setUnremovable()
+                    .setDefaultScope(BuiltinScope.SINGLETON.getName())
+                    .build());
         }
 
         var addOpenTelemetrySpan = capabilities.isPresent(Capability.OPENTELEMETRY_TRACER);
@@ -703,9 +735,19 @@ public class AiServicesProcessor {
                 addMicrometerMetrics);
         Optional<AiServiceMethodCreateInfo.SpanInfo> spanInfo = gatherSpanInfo(method, addOpenTelemetrySpans);
 
+        boolean cacheResponse = method.hasAnnotation(Langchain4jDotNames.CACHE_RESPONSE);
+        boolean semanticCacheResponse = method.hasAnnotation(Langchain4jDotNames.SEMANTIC_CACHE_RESPONSE);
+        if ((cacheResponse || semanticCacheResponse) && TokenStream.class.equals(returnType)) {
+            throw illegalConfiguration("The response of method '%s' cannot be cached as it returns a TokenStream", method);
+        }
+        if (cacheResponse && semanticCacheResponse) {
+            throw illegalConfiguration("Method '%s' cannot be annotated with both @CacheResponse and @SemanticCacheResponse",
+                    method);
+        }
+
         return new AiServiceMethodCreateInfo(method.declaringClass().name().toString(), method.name(), systemMessageInfo,
                 userMessageInfo, memoryIdParamPosition, requiresModeration,
-                returnType, metricsTimedInfo, metricsCountedInfo, spanInfo);
+                returnType, metricsTimedInfo, metricsCountedInfo, spanInfo, cacheResponse, semanticCacheResponse);
     }
 
     private List<TemplateParameterInfo> gatherTemplateParamInfo(List<MethodParameterInfo> params) {
@@ -2,12 +2,15 @@ package io.quarkiverse.langchain4j.deployment;
 
 import static io.quarkus.runtime.annotations.ConfigPhase.BUILD_TIME;
 
+import java.util.Optional;
+
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.memory.chat.ChatMemoryProvider;
 import dev.langchain4j.model.Tokenizer;
+import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
-import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
 import io.quarkiverse.langchain4j.RegisterAiService;
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
@@ -22,19 +25,40 @@ public interface ChatMemoryBuildConfig {
      * The extension provides a default bean that configures {@link ChatMemoryProvider} for use with AI services
      * registered with {@link RegisterAiService}. This bean depends uses the {@code quarkus.langchain4j.chat-memory}
      * configuration to set things up while also depending on the presence of a bean of type {@link ChatMemoryStore} (for which
-     * the extension also provides a default in the form of {@link InMemoryChatMemoryStore}).
+     * the extension also provides a default in the form of
+     * {@link io.quarkiverse.langchain4j.store.BoundedInMemoryChatMemoryStore}).
      * <p>
      * If {@code token-window} is used, then the application must also provide a bean of type {@link Tokenizer}.
      * <p>
+     * If {@code summarizing} is used, then the messages evicted from the window are summarized in the background by the
+     * {@link ChatLanguageModel} configured with {@code quarkus.langchain4j.chat-memory.summarizing.model-name}.
+     * <p>
      * Users can choose to provide their own {@link ChatMemoryStore} bean or even their own {@link ChatMemoryProvider} bean
      * if full control over the details is needed.
      */
     @WithDefault("MESSAGE_WINDOW")
     Type type();
 
+    /**
+     * Configures the {@code summarizing} chat memory type
+     */
+    Summarizing summarizing();
+
     enum Type {
         MESSAGE_WINDOW,
-        TOKEN_WINDOW
+        TOKEN_WINDOW,
+        SUMMARIZING
+    }
+
+    @ConfigGroup
+    interface Summarizing {
+
+        /**
+         * The name of the {@link ChatLanguageModel} used to summarize the evicted messages, as configured with
+         * {@code quarkus.langchain4j.[model-name].*}. A small and cheap model is usually enough.
+         * If not set, the default chat model is used.
+         */
+        Optional<String> modelName();
     }
 
 }
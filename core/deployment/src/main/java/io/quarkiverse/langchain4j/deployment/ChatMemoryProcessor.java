@@ -1,23 +1,34 @@
 package io.quarkiverse.langchain4j.deployment;
 
+import java.util.Optional;
 import java.util.function.Function;
 
 import jakarta.enterprise.context.ApplicationScoped;
 
+import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassType;
 
 import dev.langchain4j.memory.chat.ChatMemoryProvider;
 import dev.langchain4j.model.Tokenizer;
+import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import io.quarkiverse.langchain4j.ChatMemoryEvictionListener;
+import io.quarkiverse.langchain4j.ModelName;
 import io.quarkiverse.langchain4j.runtime.ChatMemoryRecorder;
+import io.quarkiverse.langchain4j.runtime.NamedModelUtil;
 import io.quarkiverse.langchain4j.runtime.aiservice.ChatMemoryConfig;
+import io.quarkiverse.langchain4j.runtime.aiservice.ChatMemoryStoreMetrics;
 import io.quarkus.arc.SyntheticCreationalContext;
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
+import io.quarkus.arc.processor.DotNames;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 public class ChatMemoryProcessor {
 
@@ -42,6 +53,17 @@ public class ChatMemoryProcessor {
         } else if (buildConfig.type() == ChatMemoryBuildConfig.Type.TOKEN_WINDOW) {
             configurator.addInjectionPoint(ClassType.create(Tokenizer.class));
             fun = recorder.tokenWindow(runtimeConfig);
+        } else if (buildConfig.type() == ChatMemoryBuildConfig.Type.SUMMARIZING) {
+            String modelName = buildConfig.summarizing().modelName().orElse(NamedModelUtil.DEFAULT_NAME);
+            if (NamedModelUtil.isDefault(modelName)) {
+                configurator.addInjectionPoint(ClassType.create(ChatLanguageModel.class));
+            } else {
+                configurator.addInjectionPoint(ClassType.create(ChatLanguageModel.class),
+                        AnnotationInstance.builder(ModelName.class).add("value", modelName).build());
+            }
+            fun = recorder.summarizing(runtimeConfig, modelName);
+            // looked up programmatically when the memories are created
+            unremovableProducer.produce(UnremovableBeanBuildItem.beanTypes(ChatLanguageModel.class));
         } else {
             throw new IllegalStateException(
                     "Invalid configuration '" + buildConfig.type() + "' used in 'quarkus.langchain4j.chat-memory.type'");
@@ -50,5 +72,19 @@ public class ChatMemoryProcessor {
 
         syntheticBeanProducer.produce(configurator.done());
         unremovableProducer.produce(UnremovableBeanBuildItem.beanTypes(ChatMemoryStore.class));
+        // looked up programmatically when the AI services are created
+        unremovableProducer.produce(UnremovableBeanBuildItem.beanTypes(ChatMemoryEvictionListener.class));
+    }
+
+    @BuildStep
+    void metrics(Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeanProducer) {
+        if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER)) {
+            additionalBeanProducer.produce(AdditionalBeanBuildItem.builder()
+                    .addBeanClass(ChatMemoryStoreMetrics.class)
+                    .setUnremovable()
+                    .setDefaultScope(DotNames.SINGLETON)
+                    .build());
+        }
     }
 }
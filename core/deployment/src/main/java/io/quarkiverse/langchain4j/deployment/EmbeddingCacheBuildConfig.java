@@ -0,0 +1,22 @@
+package io.quarkiverse.langchain4j.deployment;
+
+import static io.quarkus.runtime.annotations.ConfigPhase.BUILD_TIME;
+
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigRoot(phase = BUILD_TIME)
+@ConfigMapping(prefix = "quarkus.langchain4j.embedding-cache")
+public interface EmbeddingCacheBuildConfig {
+
+    /**
+     * Whether the vectors computed by the {@link dev.langchain4j.model.embedding.EmbeddingModel} beans are cached, so that
+     * a text already embedded by a model is not sent to it again.
+     * <p>
+     * The vectors are kept by an {@link io.quarkiverse.langchain4j.cache.InMemoryEmbeddingCache} unless the application or
+     * another extension (Redis) provides an {@link io.quarkiverse.langchain4j.cache.EmbeddingCache}.
+     */
+    @WithDefault("false")
+    boolean enabled();
+}
@@ -0,0 +1,42 @@
+package io.quarkiverse.langchain4j.deployment;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.jboss.jandex.ClassType;
+import org.jboss.jandex.DotName;
+
+import io.quarkiverse.langchain4j.cache.EmbeddingCache;
+import io.quarkiverse.langchain4j.cache.InMemoryEmbeddingCache;
+import io.quarkiverse.langchain4j.runtime.EmbeddingCacheRecorder;
+import io.quarkiverse.langchain4j.runtime.cache.EmbeddingCacheConfig;
+import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+
+public class EmbeddingCacheProcessor {
+
+    private static final DotName IN_MEMORY_EMBEDDING_CACHE = DotName.createSimple(InMemoryEmbeddingCache.class);
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void createBean(EmbeddingCacheBuildConfig buildConfig,
+            EmbeddingCacheConfig config,
+            EmbeddingCacheRecorder recorder,
+            BuildProducer<SyntheticBeanBuildItem> beanProducer) {
+        if (!buildConfig.enabled()) {
+            return;
+        }
+        // unremovable, as it is looked up when the embedding models are created
+        beanProducer.produce(SyntheticBeanBuildItem
+                .configure(IN_MEMORY_EMBEDDING_CACHE)
+                .types(ClassType.create(EmbeddingCache.class))
+                .setRuntimeInit()
+                .defaultBean()
+                .unremovable()
+                .scope(ApplicationScoped.class)
+                .supplier(recorder.embeddingCache(config))
+                .done());
+    }
+}
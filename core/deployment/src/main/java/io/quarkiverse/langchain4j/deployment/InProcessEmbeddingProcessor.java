@@ -119,19 +119,41 @@ public class InProcessEmbeddingProcessor {
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     void exposeInProcessEmbeddingBeans(InProcessEmbeddingRecorder recorder,
+            EmbeddingCacheBuildConfig embeddingCacheConfig,
             List<InProcessEmbeddingBuildItem> embeddings,
             BuildProducer<SyntheticBeanBuildItem> beanProducer,
             BuildProducer<EmbeddingModelBuildItem> embeddingModelProducer) {
 
         for (InProcessEmbeddingBuildItem embedding : embeddings) {
-            beanProducer.produce(SyntheticBeanBuildItem
-                    .configure(DotName.createSimple(embedding.className()))
-                    .types(EmbeddingModel.class)
-                    .defaultBean()
-                    .setRuntimeInit()
-                    .scope(ApplicationScoped.class)
-                    .supplier(recorder.instantiate(embedding.className()))
-                    .done());
+            if (!embeddingCacheConfig.enabled()) {
+                beanProducer.produce(SyntheticBeanBuildItem
+                        .configure(DotName.createSimple(embedding.className()))
+                        .types(EmbeddingModel.class)
+                        .defaultBean()
+                        .setRuntimeInit()
+                        .scope(ApplicationScoped.class)
+                        .supplier(recorder.instantiate(embedding.className()))
+                        .done());
+            } else {
+                // the model can still be injected with its own class, without the cache,
+                // while the EmbeddingModel bean is the caching model delegating to it
+                beanProducer.produce(SyntheticBeanBuildItem
+                        .configure(DotName.createSimple(embedding.className()))
+                        .setRuntimeInit()
+                        .unremovable()
+                        .scope(ApplicationScoped.class)
+                        .supplier(recorder.instantiate(embedding.className()))
+                        .done());
+                beanProducer.produce(SyntheticBeanBuildItem
+                        .configure(EmbeddingModel.class)
+                        .types(EmbeddingModel.class)
+                        .identifier(embedding.className())
+                        .defaultBean()
+                        .setRuntimeInit()
+                        .scope(ApplicationScoped.class)
+                        .supplier(recorder.cached(embedding.className()))
+                        .done());
+            }
             embeddingModelProducer.produce(new EmbeddingModelBuildItem());
         }
 
@@ -0,0 +1,35 @@
+package io.quarkiverse.langchain4j.deployment;
+
+import static io.quarkus.runtime.annotations.ConfigPhase.BUILD_TIME;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigRoot(phase = BUILD_TIME)
+@ConfigMapping(prefix = "quarkus.langchain4j.off-heap-embedding-store")
+public interface OffHeapEmbeddingStoreBuildConfig {
+
+    /**
+     * Whether the extension should expose an {@link io.quarkiverse.langchain4j.store.OffHeapEmbeddingStore} as the
+     * {@link dev.langchain4j.store.embedding.EmbeddingStore} bean of the application.
+     * <p>
+     * The bean is a default bean, so it is not used if the application or another extension (Redis, pgvector, ...) provides
+     * an embedding store.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Path of a JSON file, in the format produced by
+     * {@link dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore#serializeToFile(Path)}, holding a static
+     * knowledge base.
+     * <p>
+     * When set, the file is converted at build time into a binary snapshot (including the HNSW graph, built with the
+     * default parameters) that is bundled with the application and loaded by the store at startup.
+     */
+    Optional<Path> buildTimeSource();
+}
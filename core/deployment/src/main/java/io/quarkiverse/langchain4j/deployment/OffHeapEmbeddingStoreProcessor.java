@@ -0,0 +1,121 @@
+package io.quarkiverse.langchain4j.deployment;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.jboss.jandex.ClassType;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.ParameterizedType;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import io.quarkiverse.langchain4j.deployment.items.OffHeapEmbeddingStoreSnapshotBuildItem;
+import io.quarkiverse.langchain4j.runtime.OffHeapEmbeddingStoreRecorder;
+import io.quarkiverse.langchain4j.runtime.store.OffHeapEmbeddingStoreConfig;
+import io.quarkiverse.langchain4j.store.OffHeapEmbeddingStore;
+import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
+
+public class OffHeapEmbeddingStoreProcessor {
+
+    private static final DotName OFF_HEAP_EMBEDDING_STORE = DotName.createSimple(OffHeapEmbeddingStore.class);
+
+    private static final String SNAPSHOT_RESOURCE = "META-INF/quarkus-langchain4j/off-heap-embedding-store.snapshot";
+
+    @BuildStep
+    OffHeapEmbeddingStoreSnapshotBuildItem buildTimeSnapshot(OffHeapEmbeddingStoreBuildConfig buildConfig,
+            BuildProducer<GeneratedResourceBuildItem> resourceProducer,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResourceProducer,
+            BuildProducer<HotDeploymentWatchedFileBuildItem> watchedFileProducer) {
+        if (!buildConfig.enabled() || buildConfig.buildTimeSource().isEmpty()) {
+            return null;
+        }
+        Path source = buildConfig.buildTimeSource().get();
+        watchedFileProducer.produce(new HotDeploymentWatchedFileBuildItem(source.toString()));
+
+        OffHeapEmbeddingStore store = OffHeapEmbeddingStore.builder().build();
+        try {
+            JsonNode entries = new ObjectMapper().readTree(source.toFile()).path("entries");
+            for (JsonNode entry : entries) {
+                store.add(entry.get("id").asText(), toEmbedding(entry.get("embedding")), toTextSegment(entry.get("embedded")));
+            }
+
+            Path snapshot = Files.createTempFile("off-heap-embedding-store", ".snapshot");
+            try {
+                store.writeSnapshot(snapshot);
+                resourceProducer.produce(new GeneratedResourceBuildItem(SNAPSHOT_RESOURCE, Files.readAllBytes(snapshot)));
+            } finally {
+                Files.deleteIfExists(snapshot);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to convert " + source + " into an embedding store snapshot", e);
+        }
+        nativeImageResourceProducer.produce(new NativeImageResourceBuildItem(SNAPSHOT_RESOURCE));
+        return new OffHeapEmbeddingStoreSnapshotBuildItem(SNAPSHOT_RESOURCE);
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void createBean(OffHeapEmbeddingStoreBuildConfig buildConfig,
+            OffHeapEmbeddingStoreConfig config,
+            OffHeapEmbeddingStoreRecorder recorder,
+            Optional<OffHeapEmbeddingStoreSnapshotBuildItem> snapshot,
+            BuildProducer<SyntheticBeanBuildItem> beanProducer,
+            BuildProducer<EmbeddingStoreBuildItem> embeddingStoreProducer) {
+        if (!buildConfig.enabled()) {
+            return;
+        }
+        beanProducer.produce(SyntheticBeanBuildItem
+                .configure(OFF_HEAP_EMBEDDING_STORE)
+                .types(ClassType.create(EmbeddingStore.class),
+                        ParameterizedType.create(EmbeddingStore.class, ClassType.create(TextSegment.class)))
+                .setRuntimeInit()
+                .defaultBean()
+                .scope(ApplicationScoped.class)
+                .supplier(recorder.embeddingStore(config,
+                        snapshot.map(OffHeapEmbeddingStoreSnapshotBuildItem::resourceName).orElse(null)))
+                .done());
+        embeddingStoreProducer.produce(new EmbeddingStoreBuildItem());
+    }
+
+    private static Embedding toEmbedding(JsonNode node) {
+        JsonNode vector = node.get("vector");
+        float[] result = new float[vector.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (float) vector.get(i).asDouble();
+        }
+        return Embedding.from(result);
+    }
+
+    private static TextSegment toTextSegment(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        Map<String, String> metadata = new HashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = node.path("metadata").path("metadata").fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            metadata.put(field.getKey(), field.getValue().asText());
+        }
+        return TextSegment.from(node.get("text").asText(), Metadata.from(metadata));
+    }
+}
@@ -0,0 +1,19 @@
+package io.quarkiverse.langchain4j.deployment.items;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * Holds the name of the resource containing the off-heap embedding store snapshot produced at build time
+ */
+public final class OffHeapEmbeddingStoreSnapshotBuildItem extends SimpleBuildItem {
+
+    private final String resourceName;
+
+    public OffHeapEmbeddingStoreSnapshotBuildItem(String resourceName) {
+        this.resourceName = resourceName;
+    }
+
+    public String resourceName() {
+        return resourceName;
+    }
+}
@@ -0,0 +1,143 @@
+package io.quarkiverse.langchain4j.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+import io.quarkiverse.langchain4j.store.BoundedInMemoryChatMemoryStore;
+import io.quarkiverse.langchain4j.store.BoundedInMemoryChatMemoryStore.EvictionCause;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.test.QuarkusUnitTest;
+
+class BoundedInMemoryChatMemoryStoreTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.chat-memory.in-memory-store.max-sessions", "2");
+
+    @Inject
+    ChatMemoryStore chatMemoryStore;
+
+    @Inject
+    InMemoryChatMemoryStore inMemoryChatMemoryStore;
+
+    @Test
+    void should_expose_bounded_store_by_default() {
+        BoundedInMemoryChatMemoryStore store = (BoundedInMemoryChatMemoryStore) ClientProxy.unwrap(chatMemoryStore);
+
+        List<ChatMessage> messages = List.of(SystemMessage.from("You are a helpful assistant"),
+                UserMessage.from("Hello"), AiMessage.from("Hi, how can I help?"));
+        store.updateMessages(1, messages);
+        assertThat(store.getMessages(1)).isEqualTo(messages);
+
+        store.updateMessages(2, messages);
+        // reading the first conversation makes the second one the least recently used
+        store.getMessages(1);
+        store.updateMessages(3, messages);
+
+        assertThat(store.sessions()).isEqualTo(2);
+        assertThat(store.getMessages(2)).isEmpty();
+        assertThat(store.getMessages(1)).isEqualTo(messages);
+        assertThat(store.evictions(EvictionCause.SIZE)).isEqualTo(1);
+
+        store.deleteMessages(1);
+        store.deleteMessages(3);
+        assertThat(store.sessions()).isZero();
+        assertThat(store.bytes()).isZero();
+    }
+
+    @Test
+    void should_remain_injectable_as_in_memory_store() {
+        assertThat(ClientProxy.unwrap(inMemoryChatMemoryStore)).isSameAs(ClientProxy.unwrap(chatMemoryStore));
+    }
+
+    @Test
+    void should_share_messages_between_updates() {
+        BoundedInMemoryChatMemoryStore store = BoundedInMemoryChatMemoryStore.builder().build();
+
+        List<ChatMessage> messages = new ArrayList<>();
+        messages.add(UserMessage.from("a".repeat(1000)));
+        store.updateMessages("id", messages);
+        long single = store.bytes();
+
+        messages.add(AiMessage.from("b"));
+        store.updateMessages("id", messages);
+
+        // the first message is not counted twice
+        assertThat(store.bytes()).isLessThan(single + 100);
+        assertThat(store.getMessages("id")).isEqualTo(messages);
+    }
+
+    @Test
+    void should_recognize_the_messages_passed_back() {
+        BoundedInMemoryChatMemoryStore store = BoundedInMemoryChatMemoryStore.builder().build();
+
+        UserMessage first = UserMessage.from("Hello");
+        store.updateMessages("id", List.of(first));
+
+        // the messages still in use are returned as is instead of being deserialized again
+        List<ChatMessage> read = store.getMessages("id");
+        assertThat(read.get(0)).isSameAs(first);
+
+        // the window dropping the oldest message keeps the byte arrays of the remaining ones
+        AiMessage second = AiMessage.from("Hi");
+        UserMessage third = UserMessage.from("How are you?");
+        store.updateMessages("id", List.of(read.get(0), second));
+        long two = store.bytes();
+        store.updateMessages("id", List.of(second, third));
+        assertThat(store.getMessages("id")).containsExactly(second, third);
+        assertThat(store.bytes()).isLessThan(two + 100);
+
+        // equal messages that are not the ones passed back are serialized again
+        store.updateMessages("id", List.of(AiMessage.from("Hi"), UserMessage.from("How are you?")));
+        assertThat(store.getMessages("id")).containsExactly(second, third);
+        assertThat(store.getMessages("id").get(0)).isNotSameAs(second);
+    }
+
+    @Test
+    void should_evict_when_memory_is_exceeded() {
+        BoundedInMemoryChatMemoryStore store = BoundedInMemoryChatMemoryStore.builder()
+                .maxBytes(3000)
+                .build();
+
+        for (int i = 0; i < 5; i++) {
+            store.updateMessages(i, List.of(UserMessage.from(String.valueOf(i).repeat(1000))));
+        }
+
+        assertThat(store.bytes()).isLessThanOrEqualTo(3000);
+        assertThat(store.getMessages(0)).isEmpty();
+        assertThat(store.getMessages(4)).hasSize(1);
+        assertThat(store.evictions(EvictionCause.MEMORY)).isEqualTo(5 - store.sessions());
+    }
+
+    @Test
+    void should_evict_idle_conversations() throws InterruptedException {
+        BoundedInMemoryChatMemoryStore store = BoundedInMemoryChatMemoryStore.builder()
+                .idleTimeout(Duration.ofMillis(50))
+                .build();
+
+        store.updateMessages("idle", List.of(UserMessage.from("Hello")));
+        Thread.sleep(100);
+        store.updateMessages("active", List.of(UserMessage.from("Hello")));
+
+        assertThat(store.getMessages("idle")).isEmpty();
+        assertThat(store.getMessages("active")).hasSize(1);
+        assertThat(store.evictions(EvictionCause.IDLE)).isEqualTo(1);
+    }
+}
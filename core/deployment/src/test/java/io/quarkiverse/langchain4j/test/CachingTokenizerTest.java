@@ -0,0 +1,122 @@
+package io.quarkiverse.langchain4j.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.Tokenizer;
+import io.quarkiverse.langchain4j.runtime.CachingTokenizer;
+import io.quarkus.test.QuarkusUnitTest;
+
+class CachingTokenizerTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class));
+
+    @Test
+    void should_count_equal_messages_once() {
+        CountingTokenizer delegate = new CountingTokenizer();
+        CachingTokenizer tokenizer = new CachingTokenizer(delegate, 10);
+
+        List<ChatMessage> conversation = new ArrayList<>();
+        conversation.add(SystemMessage.from("You are a helpful assistant"));
+        conversation.add(UserMessage.from("Hello"));
+        assertThat(tokenizer.estimateTokenCountInMessages(conversation)).isEqualTo(3 + 27 + 5);
+        assertThat(delegate.messages).containsExactly("You are a helpful assistant", "Hello");
+
+        // the messages are usually deserialized again between turns, equal messages are not counted again
+        conversation = new ArrayList<>(List.of(SystemMessage.from("You are a helpful assistant"), UserMessage.from("Hello"),
+                AiMessage.from("Hi")));
+        assertThat(tokenizer.estimateTokenCountInMessages(conversation)).isEqualTo(3 + 27 + 5 + 2);
+        assertThat(delegate.messages).containsExactly("You are a helpful assistant", "Hello", "Hi");
+    }
+
+    @Test
+    void should_count_messages_differing_by_any_field() {
+        CountingTokenizer delegate = new CountingTokenizer();
+        CachingTokenizer tokenizer = new CachingTokenizer(delegate, 10);
+
+        List<ChatMessage> messages = List.of(
+                UserMessage.from("Hello"),
+                UserMessage.from("Klaus", "Hello"),
+                SystemMessage.from("Hello"),
+                AiMessage.from("Hello"),
+                AiMessage.from(ToolExecutionRequest.builder().id("1").name("ab").arguments("c").build()),
+                AiMessage.from(ToolExecutionRequest.builder().id("1").name("a").arguments("bc").build()),
+                ToolExecutionResultMessage.from("1", "tool", "Hello"),
+                ToolExecutionResultMessage.from("2", "tool", "Hello"));
+        for (ChatMessage message : messages) {
+            tokenizer.estimateTokenCountInMessage(message);
+        }
+        assertThat(delegate.messages).hasSize(messages.size());
+    }
+
+    @Test
+    void should_evict_the_least_recently_used_counts() {
+        CountingTokenizer delegate = new CountingTokenizer();
+        CachingTokenizer tokenizer = new CachingTokenizer(delegate, 2);
+
+        tokenizer.estimateTokenCountInMessage(UserMessage.from("first"));
+        tokenizer.estimateTokenCountInMessage(UserMessage.from("second"));
+        // using the first message makes the second one the least recently used
+        tokenizer.estimateTokenCountInMessage(UserMessage.from("first"));
+        tokenizer.estimateTokenCountInMessage(UserMessage.from("third"));
+        assertThat(delegate.messages).containsExactly("first", "second", "third");
+
+        tokenizer.estimateTokenCountInMessage(UserMessage.from("first"));
+        tokenizer.estimateTokenCountInMessage(UserMessage.from("second"));
+        assertThat(delegate.messages).containsExactly("first", "second", "third", "second");
+    }
+
+    /**
+     * Counts a token per character, and 3 tokens for a list of messages
+     */
+    private static class CountingTokenizer implements Tokenizer {
+
+        private final List<String> messages = new ArrayList<>();
+
+        @Override
+        public int estimateTokenCountInText(String text) {
+            return text.length();
+        }
+
+        @Override
+        public int estimateTokenCountInMessage(ChatMessage message) {
+            messages.add(message.text());
+            return message.text() != null ? message.text().length() : 0;
+        }
+
+        @Override
+        public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+            int tokenCount = 3;
+            for (ChatMessage message : messages) {
+                tokenCount += estimateTokenCountInMessage(message);
+            }
+            return tokenCount;
+        }
+
+        @Override
+        public int estimateTokenCountInToolSpecifications(Iterable<ToolSpecification> toolSpecifications) {
+            return 0;
+        }
+
+        @Override
+        public int estimateTokenCountInToolExecutionRequests(Iterable<ToolExecutionRequest> toolExecutionRequests) {
+            return 0;
+        }
+    }
+}
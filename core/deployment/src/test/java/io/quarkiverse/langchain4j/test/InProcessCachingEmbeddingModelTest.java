@@ -0,0 +1,90 @@
+package io.quarkiverse.langchain4j.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.model.embedding.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import io.quarkiverse.langchain4j.cache.EmbeddingCache;
+import io.quarkiverse.langchain4j.runtime.CachingEmbeddingModel;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.test.QuarkusUnitTest;
+
+class InProcessCachingEmbeddingModelTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(RecordingEmbeddingCache.class))
+            .overrideConfigKey("quarkus.langchain4j.embedding-cache.enabled", "true");
+
+    @Inject
+    EmbeddingModel embeddingModel;
+
+    @Inject
+    AllMiniLmL6V2QuantizedEmbeddingModel inProcessModel;
+
+    @Inject
+    RecordingEmbeddingCache cache;
+
+    @Test
+    void should_cache_the_vectors_of_the_in_process_model() {
+        assertThat(ClientProxy.unwrap(embeddingModel)).isInstanceOf(CachingEmbeddingModel.class);
+
+        float[] vector = embeddingModel.embed("Hello").content().vector();
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.puts()).isEqualTo(1);
+
+        assertThat(embeddingModel.embed("Hello").content().vector()).isEqualTo(vector);
+        assertThat(cache.puts()).isEqualTo(1);
+
+        // the model injected with its own class is not cached
+        assertThat(inProcessModel.embed("Hello").content().vector()).isEqualTo(vector);
+        assertThat(cache.puts()).isEqualTo(1);
+    }
+
+    @ApplicationScoped
+    public static class RecordingEmbeddingCache implements EmbeddingCache {
+
+        private final Map<String, float[]> vectors = new ConcurrentHashMap<>();
+        private final AtomicInteger puts = new AtomicInteger();
+
+        int size() {
+            return vectors.size();
+        }
+
+        int puts() {
+            return puts.get();
+        }
+
+        @Override
+        public Map<String, float[]> getAll(Collection<String> keys) {
+            Map<String, float[]> result = new HashMap<>();
+            for (String key : keys) {
+                float[] vector = vectors.get(key);
+                if (vector != null) {
+                    result.put(key, vector);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public void putAll(Map<String, float[]> vectors) {
+            puts.incrementAndGet();
+            this.vectors.putAll(vectors);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.quarkiverse.langchain4j.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+class OffHeapEmbeddingStoreBuildTimeSnapshotTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class))
+            .overrideConfigKey("quarkus.langchain4j.off-heap-embedding-store.enabled", "true")
+            .overrideConfigKey("quarkus.langchain4j.off-heap-embedding-store.build-time-source",
+                    "src/test/resources/off-heap-embedding-store.json");
+
+    @Inject
+    EmbeddingStore<TextSegment> embeddingStore;
+
+    @Test
+    void should_load_build_time_snapshot() {
+        List<EmbeddingMatch<TextSegment>> relevant = embeddingStore.findRelevant(Embedding.from(new float[] { 1, 0.1f, 0 }),
+                3);
+        assertThat(relevant).extracting(EmbeddingMatch::embeddingId).containsExactly("first", "second", "third");
+        assertThat(relevant.get(0).embedded()).isEqualTo(TextSegment.from("first segment", Metadata.from("source", "a")));
+        assertThat(relevant.get(2).embedded()).isNull();
+    }
+}
@@ -0,0 +1,272 @@
+package io.quarkiverse.langchain4j.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Percentage.withPercentage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.RelevanceScore;
+import io.quarkiverse.langchain4j.store.OffHeapEmbeddingStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+class OffHeapEmbeddingStoreTest {
+
+    private static final int DIMENSION = 64;
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class))
+            .overrideConfigKey("quarkus.langchain4j.off-heap-embedding-store.enabled", "true")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.off-heap-embedding-store.index", "flat");
+
+    @Inject
+    EmbeddingStore<TextSegment> embeddingStore;
+
+    private final Random random = new Random(1);
+
+    @Test
+    void should_expose_bean() {
+        assertThat(embeddingStore).isInstanceOf(OffHeapEmbeddingStore.class);
+
+        TextSegment segment = TextSegment.from("hello", Metadata.from("key", "value"));
+        Embedding embedding = randomEmbedding();
+        String id = embeddingStore.add(embedding, segment);
+
+        List<EmbeddingMatch<TextSegment>> relevant = embeddingStore.findRelevant(embedding, 10);
+        assertThat(relevant).hasSize(1);
+        EmbeddingMatch<TextSegment> match = relevant.get(0);
+        assertThat(match.score()).isCloseTo(1, withPercentage(1));
+        assertThat(match.embeddingId()).isEqualTo(id);
+        assertThat(match.embedding()).isEqualTo(embedding);
+        assertThat(match.embedded()).isEqualTo(segment);
+    }
+
+    @Test
+    void should_return_correct_score_and_respect_min_score() {
+        OffHeapEmbeddingStore store = OffHeapEmbeddingStore.builder().index(OffHeapEmbeddingStore.Index.FLAT).build();
+        Embedding first = randomEmbedding();
+        Embedding second = randomEmbedding();
+        List<String> ids = store.addAll(List.of(first, second));
+
+        List<EmbeddingMatch<TextSegment>> relevant = store.findRelevant(first, 10);
+        assertThat(relevant).extracting(EmbeddingMatch::embeddingId).containsExactlyElementsOf(ids);
+        assertThat(relevant.get(1).score()).isCloseTo(
+                RelevanceScore.fromCosineSimilarity(CosineSimilarity.between(first, second)), withPercentage(0.1));
+
+        assertThat(store.findRelevant(first, 10, relevant.get(1).score() + 0.001))
+                .extracting(EmbeddingMatch::embeddingId).containsExactly(ids.get(0));
+    }
+
+    @Test
+    void parallel_scan_should_match_sequential_scan() {
+        OffHeapEmbeddingStore sequential = OffHeapEmbeddingStore.builder()
+                .index(OffHeapEmbeddingStore.Index.FLAT)
+                .parallelScanThreshold(Integer.MAX_VALUE)
+                .build();
+        OffHeapEmbeddingStore parallel = OffHeapEmbeddingStore.builder()
+                .index(OffHeapEmbeddingStore.Index.FLAT)
+                .parallelScanThreshold(100)
+                .build();
+        for (int i = 0; i < 5_000; i++) {
+            Embedding embedding = randomEmbedding();
+            sequential.add(String.valueOf(i), embedding);
+            parallel.add(String.valueOf(i), embedding);
+        }
+
+        Embedding query = randomEmbedding();
+        assertThat(parallel.findRelevant(query, 20)).extracting(EmbeddingMatch::embeddingId)
+                .containsExactlyElementsOf(ids(sequential.findRelevant(query, 20)));
+    }
+
+    @Test
+    void hnsw_should_have_high_recall() {
+        OffHeapEmbeddingStore hnsw = OffHeapEmbeddingStore.builder().index(OffHeapEmbeddingStore.Index.HNSW).build();
+        assertThat(recall(hnsw)).isGreaterThan(0.9);
+        assertThat(hnsw.size()).isEqualTo(5_000);
+    }
+
+    @Test
+    void int8_quantization_should_have_high_recall() {
+        OffHeapEmbeddingStore quantized = OffHeapEmbeddingStore.builder()
+                .index(OffHeapEmbeddingStore.Index.FLAT)
+                .quantization(OffHeapEmbeddingStore.Quantization.INT8)
+                .build();
+        assertThat(recall(quantized)).isGreaterThan(0.9);
+    }
+
+    @Test
+    void product_quantization_should_have_high_recall_when_reranking() {
+        OffHeapEmbeddingStore quantized = OffHeapEmbeddingStore.builder()
+                .index(OffHeapEmbeddingStore.Index.FLAT)
+                .quantization(OffHeapEmbeddingStore.Quantization.PQ)
+                .pqTrainingSize(2_000)
+                .rerank(true)
+                .rerankOversampling(10)
+                .build();
+        // random vectors are the worst case for product quantization as they have no structure the codebooks can learn
+        assertThat(recall(quantized)).isGreaterThan(0.8);
+    }
+
+    @Test
+    void product_quantization_should_work_with_hnsw() {
+        OffHeapEmbeddingStore quantized = OffHeapEmbeddingStore.builder()
+                .index(OffHeapEmbeddingStore.Index.HNSW)
+                .quantization(OffHeapEmbeddingStore.Quantization.PQ)
+                .pqTrainingSize(2_000)
+                .rerank(true)
+                .rerankOversampling(10)
+                .build();
+        assertThat(recall(quantized)).isGreaterThan(0.8);
+    }
+
+    @Test
+    void product_quantization_should_have_high_recall_before_training() {
+        OffHeapEmbeddingStore quantized = OffHeapEmbeddingStore.builder()
+                .index(OffHeapEmbeddingStore.Index.FLAT)
+                .quantization(OffHeapEmbeddingStore.Quantization.PQ)
+                .pqTrainingSize(10_000)
+                .build();
+        // the vectors are int8 quantized until there are enough of them to train the quantizer
+        assertThat(recall(quantized)).isGreaterThan(0.9);
+        assertThat(quantized.size()).isEqualTo(5_000);
+    }
+
+    @Test
+    void should_reload_snapshot_into_quantized_store() throws IOException {
+        OffHeapEmbeddingStore original = OffHeapEmbeddingStore.builder().build();
+        List<Embedding> embeddings = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            embeddings.add(randomEmbedding());
+        }
+        List<String> ids = original.addAll(embeddings);
+        Path snapshot = Files.createTempDirectory("OffHeapEmbeddingStoreTest").resolve("store.snapshot");
+        original.writeSnapshot(snapshot);
+
+        OffHeapEmbeddingStore reloaded = OffHeapEmbeddingStore.builder()
+                .quantization(OffHeapEmbeddingStore.Quantization.INT8)
+                .rerank(true)
+                .snapshot(snapshot)
+                .build();
+        for (int i = 0; i < 20; i++) {
+            EmbeddingMatch<TextSegment> match = reloaded.findRelevant(embeddings.get(i), 1).get(0);
+            assertThat(match.embeddingId()).isEqualTo(ids.get(i));
+            assertThat(match.embedding()).isEqualTo(embeddings.get(i));
+        }
+    }
+
+    @Test
+    void should_reload_snapshot() throws IOException {
+        OffHeapEmbeddingStore original = OffHeapEmbeddingStore.builder().build();
+        List<Embedding> embeddings = new ArrayList<>();
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            embeddings.add(randomEmbedding());
+            segments.add(i % 2 == 0 ? TextSegment.from("segment " + i, Metadata.from("index", String.valueOf(i))) : null);
+        }
+        original.addAll(embeddings, segments);
+
+        Path snapshot = Files.createTempDirectory("OffHeapEmbeddingStoreTest").resolve("store.snapshot");
+        original.writeSnapshot(snapshot);
+        OffHeapEmbeddingStore reloaded = OffHeapEmbeddingStore.builder().snapshot(snapshot).build();
+        assertThat(reloaded.size()).isEqualTo(original.size());
+
+        for (int i = 0; i < 20; i++) {
+            Embedding query = randomEmbedding();
+            List<EmbeddingMatch<TextSegment>> expected = original.findRelevant(query, 5);
+            List<EmbeddingMatch<TextSegment>> actual = reloaded.findRelevant(query, 5);
+            assertThat(ids(actual)).containsExactlyElementsOf(ids(expected));
+            for (int j = 0; j < actual.size(); j++) {
+                assertThat(actual.get(j).embedded()).isEqualTo(expected.get(j).embedded());
+                assertThat(actual.get(j).embedding()).isEqualTo(expected.get(j).embedding());
+            }
+        }
+
+        // appending to a memory-mapped store must not touch the snapshot
+        Embedding added = randomEmbedding();
+        String id = reloaded.add(added, TextSegment.from("added"));
+        assertThat(reloaded.findRelevant(added, 1).get(0).embeddingId()).isEqualTo(id);
+        assertThat(OffHeapEmbeddingStore.builder().snapshot(snapshot).build().size()).isEqualTo(2_000);
+    }
+
+    @Test
+    void should_reload_int8_snapshot() throws IOException {
+        OffHeapEmbeddingStore original = OffHeapEmbeddingStore.builder().index(OffHeapEmbeddingStore.Index.FLAT).build();
+        List<Embedding> embeddings = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            embeddings.add(randomEmbedding());
+        }
+        List<String> ids = original.addAll(embeddings);
+
+        Path directory = Files.createTempDirectory("OffHeapEmbeddingStoreTest");
+        Path snapshot = directory.resolve("store.snapshot");
+        original.writeSnapshot(snapshot, true);
+        Path float32Snapshot = directory.resolve("store-float32.snapshot");
+        original.writeSnapshot(float32Snapshot);
+        assertThat(Files.size(snapshot)).isLessThan(Files.size(float32Snapshot) / 2);
+
+        OffHeapEmbeddingStore reloaded = OffHeapEmbeddingStore.builder().index(OffHeapEmbeddingStore.Index.FLAT)
+                .snapshot(snapshot).build();
+        for (int i = 0; i < 20; i++) {
+            EmbeddingMatch<TextSegment> match = reloaded.findRelevant(embeddings.get(i), 1).get(0);
+            assertThat(match.embeddingId()).isEqualTo(ids.get(i));
+            assertThat(match.score()).isCloseTo(1, withPercentage(0.1));
+        }
+    }
+
+    private double recall(OffHeapEmbeddingStore store) {
+        OffHeapEmbeddingStore exact = OffHeapEmbeddingStore.builder().index(OffHeapEmbeddingStore.Index.FLAT).build();
+        for (int i = 0; i < 5_000; i++) {
+            Embedding embedding = randomEmbedding();
+            exact.add(String.valueOf(i), embedding);
+            store.add(String.valueOf(i), embedding);
+        }
+        int found = 0;
+        int queries = 50;
+        for (int i = 0; i < queries; i++) {
+            Embedding query = randomEmbedding();
+            Set<String> expected = new HashSet<>(ids(exact.findRelevant(query, 10)));
+            for (String id : ids(store.findRelevant(query, 10))) {
+                if (expected.contains(id)) {
+                    found++;
+                }
+            }
+        }
+        return found / (queries * 10.0);
+    }
+
+    private Embedding randomEmbedding() {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
+    private static List<String> ids(List<EmbeddingMatch<TextSegment>> matches) {
+        List<String> result = new ArrayList<>(matches.size());
+        for (EmbeddingMatch<TextSegment> match : matches) {
+            result.add(match.embeddingId());
+        }
+        return result;
+    }
+}
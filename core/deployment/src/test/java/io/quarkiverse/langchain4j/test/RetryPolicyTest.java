@@ -0,0 +1,73 @@
+package io.quarkiverse.langchain4j.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.langchain4j.runtime.RetryPolicy;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+class RetryPolicyTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class));
+
+    private static final Duration PAUSE = Duration.ofSeconds(1);
+
+    private final RetryPolicy policy = RetryPolicy.builder()
+            .maxRetries(2)
+            .initialBackoff(Duration.ofMillis(10))
+            .jitter(0)
+            .retryAfter(new Function<>() {
+                @Override
+                public Duration apply(Throwable failure) {
+                    return failure instanceof RateLimitedException ? PAUSE : null;
+                }
+            })
+            .build();
+
+    @Test
+    void should_not_wait_again_for_an_elapsed_pause_when_retrying() {
+        // pauses the client from now on
+        Uni<String> rateLimited = policy.apply(failingOnce(new RateLimitedException()));
+        rateLimited.subscribe().with(item -> {
+        }, failure -> {
+        });
+
+        long start = System.nanoTime();
+        // waits for the pause, fails with a short backoff, then succeeds
+        String item = policy.apply(failingOnce(new IllegalStateException("failed"))).await().atMost(Duration.ofSeconds(10));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(item).isEqualTo("item");
+        assertThat(elapsed).isGreaterThanOrEqualTo(PAUSE.minusMillis(100));
+        // the retry does not wait for the pause a second time
+        assertThat(elapsed).isLessThan(PAUSE.multipliedBy(3).dividedBy(2));
+    }
+
+    private static Uni<String> failingOnce(RuntimeException failure) {
+        AtomicInteger attempts = new AtomicInteger();
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends String>>() {
+            @Override
+            public Uni<? extends String> get() {
+                if (attempts.incrementAndGet() == 1) {
+                    return Uni.createFrom().failure(failure);
+                }
+                return Uni.createFrom().item("item");
+            }
+        });
+    }
+
+    private static class RateLimitedException extends RuntimeException {
+    }
+}
@@ -0,0 +1,188 @@
+package io.quarkiverse.langchain4j.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.memory.chat.ChatMemoryProvider;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+import io.quarkiverse.langchain4j.runtime.aiservice.SummarizingChatMemory;
+import io.quarkus.test.QuarkusUnitTest;
+
+class SummarizingChatMemoryTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(ChatModel.class))
+            .overrideConfigKey("quarkus.langchain4j.chat-memory.type", "summarizing")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.chat-memory.summarizing.max-messages", "2");
+
+    @Inject
+    ChatMemoryProvider chatMemoryProvider;
+
+    // the summarizations run when the test decides
+    private QueuedExecutor executor;
+    private SummarizingModel model;
+
+    @BeforeEach
+    void setUp() {
+        executor = new QueuedExecutor();
+        model = new SummarizingModel();
+    }
+
+    @Test
+    void should_provide_summarizing_memories() {
+        assertThat(chatMemoryProvider.get("id")).isInstanceOf(SummarizingChatMemory.class);
+    }
+
+    @Test
+    void should_summarize_evicted_messages_in_the_background() {
+        ChatMemory memory = memory(100, Duration.ZERO);
+
+        memory.add(SystemMessage.from("be nice"));
+        memory.add(UserMessage.from("question 1"));
+        memory.add(AiMessage.from("answer 1"));
+        memory.add(UserMessage.from("question 2"));
+
+        // the evicted message is not part of the memory while the model summarizes it
+        assertThat(memory.messages()).containsExactly(SystemMessage.from("be nice"), AiMessage.from("answer 1"),
+                UserMessage.from("question 2"));
+
+        executor.runAll();
+        assertThat(memory.messages()).containsExactly(SystemMessage.from("be nice"),
+                AiMessage.from(SummarizingChatMemory.SUMMARY_PREFIX + "summary 1"),
+                AiMessage.from("answer 1"), UserMessage.from("question 2"));
+        assertThat(model.prompts.get(0)).contains("USER: question 1").doesNotContain("answer 1");
+
+        memory.add(AiMessage.from("answer 2"));
+        executor.runAll();
+        assertThat(memory.messages()).hasSize(4).element(1)
+                .isEqualTo(AiMessage.from(SummarizingChatMemory.SUMMARY_PREFIX + "summary 2"));
+        // the previous summary is extended
+        assertThat(model.prompts.get(1)).contains("summary 1").contains("AI: answer 1");
+    }
+
+    @Test
+    void should_drop_the_summary_of_a_cleared_memory() {
+        ChatMemory memory = memory(100, Duration.ZERO);
+
+        memory.add(UserMessage.from("question 1"));
+        memory.add(AiMessage.from("answer 1"));
+        memory.add(UserMessage.from("question 2"));
+        memory.clear();
+
+        executor.runAll();
+        assertThat(model.prompts).hasSize(1);
+        assertThat(memory.messages()).isEmpty();
+    }
+
+    @Test
+    void should_only_keep_the_last_messages_waiting_for_a_summary() {
+        ChatMemory memory = memory(3, Duration.ZERO);
+        model.failing = true;
+
+        for (int i = 1; i <= 4; i++) {
+            memory.add(UserMessage.from("question " + i));
+            memory.add(AiMessage.from("answer " + i));
+            executor.runAll();
+        }
+        assertThat(model.prompts).hasSize(3);
+
+        model.failing = false;
+        memory.add(UserMessage.from("question 5"));
+        executor.runAll();
+        // the oldest messages are dropped, as a plain window would
+        assertThat(model.prompts.get(3))
+                .doesNotContain("question 2", "answer 2")
+                .contains("USER: question 3", "AI: answer 3", "USER: question 4");
+        assertThat(memory.messages()).hasSize(3).element(0)
+                .isEqualTo(AiMessage.from(SummarizingChatMemory.SUMMARY_PREFIX + "summary 4"));
+    }
+
+    @Test
+    void should_back_off_after_a_failure() {
+        ChatMemory memory = memory(100, Duration.ofHours(1));
+        model.failing = true;
+
+        memory.add(UserMessage.from("question 1"));
+        memory.add(AiMessage.from("answer 1"));
+        memory.add(UserMessage.from("question 2"));
+        executor.runAll();
+        assertThat(model.prompts).hasSize(1);
+
+        // not summarized again until the backoff has elapsed
+        model.failing = false;
+        memory.add(AiMessage.from("answer 2"));
+        memory.add(UserMessage.from("question 3"));
+        executor.runAll();
+        assertThat(model.prompts).hasSize(1);
+        assertThat(memory.messages()).containsExactly(AiMessage.from("answer 2"), UserMessage.from("question 3"));
+    }
+
+    private ChatMemory memory(int maxUnsummarized, Duration failureBackoff) {
+        return new SummarizingChatMemory("id", 2, maxUnsummarized, failureBackoff, new InMemoryChatMemoryStore(), model,
+                executor);
+    }
+
+    private static class QueuedExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+
+    private static class SummarizingModel implements ChatLanguageModel {
+
+        final List<String> prompts = new ArrayList<>();
+        boolean failing;
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages) {
+            prompts.add(messages.get(0).text());
+            if (failing) {
+                throw new IllegalStateException("The model is unavailable");
+            }
+            return Response.from(AiMessage.from("summary " + prompts.size()));
+        }
+    }
+
+    @Singleton
+    public static class ChatModel implements ChatLanguageModel {
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages) {
+            return Response.from(AiMessage.from("summary"));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.quarkiverse.langchain4j.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.memory.chat.ChatMemoryProvider;
+import dev.langchain4j.model.Tokenizer;
+import io.quarkiverse.langchain4j.runtime.aiservice.QuarkusTokenWindowChatMemory;
+import io.quarkus.test.QuarkusUnitTest;
+
+class TokenWindowChatMemoryTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(WordTokenizer.class))
+            .overrideConfigKey("quarkus.langchain4j.chat-memory.type", "token-window")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.chat-memory.token-window.max-tokens", "10");
+
+    @Inject
+    ChatMemoryProvider chatMemoryProvider;
+
+    @Inject
+    WordTokenizer tokenizer;
+
+    @Test
+    void should_only_tokenize_new_messages() {
+        ChatMemory memory = chatMemoryProvider.get("id");
+        assertThat(memory).isInstanceOf(QuarkusTokenWindowChatMemory.class);
+
+        memory.add(SystemMessage.from("be nice"));
+        for (int i = 0; i < 5; i++) {
+            memory.add(UserMessage.from("question number " + i));
+            memory.add(AiMessage.from("answer " + i));
+        }
+
+        // 2 + 2 + 3 + 2 tokens, the next older message would not fit
+        assertThat(memory.messages()).containsExactly(SystemMessage.from("be nice"), AiMessage.from("answer 3"),
+                UserMessage.from("question number 4"), AiMessage.from("answer 4"));
+        assertThat(((QuarkusTokenWindowChatMemory) memory).tokenCount()).isEqualTo(9);
+        // each message is only tokenized once
+        assertThat(tokenizer.tokenized).hasSize(11).doesNotHaveDuplicates();
+    }
+
+    @Singleton
+    public static class WordTokenizer implements Tokenizer {
+
+        final List<ChatMessage> tokenized = new ArrayList<>();
+
+        @Override
+        public int estimateTokenCountInText(String text) {
+            return text.split(" ").length;
+        }
+
+        @Override
+        public int estimateTokenCountInMessage(ChatMessage message) {
+            tokenized.add(message);
+            return estimateTokenCountInText(message.text());
+        }
+
+        @Override
+        public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+            int count = 0;
+            for (ChatMessage message : messages) {
+                count += estimateTokenCountInMessage(message);
+            }
+            return count;
+        }
+
+        @Override
+        public int estimateTokenCountInToolSpecifications(Iterable<ToolSpecification> toolSpecifications) {
+            return 0;
+        }
+
+        @Override
+        public int estimateTokenCountInToolExecutionRequests(Iterable<ToolExecutionRequest> toolExecutionRequests) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.quarkiverse.langchain4j;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import io.quarkiverse.langchain4j.cache.ResponseCache;
+
+/**
+ * Caches the response of the model for a method of an AI service registered with {@link RegisterAiService}.
+ * <p>
+ * The response is looked up in the {@link ResponseCache} bean using a hash of the messages sent to the model (including
+ * the messages of the chat memory), of the name and configuration of the model and of the tools the model can use. When it
+ * is found, the model is not called. Only responses that do not request the execution of a tool are cached.
+ * <p>
+ * This is only meant for methods whose response depends on nothing but the messages, which is typically the case of
+ * classification and extraction methods used with a temperature of {@code 0}. Methods returning a
+ * {@link dev.langchain4j.service.TokenStream} cannot be cached.
+ */
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface CacheResponse {
+}
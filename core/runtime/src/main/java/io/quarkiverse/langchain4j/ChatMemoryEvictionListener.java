@@ -0,0 +1,22 @@
+package io.quarkiverse.langchain4j;
+
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+
+/**
+ * Notified when an AI service stops keeping a {@link ChatMemory} in memory, because too many memories are in use or
+ * because it has not been used for a while, see {@code quarkus.langchain4j.chat-memory.registry}.
+ * <p>
+ * An evicted memory is not cleared, and it is created again from the
+ * {@link dev.langchain4j.memory.chat.ChatMemoryProvider} the next time its memory ID is used. A listener is therefore only
+ * needed when the memory holds state that is not already in a {@link ChatMemoryStore}.
+ * Listeners are discovered as CDI beans.
+ */
+public interface ChatMemoryEvictionListener {
+
+    /**
+     * @param memoryId the ID of the evicted memory
+     * @param chatMemory the evicted memory
+     */
+    void onEviction(Object memoryId, ChatMemory chatMemory);
+}
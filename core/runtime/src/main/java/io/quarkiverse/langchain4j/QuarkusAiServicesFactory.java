@@ -9,22 +9,30 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.eclipse.microprofile.config.ConfigProvider;
 import org.jboss.logging.Logger;
 
 import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.memory.chat.ChatMemoryProvider;
 import dev.langchain4j.service.AiServiceContext;
 import dev.langchain4j.service.AiServices;
 import dev.langchain4j.spi.services.AiServicesFactory;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
 import io.quarkiverse.langchain4j.audit.AuditService;
 import io.quarkiverse.langchain4j.runtime.AiServicesRecorder;
 import io.quarkiverse.langchain4j.runtime.ToolsRecorder;
 import io.quarkiverse.langchain4j.runtime.aiservice.AiServiceClassCreateInfo;
 import io.quarkiverse.langchain4j.runtime.aiservice.AiServiceMethodCreateInfo;
+import io.quarkiverse.langchain4j.runtime.aiservice.ChatMemoryConfig;
+import io.quarkiverse.langchain4j.runtime.aiservice.ChatMemoryRegistry;
 import io.quarkiverse.langchain4j.runtime.aiservice.QuarkusAiServiceContext;
 import io.quarkiverse.langchain4j.runtime.tool.QuarkusToolExecutor;
 import io.quarkiverse.langchain4j.runtime.tool.QuarkusToolExecutorFactory;
 import io.quarkiverse.langchain4j.runtime.tool.ToolMethodCreateInfo;
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+import io.smallrye.config.SmallRyeConfig;
 
 public class QuarkusAiServicesFactory implements AiServicesFactory {
 
@@ -79,6 +87,47 @@ public class QuarkusAiServicesFactory implements AiServicesFactory {
             return this;
         }
 
+        /**
+         * Keeps the memories created by the provider in a bounded {@link ChatMemoryRegistry} instead of an unbounded map
+         */
+        @Override
+        public AiServices<T> chatMemoryProvider(ChatMemoryProvider chatMemoryProvider) {
+            super.chatMemoryProvider(chatMemoryProvider);
+            ChatMemoryConfig.Registry config = ConfigProvider.getConfig().unwrap(SmallRyeConfig.class)
+                    .getConfigMapping(ChatMemoryConfig.class).registry();
+            context.chatMemories = new ChatMemoryRegistry(config.maxEntries(), config.idleTimeout(),
+                    evictionListener(config.flushOnEviction()));
+            return this;
+        }
+
+        private static ChatMemoryEvictionListener evictionListener(boolean flushOnEviction) {
+            List<ChatMemoryEvictionListener> listeners = new ArrayList<>();
+            if (flushOnEviction) {
+                ChatMemoryStore store = Arc.container().instance(ChatMemoryStore.class).get();
+                listeners.add(new ChatMemoryEvictionListener() {
+                    @Override
+                    public void onEviction(Object memoryId, ChatMemory chatMemory) {
+                        store.updateMessages(memoryId, chatMemory.messages());
+                    }
+                });
+            }
+            for (InstanceHandle<ChatMemoryEvictionListener> handle : Arc.container()
+                    .listAll(ChatMemoryEvictionListener.class)) {
+                listeners.add(handle.get());
+            }
+            if (listeners.isEmpty()) {
+                return null;
+            }
+            return new ChatMemoryEvictionListener() {
+                @Override
+                public void onEviction(Object memoryId, ChatMemory chatMemory) {
+                    for (ChatMemoryEvictionListener listener : listeners) {
+                        listener.onEviction(memoryId, chatMemory);
+                    }
+                }
+            };
+        }
+
         public AiServices<T> auditService(AuditService auditService) {
             ((QuarkusAiServiceContext) context).auditService = auditService;
             return this;
@@ -0,0 +1,24 @@
+package io.quarkiverse.langchain4j;
+
+import java.util.List;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.moderation.Moderation;
+import dev.langchain4j.model.moderation.ModerationModel;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * A {@link ModerationModel} that can moderate messages without blocking the calling thread.
+ * <p>
+ * When the moderation model of an AI service implements this interface, the messages are moderated while the chat model
+ * generates the response without occupying a worker thread.
+ */
+public interface ReactiveModerationModel extends ModerationModel {
+
+    /**
+     * Moderates the messages, the request is only sent when the returned {@link Uni} is subscribed to
+     *
+     * @return the moderation of the first flagged message, or a moderation that is not flagged if no message was flagged
+     */
+    Uni<Moderation> moderateAsync(List<ChatMessage> messages);
+}
@@ -17,7 +17,6 @@ import dev.langchain4j.model.moderation.ModerationModel;
 import dev.langchain4j.retriever.Retriever;
 import dev.langchain4j.service.AiServices;
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
-import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
 import io.quarkiverse.langchain4j.audit.AuditService;
 
 /**
@@ -69,7 +68,8 @@ public @interface RegisterAiService {
     /**
      * Configures the way to obtain the {@link ChatMemoryProvider}.
      * <p>
-     * Be default, Quarkus configures a {@link ChatMemoryProvider} bean that uses a {@link InMemoryChatMemoryStore} bean
+     * Be default, Quarkus configures a {@link ChatMemoryProvider} bean that uses a
+     * {@link io.quarkiverse.langchain4j.store.BoundedInMemoryChatMemoryStore} bean
      * as the backing store. The default type for the actual {@link ChatMemory} is {@link MessageWindowChatMemory}
      * and it is configured with the value of the {@code quarkus.langchain4j.chat-memory.memory-window.max-messages}
      * configuration property (which default to 10) as a way of limiting the number of messages in each chat.
@@ -78,7 +78,7 @@ public @interface RegisterAiService {
      * the default.
      * <p>
      * If the application provides an implementation of {@link ChatMemoryStore}, then that is used instead of the default
-     * {@link InMemoryChatMemoryStore}.
+     * {@link io.quarkiverse.langchain4j.store.BoundedInMemoryChatMemoryStore}.
      * <p>
      * In the most advances case, an arbitrary {@link ChatMemoryProvider} can be used by having a custom
      * {@code Supplier<ChatMemoryProvider>} configured in this property.
@@ -126,7 +126,8 @@ public @interface RegisterAiService {
 
     /**
      * Marker that is used to tell Quarkus to use the retriever that the user has configured as a CDI bean.
-     * Be default, Quarkus configures an {@link ChatMemoryProvider} by using an {@link InMemoryChatMemoryStore}
+     * Be default, Quarkus configures an {@link ChatMemoryProvider} by using an
+     * {@link io.quarkiverse.langchain4j.store.BoundedInMemoryChatMemoryStore}
      * as the backing store while using {@link MessageWindowChatMemory} with the value of
      * configuration property {@code quarkus.langchain4j.chat-memory.memory-window.max-messages} (which default to 10)
      * as a way of limiting the number of messages in each chat.
@@ -0,0 +1,28 @@
+package io.quarkiverse.langchain4j;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Caches the response of the model for a method of an AI service registered with {@link RegisterAiService}, and returns it
+ * for the user messages that are similar to the one it answered.
+ * <p>
+ * The user message is embedded with the {@link dev.langchain4j.model.embedding.EmbeddingModel} bean, and the answer to the
+ * most similar question answered by the same AI service, with the same chat model and system message, is returned if their
+ * cosine similarity is at least {@code quarkus.langchain4j.response-cache.semantic.min-similarity}. Otherwise, the model is
+ * called and its response is cached. Only responses that do not request the execution of a tool are cached.
+ * <p>
+ * The similarity only takes the user message into account, not the documents found by the retriever, which makes this
+ * cache a fit for questions that are answered the same way whatever the conversation, such as frequently asked questions.
+ * The cache is not used once the chat memory holds messages of the conversation, as the response would not take them into
+ * account. A response returned from the cache answered another question, so the user message is still moderated when the
+ * method is annotated with {@link dev.langchain4j.service.Moderate}. Methods returning a
+ * {@link dev.langchain4j.service.TokenStream} cannot be cached.
+ */
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface SemanticCacheResponse {
+}
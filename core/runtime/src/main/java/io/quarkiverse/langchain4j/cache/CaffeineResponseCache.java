@@ -0,0 +1,40 @@
+package io.quarkiverse.langchain4j.cache;
+
+import java.time.Duration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import dev.langchain4j.data.message.AiMessage;
+
+/**
+ * A {@link ResponseCache} keeping at most a number of responses on the heap, for a limited time.
+ */
+public class CaffeineResponseCache implements ResponseCache {
+
+    private final Cache<String, AiMessage> cache;
+
+    public CaffeineResponseCache(long maxSize, Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public AiMessage get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public void put(String key, AiMessage response) {
+        cache.put(key, response);
+    }
+
+    /**
+     * @return an estimate of the number of cached responses
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
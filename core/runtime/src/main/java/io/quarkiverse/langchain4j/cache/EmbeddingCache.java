@@ -0,0 +1,29 @@
+package io.quarkiverse.langchain4j.cache;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Stores the vectors computed by the {@link dev.langchain4j.model.embedding.EmbeddingModel} beans, when
+ * {@code quarkus.langchain4j.embedding-cache.enabled} is {@code true}.
+ * <p>
+ * The extension provides a default bean of this type, {@link InMemoryEmbeddingCache}, which keeps the vectors on the heap of
+ * the application. The Redis extension provides one that shares them between the instances of the application.
+ * Applications can provide their own bean to use another store.
+ * <p>
+ * Both methods work on batches, so that a store over the network only needs a single round trip per call to
+ * {@link dev.langchain4j.model.embedding.EmbeddingModel#embedAll(java.util.List)}.
+ */
+public interface EmbeddingCache {
+
+    /**
+     * @param keys the hashes identifying the embedding model and the embedded texts
+     * @return the cached vectors by key, keys without a cached vector are absent
+     */
+    Map<String, float[]> getAll(Collection<String> keys);
+
+    /**
+     * @param vectors the vectors computed by the embedding model, by key
+     */
+    void putAll(Map<String, float[]> vectors);
+}
@@ -0,0 +1,68 @@
+package io.quarkiverse.langchain4j.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An {@link EmbeddingCache} keeping the vectors on the heap, as primitive arrays, in a least recently used cache bounded by
+ * the memory the vectors use.
+ * <p>
+ * The memory used by an entry is estimated as the size of its vector plus a fixed overhead for the key and the entry of the
+ * map, so that the bound holds whatever the dimension of the embedding models of the application.
+ */
+public class InMemoryEmbeddingCache implements EmbeddingCache {
+
+    // the hexadecimal key, the map entry and the array header
+    private static final long ENTRY_OVERHEAD = 256;
+
+    private final long maxBytes;
+    // access ordered, the eldest entry is the least recently used vector, guarded by this
+    private final LinkedHashMap<String, float[]> vectors = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    public InMemoryEmbeddingCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public synchronized Map<String, float[]> getAll(Collection<String> keys) {
+        Map<String, float[]> result = new HashMap<>();
+        for (String key : keys) {
+            float[] vector = vectors.get(key);
+            if (vector != null) {
+                result.put(key, vector);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized void putAll(Map<String, float[]> newVectors) {
+        for (Map.Entry<String, float[]> entry : newVectors.entrySet()) {
+            float[] previous = vectors.put(entry.getKey(), entry.getValue());
+            if (previous != null) {
+                bytes -= sizeOf(previous);
+            }
+            bytes += sizeOf(entry.getValue());
+        }
+        Iterator<float[]> eldest = vectors.values().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            bytes -= sizeOf(eldest.next());
+            eldest.remove();
+        }
+    }
+
+    /**
+     * @return the number of cached vectors
+     */
+    public synchronized int size() {
+        return vectors.size();
+    }
+
+    private static long sizeOf(float[] vector) {
+        return ENTRY_OVERHEAD + (long) vector.length * Float.BYTES;
+    }
+}
@@ -0,0 +1,26 @@
+package io.quarkiverse.langchain4j.cache;
+
+import dev.langchain4j.data.message.AiMessage;
+
+/**
+ * Stores the responses of the methods annotated with {@link io.quarkiverse.langchain4j.CacheResponse}.
+ * <p>
+ * When the {@code quarkus-caffeine} extension is present, the extension provides a default bean of this type,
+ * {@link CaffeineResponseCache}, which keeps the responses on the heap of the application. The Redis extension provides one
+ * that shares them between the instances of the application.
+ * Applications can provide their own bean to use another store.
+ */
+public interface ResponseCache {
+
+    /**
+     * @param key the hash identifying the request sent to the model
+     * @return the cached response, or {@code null} if there is none
+     */
+    AiMessage get(String key);
+
+    /**
+     * @param key the hash identifying the request sent to the model
+     * @param response the response of the model
+     */
+    void put(String key, AiMessage response);
+}
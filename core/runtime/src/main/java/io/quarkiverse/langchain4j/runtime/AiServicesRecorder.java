@@ -86,6 +86,7 @@ public class AiServicesRecorder {
                                 .getConstructor().newInstance();
                         quarkusAiServices.chatLanguageModel(supplier.get());
                     } else {
+                        aiServiceContext.chatModelName = info.getChatModelName();
                         if (NamedModelUtil.isDefault(info.getChatModelName())) {
                             quarkusAiServices
                                     .chatLanguageModel(creationalContext.getInjectedReference(ChatLanguageModel.class));
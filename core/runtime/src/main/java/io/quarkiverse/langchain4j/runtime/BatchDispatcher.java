@@ -0,0 +1,288 @@
+package io.quarkiverse.langchain4j.runtime;
+
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Sends a list of inputs (typically the texts of an {@code EmbeddingModel#embedAll} call) to a remote API.
+ * <p>
+ * The inputs are split into batches of at most {@code maxBatchSize} elements (use {@code 1} for APIs that only accept a
+ * single input) and, when a weigher is set, of at most {@code maxBatchWeight} (typically a number of tokens). Up to
+ * {@code maxConcurrency} batches are in flight at the same time using non-blocking requests.
+ * A batch that fails with a transient error is retried on its own, with an exponential backoff, so that error does not
+ * require the whole list to be sent again. When the API tells how long to wait before retrying (typically with a
+ * {@code Retry-After} header
+ * on a rate limited response), no batch is sent by this dispatcher until that delay has elapsed, instead of every batch
+ * in flight hitting the rate limit in turn.
+ * The results are returned in the order of the inputs, regardless of the order in which the batches complete.
+ */
+public final class BatchDispatcher {
+
+    private final int maxBatchSize;
+    private final int maxBatchWeight;
+    private final ToIntFunction<Object> weigher;
+    private final int maxConcurrency;
+    private final int maxRetries;
+    private final Duration initialBackoff;
+    private final Predicate<Throwable> retryable;
+    private final Function<Throwable, Duration> retryAfter;
+    // wall clock time until which no request should be sent, shared by all the dispatches
+    private final AtomicLong pausedUntil = new AtomicLong();
+
+    private BatchDispatcher(Builder builder) {
+        this.maxBatchSize = Math.max(1, builder.maxBatchSize);
+        this.maxBatchWeight = builder.maxBatchWeight;
+        this.weigher = builder.weigher;
+        this.maxConcurrency = Math.max(1, builder.maxConcurrency);
+        this.maxRetries = Math.max(0, builder.maxRetries);
+        this.initialBackoff = builder.initialBackoff;
+        this.retryable = builder.retryable;
+        this.retryAfter = builder.retryAfter;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Dispatches the inputs and blocks until all the batches have completed.
+     *
+     * @param call sends a batch, the returned {@link Uni} must emit exactly one result per input of the batch, in the same
+     *        order. The {@link Uni} is subscribed to again when the batch is retried.
+     * @throws RuntimeException the failure of the first batch that could not be completed after all the retries
+     */
+    public <I, O> List<O> dispatch(List<I> inputs, Function<List<I>, Uni<List<O>>> call) {
+        if (inputs.isEmpty()) {
+            return List.of();
+        }
+        List<List<I>> batches = split(inputs);
+        if (batches.size() == 1) {
+            return checkSize(batches.get(0), withRetries(batches.get(0), call).await().indefinitely());
+        }
+
+        List<BatchResult<O>> completed = Multi.createFrom().range(0, batches.size())
+                .onItem().transformToUni(new Function<Integer, Uni<? extends BatchResult<O>>>() {
+                    @Override
+                    public Uni<? extends BatchResult<O>> apply(Integer index) {
+                        return withRetries(batches.get(index), call).map(new Function<List<O>, BatchResult<O>>() {
+                            @Override
+                            public BatchResult<O> apply(List<O> results) {
+                                return new BatchResult<>(index, checkSize(batches.get(index), results));
+                            }
+                        });
+                    }
+                })
+                .merge(maxConcurrency)
+                .collect().asList()
+                .await().indefinitely();
+
+        List<List<O>> ordered = new ArrayList<>(batches.size());
+        for (int i = 0; i < batches.size(); i++) {
+            ordered.add(null);
+        }
+        for (BatchResult<O> batch : completed) {
+            ordered.set(batch.index(), batch.results());
+        }
+        List<O> result = new ArrayList<>(inputs.size());
+        for (List<O> batch : ordered) {
+            result.addAll(batch);
+        }
+        return result;
+    }
+
+    private <I> List<List<I>> split(List<I> inputs) {
+        List<List<I>> batches = new ArrayList<>();
+        int from = 0;
+        int weight = 0;
+        for (int i = 0; i < inputs.size(); i++) {
+            int inputWeight = weigher == null ? 0 : weigher.applyAsInt(inputs.get(i));
+            boolean full = i - from == maxBatchSize || (weigher != null && weight + inputWeight > maxBatchWeight);
+            if (full && i > from) {
+                batches.add(inputs.subList(from, i));
+                from = i;
+                weight = 0;
+            }
+            weight += inputWeight;
+        }
+        batches.add(inputs.subList(from, inputs.size()));
+        return batches;
+    }
+
+    private <I, O> Uni<List<O>> withRetries(List<I> batch, Function<List<I>, Uni<List<O>>> call) {
+        return attempt(batch, call, 0);
+    }
+
+    private <I, O> Uni<List<O>> attempt(List<I> batch, Function<List<I>, Uni<List<O>>> call, int retry) {
+        // deferred so that every retry performs a new request, even if the call eagerly creates its Uni
+        Uni<List<O>> uni = Uni.createFrom().deferred(new Supplier<Uni<? extends List<O>>>() {
+            @Override
+            public Uni<? extends List<O>> get() {
+                long pause = pausedUntil.get() - System.currentTimeMillis();
+                if (pause <= 0) {
+                    return call.apply(batch);
+                }
+                return Uni.createFrom().voidItem().onItem().delayIt().by(Duration.ofMillis(pause))
+                        .onItem().transformToUni(new Function<Void, Uni<? extends List<O>>>() {
+                            @Override
+                            public Uni<? extends List<O>> apply(Void unused) {
+                                return call.apply(batch);
+                            }
+                        });
+            }
+        });
+        return uni.onFailure().recoverWithUni(new Function<Throwable, Uni<? extends List<O>>>() {
+            @Override
+            public Uni<? extends List<O>> apply(Throwable failure) {
+                if (retry >= maxRetries || !retryable.test(failure)) {
+                    return Uni.createFrom().failure(failure);
+                }
+                Duration delay = retryAfter.apply(failure);
+                if (delay != null) {
+                    // the next attempt, as well as any other batch, waits for the pause to be over
+                    long until = System.currentTimeMillis() + delay.toMillis();
+                    pausedUntil.accumulateAndGet(until, Math::max);
+                    return attempt(batch, call, retry + 1);
+                }
+                return Uni.createFrom().voidItem().onItem().delayIt().by(initialBackoff.multipliedBy(1L << retry))
+                        .onItem().transformToUni(new Function<Void, Uni<? extends List<O>>>() {
+                            @Override
+                            public Uni<? extends List<O>> apply(Void unused) {
+                                return attempt(batch, call, retry + 1);
+                            }
+                        });
+            }
+        });
+    }
+
+    /**
+     * The failures retried by default: the timeouts and the connection errors. Failing the same way again is unlikely for
+     * them, unlike for most of the errors reported by the API. The clients knowing the HTTP status of a failure also
+     * retry the rate limited ({@code 429}) and server error ({@code 5xx}) responses.
+     */
+    public static boolean isTransient(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof SocketTimeoutException
+                    || cause instanceof ConnectException || cause instanceof NoRouteToHostException) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private static <I, O> List<O> checkSize(List<I> batch, List<O> results) {
+        if (results.size() != batch.size()) {
+            throw new IllegalStateException(
+                    "Expected " + batch.size() + " results for the batch but received " + results.size());
+        }
+        return results;
+    }
+
+    private record BatchResult<O>(int index, List<O> results) {
+    }
+
+    public static final class Builder {
+
+        private int maxBatchSize = 1;
+        private int maxBatchWeight = Integer.MAX_VALUE;
+        private ToIntFunction<Object> weigher;
+        private int maxConcurrency = 4;
+        private int maxRetries = 3;
+        private Duration initialBackoff = Duration.ofMillis(200);
+        private Predicate<Throwable> retryable = new Predicate<>() {
+            @Override
+            public boolean test(Throwable throwable) {
+                return isTransient(throwable);
+            }
+        };
+        private Function<Throwable, Duration> retryAfter = new Function<>() {
+            @Override
+            public Duration apply(Throwable throwable) {
+                return null;
+            }
+        };
+
+        private Builder() {
+        }
+
+        /**
+         * The maximum number of inputs the API accepts in a single request
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * The maximum weight of a batch, as computed by the given weigher. A single input heavier than the maximum weight is
+         * sent in a batch of its own
+         */
+        @SuppressWarnings("unchecked")
+        public <I> Builder maxBatchWeight(int maxBatchWeight, ToIntFunction<? super I> weigher) {
+            this.maxBatchWeight = maxBatchWeight;
+            this.weigher = (ToIntFunction<Object>) weigher;
+            return this;
+        }
+
+        /**
+         * The maximum number of requests in flight
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * How many times a failed batch is retried
+         */
+        public Builder maxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * The delay before the first retry of a batch, doubled for every subsequent retry, unless the failure tells how
+         * long to wait
+         */
+        public Builder initialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+            return this;
+        }
+
+        /**
+         * Which failures are worth retrying, the ones {@link BatchDispatcher#isTransient(Throwable)} accepts by default
+         */
+        public Builder retryable(Predicate<Throwable> retryable) {
+            this.retryable = retryable;
+            return this;
+        }
+
+        /**
+         * Extracts from a failure how long the API asked to wait before sending new requests, {@code null} if it did not.
+         * Dispatching of all the batches is paused for that long.
+         */
+        public Builder retryAfter(Function<Throwable, Duration> retryAfter) {
+            this.retryAfter = retryAfter;
+            return this;
+        }
+
+        public BatchDispatcher build() {
+            return new BatchDispatcher(this);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package io.quarkiverse.langchain4j.runtime;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.cache.EmbeddingCache;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+
+/**
+ * An {@link EmbeddingModel} remembering the vectors of the texts it already embedded.
+ * <p>
+ * The same documents are ingested again and the same queries are asked over and over, each time paying for a call to a
+ * remote model or an inference of an in-process one. As a model always computes the same vector for a text, the vectors are
+ * kept in an {@link EmbeddingCache}, under the hash of the identifier of the model and of the text.
+ * <p>
+ * The texts of a batch that are not cached are sent to the model in a single call to {@link #embedAll(List)}, so that the
+ * batching of the model is preserved.
+ */
+public class CachingEmbeddingModel implements EmbeddingModel {
+
+    private static final Logger log = Logger.getLogger(CachingEmbeddingModel.class);
+
+    private final EmbeddingModel delegate;
+    private final String modelId;
+    private final EmbeddingCache cache;
+
+    public CachingEmbeddingModel(EmbeddingModel delegate, String modelId, EmbeddingCache cache) {
+        this.delegate = delegate;
+        this.modelId = modelId;
+        this.cache = cache;
+    }
+
+    /**
+     * Decorates the embedding model created for a synthetic bean when an {@link EmbeddingCache} bean exists, which is the
+     * case when {@code quarkus.langchain4j.embedding-cache.enabled} is {@code true}.
+     *
+     * @param modelId identifies the model computing the vectors, two models sharing an identifier must compute the same
+     *        vectors
+     */
+    public static EmbeddingModel decorate(EmbeddingModel model, String modelId) {
+        InstanceHandle<EmbeddingCache> cache = Arc.container().instance(EmbeddingCache.class);
+        if (!cache.isAvailable()) {
+            return model;
+        }
+        return new CachingEmbeddingModel(model, modelId, cache.get());
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        List<String> keys = new ArrayList<>(textSegments.size());
+        for (TextSegment textSegment : textSegments) {
+            keys.add(key(textSegment.text()));
+        }
+        Map<String, float[]> vectors = new LinkedHashMap<>(getAll(keys));
+
+        // a text appearing several times in the batch is only embedded once
+        Map<String, TextSegment> misses = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (!vectors.containsKey(keys.get(i))) {
+                misses.putIfAbsent(keys.get(i), textSegments.get(i));
+            }
+        }
+
+        Response<List<Embedding>> response = null;
+        if (!misses.isEmpty()) {
+            response = delegate.embedAll(new ArrayList<>(misses.values()));
+            List<Embedding> computed = response.content();
+            Map<String, float[]> newVectors = new LinkedHashMap<>();
+            int i = 0;
+            for (String key : misses.keySet()) {
+                newVectors.put(key, computed.get(i++).vector());
+            }
+            putAll(newVectors);
+            vectors.putAll(newVectors);
+        }
+        log.debugv("{0} of {1} embeddings found in the cache", textSegments.size() - misses.size(), textSegments.size());
+
+        List<Embedding> embeddings = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            // copied, as the embeddings can be normalized in place
+            embeddings.add(Embedding.from(vectors.get(key).clone()));
+        }
+        if (response == null) {
+            return Response.from(embeddings);
+        }
+        return Response.from(embeddings, response.tokenUsage(), response.finishReason());
+    }
+
+    private Map<String, float[]> getAll(List<String> keys) {
+        try {
+            return cache.getAll(keys);
+        } catch (Exception e) {
+            // the cache is an optimization, the model is called instead
+            log.warn("Unable to read the embeddings from the cache", e);
+            return Map.of();
+        }
+    }
+
+    private void putAll(Map<String, float[]> vectors) {
+        try {
+            cache.putAll(vectors);
+        } catch (Exception e) {
+            log.warn("Unable to write the embeddings to the cache", e);
+        }
+    }
+
+    private String key(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(modelId.getBytes(UTF_8));
+            digest.update((byte) 0);
+            digest.update(text.getBytes(UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
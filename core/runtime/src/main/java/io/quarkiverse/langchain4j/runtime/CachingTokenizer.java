@@ -0,0 +1,131 @@
+package io.quarkiverse.langchain4j.runtime;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.Tokenizer;
+
+/**
+ * A {@link Tokenizer} remembering the token count of the most recently estimated messages.
+ * <p>
+ * The messages of a conversation are sent to the model again on every turn, so estimating the token count of a conversation
+ * tokenizes the same messages over and over. As the messages are immutable, their count is kept in a least recently used
+ * cache, keyed on a 64-bit hash of their content rather than on the messages themselves, so that the cache does not retain
+ * the conversations. A collision of two hashes would only make the estimate of one of the messages wrong.
+ * <p>
+ * The token count of a list of messages is computed as the sum of the count of each message, plus the count of an empty
+ * list, which is how the OpenAI tokenizer counts them.
+ */
+public class CachingTokenizer implements Tokenizer {
+
+    private final Tokenizer delegate;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Map<Long, Integer> tokenCounts;
+    private final int emptyMessagesTokenCount;
+
+    public CachingTokenizer(Tokenizer delegate, int maxEntries) {
+        this.delegate = delegate;
+        this.tokenCounts = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Integer> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.emptyMessagesTokenCount = delegate.estimateTokenCountInMessages(Collections.emptyList());
+    }
+
+    @Override
+    public int estimateTokenCountInText(String text) {
+        return delegate.estimateTokenCountInText(text);
+    }
+
+    @Override
+    public int estimateTokenCountInMessage(ChatMessage message) {
+        Long key = hash(message);
+        Integer tokenCount = tokenCounts.get(key);
+        if (tokenCount == null) {
+            // not computed under the lock, two threads may estimate the same message but the result is the same
+            tokenCount = delegate.estimateTokenCountInMessage(message);
+            tokenCounts.put(key, tokenCount);
+        }
+        return tokenCount;
+    }
+
+    @Override
+    public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+        int tokenCount = emptyMessagesTokenCount;
+        for (ChatMessage message : messages) {
+            tokenCount += estimateTokenCountInMessage(message);
+        }
+        return tokenCount;
+    }
+
+    @Override
+    public int estimateTokenCountInToolSpecifications(Iterable<ToolSpecification> toolSpecifications) {
+        return delegate.estimateTokenCountInToolSpecifications(toolSpecifications);
+    }
+
+    @Override
+    public int estimateTokenCountInForcefulToolSpecification(ToolSpecification toolSpecification) {
+        return delegate.estimateTokenCountInForcefulToolSpecification(toolSpecification);
+    }
+
+    @Override
+    public int estimateTokenCountInToolExecutionRequests(Iterable<ToolExecutionRequest> toolExecutionRequests) {
+        return delegate.estimateTokenCountInToolExecutionRequests(toolExecutionRequests);
+    }
+
+    @Override
+    public int estimateTokenCountInForcefulToolExecutionRequest(ToolExecutionRequest toolExecutionRequest) {
+        return delegate.estimateTokenCountInForcefulToolExecutionRequest(toolExecutionRequest);
+    }
+
+    /**
+     * Hashes the type of the message and all the fields the token count depends on, with FNV-1a
+     */
+    private static long hash(ChatMessage message) {
+        long hash = hash(FNV_OFFSET_BASIS, message.type().ordinal());
+        hash = hash(hash, message.text());
+        if (message instanceof UserMessage userMessage) {
+            hash = hash(hash, userMessage.name());
+        } else if (message instanceof AiMessage aiMessage && aiMessage.hasToolExecutionRequests()) {
+            for (ToolExecutionRequest request : aiMessage.toolExecutionRequests()) {
+                hash = hash(hash, request.id());
+                hash = hash(hash, request.name());
+                hash = hash(hash, request.arguments());
+            }
+        } else if (message instanceof ToolExecutionResultMessage resultMessage) {
+            hash = hash(hash, resultMessage.id());
+            hash = hash(hash, resultMessage.toolName());
+        }
+        return hash;
+    }
+
+    private static long hash(long hash, String value) {
+        if (value == null) {
+            return hash(hash, -1);
+        }
+        // the length separates the fields, so that moving characters from one field to the next changes the hash
+        hash = hash(hash, value.length());
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long hash(long hash, int value) {
+        for (int i = 0; i < 4; i++) {
+            hash = (hash ^ ((value >>> (i * 8)) & 0xff)) * FNV_PRIME;
+        }
+        return hash;
+    }
+}
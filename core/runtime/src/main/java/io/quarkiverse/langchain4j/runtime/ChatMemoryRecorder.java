@@ -1,16 +1,22 @@
 package io.quarkiverse.langchain4j.runtime;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.memory.chat.ChatMemoryProvider;
 import dev.langchain4j.memory.chat.MessageWindowChatMemory;
-import dev.langchain4j.memory.chat.TokenWindowChatMemory;
 import dev.langchain4j.model.Tokenizer;
+import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import io.quarkiverse.langchain4j.ModelName;
 import io.quarkiverse.langchain4j.runtime.aiservice.ChatMemoryConfig;
+import io.quarkiverse.langchain4j.runtime.aiservice.QuarkusTokenWindowChatMemory;
+import io.quarkiverse.langchain4j.runtime.aiservice.SummarizingChatMemory;
 import io.quarkus.arc.SyntheticCreationalContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 @Recorder
 public class ChatMemoryRecorder {
@@ -45,11 +51,34 @@ public class ChatMemoryRecorder {
                 return new ChatMemoryProvider() {
                     @Override
                     public ChatMemory get(Object memoryId) {
-                        return TokenWindowChatMemory.builder()
-                                .maxTokens(maxTokens, tokenizer)
-                                .id(memoryId)
-                                .chatMemoryStore(chatMemoryStore)
-                                .build();
+                        return new QuarkusTokenWindowChatMemory(memoryId, maxTokens, tokenizer, chatMemoryStore);
+                    }
+                };
+            }
+        };
+    }
+
+    public Function<SyntheticCreationalContext<ChatMemoryProvider>, ChatMemoryProvider> summarizing(ChatMemoryConfig config,
+            String modelName) {
+        return new Function<>() {
+            @Override
+            public ChatMemoryProvider apply(SyntheticCreationalContext<ChatMemoryProvider> context) {
+                ChatMemoryStore chatMemoryStore = context.getInjectedReference(ChatMemoryStore.class);
+                ChatLanguageModel model;
+                if (NamedModelUtil.isDefault(modelName)) {
+                    model = context.getInjectedReference(ChatLanguageModel.class);
+                } else {
+                    model = context.getInjectedReference(ChatLanguageModel.class, ModelName.Literal.of(modelName));
+                }
+                int maxMessages = config.summarizing().maxMessages();
+                int maxUnsummarized = config.summarizing().maxUnsummarizedMessages();
+                Duration failureBackoff = config.summarizing().failureBackoff();
+                Executor executor = Infrastructure.getDefaultExecutor();
+                return new ChatMemoryProvider() {
+                    @Override
+                    public ChatMemory get(Object memoryId) {
+                        return new SummarizingChatMemory(memoryId, maxMessages, maxUnsummarized, failureBackoff,
+                                chatMemoryStore, model, executor);
                     }
                 };
             }
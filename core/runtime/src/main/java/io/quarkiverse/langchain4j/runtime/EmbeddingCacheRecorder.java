@@ -0,0 +1,21 @@
+package io.quarkiverse.langchain4j.runtime;
+
+import java.util.function.Supplier;
+
+import io.quarkiverse.langchain4j.cache.InMemoryEmbeddingCache;
+import io.quarkiverse.langchain4j.runtime.cache.EmbeddingCacheConfig;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class EmbeddingCacheRecorder {
+
+    public Supplier<InMemoryEmbeddingCache> embeddingCache(EmbeddingCacheConfig config) {
+        long maxBytes = config.maxSize().asLongValue();
+        return new Supplier<>() {
+            @Override
+            public InMemoryEmbeddingCache get() {
+                return new InMemoryEmbeddingCache(maxBytes);
+            }
+        };
+    }
+}
@@ -5,19 +5,18 @@ import java.util.function.Supplier;
 import org.jboss.logging.Logger;
 
 import dev.langchain4j.model.embedding.AbstractInProcessEmbeddingModel;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import io.quarkus.arc.Arc;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
 public class InProcessEmbeddingRecorder {
-    @SuppressWarnings("unchecked")
     public Supplier<?> instantiate(String className) {
         return new Supplier<Object>() {
             @Override
             public Object get() {
                 try {
-                    Class<? extends AbstractInProcessEmbeddingModel> loaded = (Class<? extends AbstractInProcessEmbeddingModel>) InProcessEmbeddingRecorder.class
-                            .getClassLoader().loadClass(className);
-                    return loaded.getConstructor().newInstance();
+                    return load(className).getConstructor().newInstance();
                 } catch (Exception e) {
                     Logger.getLogger(InProcessEmbeddingRecorder.class)
                             .errorf("Failed to instantiate in-process embedding model %s", className, e);
@@ -26,4 +25,27 @@ public class InProcessEmbeddingRecorder {
             }
         };
     }
+
+    /**
+     * Decorates the bean of the in-process model with a {@link CachingEmbeddingModel}, the model itself remaining a bean of
+     * its own class.
+     */
+    public Supplier<EmbeddingModel> cached(String className) {
+        return new Supplier<>() {
+            @Override
+            public EmbeddingModel get() {
+                try {
+                    return CachingEmbeddingModel.decorate(Arc.container().instance(load(className)).get(), className);
+                } catch (ClassNotFoundException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends AbstractInProcessEmbeddingModel> load(String className) throws ClassNotFoundException {
+        return (Class<? extends AbstractInProcessEmbeddingModel>) InProcessEmbeddingRecorder.class.getClassLoader()
+                .loadClass(className);
+    }
 }
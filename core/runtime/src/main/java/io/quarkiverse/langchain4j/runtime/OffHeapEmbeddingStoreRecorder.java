@@ -0,0 +1,71 @@
+package io.quarkiverse.langchain4j.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.function.Supplier;
+
+import io.quarkiverse.langchain4j.runtime.store.OffHeapEmbeddingStoreConfig;
+import io.quarkiverse.langchain4j.store.OffHeapEmbeddingStore;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class OffHeapEmbeddingStoreRecorder {
+
+    public Supplier<OffHeapEmbeddingStore> embeddingStore(OffHeapEmbeddingStoreConfig config,
+            String buildTimeSnapshotResource) {
+        return new Supplier<>() {
+            @Override
+            public OffHeapEmbeddingStore get() {
+                OffHeapEmbeddingStore.Builder builder = OffHeapEmbeddingStore.builder()
+                        .dimension(config.dimension().isPresent() ? config.dimension().getAsInt() : null)
+                        .index(config.index())
+                        .parallelScanThreshold(config.parallelScanThreshold())
+                        .m(config.hnsw().m())
+                        .efConstruction(config.hnsw().efConstruction())
+                        .efSearch(config.hnsw().efSearch())
+                        .quantization(config.quantization())
+                        .rerank(config.rerank().enabled())
+                        .rerankOversampling(config.rerank().oversampling())
+                        .pqSubspaces(config.pq().subspaces().isPresent() ? config.pq().subspaces().getAsInt() : null)
+                        .pqTrainingSize(config.pq().trainingSize());
+                if (config.snapshot().isPresent()) {
+                    builder.snapshot(config.snapshot().get());
+                } else if (buildTimeSnapshotResource != null) {
+                    builder.snapshot(resourceAsFile(buildTimeSnapshotResource));
+                }
+                return builder.build();
+            }
+        };
+    }
+
+    /**
+     * Snapshots are memory-mapped, so when the resource is packaged in a jar it first needs to be extracted
+     */
+    private static Path resourceAsFile(String resourceName) {
+        URL url = Thread.currentThread().getContextClassLoader().getResource(resourceName);
+        if (url == null) {
+            throw new IllegalStateException("Unable to find the embedding store snapshot " + resourceName);
+        }
+        try {
+            if ("file".equals(url.getProtocol())) {
+                return Path.of(url.toURI());
+            }
+            Path file = Files.createTempFile("off-heap-embedding-store", ".snapshot");
+            file.toFile().deleteOnExit();
+            try (InputStream in = url.openStream()) {
+                Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
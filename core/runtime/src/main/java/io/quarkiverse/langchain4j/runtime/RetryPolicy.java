@@ -0,0 +1,275 @@
+package io.quarkiverse.langchain4j.runtime;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Retries the non-blocking requests of a client to a remote API.
+ * <p>
+ * A failed request is sent again after an exponential backoff with jitter, so that the clients that failed at the same
+ * time do not retry at the same time. When the API tells how long to wait (typically with a {@code Retry-After} header on
+ * a rate limited response), that delay is used instead and no request of the client, new or retried, is sent until it has
+ * elapsed. Waiting never blocks a thread, the requests are delayed on the Mutiny scheduler.
+ * <p>
+ * The retries are limited by a budget shared by all the requests of the client: every retry spends a token, every
+ * successful request earns back a fraction of a token. When the API keeps failing, for instance during a rate limit storm,
+ * the budget is exhausted and the failures are reported right away instead of multiplying the load on the API.
+ */
+public final class RetryPolicy {
+
+    private static final Logger log = Logger.getLogger(RetryPolicy.class);
+
+    private final int maxRetries;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final double jitter;
+    private final Predicate<Throwable> retryable;
+    private final Function<Throwable, Duration> retryAfter;
+    private final double maxBudget;
+    private final double budgetRatio;
+    // the number of retries that can still be performed, guarded by this
+    private double budget;
+    // wall clock time until which no request should be sent, shared by all the requests
+    private final AtomicLong pausedUntil = new AtomicLong();
+
+    private RetryPolicy(Builder builder) {
+        this.maxRetries = Math.max(0, builder.maxRetries);
+        this.initialBackoff = builder.initialBackoff;
+        this.maxBackoff = builder.maxBackoff;
+        this.jitter = Math.min(1, Math.max(0, builder.jitter));
+        this.retryable = builder.retryable;
+        this.retryAfter = builder.retryAfter;
+        this.maxBudget = Math.max(1, builder.maxBudget);
+        this.budgetRatio = Math.max(0, builder.budgetRatio);
+        this.budget = maxBudget;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the given request, subscribed to again when it fails and can be retried
+     */
+    public <T> Uni<T> apply(Uni<T> request) {
+        if (maxRetries == 0) {
+            return request;
+        }
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends T>>() {
+            @Override
+            public Uni<? extends T> get() {
+                // the number of retries of this request
+                AtomicInteger retries = new AtomicInteger();
+                return waitForPause()
+                        .onItem().transformToUni(new Function<Void, Uni<? extends T>>() {
+                            @Override
+                            public Uni<? extends T> apply(Void unused) {
+                                return request;
+                            }
+                        })
+                        .onItem().invoke(new Consumer<T>() {
+                            @Override
+                            public void accept(T item) {
+                                earn();
+                            }
+                        })
+                        .onFailure().retry().when(new Function<Multi<Throwable>, Flow.Publisher<?>>() {
+                            @Override
+                            public Flow.Publisher<?> apply(Multi<Throwable> failures) {
+                                return failures.onItem().<Integer> transformToUniAndConcatenate(new Function<>() {
+                                    @Override
+                                    public Uni<Integer> apply(Throwable failure) {
+                                        return delay(failure, retries.incrementAndGet());
+                                    }
+                                });
+                            }
+                        });
+            }
+        });
+    }
+
+    /**
+     * Emits the number of the retry when the request can be sent again, or the failure when it cannot
+     */
+    private Uni<Integer> delay(Throwable failure, int retry) {
+        if (retry > maxRetries || !retryable.test(failure)) {
+            return Uni.createFrom().failure(failure);
+        }
+        if (!spend()) {
+            log.debugf("Not retrying the request as the retry budget is exhausted: %s", failure.getMessage());
+            return Uni.createFrom().failure(failure);
+        }
+        Duration delay = retryAfter.apply(failure);
+        if (delay != null) {
+            // every request waits for the pause to be over, they are then spread over the initial backoff
+            long until = System.currentTimeMillis() + delay.toMillis();
+            pausedUntil.accumulateAndGet(until, Math::max);
+            delay = delay.plus(jittered(initialBackoff, 1));
+        } else {
+            long backoff = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(retry - 1, 30));
+            delay = jittered(Duration.ofMillis(backoff), jitter);
+        }
+        log.debugf("Retrying the request in %d ms (retry %d of %d): %s", delay.toMillis(), retry, maxRetries,
+                failure.getMessage());
+        // not a void item, the null items are ignored when retrying
+        return Uni.createFrom().item(retry).onItem().delayIt().by(delay);
+    }
+
+    /**
+     * Completes once the pause of the client is over, checked again on every subscription, as each retry subscribes again
+     * and the pause may have ended or been extended in the meantime
+     */
+    private Uni<Void> waitForPause() {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Void>>() {
+            @Override
+            public Uni<? extends Void> get() {
+                long pause = pausedUntil.get() - System.currentTimeMillis();
+                if (pause <= 0) {
+                    return Uni.createFrom().voidItem();
+                }
+                return Uni.createFrom().voidItem().onItem().delayIt().by(Duration.ofMillis(pause));
+            }
+        });
+    }
+
+    private static Duration jittered(Duration delay, double jitter) {
+        return Duration.ofMillis((long) (delay.toMillis() * (1 - jitter * ThreadLocalRandom.current().nextDouble())));
+    }
+
+    private synchronized boolean spend() {
+        if (budget < 1) {
+            return false;
+        }
+        budget -= 1;
+        return true;
+    }
+
+    private synchronized void earn() {
+        budget = Math.min(maxBudget, budget + budgetRatio);
+    }
+
+    /**
+     * Reads the standard {@code Retry-After} header, which is either a number of seconds or an HTTP date.
+     *
+     * @return {@code null} if the header is not present or not valid
+     */
+    public static Duration parseRetryAfter(String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofMillis(Math.max(0, (long) (Double.parseDouble(retryAfter.trim()) * 1000)));
+        } catch (NumberFormatException e) {
+            // not a number of seconds, try the HTTP date form
+        }
+        try {
+            Duration delay = Duration.between(ZonedDateTime.now(),
+                    ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    public static final class Builder {
+
+        private int maxRetries = 3;
+        private Duration initialBackoff = Duration.ofMillis(500);
+        private Duration maxBackoff = Duration.ofSeconds(30);
+        private double jitter = 0.5;
+        private Predicate<Throwable> retryable = new Predicate<>() {
+            @Override
+            public boolean test(Throwable throwable) {
+                return true;
+            }
+        };
+        private Function<Throwable, Duration> retryAfter = new Function<>() {
+            @Override
+            public Duration apply(Throwable throwable) {
+                return null;
+            }
+        };
+        private double maxBudget = 10;
+        private double budgetRatio = 0.1;
+
+        private Builder() {
+        }
+
+        /**
+         * How many times a failed request is retried, {@code 0} to never retry
+         */
+        public Builder maxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * The delay before the first retry of a request, doubled for every subsequent retry up to {@code maxBackoff},
+         * unless the failure tells how long to wait
+         */
+        public Builder initialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+            return this;
+        }
+
+        public Builder maxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        /**
+         * The fraction of the backoff, between {@code 0} and {@code 1}, that is randomly taken off each delay
+         */
+        public Builder jitter(double jitter) {
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Which failures are worth retrying, all of them by default
+         */
+        public Builder retryable(Predicate<Throwable> retryable) {
+            this.retryable = retryable;
+            return this;
+        }
+
+        /**
+         * Extracts from a failure how long the API asked to wait before sending new requests, {@code null} if it did not.
+         * All the requests of the client are paused for that long.
+         */
+        public Builder retryAfter(Function<Throwable, Duration> retryAfter) {
+            this.retryAfter = retryAfter;
+            return this;
+        }
+
+        /**
+         * The retry budget: how many retries can be performed in a row, and the fraction of a retry earned back by every
+         * successful request. With the defaults, at most one request out of ten is a retry once the initial budget of ten
+         * retries is spent.
+         */
+        public Builder budget(double maxBudget, double budgetRatio) {
+            this.maxBudget = maxBudget;
+            this.budgetRatio = budgetRatio;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.quarkiverse.langchain4j.runtime;
+
+import java.util.function.Consumer;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import io.smallrye.mutiny.Multi;
+
+/**
+ * Hands the events of a streamed generation over to a {@link StreamingResponseHandler}.
+ * <p>
+ * The text generated by each event is passed to the handler as soon as it is received and accumulated, so that the handler
+ * is given the whole message once the stream completes. The events of a {@link Multi} are never emitted concurrently,
+ * which is why the subclasses can keep the state of the stream in plain fields.
+ *
+ * @param <E> the type of the events of the stream
+ */
+public abstract class StreamingResponseSubscriber<E> {
+
+    private final StreamingResponseHandler<AiMessage> handler;
+    private final StringBuilder generatedText = new StringBuilder();
+    private int inputTokenCount;
+    private int outputTokenCount;
+
+    protected StreamingResponseSubscriber(StreamingResponseHandler<AiMessage> handler) {
+        this.handler = handler;
+    }
+
+    public void subscribe(Multi<E> events) {
+        events.subscribe().with(
+                new Consumer<E>() {
+                    @Override
+                    public void accept(E event) {
+                        String text = onEvent(event);
+                        if (text != null && !text.isEmpty()) {
+                            generatedText.append(text);
+                            handler.onNext(text);
+                        }
+                    }
+                },
+                new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable failure) {
+                        handler.onError(failure);
+                    }
+                },
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        Response<AiMessage> response;
+                        try {
+                            response = toResponse(AiMessage.from(generatedText.toString()));
+                        } catch (RuntimeException e) {
+                            // the handler would otherwise never be told that the stream ended
+                            handler.onError(e);
+                            return;
+                        }
+                        handler.onComplete(response);
+                    }
+                });
+    }
+
+    /**
+     * @return the text generated by the event, if any
+     */
+    protected abstract String onEvent(E event);
+
+    /**
+     * @param message the message made of the text generated by all the events
+     * @return the response the handler is completed with
+     */
+    protected abstract Response<AiMessage> toResponse(AiMessage message);
+
+    /**
+     * Records the token counts reported by an event. The APIs only report the input tokens in some of the events and count
+     * the generated tokens since the beginning of the stream, so the largest counts are kept.
+     */
+    protected void countTokens(Integer inputTokenCount, Integer outputTokenCount) {
+        if (inputTokenCount != null) {
+            this.inputTokenCount = Math.max(this.inputTokenCount, inputTokenCount);
+        }
+        if (outputTokenCount != null) {
+            this.outputTokenCount = Math.max(this.outputTokenCount, outputTokenCount);
+        }
+    }
+
+    /**
+     * @return the largest token counts recorded by {@link #countTokens(Integer, Integer)}
+     */
+    protected TokenUsage tokenUsage() {
+        return new TokenUsage(inputTokenCount, outputTokenCount);
+    }
+}
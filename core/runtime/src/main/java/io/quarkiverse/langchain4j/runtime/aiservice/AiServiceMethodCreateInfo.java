@@ -22,6 +22,9 @@ public class AiServiceMethodCreateInfo {
     private final Optional<MetricsCountedInfo> metricsCountedInfo;
     private final Optional<SpanInfo> spanInfo;
 
+    private final boolean cacheResponse;
+    private final boolean semanticCacheResponse;
+
     @RecordableConstructor
     public AiServiceMethodCreateInfo(String interfaceName, String methodName,
             Optional<TemplateInfo> systemMessageInfo, UserMessageInfo userMessageInfo,
@@ -29,7 +32,9 @@ public class AiServiceMethodCreateInfo {
             boolean requiresModeration, Class<?> returnType,
             Optional<MetricsTimedInfo> metricsTimedInfo,
             Optional<MetricsCountedInfo> metricsCountedInfo,
-            Optional<SpanInfo> spanInfo) {
+            Optional<SpanInfo> spanInfo,
+            boolean cacheResponse,
+            boolean semanticCacheResponse) {
         this.interfaceName = interfaceName;
         this.methodName = methodName;
         this.systemMessageInfo = systemMessageInfo;
@@ -40,6 +45,8 @@ public class AiServiceMethodCreateInfo {
         this.metricsTimedInfo = metricsTimedInfo;
         this.metricsCountedInfo = metricsCountedInfo;
         this.spanInfo = spanInfo;
+        this.cacheResponse = cacheResponse;
+        this.semanticCacheResponse = semanticCacheResponse;
     }
 
     public String getInterfaceName() {
@@ -82,6 +89,14 @@ public class AiServiceMethodCreateInfo {
         return spanInfo;
     }
 
+    public boolean isCacheResponse() {
+        return cacheResponse;
+    }
+
+    public boolean isSemanticCacheResponse() {
+        return semanticCacheResponse;
+    }
+
     public static class UserMessageInfo {
         private final Optional<TemplateInfo> template;
         private final Optional<Integer> paramPosition;
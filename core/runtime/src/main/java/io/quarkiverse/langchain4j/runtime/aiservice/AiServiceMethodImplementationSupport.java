@@ -16,14 +16,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.jboss.logging.Logger;
 
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.agent.tool.ToolExecutor;
+import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.SystemMessage;
@@ -36,13 +40,19 @@ import dev.langchain4j.model.input.PromptTemplate;
 import dev.langchain4j.model.input.structured.StructuredPrompt;
 import dev.langchain4j.model.input.structured.StructuredPromptProcessor;
 import dev.langchain4j.model.moderation.Moderation;
+import dev.langchain4j.model.moderation.ModerationModel;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
 import dev.langchain4j.service.AiServiceContext;
 import dev.langchain4j.service.AiServiceTokenStream;
 import dev.langchain4j.service.TokenStream;
+import io.quarkiverse.langchain4j.ReactiveModerationModel;
 import io.quarkiverse.langchain4j.audit.Audit;
 import io.quarkiverse.langchain4j.audit.AuditService;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.ManagedContext;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 /**
@@ -54,6 +64,19 @@ public class AiServiceMethodImplementationSupport {
 
     private static final int MAX_SEQUENTIAL_TOOL_EXECUTIONS = 10;
 
+    private final ResponseCacheSupport responseCacheSupport;
+    private final SemanticResponseCacheSupport semanticResponseCacheSupport;
+
+    public AiServiceMethodImplementationSupport() {
+        this(null, null);
+    }
+
+    public AiServiceMethodImplementationSupport(ResponseCacheSupport responseCacheSupport,
+            SemanticResponseCacheSupport semanticResponseCacheSupport) {
+        this.responseCacheSupport = responseCacheSupport;
+        this.semanticResponseCacheSupport = semanticResponseCacheSupport;
+    }
+
     /**
      * This method is called by the implementations of each ai service method.
      */
@@ -71,7 +94,8 @@ public class AiServiceMethodImplementationSupport {
 
         // TODO: add validation
         try {
-            var result = doImplement(createInfo, methodArgs, context, audit);
+            var result = doImplement(createInfo, methodArgs, context, audit, responseCacheSupport,
+                    semanticResponseCacheSupport);
             if (audit != null) {
                 audit.onCompletion(result);
                 auditService.complete(audit);
@@ -88,16 +112,74 @@ public class AiServiceMethodImplementationSupport {
     }
 
     private static Object doImplement(AiServiceMethodCreateInfo createInfo, Object[] methodArgs,
-            QuarkusAiServiceContext context, Audit audit) {
+            QuarkusAiServiceContext context, Audit audit, ResponseCacheSupport responseCacheSupport,
+            SemanticResponseCacheSupport semanticResponseCacheSupport) {
         Optional<SystemMessage> systemMessage = prepareSystemMessage(createInfo, methodArgs);
         UserMessage userMessage = prepareUserMessage(context, createInfo, methodArgs);
+        Class<?> returnType = createInfo.getReturnType();
 
         if (audit != null) {
             audit.initialMessages(systemMessage, userMessage);
         }
 
+        Object memoryId = memoryId(createInfo, methodArgs).orElse("default");
+
+        String semanticCacheScope = null;
+        Embedding questionEmbedding = null;
+        String question = userMessage.text();
+        if (createInfo.isSemanticCacheResponse() && (semanticResponseCacheSupport != null)
+                && !hasConversation(context, memoryId)) {
+            // looked up before the retrieval, as the cached response already takes the relevant documents into account
+            semanticCacheScope = semanticResponseCacheSupport.scope(createInfo.getInterfaceName(), context.chatModelName,
+                    systemMessage);
+            questionEmbedding = semanticResponseCacheSupport.embed(question);
+            AiMessage cached = semanticResponseCacheSupport.get(semanticCacheScope, questionEmbedding);
+            if (cached != null) {
+                log.debug("AI response obtained from the semantic cache");
+                // the cached response answered another question, which is not the one that was moderated
+                List<ChatMessage> messages = new ArrayList<>();
+                systemMessage.ifPresent(messages::add);
+                messages.add(userMessage);
+                verifyModerationIfNeeded(triggerModerationIfNeeded(context, createInfo, messages));
+                if (context.hasChatMemory()) {
+                    ChatMemory chatMemory = context.chatMemory(memoryId);
+                    if (systemMessage.isPresent()) {
+                        chatMemory.add(systemMessage.get());
+                    }
+                    chatMemory.add(userMessage);
+                    chatMemory.add(cached);
+                }
+                return cachedResponse(cached, audit, returnType);
+            }
+        }
+
+        // the relevant documents are retrieved while the conversation is loaded, as both are independent I/O
+        CompletableFuture<List<TextSegment>> relevantFuture = null;
+        if ((context.retriever != null) && context.hasChatMemory()) {
+            relevantFuture = retrieveInBackground(context, userMessage.text());
+        }
+
+        ChatMemory chatMemory = null;
+        if (context.hasChatMemory()) {
+            try {
+                chatMemory = context.chatMemory(memoryId);
+                if (systemMessage.isPresent()) {
+                    chatMemory.add(systemMessage.get());
+                } else if (relevantFuture != null) {
+                    // reads the conversation from the store meanwhile, stores keeping a local copy then serve the next reads
+                    chatMemory.messages();
+                }
+            } catch (RuntimeException e) {
+                if (relevantFuture != null) {
+                    relevantFuture.cancel(false);
+                }
+                throw e;
+            }
+        }
+
         if (context.retriever != null) { // TODO extract method/class
-            List<TextSegment> relevant = context.retriever.findRelevant(userMessage.text());
+            List<TextSegment> relevant = relevantFuture != null ? awaitRelevant(relevantFuture)
+                    : context.retriever.findRelevant(userMessage.text());
 
             if (relevant == null || relevant.isEmpty()) {
                 log.debug("No relevant information was found");
@@ -118,30 +200,38 @@ public class AiServiceMethodImplementationSupport {
             }
         }
 
-        Object memoryId = memoryId(createInfo, methodArgs).orElse("default");
-
-        if (context.hasChatMemory()) {
-            ChatMemory chatMemory = context.chatMemory(memoryId);
-            if (systemMessage.isPresent()) {
-                chatMemory.add(systemMessage.get());
-            }
+        if (chatMemory != null) {
             chatMemory.add(userMessage);
         }
 
         List<ChatMessage> messages;
-        if (context.hasChatMemory()) {
-            messages = context.chatMemory(memoryId).messages();
+        if (chatMemory != null) {
+            messages = chatMemory.messages();
         } else {
             messages = new ArrayList<>();
             systemMessage.ifPresent(messages::add);
             messages.add(userMessage);
         }
 
-        Class<?> returnType = createInfo.getReturnType();
         if (returnType.equals(TokenStream.class)) {
             return new AiServiceTokenStream(messages, context, memoryId);
         }
 
+        String cacheKey = null;
+        if (createInfo.isCacheResponse() && (responseCacheSupport != null)) {
+            cacheKey = responseCacheSupport.key(context.chatModelName, context.chatModel, context.toolSpecifications,
+                    messages);
+            AiMessage cached = responseCacheSupport.get(cacheKey);
+            if (cached != null) {
+                // the messages are the same as the ones that were moderated when the response was cached
+                log.debug("AI response obtained from the cache");
+                if (context.hasChatMemory()) {
+                    context.chatMemory(memoryId).add(cached);
+                }
+                return cachedResponse(cached, audit, returnType);
+            }
+        }
+
         Future<Moderation> moderationFuture = triggerModerationIfNeeded(context, createInfo, messages);
 
         log.debug("Attempting to obtain AI response");
@@ -156,6 +246,15 @@ public class AiServiceMethodImplementationSupport {
 
         verifyModerationIfNeeded(moderationFuture);
 
+        if (!response.content().hasToolExecutionRequests()) {
+            if (cacheKey != null) {
+                responseCacheSupport.put(cacheKey, response.content());
+            }
+            if (semanticCacheScope != null) {
+                semanticResponseCacheSupport.put(semanticCacheScope, questionEmbedding, question, response.content());
+            }
+        }
+
         int executionsLeft = MAX_SEQUENTIAL_TOOL_EXECUTIONS;
         while (true) {
 
@@ -174,7 +273,7 @@ public class AiServiceMethodImplementationSupport {
                 break;
             }
 
-            ChatMemory chatMemory = context.chatMemory(memoryId);
+            chatMemory = context.chatMemory(memoryId);
 
             for (ToolExecutionRequest toolExecutionRequest : aiMessage.toolExecutionRequests()) {
                 log.debugv("Attempting to execute tool {0}", toolExecutionRequest);
@@ -208,28 +307,91 @@ public class AiServiceMethodImplementationSupport {
         return parse(response, returnType);
     }
 
+    /**
+     * @return whether the chat memory already holds messages other than the system message, in which case a response
+     *         cached for a similar question may not fit the conversation
+     */
+    private static boolean hasConversation(QuarkusAiServiceContext context, Object memoryId) {
+        if (!context.hasChatMemory()) {
+            return false;
+        }
+        for (ChatMessage message : context.chatMemory(memoryId).messages()) {
+            if (!(message instanceof SystemMessage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object cachedResponse(AiMessage cached, Audit audit, Class<?> returnType) {
+        Response<AiMessage> response = Response.from(cached);
+        if (audit != null) {
+            audit.addLLMToApplicationMessage(response);
+        }
+        return parse(response, returnType);
+    }
+
+    /**
+     * Runs the retriever on the default executor. The retriever only sees the state of the calling thread through the
+     * request context, which is propagated, everything else it needs is passed to it.
+     */
+    private static CompletableFuture<List<TextSegment>> retrieveInBackground(AiServiceContext context, String text) {
+        ManagedContext requestContext = Arc.container().requestContext();
+        InjectableContext.ContextState requestState = requestContext.isActive() ? requestContext.getState() : null;
+        return CompletableFuture.supplyAsync(new Supplier<>() {
+            @Override
+            public List<TextSegment> get() {
+                if (requestState == null) {
+                    return context.retriever.findRelevant(text);
+                }
+                requestContext.activate(requestState);
+                try {
+                    return context.retriever.findRelevant(text);
+                } finally {
+                    // the state still belongs to the calling thread, which destroys it when the request ends
+                    requestContext.deactivate();
+                }
+            }
+        }, Infrastructure.getDefaultExecutor());
+    }
+
+    private static List<TextSegment> awaitRelevant(CompletableFuture<List<TextSegment>> relevantFuture) {
+        try {
+            return relevantFuture.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     private static Future<Moderation> triggerModerationIfNeeded(AiServiceContext context,
             AiServiceMethodCreateInfo createInfo,
             List<ChatMessage> messages) {
-        Future<Moderation> moderationFuture = null;
-        if (createInfo.isRequiresModeration()) {
-            log.debug("Moderation is required and it will be executed in the background");
-
-            // TODO: don't occupy a worker thread for this and instead use the reactive API provided by the client
-
-            ExecutorService defaultExecutor = (ExecutorService) Infrastructure.getDefaultExecutor();
-            moderationFuture = defaultExecutor.submit(new Callable<>() {
-                @Override
-                public Moderation call() {
-                    List<ChatMessage> messagesToModerate = removeToolMessages(messages);
-                    log.debug("Attempting to moderate messages");
-                    var result = context.moderationModel.moderate(messagesToModerate).content();
-                    log.debug("Moderation completed");
-                    return result;
-                }
-            });
+        if (!createInfo.isRequiresModeration()) {
+            return null;
+        }
+        List<ChatMessage> messagesToModerate = removeToolMessages(messages);
+        ModerationModel moderationModel = ClientProxy.unwrap(context.moderationModel);
+        if (moderationModel instanceof ReactiveModerationModel) {
+            log.debug("Moderation is required and it will be executed asynchronously");
+            return ((ReactiveModerationModel) moderationModel).moderateAsync(messagesToModerate)
+                    .subscribeAsCompletionStage();
         }
-        return moderationFuture;
+
+        log.debug("Moderation is required and it will be executed in the background");
+        // the model only has a blocking API, so a worker thread waits for the result
+        ExecutorService defaultExecutor = (ExecutorService) Infrastructure.getDefaultExecutor();
+        return defaultExecutor.submit(new Callable<>() {
+            @Override
+            public Moderation call() {
+                log.debug("Attempting to moderate messages");
+                var result = context.moderationModel.moderate(messagesToModerate).content();
+                log.debug("Moderation completed");
+                return result;
+            }
+        });
     }
 
     private static Optional<SystemMessage> prepareSystemMessage(AiServiceMethodCreateInfo createInfo, Object[] methodArgs) {
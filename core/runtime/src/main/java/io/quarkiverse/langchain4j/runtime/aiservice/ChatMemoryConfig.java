@@ -2,11 +2,14 @@ package io.quarkiverse.langchain4j.runtime.aiservice;
 
 import static io.quarkus.runtime.annotations.ConfigPhase.RUN_TIME;
 
+import java.time.Duration;
+
 import dev.langchain4j.memory.chat.ChatMemoryProvider;
 import dev.langchain4j.memory.chat.MessageWindowChatMemory;
 import dev.langchain4j.memory.chat.TokenWindowChatMemory;
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 
@@ -31,6 +34,28 @@ public interface ChatMemoryConfig {
      */
     TokenWindow tokenWindow();
 
+    /**
+     * Configures aspects of the {@link SummarizingChatMemory} which is enabled if the
+     * {@code quarkus.langchain4j.chat-memory.type} configuration property is set to {@code summarizing} and if no bean of
+     * type {@link ChatMemoryProvider} is present in the application.
+     */
+    Summarizing summarizing();
+
+    /**
+     * Configures how many {@link dev.langchain4j.memory.ChatMemory} instances each AI service keeps on the heap.
+     * An evicted memory is not cleared, it is created again by the {@link ChatMemoryProvider} (and therefore reloaded from
+     * the {@link dev.langchain4j.store.memory.chat.ChatMemoryStore}) the next time its memory ID is used.
+     */
+    Registry registry();
+
+    /**
+     * Configures the {@link io.quarkiverse.langchain4j.store.BoundedInMemoryChatMemoryStore} which is the default
+     * {@link dev.langchain4j.store.memory.chat.ChatMemoryStore} setup by the extension.
+     * This only has effect if no other bean of type {@link dev.langchain4j.store.memory.chat.ChatMemoryStore} is present in
+     * the application.
+     */
+    InMemoryStore inMemoryStore();
+
     @ConfigGroup
     interface MemoryWindow {
 
@@ -51,4 +76,80 @@ public interface ChatMemoryConfig {
         int maxTokens();
     }
 
+    @ConfigGroup
+    interface Summarizing {
+
+        /**
+         * The maximum number of messages the configured {@link SummarizingChatMemory} will hold, besides the system message
+         * and the summary of the older messages
+         */
+        @WithDefault("10")
+        int maxMessages();
+
+        /**
+         * The maximum number of evicted messages kept waiting for a summary while the summarizing model fails, the oldest
+         * ones being dropped beyond this number
+         */
+        @WithDefault("100")
+        int maxUnsummarizedMessages();
+
+        /**
+         * How long to wait before summarizing again after the summarizing model failed, doubled by every consecutive
+         * failure
+         */
+        @WithDefault("10s")
+        Duration failureBackoff();
+    }
+
+    @ConfigGroup
+    interface Registry {
+
+        /**
+         * The maximum number of chat memories each AI service keeps, the least recently used one is evicted when a new
+         * memory ID is used while the limit is reached
+         */
+        @WithDefault("10000")
+        int maxEntries();
+
+        /**
+         * How long a chat memory is kept after it was last used. A value of {@code 0} disables idle eviction.
+         */
+        @WithDefault("30M")
+        Duration idleTimeout();
+
+        /**
+         * Whether the messages of an evicted chat memory are written to the
+         * {@link dev.langchain4j.store.memory.chat.ChatMemoryStore}. This is only needed when the
+         * {@link ChatMemoryProvider} creates memories that are not backed by the store, as the memories created by the
+         * extension persist every message as soon as it is added.
+         */
+        @WithDefault("false")
+        boolean flushOnEviction();
+    }
+
+    @ConfigGroup
+    interface InMemoryStore {
+
+        /**
+         * The maximum number of conversations kept by the store, the least recently used one is evicted when the limit is
+         * exceeded
+         */
+        @WithDefault("10000")
+        int maxSessions();
+
+        /**
+         * The maximum amount of heap used by the stored messages, the least recently used conversations are evicted when
+         * the limit is exceeded
+         */
+        @WithDefault("64M")
+        MemorySize maxSize();
+
+        /**
+         * How long a conversation is kept after it was last used. A value of {@code 0} disables idle eviction.
+         * This should be longer than {@code quarkus.langchain4j.chat-memory.registry.idle-timeout} so that the messages of a
+         * chat memory still in use are not evicted.
+         */
+        @WithDefault("1H")
+        Duration idleTimeout();
+    }
 }
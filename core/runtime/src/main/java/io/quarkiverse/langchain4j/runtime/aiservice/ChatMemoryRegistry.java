@@ -0,0 +1,253 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.jboss.logging.Logger;
+
+import dev.langchain4j.memory.ChatMemory;
+import io.quarkiverse.langchain4j.ChatMemoryEvictionListener;
+
+/**
+ * The {@link ChatMemory} instances of an AI service, by memory ID.
+ * <p>
+ * langchain4j keeps one {@link ChatMemory} per memory ID for as long as the AI service lives, which for an application
+ * scoped AI service means that the heap grows with the number of conversations. This map holds at most
+ * {@code maxEntries} memories, evicting the least recently used one, and evicts the memories that have not been used for
+ * {@code idleTimeout}. Eviction only drops the reference: the memory is not cleared, so the messages persisted in the
+ * {@link dev.langchain4j.store.memory.chat.ChatMemoryStore} are still there when the memory is created again. The IDs of
+ * the last {@code maxEntries} evicted memories are kept, so that their messages can still be deleted when the AI service is
+ * closed. The messages of the memories evicted before them are left to the store, which is expected to bound or expire
+ * them.
+ * <p>
+ * Expired memories are evicted when the registry is accessed, no background thread is involved.
+ */
+public class ChatMemoryRegistry extends AbstractMap<Object, ChatMemory> {
+
+    private static final Logger log = Logger.getLogger(ChatMemoryRegistry.class);
+
+    private final int maxEntries;
+    private final long idleTimeoutNanos;
+    private final ChatMemoryEvictionListener evictionListener;
+    private final ReentrantLock lock = new ReentrantLock();
+    // access ordered, the eldest entry is the least recently used one
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // the IDs of the last memories evicted and not registered again, eldest first, guarded by the lock
+    private final Set<Object> evictedIds = new LinkedHashSet<>();
+
+    public ChatMemoryRegistry(int maxEntries, Duration idleTimeout, ChatMemoryEvictionListener evictionListener) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("The maximum number of chat memories must be at least 1");
+        }
+        this.maxEntries = maxEntries;
+        this.idleTimeoutNanos = idleTimeout == null || idleTimeout.isZero() ? Long.MAX_VALUE : idleTimeout.toNanos();
+        this.evictionListener = evictionListener;
+    }
+
+    @Override
+    public ChatMemory get(Object memoryId) {
+        List<Entry> evicted = new ArrayList<>(0);
+        ChatMemory result = null;
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            expire(now, evicted);
+            Entry entry = entries.get(memoryId);
+            if (entry != null) {
+                entry.lastAccess = now;
+                result = entry.chatMemory;
+            }
+        } finally {
+            lock.unlock();
+        }
+        notify(evicted);
+        return result;
+    }
+
+    /**
+     * The memory is created outside of the lock, so that a slow {@link dev.langchain4j.memory.chat.ChatMemoryProvider}
+     * does not block the other conversations. If two threads create the memory of the same ID concurrently, the first one
+     * registered wins.
+     */
+    @Override
+    public ChatMemory computeIfAbsent(Object memoryId, Function<? super Object, ? extends ChatMemory> mappingFunction) {
+        ChatMemory existing = get(memoryId);
+        if (existing != null) {
+            return existing;
+        }
+        ChatMemory created = mappingFunction.apply(memoryId);
+        if (created == null) {
+            return null;
+        }
+        ChatMemory previous = putIfAbsent(memoryId, created);
+        return previous != null ? previous : created;
+    }
+
+    @Override
+    public ChatMemory putIfAbsent(Object memoryId, ChatMemory chatMemory) {
+        return put(memoryId, chatMemory, false);
+    }
+
+    @Override
+    public ChatMemory put(Object memoryId, ChatMemory chatMemory) {
+        return put(memoryId, chatMemory, true);
+    }
+
+    private ChatMemory put(Object memoryId, ChatMemory chatMemory, boolean replace) {
+        List<Entry> evicted = new ArrayList<>(0);
+        ChatMemory previous;
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            expire(now, evicted);
+            Entry entry = entries.get(memoryId);
+            if (entry != null && !replace) {
+                entry.lastAccess = now;
+                previous = entry.chatMemory;
+            } else {
+                entries.put(memoryId, new Entry(memoryId, chatMemory, now));
+                evictedIds.remove(memoryId);
+                previous = entry != null ? entry.chatMemory : null;
+                while (entries.size() > maxEntries) {
+                    Iterator<Entry> eldest = entries.values().iterator();
+                    Entry eldestEntry = eldest.next();
+                    eldest.remove();
+                    evicted.add(eldestEntry);
+                    addEvictedId(eldestEntry.memoryId);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        notify(evicted);
+        return previous;
+    }
+
+    @Override
+    public ChatMemory remove(Object memoryId) {
+        lock.lock();
+        try {
+            evictedIds.remove(memoryId);
+            Entry entry = entries.remove(memoryId);
+            return entry != null ? entry.chatMemory : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object memoryId) {
+        return get(memoryId) != null;
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+            evictedIds.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return a snapshot of the IDs of the last {@code maxEntries} memories that were evicted and not registered again
+     */
+    public Set<Object> evictedIds() {
+        lock.lock();
+        try {
+            return new LinkedHashSet<>(evictedIds);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return a snapshot of the registered memories, which does not affect the eviction order
+     */
+    @Override
+    public Set<Map.Entry<Object, ChatMemory>> entrySet() {
+        lock.lock();
+        try {
+            Set<Map.Entry<Object, ChatMemory>> result = new LinkedHashSet<>(entries.size());
+            // iterating over the values of an access ordered map does not count as an access
+            for (Entry entry : entries.values()) {
+                result.add(new SimpleImmutableEntry<>(entry.memoryId, entry.chatMemory));
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void expire(long now, List<Entry> evicted) {
+        if (idleTimeoutNanos == Long.MAX_VALUE) {
+            return;
+        }
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (now - entry.lastAccess < idleTimeoutNanos) {
+                // entries are ordered by access, the following ones have been used more recently
+                break;
+            }
+            evicted.add(entry);
+            addEvictedId(entry.memoryId);
+            it.remove();
+        }
+    }
+
+    private void addEvictedId(Object memoryId) {
+        evictedIds.add(memoryId);
+        if (evictedIds.size() > maxEntries) {
+            Iterator<Object> eldest = evictedIds.iterator();
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    private void notify(List<Entry> evicted) {
+        if (evictionListener == null) {
+            return;
+        }
+        for (Entry entry : evicted) {
+            try {
+                evictionListener.onEviction(entry.memoryId, entry.chatMemory);
+            } catch (Exception e) {
+                log.warnf(e, "Eviction listener failed for chat memory '%s'", entry.memoryId);
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final Object memoryId;
+        private final ChatMemory chatMemory;
+        private long lastAccess;
+
+        private Entry(Object memoryId, ChatMemory chatMemory, long lastAccess) {
+            this.memoryId = memoryId;
+            this.chatMemory = chatMemory;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import java.util.function.ToDoubleFunction;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.quarkiverse.langchain4j.store.BoundedInMemoryChatMemoryStore;
+import io.quarkus.arc.ClientProxy;
+
+/**
+ * Exposes the occupancy and the evictions of the default {@link BoundedInMemoryChatMemoryStore}, only registered when
+ * Micrometer is present
+ */
+public class ChatMemoryStoreMetrics implements MeterBinder {
+
+    private static final String PREFIX = "langchain4j.chat.memory.store.";
+
+    @Inject
+    Instance<ChatMemoryStore> chatMemoryStore;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!chatMemoryStore.isResolvable()) {
+            return;
+        }
+        if (!(ClientProxy.unwrap(chatMemoryStore.get()) instanceof BoundedInMemoryChatMemoryStore store)) {
+            // the application provides its own store
+            return;
+        }
+        Gauge.builder(PREFIX + "sessions", store, new ToDoubleFunction<>() {
+            @Override
+            public double applyAsDouble(BoundedInMemoryChatMemoryStore store) {
+                return store.sessions();
+            }
+        })
+                .description("The number of conversations kept by the chat memory store")
+                .register(registry);
+        Gauge.builder(PREFIX + "size", store, new ToDoubleFunction<>() {
+            @Override
+            public double applyAsDouble(BoundedInMemoryChatMemoryStore store) {
+                return store.bytes();
+            }
+        })
+                .description("An estimate of the heap used by the messages kept by the chat memory store")
+                .baseUnit("bytes")
+                .register(registry);
+        for (BoundedInMemoryChatMemoryStore.EvictionCause cause : BoundedInMemoryChatMemoryStore.EvictionCause.values()) {
+            FunctionCounter.builder(PREFIX + "evictions", store, new ToDoubleFunction<>() {
+                @Override
+                public double applyAsDouble(BoundedInMemoryChatMemoryStore store) {
+                    return store.evictions(cause);
+                }
+            })
+                    .description("The number of conversations evicted from the chat memory store")
+                    .tag("cause", cause.name().toLowerCase())
+                    .register(registry);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
+import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Singleton;
 
@@ -16,8 +17,10 @@ public class MethodImplementationSupportProducer {
     @Singleton
     @Unremovable
     AiServiceMethodImplementationSupport methodImplementationSupport(
-            @All List<AiServiceMethodImplementationSupport.Wrapper> wrappers) {
-        AiServiceMethodImplementationSupport base = new AiServiceMethodImplementationSupport();
+            @All List<AiServiceMethodImplementationSupport.Wrapper> wrappers, ResponseCacheSupport responseCacheSupport,
+            Instance<SemanticResponseCacheSupport> semanticResponseCacheSupport) {
+        AiServiceMethodImplementationSupport base = new AiServiceMethodImplementationSupport(responseCacheSupport,
+                semanticResponseCacheSupport.isResolvable() ? semanticResponseCacheSupport.get() : null);
         if (wrappers.isEmpty()) {
             return base;
         }
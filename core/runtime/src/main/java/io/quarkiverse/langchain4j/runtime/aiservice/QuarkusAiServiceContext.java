@@ -10,6 +10,10 @@ import io.quarkiverse.langchain4j.audit.AuditService;
 public class QuarkusAiServiceContext extends AiServiceContext {
 
     public AuditService auditService;
+    /**
+     * The name of the chat model, {@code null} if the model was not selected by name
+     */
+    public String chatModelName;
 
     // needed by Arc
     public QuarkusAiServiceContext() {
@@ -35,6 +39,12 @@ public class QuarkusAiServiceContext extends AiServiceContext {
                 chatMemory.clear();
             }
         });
+        if (chatMemories instanceof ChatMemoryRegistry registry) {
+            // the messages of the evicted memories are still in the store
+            for (Object memoryId : registry.evictedIds()) {
+                chatMemoryProvider.get(memoryId).clear();
+            }
+        }
         chatMemories = null;
     }
 
@@ -46,6 +56,10 @@ public class QuarkusAiServiceContext extends AiServiceContext {
     public void removeChatMemoryIds(Object... ids) {
         for (Object id : ids) {
             ChatMemory chatMemory = chatMemories.remove(id);
+            if (chatMemory == null && chatMemories instanceof ChatMemoryRegistry) {
+                // evicted, but its messages may still be in the store
+                chatMemory = chatMemoryProvider.get(id);
+            }
             if (chatMemory != null) {
                 chatMemory.clear();
             }
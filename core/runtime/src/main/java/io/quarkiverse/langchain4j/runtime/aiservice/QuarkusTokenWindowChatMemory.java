@@ -0,0 +1,123 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.model.Tokenizer;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+
+/**
+ * A {@link ChatMemory} keeping the most recent messages that fit in a number of tokens, like
+ * {@link dev.langchain4j.memory.chat.TokenWindowChatMemory}.
+ * <p>
+ * {@link dev.langchain4j.memory.chat.TokenWindowChatMemory} tokenizes the whole conversation every time a message is added
+ * or the messages are read. This memory keeps the token count of each of the messages it last saw, so that only the new
+ * messages are tokenized, and evicts the oldest messages by subtracting their count from the running total. The
+ * {@link ChatMemoryStore} remains the source of truth for the messages.
+ */
+public class QuarkusTokenWindowChatMemory implements ChatMemory {
+
+    private final Object id;
+    private final int maxTokens;
+    private final Tokenizer tokenizer;
+    private final ChatMemoryStore store;
+    private final int emptyMessagesTokenCount;
+    private volatile Map<ChatMessage, Integer> tokenCounts = Collections.emptyMap();
+    private volatile int tokenCount;
+
+    public QuarkusTokenWindowChatMemory(Object id, int maxTokens, Tokenizer tokenizer, ChatMemoryStore store) {
+        if (maxTokens < 1) {
+            throw new IllegalArgumentException("The maximum number of tokens must be at least 1");
+        }
+        this.id = id;
+        this.maxTokens = maxTokens;
+        this.tokenizer = tokenizer;
+        this.store = store;
+        this.emptyMessagesTokenCount = tokenizer.estimateTokenCountInMessages(Collections.emptyList());
+    }
+
+    @Override
+    public Object id() {
+        return id;
+    }
+
+    @Override
+    public void add(ChatMessage message) {
+        List<ChatMessage> messages = messages();
+        if (message instanceof SystemMessage) {
+            for (Iterator<ChatMessage> it = messages.iterator(); it.hasNext();) {
+                ChatMessage existing = it.next();
+                if (existing instanceof SystemMessage) {
+                    if (existing.equals(message)) {
+                        // the same system message is not added twice
+                        return;
+                    }
+                    it.remove();
+                    break;
+                }
+            }
+        }
+        messages.add(message);
+        ensureCapacity(messages);
+        store.updateMessages(id, messages);
+    }
+
+    @Override
+    public List<ChatMessage> messages() {
+        List<ChatMessage> messages = new LinkedList<>(store.getMessages(id));
+        ensureCapacity(messages);
+        return messages;
+    }
+
+    @Override
+    public void clear() {
+        store.deleteMessages(id);
+        tokenCounts = Collections.emptyMap();
+        tokenCount = 0;
+    }
+
+    /**
+     * @return the token count of the messages the memory last returned or stored
+     */
+    public int tokenCount() {
+        return tokenCount;
+    }
+
+    private void ensureCapacity(List<ChatMessage> messages) {
+        Map<ChatMessage, Integer> previous = tokenCounts;
+        LinkedList<Integer> counts = new LinkedList<>();
+        int total = emptyMessagesTokenCount;
+        for (ChatMessage message : messages) {
+            Integer count = previous.get(message);
+            if (count == null) {
+                count = tokenizer.estimateTokenCountInMessage(message);
+            }
+            counts.add(count);
+            total += count;
+        }
+        while (total > maxTokens && !messages.isEmpty()) {
+            // the system message is never evicted
+            int index = messages.get(0) instanceof SystemMessage ? 1 : 0;
+            if (index >= messages.size()) {
+                break;
+            }
+            messages.remove(index);
+            total -= counts.remove(index);
+        }
+
+        Map<ChatMessage, Integer> current = new HashMap<>();
+        Iterator<Integer> count = counts.iterator();
+        for (ChatMessage message : messages) {
+            current.put(message, count.next());
+        }
+        tokenCounts = current;
+        tokenCount = total;
+    }
+}
@@ -0,0 +1,63 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import static io.quarkus.runtime.annotations.ConfigPhase.RUN_TIME;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configures the responses cached for the AI service methods annotated with
+ * {@link io.quarkiverse.langchain4j.CacheResponse} or {@link io.quarkiverse.langchain4j.SemanticCacheResponse}
+ */
+@ConfigRoot(phase = RUN_TIME)
+@ConfigMapping(prefix = "quarkus.langchain4j.response-cache")
+public interface ResponseCacheConfig {
+
+    /**
+     * The maximum number of responses kept by the default {@link io.quarkiverse.langchain4j.cache.CaffeineResponseCache},
+     * the least recently used ones are evicted when the limit is exceeded
+     */
+    @WithDefault("10000")
+    long maxSize();
+
+    /**
+     * How long a response is kept after it was cached
+     */
+    @WithDefault("1H")
+    Duration ttl();
+
+    /**
+     * Configures the cache of the methods annotated with {@link io.quarkiverse.langchain4j.SemanticCacheResponse}
+     */
+    Semantic semantic();
+
+    @ConfigGroup
+    interface Semantic {
+
+        /**
+         * The minimum cosine similarity between the embedding of a user message and the one of a cached question for the
+         * answer to that question to be returned. Values close to {@code 1} only match paraphrases, lower values may return
+         * the answer to a different question.
+         */
+        @WithDefault("0.95")
+        double minSimilarity();
+
+        /**
+         * The number of responses after which the oldest responses of an AI service and system message start being evicted.
+         * Up to twice as many responses are kept.
+         */
+        @WithDefault("1000")
+        int maxEntries();
+
+        /**
+         * The maximum number of AI service and system message combinations whose responses are cached, the least recently
+         * used one is evicted when the limit is exceeded
+         */
+        @WithDefault("100")
+        int maxScopes();
+    }
+}
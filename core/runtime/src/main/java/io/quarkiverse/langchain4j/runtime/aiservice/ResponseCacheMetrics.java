@@ -0,0 +1,73 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import java.util.function.ToDoubleFunction;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes the hits and misses of the response caches used by the AI service methods annotated with
+ * {@link io.quarkiverse.langchain4j.CacheResponse} or {@link io.quarkiverse.langchain4j.SemanticCacheResponse}, only
+ * registered when Micrometer is present
+ */
+public class ResponseCacheMetrics implements MeterBinder {
+
+    private static final String NAME = "langchain4j.response.cache.requests";
+    private static final String DESCRIPTION = "The number of responses looked up in the response cache";
+
+    @Inject
+    ResponseCacheSupport responseCacheSupport;
+
+    @Inject
+    Instance<SemanticResponseCacheSupport> semanticResponseCacheSupport;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(NAME, responseCacheSupport, new ToDoubleFunction<>() {
+            @Override
+            public double applyAsDouble(ResponseCacheSupport support) {
+                return support.hits();
+            }
+        })
+                .description(DESCRIPTION)
+                .tags("cache", "exact", "result", "hit")
+                .register(registry);
+        FunctionCounter.builder(NAME, responseCacheSupport, new ToDoubleFunction<>() {
+            @Override
+            public double applyAsDouble(ResponseCacheSupport support) {
+                return support.misses();
+            }
+        })
+                .description(DESCRIPTION)
+                .tags("cache", "exact", "result", "miss")
+                .register(registry);
+
+        if (!semanticResponseCacheSupport.isResolvable()) {
+            // no method uses the semantic cache
+            return;
+        }
+        // the ratio of hits tells whether the similarity threshold is too strict
+        FunctionCounter.builder(NAME, semanticResponseCacheSupport.get(), new ToDoubleFunction<>() {
+            @Override
+            public double applyAsDouble(SemanticResponseCacheSupport support) {
+                return support.hits();
+            }
+        })
+                .description(DESCRIPTION)
+                .tags("cache", "semantic", "result", "hit")
+                .register(registry);
+        FunctionCounter.builder(NAME, semanticResponseCacheSupport.get(), new ToDoubleFunction<>() {
+            @Override
+            public double applyAsDouble(SemanticResponseCacheSupport support) {
+                return support.misses();
+            }
+        })
+                .description(DESCRIPTION)
+                .tags("cache", "semantic", "result", "miss")
+                .register(registry);
+    }
+}
@@ -0,0 +1,21 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+import io.quarkiverse.langchain4j.CacheResponse;
+import io.quarkiverse.langchain4j.cache.CaffeineResponseCache;
+import io.quarkus.arc.DefaultBean;
+
+/**
+ * Creates the default {@link CaffeineResponseCache} used by the AI service methods annotated with {@link CacheResponse}
+ */
+public class ResponseCacheProducer {
+
+    @Produces
+    @Singleton
+    @DefaultBean
+    public CaffeineResponseCache responseCache(ResponseCacheConfig config) {
+        return new CaffeineResponseCache(config.maxSize(), config.ttl());
+    }
+}
@@ -0,0 +1,143 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.jboss.logging.Logger;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import io.quarkiverse.langchain4j.cache.ResponseCache;
+import io.quarkus.arc.ClientProxy;
+
+/**
+ * Looks up and stores the responses of the AI service methods annotated with {@link io.quarkiverse.langchain4j.CacheResponse}
+ * in the {@link ResponseCache} bean, and counts the hits and misses.
+ * <p>
+ * The default cache requires the {@code quarkus-caffeine} extension, the responses are not cached when it is not present
+ * and the application does not provide another {@link ResponseCache} bean.
+ */
+@Singleton
+public class ResponseCacheSupport {
+
+    private static final Logger log = Logger.getLogger(ResponseCacheSupport.class);
+
+    private final Instance<ResponseCache> responseCache;
+    private final String chatModelConfig;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Inject
+    public ResponseCacheSupport(Instance<ResponseCache> responseCache) {
+        this.responseCache = responseCache;
+        this.chatModelConfig = chatModelConfig(ConfigProvider.getConfig());
+    }
+
+    /**
+     * @return the sorted names and values of the properties configuring the chat models, which include the parameters of
+     *         the requests (model id, temperature, top-p, maximum number of tokens, ...)
+     */
+    static String chatModelConfig(Config config) {
+        Map<String, String> properties = new TreeMap<>();
+        for (String name : config.getPropertyNames()) {
+            if (name.startsWith("quarkus.langchain4j.") && name.contains(".chat-model.")) {
+                Optional<String> value = config.getOptionalValue(name, String.class);
+                if (value.isPresent()) {
+                    properties.put(name, value.get());
+                }
+            }
+        }
+        return properties.toString();
+    }
+
+    /**
+     * Computes the key of a request as the SHA-256 hash of everything the response of the model depends on, so that the
+     * same request gets the same key in every instance of the application.
+     * The parameters of the requests (model id, temperature, maximum number of tokens, ...) are not exposed by the models,
+     * so the configuration of the chat models is hashed instead, and changing it invalidates the cached responses.
+     */
+    public String key(String modelName, ChatLanguageModel model, List<ToolSpecification> toolSpecifications,
+            List<ChatMessage> messages) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        update(digest, modelName == null ? "" : modelName);
+        update(digest, ClientProxy.unwrap(model).getClass().getName());
+        update(digest, chatModelConfig);
+        if (toolSpecifications != null) {
+            for (ToolSpecification toolSpecification : toolSpecifications) {
+                update(digest, toolSpecification.toString());
+            }
+        }
+        update(digest, ChatMessageSerializer.messagesToJson(messages));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(UTF_8));
+        // separates the values so that they cannot be shifted from one to the other
+        digest.update((byte) 0);
+    }
+
+    /**
+     * @return the cached response, or {@code null} if there is none or the cache failed
+     */
+    public AiMessage get(String key) {
+        if (!responseCache.isResolvable()) {
+            // quarkus-caffeine is not present and no other cache is provided
+            return null;
+        }
+        AiMessage response = null;
+        try {
+            response = responseCache.get().get(key);
+        } catch (Exception e) {
+            // the model is called instead
+            log.warn("Unable to get the response from the cache", e);
+        }
+        if (response == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return response;
+    }
+
+    public void put(String key, AiMessage response) {
+        if (!responseCache.isResolvable()) {
+            return;
+        }
+        try {
+            responseCache.get().put(key, response);
+        } catch (Exception e) {
+            log.warn("Unable to cache the response", e);
+        }
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+}
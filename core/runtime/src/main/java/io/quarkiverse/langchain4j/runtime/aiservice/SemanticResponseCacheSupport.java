@@ -0,0 +1,164 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.inject.Inject;
+
+import org.jboss.logging.Logger;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.RelevanceScore;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+
+/**
+ * Caches the responses of the AI service methods annotated with {@link io.quarkiverse.langchain4j.SemanticCacheResponse}
+ * by the embedding of the user message, so that a question similar enough to one that was already answered gets the same
+ * answer without calling the chat model.
+ * <p>
+ * The responses are cached per scope, made of the AI service, the chat model and the system message, so that an answer is
+ * never returned in another context. Each scope keeps its responses in two {@link InMemoryEmbeddingStore}s: the responses
+ * are added to the current one and, once it holds the maximum number of entries, the previous one is dropped and the current
+ * one becomes the previous one. Both are searched, so a scope holds between {@code max-entries} and twice as many responses
+ * and the oldest ones are evicted first.
+ * <p>
+ * This bean is only registered when at least one method is annotated with
+ * {@link io.quarkiverse.langchain4j.SemanticCacheResponse}, as it requires an {@link EmbeddingModel}.
+ */
+public class SemanticResponseCacheSupport {
+
+    private static final Logger log = Logger.getLogger(SemanticResponseCacheSupport.class);
+
+    private final EmbeddingModel embeddingModel;
+    private final double minScore;
+    private final int maxEntries;
+    private final int maxScopes;
+    private final long ttlMillis;
+    // access ordered, the eldest entry is the least recently used scope, guarded by itself
+    private final LinkedHashMap<String, Scope> scopes = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Inject
+    public SemanticResponseCacheSupport(EmbeddingModel embeddingModel, ResponseCacheConfig config) {
+        this.embeddingModel = embeddingModel;
+        ResponseCacheConfig.Semantic semanticConfig = config.semantic();
+        // the embedding stores score the matches with the cosine similarity mapped to [0, 1]
+        this.minScore = RelevanceScore.fromCosineSimilarity(semanticConfig.minSimilarity());
+        this.maxEntries = semanticConfig.maxEntries();
+        this.maxScopes = semanticConfig.maxScopes();
+        this.ttlMillis = config.ttl().toMillis();
+    }
+
+    /**
+     * @return the key of the scope of the responses of a method of an AI service
+     */
+    public String scope(String interfaceName, String modelName, Optional<SystemMessage> systemMessage) {
+        return interfaceName + '\0' + (modelName == null ? "" : modelName) + '\0'
+                + (systemMessage.isPresent() ? systemMessage.get().text() : "");
+    }
+
+    public Embedding embed(String text) {
+        return embeddingModel.embed(text).content();
+    }
+
+    /**
+     * @return the response to the most similar question of the scope, or {@code null} if no cached question is similar
+     *         enough
+     */
+    public AiMessage get(String scopeKey, Embedding embedding) {
+        Scope scope;
+        synchronized (scopes) {
+            scope = scopes.get(scopeKey);
+        }
+        CachedResponse best = null;
+        if (scope != null) {
+            long now = System.currentTimeMillis();
+            double bestScore = -1;
+            for (InMemoryEmbeddingStore<CachedResponse> store : scope.stores()) {
+                // sorted by decreasing score, the first match that has not expired is the best one of the store
+                for (EmbeddingMatch<CachedResponse> match : store.findRelevant(embedding, maxEntries, minScore)) {
+                    if (now - match.embedded().cachedAt < ttlMillis) {
+                        if (match.score() > bestScore) {
+                            bestScore = match.score();
+                            best = match.embedded();
+                        }
+                        break;
+                    }
+                }
+            }
+            if (best != null) {
+                log.debugv("Similar question found in the cache with a score of {0}: {1}", bestScore, best.question);
+            }
+        }
+        if (best == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return best.response;
+    }
+
+    public void put(String scopeKey, Embedding embedding, String question, AiMessage response) {
+        Scope scope;
+        synchronized (scopes) {
+            scope = scopes.get(scopeKey);
+            if (scope == null) {
+                scope = new Scope();
+                scopes.put(scopeKey, scope);
+                if (scopes.size() > maxScopes) {
+                    scopes.remove(scopes.keySet().iterator().next());
+                }
+            }
+        }
+        scope.add(embedding, new CachedResponse(question, response, System.currentTimeMillis()), maxEntries);
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    private static final class Scope {
+
+        private InMemoryEmbeddingStore<CachedResponse> current = new InMemoryEmbeddingStore<>();
+        private InMemoryEmbeddingStore<CachedResponse> previous = new InMemoryEmbeddingStore<>();
+        private int currentSize;
+
+        synchronized List<InMemoryEmbeddingStore<CachedResponse>> stores() {
+            return List.of(current, previous);
+        }
+
+        synchronized void add(Embedding embedding, CachedResponse response, int maxEntries) {
+            if (currentSize >= maxEntries) {
+                previous = current;
+                current = new InMemoryEmbeddingStore<>();
+                currentSize = 0;
+            }
+            current.add(embedding, response);
+            currentSize++;
+        }
+    }
+
+    private static final class CachedResponse {
+
+        private final String question;
+        private final AiMessage response;
+        private final long cachedAt;
+
+        private CachedResponse(String question, AiMessage response, long cachedAt) {
+            this.question = question;
+            this.response = response;
+            this.cachedAt = cachedAt;
+        }
+    }
+}
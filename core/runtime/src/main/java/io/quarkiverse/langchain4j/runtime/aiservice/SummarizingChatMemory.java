@@ -0,0 +1,251 @@
+package io.quarkiverse.langchain4j.runtime.aiservice;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.jboss.logging.Logger;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+
+/**
+ * A {@link ChatMemory} keeping the most recent messages, like {@link dev.langchain4j.memory.chat.MessageWindowChatMemory},
+ * and a summary of the older ones.
+ * <p>
+ * When the window overflows, the oldest messages are removed from the window right away and summarized on a background
+ * executor, together with the previous summary, so that the request that made the window overflow does not wait for the
+ * summarizing model. Once the summary is ready, it replaces the previous one, right after the system message. Until then,
+ * the memory only holds the window. At most one summarization runs at a time for a memory, the messages evicted in the
+ * meantime are summarized next.
+ * <p>
+ * The summary is an {@link AiMessage} starting with {@link #SUMMARY_PREFIX}, which is how it is recognized when the
+ * messages are loaded from the {@link ChatMemoryStore}. It does not count in the window. Messages that have been evicted but
+ * not summarized yet are only kept on the heap, and are therefore lost if the memory is evicted or the application stops.
+ * <p>
+ * When the summarization fails, the evicted messages are summarized again with the next ones, but not before a backoff
+ * doubled by every consecutive failure. At most {@code maxUnsummarized} messages are kept waiting for a summary, the oldest
+ * ones being dropped, as a plain window would, while the summarizing model keeps failing.
+ */
+public class SummarizingChatMemory implements ChatMemory {
+
+    private static final Logger log = Logger.getLogger(SummarizingChatMemory.class);
+
+    public static final String SUMMARY_PREFIX = "Summary of the earlier conversation: ";
+
+    private static final String PROMPT = "Summarize concisely the following conversation between a user and an AI "
+            + "assistant, keeping the facts, names and decisions needed to continue the conversation. "
+            + "Only answer with the summary.\n\n";
+
+    // the backoff is doubled at most this many times
+    private static final int MAX_BACKOFF_DOUBLINGS = 6;
+
+    private final Object id;
+    private final int maxMessages;
+    private final int maxUnsummarized;
+    private final Duration failureBackoff;
+    private final ChatMemoryStore store;
+    private final ChatLanguageModel model;
+    private final Executor executor;
+    // guarded by this
+    private final List<ChatMessage> unsummarized = new ArrayList<>();
+    private boolean summarizing;
+    private int failures;
+    // wall clock time before which no summarization is started after a failure
+    private long retryNotBefore;
+    // incremented when the memory is cleared, so that the summaries started before are dropped
+    private long generation;
+
+    public SummarizingChatMemory(Object id, int maxMessages, int maxUnsummarized, Duration failureBackoff,
+            ChatMemoryStore store, ChatLanguageModel model, Executor executor) {
+        if (maxMessages < 1) {
+            throw new IllegalArgumentException("The maximum number of messages must be at least 1");
+        }
+        if (maxUnsummarized < 1) {
+            throw new IllegalArgumentException("The maximum number of unsummarized messages must be at least 1");
+        }
+        this.id = id;
+        this.maxMessages = maxMessages;
+        this.maxUnsummarized = maxUnsummarized;
+        this.failureBackoff = failureBackoff;
+        this.store = store;
+        this.model = model;
+        this.executor = executor;
+    }
+
+    @Override
+    public Object id() {
+        return id;
+    }
+
+    @Override
+    public synchronized void add(ChatMessage message) {
+        List<ChatMessage> messages = new LinkedList<>(store.getMessages(id));
+        if (message instanceof SystemMessage) {
+            int index = systemMessageIndex(messages);
+            if (index >= 0) {
+                if (messages.get(index).equals(message)) {
+                    // the same system message is not added twice
+                    return;
+                }
+                messages.remove(index);
+            }
+        }
+        messages.add(message);
+        int first = firstEvictableIndex(messages);
+        while (messages.size() - first > maxMessages) {
+            unsummarized.add(messages.remove(first));
+        }
+        dropOldestUnsummarized();
+        store.updateMessages(id, messages);
+        if (!unsummarized.isEmpty() && System.currentTimeMillis() >= retryNotBefore) {
+            summarize();
+        }
+    }
+
+    @Override
+    public List<ChatMessage> messages() {
+        return new LinkedList<>(store.getMessages(id));
+    }
+
+    @Override
+    public synchronized void clear() {
+        store.deleteMessages(id);
+        unsummarized.clear();
+        failures = 0;
+        retryNotBefore = 0;
+        generation++;
+    }
+
+    /**
+     * Starts summarizing the evicted messages, unless a summarization is already running
+     */
+    private void summarize() {
+        if (summarizing) {
+            return;
+        }
+        summarizing = true;
+        List<ChatMessage> evicted = new ArrayList<>(unsummarized);
+        unsummarized.clear();
+        String previousSummary = null;
+        for (ChatMessage message : store.getMessages(id)) {
+            if (isSummary(message)) {
+                previousSummary = message.text().substring(SUMMARY_PREFIX.length());
+                break;
+            }
+        }
+        String summaryToExtend = previousSummary;
+        long startedGeneration = generation;
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                String summary;
+                try {
+                    summary = model.generate(List.of(prompt(summaryToExtend, evicted))).content().text();
+                } catch (Exception e) {
+                    synchronized (SummarizingChatMemory.this) {
+                        if (generation == startedGeneration) {
+                            // summarized with the next evicted messages, once the backoff has elapsed
+                            unsummarized.addAll(0, evicted);
+                            dropOldestUnsummarized();
+                            Duration backoff = failureBackoff
+                                    .multipliedBy(1L << Math.min(failures, MAX_BACKOFF_DOUBLINGS));
+                            failures++;
+                            retryNotBefore = System.currentTimeMillis() + backoff.toMillis();
+                            log.warnf(e, "Unable to summarize the messages of chat memory '%s', retrying in %d ms", id,
+                                    backoff.toMillis());
+                        }
+                        summarizing = false;
+                    }
+                    return;
+                }
+                synchronized (SummarizingChatMemory.this) {
+                    if (generation == startedGeneration) {
+                        replaceSummary(summary);
+                        failures = 0;
+                        retryNotBefore = 0;
+                    }
+                    summarizing = false;
+                    if (!unsummarized.isEmpty()) {
+                        summarize();
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Drops the oldest messages waiting for a summary beyond {@code maxUnsummarized}, which are then lost as if they had
+     * been evicted from a plain window
+     */
+    private void dropOldestUnsummarized() {
+        int excess = unsummarized.size() - maxUnsummarized;
+        if (excess > 0) {
+            log.debugf("Dropping %d messages of chat memory '%s' that could not be summarized", excess, id);
+            unsummarized.subList(0, excess).clear();
+        }
+    }
+
+    private void replaceSummary(String summary) {
+        List<ChatMessage> messages = new LinkedList<>(store.getMessages(id));
+        messages.removeIf(SummarizingChatMemory::isSummary);
+        int index = systemMessageIndex(messages) + 1;
+        messages.add(index, AiMessage.from(SUMMARY_PREFIX + summary));
+        store.updateMessages(id, messages);
+    }
+
+    private static ChatMessage prompt(String previousSummary, List<ChatMessage> messages) {
+        StringBuilder prompt = new StringBuilder(PROMPT);
+        if (previousSummary != null) {
+            prompt.append("Summary of the conversation before these messages: ").append(previousSummary).append("\n\n");
+        }
+        for (ChatMessage message : messages) {
+            prompt.append(message.type()).append(": ");
+            if (message instanceof AiMessage aiMessage && aiMessage.hasToolExecutionRequests()) {
+                // an AI message requesting tool executions has no text
+                String separator = "calls ";
+                for (ToolExecutionRequest request : aiMessage.toolExecutionRequests()) {
+                    prompt.append(separator).append(request.name()).append('(').append(request.arguments()).append(')');
+                    separator = ", ";
+                }
+            } else {
+                prompt.append(message.text());
+            }
+            prompt.append('\n');
+        }
+        return UserMessage.from(prompt.toString());
+    }
+
+    private static int systemMessageIndex(List<ChatMessage> messages) {
+        for (int i = 0; i < messages.size(); i++) {
+            if (messages.get(i) instanceof SystemMessage) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The system message and the summary are at the beginning of the messages and never evicted
+     */
+    private static int firstEvictableIndex(List<ChatMessage> messages) {
+        int index = 0;
+        while (index < messages.size()
+                && (messages.get(index) instanceof SystemMessage || isSummary(messages.get(index)))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean isSummary(ChatMessage message) {
+        return message instanceof AiMessage && message.text() != null && message.text().startsWith(SUMMARY_PREFIX);
+    }
+}
@@ -0,0 +1,21 @@
+package io.quarkiverse.langchain4j.runtime.cache;
+
+import static io.quarkus.runtime.annotations.ConfigPhase.RUN_TIME;
+
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigRoot(phase = RUN_TIME)
+@ConfigMapping(prefix = "quarkus.langchain4j.embedding-cache")
+public interface EmbeddingCacheConfig {
+
+    /**
+     * The maximum amount of memory used by the vectors kept by the default
+     * {@link io.quarkiverse.langchain4j.cache.InMemoryEmbeddingCache}, the least recently used ones are evicted when the limit
+     * is exceeded. With 1536 dimensions, the default keeps around 10,000 vectors.
+     */
+    @WithDefault("64M")
+    MemorySize maxSize();
+}
@@ -0,0 +1,126 @@
+package io.quarkiverse.langchain4j.runtime.store;
+
+import static io.quarkus.runtime.annotations.ConfigPhase.RUN_TIME;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import io.quarkiverse.langchain4j.store.OffHeapEmbeddingStore;
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigRoot(phase = RUN_TIME)
+@ConfigMapping(prefix = "quarkus.langchain4j.off-heap-embedding-store")
+public interface OffHeapEmbeddingStoreConfig {
+
+    /**
+     * The dimension of the embedding vectors. If not set, the dimension of the first embedding added to the store is used.
+     */
+    OptionalInt dimension();
+
+    /**
+     * Path of a snapshot, written with {@link OffHeapEmbeddingStore#writeSnapshot(java.nio.file.Path)}, that the store is
+     * loaded from at startup. The file is memory-mapped, so loading is almost instantaneous regardless of its size.
+     * <p>
+     * If not set and a snapshot was produced at build time, the build time snapshot is used.
+     */
+    Optional<Path> snapshot();
+
+    /**
+     * The index used to search the store. {@code flat} scores every vector and is exact, {@code hnsw} uses an approximate
+     * graph index that is much faster for large stores.
+     */
+    @WithDefault("HNSW")
+    OffHeapEmbeddingStore.Index index();
+
+    /**
+     * Number of vectors above which a {@code flat} search is split across the threads of the common fork-join pool
+     */
+    @WithDefault("16384")
+    int parallelScanThreshold();
+
+    /**
+     * How the vectors are stored. {@code int8} and {@code pq} (product quantization) reduce the memory footprint by
+     * respectively 4 and up to 32 times, at the expense of precision.
+     */
+    @WithDefault("NONE")
+    OffHeapEmbeddingStore.Quantization quantization();
+
+    /**
+     * Configures the HNSW index
+     */
+    Hnsw hnsw();
+
+    /**
+     * Configures the re-ranking of the results of a quantized store
+     */
+    Rerank rerank();
+
+    /**
+     * Configures the product quantization
+     */
+    Pq pq();
+
+    @ConfigGroup
+    interface Rerank {
+
+        /**
+         * Whether the full precision vectors are kept alongside the quantized ones, so that the best candidates of a search
+         * are re-scored with them. When the store is loaded from a snapshot, the full precision vectors are memory-mapped
+         * and only cost page cache.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * How many candidates are retrieved using the quantized vectors for each requested result
+         */
+        @WithDefault("4")
+        int oversampling();
+    }
+
+    @ConfigGroup
+    interface Pq {
+
+        /**
+         * The number of subspaces, which must divide the dimension of the vectors. Each vector takes one byte per subspace.
+         * If not set, a subspace per 8 components is used.
+         */
+        OptionalInt subspaces();
+
+        /**
+         * The number of vectors the quantizer is trained with. Until that many vectors have been added to the store,
+         * vectors are kept in full precision.
+         */
+        @WithDefault("4096")
+        int trainingSize();
+    }
+
+    @ConfigGroup
+    interface Hnsw {
+
+        /**
+         * The number of links each node of the graph keeps (twice as many are kept in the bottom layer).
+         * Higher values increase recall and memory usage.
+         */
+        @WithDefault("16")
+        int m();
+
+        /**
+         * The size of the candidate list used when inserting a vector. Higher values produce a better graph at the expense
+         * of slower inserts.
+         */
+        @WithDefault("200")
+        int efConstruction();
+
+        /**
+         * The size of the candidate list used when searching. Higher values increase recall at the expense of slower
+         * searches.
+         */
+        @WithDefault("64")
+        int efSearch();
+    }
+}
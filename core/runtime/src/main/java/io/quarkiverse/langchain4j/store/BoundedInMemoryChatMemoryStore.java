@@ -0,0 +1,306 @@
+package io.quarkiverse.langchain4j.store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+import io.quarkiverse.langchain4j.QuarkusJsonCodecFactory;
+
+/**
+ * A {@link ChatMemoryStore} keeping the messages in the application heap, with bounds on the number of conversations and on
+ * the memory they use.
+ * <p>
+ * Unlike the {@link InMemoryChatMemoryStore} it extends, messages are not kept as object graphs but as their serialized JSON
+ * form, one byte array per message. As chat memories rewrite the whole list of messages every time a message is added, the
+ * store weakly remembers the messages it last returned or received for each conversation: the ones passed back are
+ * recognized by identity and keep their byte array, so that an update only serializes the appended messages.
+ * <p>
+ * When a bound is exceeded, the least recently used conversations are evicted. Conversations that have not been used for
+ * the idle timeout are evicted as well, when the store is next accessed.
+ */
+public class BoundedInMemoryChatMemoryStore extends InMemoryChatMemoryStore {
+
+    public enum EvictionCause {
+        /**
+         * Too many conversations are stored
+         */
+        SIZE,
+        /**
+         * The stored messages use too much memory
+         */
+        MEMORY,
+        /**
+         * The conversation has not been used for longer than the idle timeout
+         */
+        IDLE
+    }
+
+    private static final byte[][] NO_MESSAGES = new byte[0][];
+    @SuppressWarnings("unchecked")
+    private static final WeakReference<ChatMessage>[] NO_DECODED = new WeakReference[0];
+    // rough size of the entry, the map node and the array headers
+    private static final int ENTRY_OVERHEAD = 112;
+    // rough size of the array slots, the byte array header and the weak reference of a message
+    private static final int MESSAGE_OVERHEAD = 64;
+
+    private final int maxSessions;
+    private final long maxBytes;
+    private final long idleTimeoutNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    // access ordered, the eldest entry is the least recently used one
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong[] evictions = new AtomicLong[EvictionCause.values().length];
+    private long bytes;
+
+    private BoundedInMemoryChatMemoryStore(Builder builder) {
+        this.maxSessions = builder.maxSessions;
+        this.maxBytes = builder.maxBytes;
+        this.idleTimeoutNanos = builder.idleTimeout == null || builder.idleTimeout.isZero() ? Long.MAX_VALUE
+                : builder.idleTimeout.toNanos();
+        for (int i = 0; i < evictions.length; i++) {
+            evictions[i] = new AtomicLong();
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public List<ChatMessage> getMessages(Object memoryId) {
+        Entry entry;
+        lock.lock();
+        try {
+            expire(System.nanoTime());
+            entry = entries.get(memoryId);
+            if (entry == null) {
+                return new ArrayList<>();
+            }
+            entry.lastAccess = System.nanoTime();
+        } finally {
+            lock.unlock();
+        }
+        // the byte arrays are never modified once stored, so they can be read outside the lock
+        List<ChatMessage> result = new ArrayList<>(entry.messages.length);
+        for (int i = 0; i < entry.messages.length; i++) {
+            ChatMessage message = entry.decoded[i].get();
+            if (message == null) {
+                message = deserialize(entry.messages[i]);
+                entry.decoded[i] = new WeakReference<>(message);
+            }
+            result.add(message);
+        }
+        return result;
+    }
+
+    @Override
+    public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+        Entry previous;
+        lock.lock();
+        try {
+            previous = entries.get(memoryId);
+        } finally {
+            lock.unlock();
+        }
+        byte[][] serialized = serialize(previous, messages);
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            expire(now);
+            Entry replaced = entries.get(memoryId);
+            Entry entry = new Entry(serialized, messages, now);
+            entries.put(memoryId, entry);
+            bytes += entry.bytes - (replaced != null ? replaced.bytes : 0);
+            evict(memoryId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteMessages(Object memoryId) {
+        lock.lock();
+        try {
+            Entry entry = entries.remove(memoryId);
+            if (entry != null) {
+                bytes -= entry.bytes;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of conversations currently stored
+     */
+    public int sessions() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return an estimate of the heap used by the stored messages
+     */
+    public long bytes() {
+        lock.lock();
+        try {
+            return bytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return how many conversations have been evicted for the given cause since the store was created
+     */
+    public long evictions(EvictionCause cause) {
+        return evictions[cause.ordinal()].get();
+    }
+
+    /**
+     * Serializes the messages, except the ones returned or received by the previous version of the conversation, which are
+     * recognized by identity and keep their byte array
+     */
+    private static byte[][] serialize(Entry previous, List<ChatMessage> messages) {
+        WeakReference<ChatMessage>[] known = previous != null ? previous.decoded : NO_DECODED;
+        byte[][] serialized = new byte[messages.size()][];
+        int from = 0;
+        for (int i = 0; i < serialized.length; i++) {
+            ChatMessage message = messages.get(i);
+            // messages are usually appended and removed from the beginning, so the search resumes after the last match
+            int j = from;
+            while (j < known.length && known[j].get() != message) {
+                j++;
+            }
+            if (j < known.length) {
+                serialized[i] = previous.messages[j];
+                from = j + 1;
+            } else {
+                serialized[i] = serialize(message);
+            }
+        }
+        return serialized;
+    }
+
+    private void expire(long now) {
+        if (idleTimeoutNanos == Long.MAX_VALUE) {
+            return;
+        }
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (now - entry.lastAccess < idleTimeoutNanos) {
+                // entries are ordered by access, the following ones have been used more recently
+                break;
+            }
+            remove(it, entry, EvictionCause.IDLE);
+        }
+    }
+
+    private void evict(Object justUpdated) {
+        Iterator<Map.Entry<Object, Entry>> it = entries.entrySet().iterator();
+        while ((entries.size() > maxSessions || bytes > maxBytes) && it.hasNext()) {
+            Map.Entry<Object, Entry> eldest = it.next();
+            if (eldest.getKey().equals(justUpdated)) {
+                // a single conversation larger than the limit is kept until another one is updated
+                break;
+            }
+            remove(it, eldest.getValue(), entries.size() > maxSessions ? EvictionCause.SIZE : EvictionCause.MEMORY);
+        }
+    }
+
+    private void remove(Iterator<?> it, Entry entry, EvictionCause cause) {
+        it.remove();
+        bytes -= entry.bytes;
+        evictions[cause.ordinal()].incrementAndGet();
+    }
+
+    private static byte[] serialize(ChatMessage message) {
+        try {
+            return QuarkusJsonCodecFactory.ObjectMapperHolder.MAPPER.writeValueAsBytes(message);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ChatMessage deserialize(byte[] message) {
+        try {
+            return QuarkusJsonCodecFactory.ObjectMapperHolder.MAPPER.readValue(message, ChatMessage.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Entry {
+        private final byte[][] messages;
+        private final long bytes;
+        private long lastAccess;
+        // the messages last returned or received, as long as they are used elsewhere, a cleared reference being
+        // replaced by any thread reading the message again
+        private final WeakReference<ChatMessage>[] decoded;
+
+        @SuppressWarnings("unchecked")
+        private Entry(byte[][] messages, List<ChatMessage> decoded, long lastAccess) {
+            this.messages = messages.length == 0 ? NO_MESSAGES : messages;
+            this.decoded = new WeakReference[messages.length];
+            long size = ENTRY_OVERHEAD;
+            for (int i = 0; i < messages.length; i++) {
+                size += messages[i].length + MESSAGE_OVERHEAD;
+                this.decoded[i] = new WeakReference<>(decoded.get(i));
+            }
+            this.bytes = size;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    public static class Builder {
+
+        private int maxSessions = Integer.MAX_VALUE;
+        private long maxBytes = Long.MAX_VALUE;
+        private Duration idleTimeout;
+
+        /**
+         * The maximum number of conversations kept by the store
+         */
+        public Builder maxSessions(int maxSessions) {
+            this.maxSessions = maxSessions;
+            return this;
+        }
+
+        /**
+         * The maximum number of bytes used by the stored messages
+         */
+        public Builder maxBytes(long maxBytes) {
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * How long a conversation is kept after it was last read or updated, {@code null} or zero to keep it until it is
+         * evicted because of the other bounds
+         */
+        public Builder idleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        public BoundedInMemoryChatMemoryStore build() {
+            return new BoundedInMemoryChatMemoryStore(this);
+        }
+    }
+}
@@ -0,0 +1,371 @@
+package io.quarkiverse.langchain4j.store;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * Hierarchical Navigable Small World graph over the vectors of a {@link Vectors}.
+ * <p>
+ * The bottom layer, which contains every node, is kept in a direct {@link IntBuffer} with a fixed stride per node so that
+ * millions of nodes don't translate into millions of small {@code int[]} on the heap. Upper layers only contain a small
+ * fraction of the nodes (roughly {@code 1/m}) and are kept in a regular map.
+ * <p>
+ * This class is not thread safe, {@link OffHeapEmbeddingStore} guards it with a read/write lock.
+ *
+ * @see <a href="https://arxiv.org/abs/1603.09320">Efficient and robust approximate nearest neighbor search using
+ *      Hierarchical Navigable Small World graphs</a>
+ */
+final class HnswIndex {
+
+    private static final ThreadLocal<Visited> VISITED = new ThreadLocal<>() {
+        @Override
+        protected Visited initialValue() {
+            return new Visited();
+        }
+    };
+
+    private final Vectors vectors;
+    private final int m;
+    private final int maxConnections0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    // a fixed seed keeps the graph reproducible for the same insertion order
+    private final Random random = new Random(42);
+    private final Map<Integer, int[][]> upperLayers = new HashMap<>();
+    private IntBuffer layer0;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    HnswIndex(Vectors vectors, int m, int efConstruction) {
+        if (m < 2) {
+            throw new IllegalArgumentException("The HNSW 'm' parameter must be at least 2");
+        }
+        this.vectors = vectors;
+        this.m = m;
+        this.maxConnections0 = 2 * m;
+        this.efConstruction = Math.max(efConstruction, m);
+        this.levelMultiplier = 1 / Math.log(m);
+        this.layer0 = allocate(1024);
+    }
+
+    /**
+     * Restores a graph that was previously persisted. The bottom layer may be read-only, it is copied before the first
+     * insertion.
+     */
+    HnswIndex(Vectors vectors, int m, int efConstruction, IntBuffer layer0, Map<Integer, int[][]> upperLayers,
+            int entryPoint, int maxLevel) {
+        this(vectors, m, efConstruction);
+        this.layer0 = layer0;
+        this.upperLayers.putAll(upperLayers);
+        this.entryPoint = entryPoint;
+        this.maxLevel = maxLevel;
+    }
+
+    /**
+     * @return a graph sharing the links of this one, but navigating other vectors (typically a quantized copy of the
+     *         vectors the graph was built with)
+     */
+    HnswIndex withVectors(Vectors vectors) {
+        return new HnswIndex(vectors, m, efConstruction, layer0, upperLayers, entryPoint, maxLevel);
+    }
+
+    int m() {
+        return m;
+    }
+
+    int efConstruction() {
+        return efConstruction;
+    }
+
+    int entryPoint() {
+        return entryPoint;
+    }
+
+    int maxLevel() {
+        return maxLevel;
+    }
+
+    int stride() {
+        return maxConnections0 + 1;
+    }
+
+    IntBuffer layer0() {
+        return layer0;
+    }
+
+    Map<Integer, int[][]> upperLayers() {
+        return upperLayers;
+    }
+
+    /**
+     * Links a vector that has just been appended to the underlying {@link Vectors} into the graph.
+     */
+    void add(int node) {
+        ensureCapacity(node + 1);
+        int level = (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier);
+        if (level > 0) {
+            int[][] links = new int[level][];
+            for (int i = 0; i < level; i++) {
+                links[i] = new int[m + 1];
+            }
+            upperLayers.put(node, links);
+        }
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return;
+        }
+
+        Vectors.Scorer scorer = vectors.scorer(VectorMath.normalize(vectors.get(node)));
+        ScoredNode current = new ScoredNode(entryPoint, scorer.score(entryPoint));
+        for (int l = maxLevel; l > level; l--) {
+            current = greedyClosest(scorer, current, l);
+        }
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            List<ScoredNode> candidates = searchLayer(scorer, current, efConstruction, l);
+            List<ScoredNode> neighbours = selectNeighbours(candidates, maxConnections(l));
+            int[] ids = new int[neighbours.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = neighbours.get(i).node();
+            }
+            setLinks(node, l, ids, ids.length);
+            for (ScoredNode neighbour : neighbours) {
+                connect(neighbour.node(), node, l);
+            }
+            current = candidates.get(0);
+        }
+        if (level > maxLevel) {
+            maxLevel = level;
+            entryPoint = node;
+        }
+    }
+
+    /**
+     * Returns up to {@code maxResults} approximate nearest neighbours of the query, best first.
+     */
+    List<ScoredNode> search(Vectors.Scorer scorer, int maxResults, int ef) {
+        if (entryPoint < 0) {
+            return List.of();
+        }
+        ScoredNode current = new ScoredNode(entryPoint, scorer.score(entryPoint));
+        for (int l = maxLevel; l > 0; l--) {
+            current = greedyClosest(scorer, current, l);
+        }
+        List<ScoredNode> result = searchLayer(scorer, current, Math.max(ef, maxResults), 0);
+        return result.size() > maxResults ? result.subList(0, maxResults) : result;
+    }
+
+    private ScoredNode greedyClosest(Vectors.Scorer scorer, ScoredNode start, int level) {
+        ScoredNode current = start;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            int count = linkCount(current.node(), level);
+            for (int i = 0; i < count; i++) {
+                int candidate = link(current.node(), level, i);
+                float score = scorer.score(candidate);
+                if (score > current.score()) {
+                    current = new ScoredNode(candidate, score);
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    private List<ScoredNode> searchLayer(Vectors.Scorer scorer, ScoredNode entry, int ef, int level) {
+        Visited visited = VISITED.get();
+        visited.add(entry.node());
+        PriorityQueue<ScoredNode> candidates = new PriorityQueue<>(ScoredNode.BEST_FIRST);
+        PriorityQueue<ScoredNode> results = new PriorityQueue<>(ScoredNode.WORST_FIRST);
+        candidates.add(entry);
+        results.add(entry);
+        try {
+            while (!candidates.isEmpty()) {
+                ScoredNode closest = candidates.poll();
+                if (results.size() >= ef && closest.score() < results.peek().score()) {
+                    break;
+                }
+                int count = linkCount(closest.node(), level);
+                for (int i = 0; i < count; i++) {
+                    int neighbour = link(closest.node(), level, i);
+                    if (!visited.add(neighbour)) {
+                        continue;
+                    }
+                    float score = scorer.score(neighbour);
+                    if (results.size() < ef || score > results.peek().score()) {
+                        ScoredNode scored = new ScoredNode(neighbour, score);
+                        candidates.add(scored);
+                        results.add(scored);
+                        if (results.size() > ef) {
+                            results.poll();
+                        }
+                    }
+                }
+            }
+        } finally {
+            visited.clear();
+        }
+        List<ScoredNode> sorted = new ArrayList<>(results);
+        sorted.sort(ScoredNode.BEST_FIRST);
+        return sorted;
+    }
+
+    /**
+     * The neighbour selection heuristic of the HNSW paper: a candidate is only kept if it is closer to the base node than
+     * to any neighbour already selected, which keeps links spread out in different directions.
+     * Remaining slots are filled with the closest discarded candidates.
+     */
+    private List<ScoredNode> selectNeighbours(List<ScoredNode> sortedCandidates, int max) {
+        if (sortedCandidates.size() <= max) {
+            return sortedCandidates;
+        }
+        List<ScoredNode> selected = new ArrayList<>(max);
+        List<ScoredNode> discarded = new ArrayList<>();
+        for (ScoredNode candidate : sortedCandidates) {
+            if (selected.size() == max) {
+                break;
+            }
+            boolean keep = true;
+            for (ScoredNode other : selected) {
+                if (vectors.cosine(candidate.node(), other.node()) > candidate.score()) {
+                    keep = false;
+                    break;
+                }
+            }
+            if (keep) {
+                selected.add(candidate);
+            } else {
+                discarded.add(candidate);
+            }
+        }
+        for (int i = 0; i < discarded.size() && selected.size() < max; i++) {
+            selected.add(discarded.get(i));
+        }
+        return selected;
+    }
+
+    private void connect(int from, int to, int level) {
+        int count = linkCount(from, level);
+        int max = maxConnections(level);
+        if (count < max) {
+            setLink(from, level, count, to);
+            setLinkCount(from, level, count + 1);
+            return;
+        }
+        List<ScoredNode> candidates = new ArrayList<>(count + 1);
+        for (int i = 0; i < count; i++) {
+            int neighbour = link(from, level, i);
+            candidates.add(new ScoredNode(neighbour, vectors.cosine(from, neighbour)));
+        }
+        candidates.add(new ScoredNode(to, vectors.cosine(from, to)));
+        candidates.sort(ScoredNode.BEST_FIRST);
+        List<ScoredNode> kept = selectNeighbours(candidates, max);
+        int[] ids = new int[kept.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = kept.get(i).node();
+        }
+        setLinks(from, level, ids, ids.length);
+    }
+
+    private int maxConnections(int level) {
+        return level == 0 ? maxConnections0 : m;
+    }
+
+    private int linkCount(int node, int level) {
+        if (level == 0) {
+            return layer0.get(node * stride());
+        }
+        return upperLayers.get(node)[level - 1][0];
+    }
+
+    private int link(int node, int level, int i) {
+        if (level == 0) {
+            return layer0.get(node * stride() + 1 + i);
+        }
+        return upperLayers.get(node)[level - 1][1 + i];
+    }
+
+    private void setLinkCount(int node, int level, int count) {
+        if (level == 0) {
+            layer0.put(node * stride(), count);
+        } else {
+            upperLayers.get(node)[level - 1][0] = count;
+        }
+    }
+
+    private void setLink(int node, int level, int i, int target) {
+        if (level == 0) {
+            layer0.put(node * stride() + 1 + i, target);
+        } else {
+            upperLayers.get(node)[level - 1][1 + i] = target;
+        }
+    }
+
+    private void setLinks(int node, int level, int[] targets, int count) {
+        for (int i = 0; i < count; i++) {
+            setLink(node, level, i, targets[i]);
+        }
+        setLinkCount(node, level, count);
+    }
+
+    private void ensureCapacity(int nodes) {
+        int capacity = layer0.capacity() / stride();
+        if (nodes <= capacity && !layer0.isReadOnly()) {
+            return;
+        }
+        long newCapacity = Math.max(nodes, (long) capacity * 2);
+        if (newCapacity * stride() * Integer.BYTES > Integer.MAX_VALUE) {
+            newCapacity = Integer.MAX_VALUE / ((long) stride() * Integer.BYTES);
+            if (newCapacity < nodes) {
+                throw new IllegalStateException("The HNSW index cannot hold more than " + newCapacity + " vectors");
+            }
+        }
+        IntBuffer grown = allocate((int) newCapacity);
+        grown.put(0, layer0, 0, layer0.capacity());
+        layer0 = grown;
+    }
+
+    private IntBuffer allocate(int nodes) {
+        return ByteBuffer.allocateDirect(nodes * stride() * Integer.BYTES)
+                .order(ByteOrder.nativeOrder())
+                .asIntBuffer();
+    }
+
+    /**
+     * Visited set reused across searches of the same thread, only the bits that were set are cleared afterwards
+     */
+    private static final class Visited {
+        private final BitSet bits = new BitSet();
+        private int[] touched = new int[256];
+        private int size;
+
+        boolean add(int node) {
+            if (bits.get(node)) {
+                return false;
+            }
+            bits.set(node);
+            if (size == touched.length) {
+                touched = Arrays.copyOf(touched, size * 2);
+            }
+            touched[size++] = node;
+            return true;
+        }
+
+        void clear() {
+            for (int i = 0; i < size; i++) {
+                bits.clear(touched[i]);
+            }
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.quarkiverse.langchain4j.store;
+
+import java.util.Arrays;
+
+/**
+ * Vectors quantized to one signed byte per component with {@link ScalarQuantizer}, which divides the memory footprint by
+ * 4.
+ * <p>
+ * Queries are not quantized (asymmetric distance), so the only error comes from the stored vectors.
+ */
+final class Int8Vectors implements Vectors {
+
+    private final int dimension;
+    private final OffHeapCodes codes;
+    private float[] scales = new float[1024];
+    // inverse norm of the codes themselves, the scale cancels out when computing a cosine similarity
+    private float[] inverseNorms = new float[1024];
+
+    Int8Vectors(int dimension) {
+        this.dimension = dimension;
+        this.codes = new OffHeapCodes(dimension);
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public int size() {
+        return codes.size();
+    }
+
+    @Override
+    public int add(float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException(
+                    "Expected an embedding of dimension " + dimension + " but got one of dimension " + vector.length);
+        }
+        byte[] code = new byte[dimension];
+        float scale = ScalarQuantizer.quantize(vector, code);
+        int index = codes.add(code);
+        if (index == scales.length) {
+            scales = Arrays.copyOf(scales, index * 2);
+            inverseNorms = Arrays.copyOf(inverseNorms, index * 2);
+        }
+        scales[index] = scale;
+        long squares = 0;
+        for (byte value : code) {
+            squares += value * value;
+        }
+        inverseNorms[index] = squares == 0 ? 0 : (float) (1 / Math.sqrt(squares));
+        return index;
+    }
+
+    @Override
+    public float[] get(int index) {
+        byte[] code = new byte[dimension];
+        codes.get(index, code);
+        float[] vector = new float[dimension];
+        ScalarQuantizer.dequantize(code, scales[index], vector);
+        return vector;
+    }
+
+    @Override
+    public float cosine(int first, int second) {
+        return VectorMath.dot(codes.segment(first), codes.offset(first), codes.segment(second), codes.offset(second),
+                dimension) * inverseNorms[first] * inverseNorms[second];
+    }
+
+    @Override
+    public Scorer scorer(float[] normalizedQuery) {
+        return new Scorer() {
+            @Override
+            public float score(int index) {
+                return VectorMath.dot(codes.segment(index), codes.offset(index), normalizedQuery) * inverseNorms[index];
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package io.quarkiverse.langchain4j.store;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only storage of fixed size byte codes held in direct (off-heap) buffers, laid out the same way as
+ * {@link OffHeapVectors}.
+ */
+final class OffHeapCodes {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int codeSize;
+    private final int codesPerSegment;
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private int size;
+
+    OffHeapCodes(int codeSize) {
+        this.codeSize = codeSize;
+        this.codesPerSegment = Math.max(1, OffHeapVectors.SEGMENT_BYTES / codeSize);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int add(byte[] code) {
+        int index = size;
+        int segmentIndex = index / codesPerSegment;
+        int positionInSegment = index % codesPerSegment;
+        if (segmentIndex == segments.size()) {
+            segments.add(ByteBuffer.allocateDirect(Math.min(INITIAL_CAPACITY, codesPerSegment) * codeSize));
+        }
+        ByteBuffer segment = segments.get(segmentIndex);
+        if (positionInSegment == segment.capacity() / codeSize) {
+            ByteBuffer grown = ByteBuffer.allocateDirect(Math.min(positionInSegment * 2, codesPerSegment) * codeSize);
+            grown.put(0, segment, 0, segment.capacity());
+            segments.set(segmentIndex, grown);
+            segment = grown;
+        }
+        segment.put(positionInSegment * codeSize, code);
+        size++;
+        return index;
+    }
+
+    ByteBuffer segment(int index) {
+        return segments.get(index / codesPerSegment);
+    }
+
+    int offset(int index) {
+        return (index % codesPerSegment) * codeSize;
+    }
+
+    void get(int index, byte[] code) {
+        segment(index).get(offset(index), code);
+    }
+}
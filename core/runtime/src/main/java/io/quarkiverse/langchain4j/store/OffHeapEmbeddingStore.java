@@ -0,0 +1,512 @@
+package io.quarkiverse.langchain4j.store;
+
+import static dev.langchain4j.internal.Utils.randomUUID;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.RelevanceScore;
+
+/**
+ * An {@link EmbeddingStore} that keeps all the vectors in the application process, without requiring an external vector
+ * database.
+ * <p>
+ * Unlike {@link dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore}, vectors are not kept as individual
+ * {@link Embedding} objects but are copied into contiguous direct buffers, so a store holding millions of vectors does not
+ * put any pressure on the garbage collector. Searches are either performed by scanning all the vectors (split across the
+ * {@link ForkJoinPool#commonPool() common pool} when the store is large enough) or by walking an HNSW graph which trades a
+ * little recall for sub-linear search time.
+ * <p>
+ * The similarity used is the cosine similarity, reported as a relevance score the same way
+ * {@link RelevanceScore#fromCosineSimilarity(double)} does.
+ * <p>
+ * Vectors can optionally be {@link Quantization quantized} to shrink the memory footprint of the store by 4 to 32 times.
+ * Searches then navigate the quantized vectors, and when {@link Builder#rerank(boolean) re-ranking} is enabled, the best
+ * candidates are re-scored using the full precision vectors.
+ * <p>
+ * The content of the store can be saved with {@link #writeSnapshot(Path)} and loaded back with
+ * {@link Builder#snapshot(Path)}. Loading a snapshot memory-maps the file instead of parsing it, so it is almost
+ * instantaneous regardless of the size of the store.
+ */
+public class OffHeapEmbeddingStore implements EmbeddingStore<TextSegment> {
+
+    public enum Index {
+        /**
+         * Exact search, every vector is scored for every query
+         */
+        FLAT,
+        /**
+         * Approximate search using a Hierarchical Navigable Small World graph
+         */
+        HNSW
+    }
+
+    public enum Quantization {
+        /**
+         * Vectors are stored as 32 bits floats
+         */
+        NONE,
+        /**
+         * Vectors are stored with one signed byte per component, dividing the memory footprint by 4
+         */
+        INT8,
+        /**
+         * Vectors are stored using product quantization, with one byte per subspace. With the default of 8 components per
+         * subspace, this divides the memory footprint by 32
+         */
+        PQ
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Index index;
+    private final int m;
+    private final int efConstruction;
+    private final int efSearch;
+    private final int parallelScanThreshold;
+    private final Quantization quantization;
+    private final boolean rerank;
+    private final int rerankOversampling;
+    private final Integer pqSubspaces;
+    private final int pqTrainingSize;
+
+    // entries loaded from a snapshot are decoded lazily from the snapshot, only the ones added later are kept here
+    private final List<String> ids = new ArrayList<>();
+    private final List<TextSegment> embedded = new ArrayList<>();
+    private OffHeapEmbeddingStoreSnapshot.Records snapshotRecords;
+    // the vectors searches are performed on, quantized or not
+    private Vectors vectors;
+    // full precision vectors, the same instance as vectors when there is no quantization and null when they are not kept
+    private OffHeapVectors fullPrecision;
+    private HnswIndex hnsw;
+
+    private OffHeapEmbeddingStore(Builder builder) {
+        this.index = builder.index;
+        this.m = builder.m;
+        this.efConstruction = builder.efConstruction;
+        this.efSearch = builder.efSearch;
+        this.parallelScanThreshold = Math.max(1, builder.parallelScanThreshold);
+        this.quantization = builder.quantization;
+        this.rerank = builder.rerank;
+        this.rerankOversampling = Math.max(1, builder.rerankOversampling);
+        this.pqSubspaces = builder.pqSubspaces;
+        this.pqTrainingSize = builder.pqTrainingSize;
+        if (builder.snapshot != null) {
+            OffHeapEmbeddingStoreSnapshot.read(this, builder.snapshot);
+        }
+        if (vectors == null && builder.dimension != null) {
+            initialize(builder.dimension);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public String add(Embedding embedding) {
+        String id = randomUUID();
+        add(id, embedding);
+        return id;
+    }
+
+    @Override
+    public void add(String id, Embedding embedding) {
+        add(id, embedding, null);
+    }
+
+    @Override
+    public String add(Embedding embedding, TextSegment textSegment) {
+        String id = randomUUID();
+        add(id, embedding, textSegment);
+        return id;
+    }
+
+    @Override
+    public List<String> addAll(List<Embedding> embeddings) {
+        return addAll(embeddings, null);
+    }
+
+    @Override
+    public List<String> addAll(List<Embedding> embeddings, List<TextSegment> textSegments) {
+        if (textSegments != null && embeddings.size() != textSegments.size()) {
+            throw new IllegalArgumentException("The list of embeddings and embedded must have the same size");
+        }
+        List<String> result = new ArrayList<>(embeddings.size());
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < embeddings.size(); i++) {
+                String id = randomUUID();
+                doAdd(id, embeddings.get(i), textSegments == null ? null : textSegments.get(i));
+                result.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return result;
+    }
+
+    @Override
+    public List<EmbeddingMatch<TextSegment>> findRelevant(Embedding referenceEmbedding, int maxResults, double minScore) {
+        lock.readLock().lock();
+        try {
+            if (vectors == null || vectors.size() == 0 || maxResults <= 0) {
+                return List.of();
+            }
+            float[] query = VectorMath.normalize(referenceEmbedding.vector());
+            if (query.length != vectors.dimension()) {
+                throw new IllegalArgumentException("Expected an embedding of dimension " + vectors.dimension()
+                        + " but got one of dimension " + query.length);
+            }
+            boolean rescore = fullPrecision != null && fullPrecision != vectors;
+            int candidates = rescore ? (int) Math.min(Integer.MAX_VALUE, (long) maxResults * rerankOversampling) : maxResults;
+            Vectors.Scorer scorer = vectors.scorer(query);
+            List<ScoredNode> nearest = hnsw != null ? hnsw.search(scorer, candidates, efSearch) : scan(scorer, candidates);
+            if (rescore) {
+                nearest = rescore(nearest, query, maxResults);
+            }
+
+            List<EmbeddingMatch<TextSegment>> result = new ArrayList<>(nearest.size());
+            for (ScoredNode node : nearest) {
+                double score = RelevanceScore.fromCosineSimilarity(node.score());
+                if (score < minScore) {
+                    // the nodes are sorted, so none of the remaining ones can make it either
+                    break;
+                }
+                result.add(new EmbeddingMatch<>(score, id(node.node()), Embedding.from(stored().get(node.node())),
+                        embedded(node.node())));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of embeddings held by the store
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return vectors == null ? 0 : vectors.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the content of the store to a binary snapshot that can be loaded with {@link Builder#snapshot(Path)}.
+     * The file is written to a temporary file first and then atomically moved to {@code path}.
+     */
+    public void writeSnapshot(Path path) {
+        writeSnapshot(path, false);
+    }
+
+    /**
+     * Writes the content of the store to a binary snapshot that can be loaded with {@link Builder#snapshot(Path)}.
+     *
+     * @param int8 whether the vectors should be quantized to 8 bits integers, which makes the file about 4 times smaller
+     *        at the expense of a small loss of precision and of a slower load as the vectors have to be decoded
+     */
+    public void writeSnapshot(Path path, boolean int8) {
+        lock.readLock().lock();
+        try {
+            OffHeapEmbeddingStoreSnapshot.write(this, path, int8);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the most precise vectors available
+     */
+    Vectors stored() {
+        return fullPrecision != null ? fullPrecision : vectors;
+    }
+
+    HnswIndex hnsw() {
+        return hnsw;
+    }
+
+    String id(int node) {
+        int loaded = snapshotRecords == null ? 0 : snapshotRecords.size();
+        return node < loaded ? snapshotRecords.id(node) : ids.get(node - loaded);
+    }
+
+    TextSegment embedded(int node) {
+        int loaded = snapshotRecords == null ? 0 : snapshotRecords.size();
+        return node < loaded ? snapshotRecords.embedded(node) : embedded.get(node - loaded);
+    }
+
+    void restore(OffHeapVectors loaded, HnswIndex hnsw, OffHeapEmbeddingStoreSnapshot.Records records) {
+        this.snapshotRecords = records;
+        if (quantization == Quantization.NONE) {
+            this.vectors = loaded;
+            this.fullPrecision = loaded;
+        } else {
+            // memory-mapped full precision vectors only cost page cache, they are only kept when needed for re-ranking
+            this.fullPrecision = rerank ? loaded : null;
+            this.vectors = quantized(loaded.dimension());
+            for (int node = 0; node < loaded.size(); node++) {
+                this.vectors.add(loaded.get(node));
+            }
+        }
+        if (index == Index.HNSW) {
+            if (hnsw != null) {
+                this.hnsw = vectors == loaded ? hnsw : hnsw.withVectors(vectors);
+            } else {
+                // the snapshot was taken from a flat store, so the graph needs to be built
+                this.hnsw = new HnswIndex(vectors, m, efConstruction);
+                for (int node = 0; node < vectors.size(); node++) {
+                    this.hnsw.add(node);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds an embedding and the segment it was computed from under the given id
+     */
+    public void add(String id, Embedding embedding, TextSegment textSegment) {
+        lock.writeLock().lock();
+        try {
+            doAdd(id, embedding, textSegment);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void doAdd(String id, Embedding embedding, TextSegment textSegment) {
+        if (vectors == null) {
+            initialize(embedding.dimension());
+        }
+        int node = vectors.add(embedding.vector());
+        if (fullPrecision != null && fullPrecision != vectors) {
+            fullPrecision.add(embedding.vector());
+        }
+        ids.add(id);
+        embedded.add(textSegment);
+        if (hnsw != null) {
+            hnsw.add(node);
+        }
+    }
+
+    private void initialize(int dimension) {
+        fullPrecision = quantization == Quantization.NONE || rerank ? new OffHeapVectors(dimension) : null;
+        vectors = quantization == Quantization.NONE ? fullPrecision : quantized(dimension);
+        if (index == Index.HNSW) {
+            hnsw = new HnswIndex(vectors, m, efConstruction);
+        }
+    }
+
+    private Vectors quantized(int dimension) {
+        switch (quantization) {
+            case INT8:
+                return new Int8Vectors(dimension);
+            case PQ:
+                return new PqVectors(dimension, pqSubspaces != null ? pqSubspaces : defaultSubspaces(dimension),
+                        pqTrainingSize);
+            default:
+                throw new IllegalStateException("Unexpected quantization " + quantization);
+        }
+    }
+
+    /**
+     * Aims for subspaces of 8 components, the largest number of subspaces dividing the dimension is used otherwise
+     */
+    private static int defaultSubspaces(int dimension) {
+        for (int subspaces = dimension / 8; subspaces > 1; subspaces--) {
+            if (dimension % subspaces == 0) {
+                return subspaces;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Re-scores the candidates found using the quantized vectors with the full precision ones
+     */
+    private List<ScoredNode> rescore(List<ScoredNode> candidates, float[] query, int maxResults) {
+        Vectors.Scorer scorer = fullPrecision.scorer(query);
+        List<ScoredNode> rescored = new ArrayList<>(candidates.size());
+        for (ScoredNode candidate : candidates) {
+            rescored.add(new ScoredNode(candidate.node(), scorer.score(candidate.node())));
+        }
+        rescored.sort(ScoredNode.BEST_FIRST);
+        return rescored.size() > maxResults ? rescored.subList(0, maxResults) : rescored;
+    }
+
+    private List<ScoredNode> scan(Vectors.Scorer scorer, int maxResults) {
+        ScanTask task = new ScanTask(scorer, maxResults, 0, vectors.size(), parallelScanThreshold);
+        PriorityQueue<ScoredNode> top = vectors.size() <= parallelScanThreshold ? task.compute()
+                : ForkJoinPool.commonPool().invoke(task);
+        List<ScoredNode> sorted = new ArrayList<>(top);
+        sorted.sort(ScoredNode.BEST_FIRST);
+        return sorted;
+    }
+
+    /**
+     * Scores a range of vectors, splitting it in two halves that run in parallel until it is small enough.
+     * Each leaf keeps its own bounded heap so that no synchronization is needed, heaps are merged on the way up.
+     */
+    private static final class ScanTask extends RecursiveTask<PriorityQueue<ScoredNode>> {
+
+        private final Vectors.Scorer scorer;
+        private final int maxResults;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        ScanTask(Vectors.Scorer scorer, int maxResults, int from, int to, int threshold) {
+            this.scorer = scorer;
+            this.maxResults = maxResults;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected PriorityQueue<ScoredNode> compute() {
+            if (to - from <= threshold) {
+                PriorityQueue<ScoredNode> top = new PriorityQueue<>(maxResults + 1, ScoredNode.WORST_FIRST);
+                for (int i = from; i < to; i++) {
+                    float score = scorer.score(i);
+                    if (top.size() < maxResults) {
+                        top.add(new ScoredNode(i, score));
+                    } else if (score > top.peek().score()) {
+                        top.poll();
+                        top.add(new ScoredNode(i, score));
+                    }
+                }
+                return top;
+            }
+            int middle = (from + to) >>> 1;
+            ScanTask left = new ScanTask(scorer, maxResults, from, middle, threshold);
+            ScanTask right = new ScanTask(scorer, maxResults, middle, to, threshold);
+            left.fork();
+            PriorityQueue<ScoredNode> result = right.compute();
+            for (ScoredNode node : left.join()) {
+                if (result.size() < maxResults) {
+                    result.add(node);
+                } else if (node.score() > result.peek().score()) {
+                    result.poll();
+                    result.add(node);
+                }
+            }
+            return result;
+        }
+    }
+
+    public static final class Builder {
+        private Index index = Index.HNSW;
+        private Integer dimension;
+        private int m = 16;
+        private int efConstruction = 200;
+        private int efSearch = 64;
+        private int parallelScanThreshold = 16384;
+        private Path snapshot;
+        private Quantization quantization = Quantization.NONE;
+        private boolean rerank;
+        private int rerankOversampling = 4;
+        private Integer pqSubspaces;
+        private int pqTrainingSize = 4096;
+
+        private Builder() {
+        }
+
+        /**
+         * A snapshot previously written with {@link OffHeapEmbeddingStore#writeSnapshot(Path)} that the store is initialized
+         * with. If the snapshot contains an HNSW graph, it is used as-is and the {@code m} and {@code efConstruction}
+         * parameters of the snapshot take precedence over the ones of this builder.
+         */
+        public Builder snapshot(Path snapshot) {
+            this.snapshot = snapshot;
+            return this;
+        }
+
+        public Builder index(Index index) {
+            this.index = index;
+            return this;
+        }
+
+        /**
+         * The dimension of the vectors. If not set, it is inferred from the first embedding that is added to the store
+         */
+        public Builder dimension(Integer dimension) {
+            this.dimension = dimension;
+            return this;
+        }
+
+        public Builder m(int m) {
+            this.m = m;
+            return this;
+        }
+
+        public Builder efConstruction(int efConstruction) {
+            this.efConstruction = efConstruction;
+            return this;
+        }
+
+        public Builder efSearch(int efSearch) {
+            this.efSearch = efSearch;
+            return this;
+        }
+
+        public Builder parallelScanThreshold(int parallelScanThreshold) {
+            this.parallelScanThreshold = parallelScanThreshold;
+            return this;
+        }
+
+        public Builder quantization(Quantization quantization) {
+            this.quantization = quantization;
+            return this;
+        }
+
+        /**
+         * Whether the full precision vectors should be kept alongside the quantized ones, in order to re-score the best
+         * candidates of a search. This improves the accuracy of the results, at the expense of memory
+         */
+        public Builder rerank(boolean rerank) {
+            this.rerank = rerank;
+            return this;
+        }
+
+        /**
+         * When re-ranking, how many candidates are retrieved with the quantized vectors for each requested result
+         */
+        public Builder rerankOversampling(int rerankOversampling) {
+            this.rerankOversampling = rerankOversampling;
+            return this;
+        }
+
+        /**
+         * The number of subspaces of the product quantization, which must divide the dimension of the vectors. Each vector
+         * takes one byte per subspace. Defaults to a subspace per 8 components
+         */
+        public Builder pqSubspaces(Integer pqSubspaces) {
+            this.pqSubspaces = pqSubspaces;
+            return this;
+        }
+
+        /**
+         * The number of vectors the product quantizer is trained with. Until that many vectors have been added, vectors
+         * are kept in full precision
+         */
+        public Builder pqTrainingSize(int pqTrainingSize) {
+            this.pqTrainingSize = pqTrainingSize;
+            return this;
+        }
+
+        public OffHeapEmbeddingStore build() {
+            return new OffHeapEmbeddingStore(this);
+        }
+    }
+}
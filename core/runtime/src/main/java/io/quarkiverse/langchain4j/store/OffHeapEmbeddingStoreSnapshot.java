@@ -0,0 +1,460 @@
+package io.quarkiverse.langchain4j.store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.segment.TextSegment;
+
+/**
+ * Reads and writes the binary snapshot format of {@link OffHeapEmbeddingStore}.
+ * <p>
+ * All values are little endian. The file is made of:
+ * <ul>
+ * <li>a fixed size header (magic, version, flags, dimension, count and the offsets of the blocks that follow)</li>
+ * <li>the vectors, either as float32 values or as int8 codes followed by one float32 scale per vector</li>
+ * <li>the inverse norm of each vector</li>
+ * <li>a table of {@code count + 1} offsets into the record block</li>
+ * <li>the record block: for each entry its id, text and metadata</li>
+ * <li>optionally, the HNSW graph</li>
+ * </ul>
+ * Blocks are aligned on 64 bytes. When loading, float32 vectors, the offsets table, the records and the bottom layer of the
+ * graph are not read but memory-mapped, which means a store of millions of vectors is ready to serve requests as soon as
+ * the file is opened. Mappings are read-only: if the store is appended to, the last vector segment and the graph are copied
+ * to regular direct buffers first.
+ */
+final class OffHeapEmbeddingStoreSnapshot {
+
+    private static final int MAGIC = 0x4A344C51; // "QL4J"
+    private static final int VERSION = 1;
+    private static final int FLAG_INT8 = 1;
+    private static final int FLAG_HNSW = 1 << 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int ALIGNMENT = 64;
+    // records are mapped in windows so that the record block is not limited to 2GB
+    private static final long RECORD_WINDOW_BYTES = 1L << 30;
+
+    private OffHeapEmbeddingStoreSnapshot() {
+    }
+
+    static void write(OffHeapEmbeddingStore store, Path path, boolean int8) {
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            doWrite(store, new Output(channel), int8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write embedding store snapshot to " + path, e);
+        }
+        try {
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write embedding store snapshot to " + path, e);
+        }
+    }
+
+    private static void doWrite(OffHeapEmbeddingStore store, Output out, boolean int8) throws IOException {
+        Vectors vectors = store.stored();
+        HnswIndex hnsw = store.hnsw();
+        int count = vectors == null ? 0 : vectors.size();
+        int dimension = vectors == null ? 0 : vectors.dimension();
+        int flags = (int8 ? FLAG_INT8 : 0) | (hnsw != null ? FLAG_HNSW : 0);
+
+        // the header is written last, once all the offsets are known
+        out.skip(HEADER_SIZE);
+
+        out.align();
+        long vectorsOffset = out.position();
+        float[] inverseNorms = new float[count];
+        if (int8) {
+            float[] scales = new float[count];
+            byte[] codes = new byte[dimension];
+            for (int i = 0; i < count; i++) {
+                float[] vector = vectors.get(i);
+                inverseNorms[i] = VectorMath.inverseNorm(vector);
+                scales[i] = ScalarQuantizer.quantize(vector, codes);
+                out.putBytes(codes);
+            }
+            for (float scale : scales) {
+                out.putFloat(scale);
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                float[] vector = vectors.get(i);
+                inverseNorms[i] = VectorMath.inverseNorm(vector);
+                for (float value : vector) {
+                    out.putFloat(value);
+                }
+            }
+        }
+
+        out.align();
+        long normsOffset = out.position();
+        for (float inverseNorm : inverseNorms) {
+            out.putFloat(inverseNorm);
+        }
+
+        // the record offsets are only known once the records have been written, so compute them upfront
+        byte[][] records = new byte[count][];
+        long[] recordOffsets = new long[count + 1];
+        for (int i = 0; i < count; i++) {
+            records[i] = encodeRecord(store.id(i), store.embedded(i));
+            recordOffsets[i + 1] = recordOffsets[i] + records[i].length;
+        }
+        out.align();
+        long recordOffsetsOffset = out.position();
+        for (long offset : recordOffsets) {
+            out.putLong(offset);
+        }
+        out.align();
+        long recordsOffset = out.position();
+        for (byte[] record : records) {
+            out.putBytes(record);
+        }
+
+        long graphOffset = 0;
+        if (hnsw != null) {
+            out.align();
+            graphOffset = out.position();
+            out.putInt(hnsw.m());
+            out.putInt(hnsw.efConstruction());
+            out.putInt(hnsw.entryPoint());
+            out.putInt(hnsw.maxLevel());
+            out.align();
+            IntBuffer layer0 = hnsw.layer0();
+            int layer0Size = count * hnsw.stride();
+            for (int i = 0; i < layer0Size; i++) {
+                out.putInt(layer0.get(i));
+            }
+            Map<Integer, int[][]> upperLayers = hnsw.upperLayers();
+            out.putInt(upperLayers.size());
+            for (Map.Entry<Integer, int[][]> entry : upperLayers.entrySet()) {
+                out.putInt(entry.getKey());
+                out.putInt(entry.getValue().length);
+                for (int[] links : entry.getValue()) {
+                    for (int link : links) {
+                        out.putInt(link);
+                    }
+                }
+            }
+        }
+        out.flush();
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(flags)
+                .putInt(dimension)
+                .putInt(count)
+                .putLong(vectorsOffset)
+                .putLong(normsOffset)
+                .putLong(recordOffsetsOffset)
+                .putLong(recordsOffset)
+                .putLong(graphOffset);
+        header.rewind();
+        out.channel.write(header, 0);
+    }
+
+    static void read(OffHeapEmbeddingStore store, Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            doRead(store, channel);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read embedding store snapshot from " + path, e);
+        }
+    }
+
+    private static void doRead(OffHeapEmbeddingStore store, FileChannel channel) throws IOException {
+        ByteBuffer header = map(channel, 0, HEADER_SIZE);
+        if (header.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not an embedding store snapshot");
+        }
+        if (header.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported embedding store snapshot version " + header.getInt(4));
+        }
+        int flags = header.getInt(8);
+        int dimension = header.getInt(12);
+        int count = header.getInt(16);
+        long vectorsOffset = header.getLong(20);
+        long normsOffset = header.getLong(28);
+        long recordOffsetsOffset = header.getLong(36);
+        long recordsOffset = header.getLong(44);
+        long graphOffset = header.getLong(52);
+        if (count == 0) {
+            return;
+        }
+
+        OffHeapVectors vectors;
+        if ((flags & FLAG_INT8) != 0) {
+            // the codes and the scales are mapped in segments, as a single mapping is limited to 2GB
+            long scalesOffset = vectorsOffset + (long) count * dimension;
+            int vectorsPerSegment = OffHeapVectors.vectorsPerSegment(dimension);
+            vectors = new OffHeapVectors(dimension);
+            byte[] code = new byte[dimension];
+            float[] vector = new float[dimension];
+            for (int start = 0; start < count; start += vectorsPerSegment) {
+                int size = Math.min(vectorsPerSegment, count - start);
+                ByteBuffer codes = map(channel, vectorsOffset + (long) start * dimension, (long) size * dimension);
+                FloatBuffer scales = map(channel, scalesOffset + (long) start * Float.BYTES, (long) size * Float.BYTES)
+                        .asFloatBuffer();
+                for (int i = 0; i < size; i++) {
+                    codes.get(i * dimension, code);
+                    ScalarQuantizer.dequantize(code, scales.get(i), vector);
+                    vectors.add(vector);
+                }
+            }
+        } else {
+            int vectorsPerSegment = OffHeapVectors.vectorsPerSegment(dimension);
+            List<FloatBuffer> segments = new ArrayList<>();
+            for (int start = 0; start < count; start += vectorsPerSegment) {
+                int size = Math.min(vectorsPerSegment, count - start);
+                long position = vectorsOffset + (long) start * dimension * Float.BYTES;
+                segments.add(map(channel, position, (long) size * dimension * Float.BYTES).asFloatBuffer());
+            }
+            float[] inverseNorms = new float[Math.max(count, 1024)];
+            map(channel, normsOffset, (long) count * Float.BYTES).asFloatBuffer().get(inverseNorms, 0, count);
+            vectors = new OffHeapVectors(dimension, segments, inverseNorms, count);
+        }
+
+        LongBuffer recordOffsets = map(channel, recordOffsetsOffset, (long) (count + 1) * Long.BYTES).asLongBuffer();
+        Records records = new Records(channel, recordsOffset, recordOffsets, count);
+
+        HnswIndex hnsw = null;
+        if ((flags & FLAG_HNSW) != 0) {
+            ByteBuffer graphHeader = map(channel, graphOffset, 4 * Integer.BYTES);
+            int m = graphHeader.getInt(0);
+            int efConstruction = graphHeader.getInt(4);
+            int entryPoint = graphHeader.getInt(8);
+            int maxLevel = graphHeader.getInt(12);
+            long layer0Offset = align(graphOffset + 4 * Integer.BYTES);
+            int stride = 2 * m + 1;
+            long layer0Bytes = (long) count * stride * Integer.BYTES;
+            IntBuffer layer0 = map(channel, layer0Offset, layer0Bytes).asIntBuffer();
+
+            long upperOffset = layer0Offset + layer0Bytes;
+            ByteBuffer upper = map(channel, upperOffset, channel.size() - upperOffset);
+            int nodes = upper.getInt();
+            Map<Integer, int[][]> upperLayers = new HashMap<>();
+            for (int i = 0; i < nodes; i++) {
+                int node = upper.getInt();
+                int[][] links = new int[upper.getInt()][m + 1];
+                for (int[] level : links) {
+                    upper.asIntBuffer().get(level);
+                    upper.position(upper.position() + level.length * Integer.BYTES);
+                }
+                upperLayers.put(node, links);
+            }
+            hnsw = new HnswIndex(vectors, m, efConstruction, layer0, upperLayers, entryPoint, maxLevel);
+        }
+        store.restore(vectors, hnsw, records);
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long position, long size) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    private static long align(long position) {
+        return (position + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    private static byte[] encodeRecord(String id, TextSegment segment) {
+        List<byte[]> parts = new ArrayList<>();
+        parts.add(id.getBytes(StandardCharsets.UTF_8));
+        if (segment == null) {
+            parts.add(null);
+        } else {
+            parts.add(segment.text().getBytes(StandardCharsets.UTF_8));
+            for (Map.Entry<String, String> entry : segment.metadata().asMap().entrySet()) {
+                parts.add(entry.getKey().getBytes(StandardCharsets.UTF_8));
+                parts.add(entry.getValue().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        int size = Integer.BYTES; // number of parts
+        for (byte[] part : parts) {
+            size += Integer.BYTES + (part == null ? 0 : part.length);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(parts.size());
+        for (byte[] part : parts) {
+            if (part == null) {
+                buffer.putInt(-1);
+            } else {
+                buffer.putInt(part.length);
+                buffer.put(part);
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Lazily decodes the ids and text segments of a snapshot from memory-mapped windows of the record block
+     */
+    static final class Records {
+
+        private final LongBuffer offsets;
+        private final int count;
+        private final int[] windowStarts;
+        private final ByteBuffer[] windows;
+
+        private Records(FileChannel channel, long recordsOffset, LongBuffer offsets, int count) throws IOException {
+            this.offsets = offsets;
+            this.count = count;
+            List<Integer> starts = new ArrayList<>();
+            List<ByteBuffer> buffers = new ArrayList<>();
+            int start = 0;
+            while (start < count) {
+                int end = start + 1;
+                while (end < count && offsets.get(end + 1) - offsets.get(start) <= RECORD_WINDOW_BYTES) {
+                    end++;
+                }
+                starts.add(start);
+                buffers.add(map(channel, recordsOffset + offsets.get(start), offsets.get(end) - offsets.get(start)));
+                start = end;
+            }
+            this.windowStarts = starts.stream().mapToInt(Integer::intValue).toArray();
+            this.windows = buffers.toArray(new ByteBuffer[0]);
+        }
+
+        int size() {
+            return count;
+        }
+
+        String id(int index) {
+            // skip the number of parts
+            return decodeString(window(index), position(index) + Integer.BYTES);
+        }
+
+        TextSegment embedded(int index) {
+            ByteBuffer window = window(index);
+            int position = position(index);
+            int parts = window.getInt(position);
+            position += Integer.BYTES;
+            position += Integer.BYTES + window.getInt(position); // skip the id
+            if (window.getInt(position) < 0) {
+                return null;
+            }
+            String text = decodeString(window, position);
+            position += Integer.BYTES + window.getInt(position);
+            Map<String, String> metadata = new HashMap<>();
+            for (int i = 2; i < parts; i += 2) {
+                String key = decodeString(window, position);
+                position += Integer.BYTES + window.getInt(position);
+                String value = decodeString(window, position);
+                position += Integer.BYTES + window.getInt(position);
+                metadata.put(key, value);
+            }
+            return TextSegment.from(text, Metadata.from(metadata));
+        }
+
+        private ByteBuffer window(int index) {
+            return windows[windowIndex(index)];
+        }
+
+        private int position(int index) {
+            int window = windowIndex(index);
+            return (int) (offsets.get(index) - offsets.get(windowStarts[window]));
+        }
+
+        private int windowIndex(int index) {
+            int found = Arrays.binarySearch(windowStarts, index);
+            return found >= 0 ? found : -found - 2;
+        }
+
+        private static String decodeString(ByteBuffer buffer, int position) {
+            int length = buffer.getInt(position);
+            byte[] bytes = new byte[length];
+            buffer.get(position + Integer.BYTES, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Buffered little endian output that keeps track of its position in the file
+     */
+    private static final class Output {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+        private long position;
+
+        private Output(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        long position() {
+            return position;
+        }
+
+        void skip(int bytes) throws IOException {
+            for (int i = 0; i < bytes; i++) {
+                ensureRemaining(1);
+                buffer.put((byte) 0);
+            }
+            position += bytes;
+        }
+
+        void align() throws IOException {
+            skip((int) (OffHeapEmbeddingStoreSnapshot.align(position) - position));
+        }
+
+        void putInt(int value) throws IOException {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+            position += Integer.BYTES;
+        }
+
+        void putLong(long value) throws IOException {
+            ensureRemaining(Long.BYTES);
+            buffer.putLong(value);
+            position += Long.BYTES;
+        }
+
+        void putFloat(float value) throws IOException {
+            ensureRemaining(Float.BYTES);
+            buffer.putFloat(value);
+            position += Float.BYTES;
+        }
+
+        void putBytes(byte[] bytes) throws IOException {
+            int written = 0;
+            while (written < bytes.length) {
+                ensureRemaining(1);
+                int length = Math.min(buffer.remaining(), bytes.length - written);
+                buffer.put(bytes, written, length);
+                written += length;
+            }
+            position += bytes.length;
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void ensureRemaining(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+    }
+}
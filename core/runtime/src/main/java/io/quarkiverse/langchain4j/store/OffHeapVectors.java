@@ -0,0 +1,136 @@
+package io.quarkiverse.langchain4j.store;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Append-only storage of fixed dimension vectors held in direct (off-heap) buffers.
+ * <p>
+ * Vectors are laid out contiguously in segments of at most {@link #SEGMENT_BYTES} so that a single store is not limited by
+ * the 2GB addressing limit of {@link ByteBuffer}. Only the last segment grows, every other segment is full, which means
+ * that the position of a vector can be computed with a division instead of a lookup.
+ * <p>
+ * This class is not thread safe, {@link OffHeapEmbeddingStore} guards it with a read/write lock.
+ */
+final class OffHeapVectors implements Vectors {
+
+    static final int SEGMENT_BYTES = 1 << 26;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int dimension;
+    private final int vectorsPerSegment;
+    private final List<FloatBuffer> segments = new ArrayList<>();
+    private float[] inverseNorms = new float[INITIAL_CAPACITY];
+    private int size;
+
+    OffHeapVectors(int dimension) {
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("The dimension of the vectors must be positive");
+        }
+        this.dimension = dimension;
+        this.vectorsPerSegment = vectorsPerSegment(dimension);
+    }
+
+    /**
+     * Wraps existing (typically memory-mapped) segments. Every segment but the last one must hold exactly
+     * {@link #vectorsPerSegment(int)} vectors and the last one must not have any spare capacity, so that the existing
+     * segments are never written to.
+     */
+    OffHeapVectors(int dimension, List<FloatBuffer> segments, float[] inverseNorms, int size) {
+        this(dimension);
+        this.segments.addAll(segments);
+        this.inverseNorms = inverseNorms;
+        this.size = size;
+    }
+
+    static int vectorsPerSegment(int dimension) {
+        return Math.max(1, SEGMENT_BYTES / (dimension * Float.BYTES));
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int add(float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException(
+                    "Expected an embedding of dimension " + dimension + " but got one of dimension " + vector.length);
+        }
+        int index = size;
+        FloatBuffer segment = segmentForWrite(index);
+        segment.put(offset(index), vector);
+        if (index == inverseNorms.length) {
+            inverseNorms = Arrays.copyOf(inverseNorms, inverseNorms.length * 2);
+        }
+        inverseNorms[index] = VectorMath.inverseNorm(vector);
+        size++;
+        return index;
+    }
+
+    @Override
+    public Scorer scorer(float[] normalizedQuery) {
+        return new Scorer() {
+            @Override
+            public float score(int index) {
+                return VectorMath.dot(segment(index), offset(index), normalizedQuery) * inverseNorms[index];
+            }
+        };
+    }
+
+    @Override
+    public float cosine(int first, int second) {
+        return VectorMath.dot(segment(first), offset(first), segment(second), offset(second), dimension)
+                * inverseNorms[first] * inverseNorms[second];
+    }
+
+    @Override
+    public float[] get(int index) {
+        float[] result = new float[dimension];
+        segment(index).get(offset(index), result);
+        return result;
+    }
+
+    private FloatBuffer segment(int index) {
+        return segments.get(index / vectorsPerSegment);
+    }
+
+    private int offset(int index) {
+        return (index % vectorsPerSegment) * dimension;
+    }
+
+    private FloatBuffer segmentForWrite(int index) {
+        int segmentIndex = index / vectorsPerSegment;
+        int positionInSegment = index % vectorsPerSegment;
+        if (segmentIndex == segments.size()) {
+            segments.add(allocate(Math.min(INITIAL_CAPACITY, vectorsPerSegment)));
+        }
+        FloatBuffer segment = segments.get(segmentIndex);
+        int capacity = segment.capacity() / dimension;
+        if (positionInSegment == capacity) {
+            // grow the last segment geometrically so that small stores don't reserve a full segment upfront
+            FloatBuffer grown = allocate(Math.min(capacity * 2, vectorsPerSegment));
+            grown.put(0, segment, 0, segment.capacity());
+            segments.set(segmentIndex, grown);
+            segment = grown;
+        }
+        return segment;
+    }
+
+    private FloatBuffer allocate(int vectors) {
+        return ByteBuffer.allocateDirect(vectors * dimension * Float.BYTES)
+                .order(ByteOrder.nativeOrder())
+                .asFloatBuffer();
+    }
+}
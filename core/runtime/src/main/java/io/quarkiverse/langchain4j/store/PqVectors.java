@@ -0,0 +1,147 @@
+package io.quarkiverse.langchain4j.store;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Vectors encoded with a {@link ProductQuantizer}, using one byte per subspace. With subspaces of 8 components, this
+ * divides the memory footprint by 32.
+ * <p>
+ * The quantizer needs to be trained on a sample of the vectors: the first {@code trainingSize} vectors are kept as
+ * {@link Int8Vectors} (off-heap, and searched as such) until there are enough of them, at which point the quantizer is
+ * trained on their reconstruction and every vector is encoded. A store that never reaches the training size thus still
+ * keeps its vectors off-heap, at a quarter of their full precision size.
+ * <p>
+ * Vectors are normalized before being encoded, as only their direction matters for the cosine similarity. Their norm is
+ * kept so that they can be reconstructed.
+ */
+final class PqVectors implements Vectors {
+
+    private final int dimension;
+    private final int subspaces;
+    private final int trainingSize;
+    private final OffHeapCodes codes;
+    private Int8Vectors pending;
+    private ProductQuantizer quantizer;
+    private float[] norms = new float[1024];
+    // inverse norm of the reconstruction of the normalized vectors, corrects the bias introduced by the quantization
+    private float[] inverseNorms = new float[1024];
+    private int size;
+
+    PqVectors(int dimension, int subspaces, int trainingSize) {
+        if (dimension % subspaces != 0) {
+            throw new IllegalArgumentException("The dimension of the vectors (" + dimension
+                    + ") must be a multiple of the number of product quantization subspaces (" + subspaces + ")");
+        }
+        this.dimension = dimension;
+        this.subspaces = subspaces;
+        this.trainingSize = Math.max(1, trainingSize);
+        this.codes = new OffHeapCodes(subspaces);
+        this.pending = new Int8Vectors(dimension);
+    }
+
+    @Override
+    public int dimension() {
+        return dimension;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int add(float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException(
+                    "Expected an embedding of dimension " + dimension + " but got one of dimension " + vector.length);
+        }
+        int index = size;
+        if (index == norms.length) {
+            norms = Arrays.copyOf(norms, index * 2);
+            inverseNorms = Arrays.copyOf(inverseNorms, index * 2);
+        }
+        float inverseNorm = VectorMath.inverseNorm(vector);
+        norms[index] = inverseNorm == 0 ? 0 : 1 / inverseNorm;
+        float[] normalized = VectorMath.normalize(vector);
+        size++;
+        if (quantizer == null) {
+            pending.add(normalized);
+            if (pending.size() == trainingSize) {
+                train();
+            }
+        } else {
+            encode(normalized);
+        }
+        return index;
+    }
+
+    private void train() {
+        // only decoded on the heap for the time of the training
+        List<float[]> samples = new ArrayList<>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            samples.add(VectorMath.normalize(pending.get(i)));
+        }
+        quantizer = ProductQuantizer.train(samples, dimension, subspaces);
+        for (float[] vector : samples) {
+            encode(vector);
+        }
+        pending = null;
+    }
+
+    private void encode(float[] normalized) {
+        byte[] code = new byte[subspaces];
+        quantizer.encode(normalized, code);
+        int index = codes.add(code);
+        float[] decoded = new float[dimension];
+        quantizer.decode(codes.segment(index), codes.offset(index), decoded);
+        inverseNorms[index] = VectorMath.inverseNorm(decoded);
+    }
+
+    @Override
+    public float[] get(int index) {
+        float[] vector = normalized(index);
+        float norm = norms[index];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= norm;
+        }
+        return vector;
+    }
+
+    private float[] normalized(int index) {
+        if (quantizer == null) {
+            return VectorMath.normalize(pending.get(index));
+        }
+        float[] vector = new float[dimension];
+        quantizer.decode(codes.segment(index), codes.offset(index), vector);
+        float inverseNorm = inverseNorms[index];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= inverseNorm;
+        }
+        return vector;
+    }
+
+    @Override
+    public float cosine(int first, int second) {
+        if (quantizer == null) {
+            return pending.cosine(first, second);
+        }
+        return VectorMath.dot(normalized(first), 0, normalized(second), 0, dimension);
+    }
+
+    @Override
+    public Scorer scorer(float[] normalizedQuery) {
+        if (quantizer == null) {
+            return pending.scorer(normalizedQuery);
+        }
+        float[] dotProducts = quantizer.dotProducts(normalizedQuery);
+        return new Scorer() {
+            @Override
+            public float score(int index) {
+                return ProductQuantizer.score(dotProducts, codes.segment(index), codes.offset(index), subspaces)
+                        * inverseNorms[index];
+            }
+        };
+    }
+}
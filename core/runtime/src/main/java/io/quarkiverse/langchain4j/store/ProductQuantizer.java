@@ -0,0 +1,166 @@
+package io.quarkiverse.langchain4j.store;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Product quantization: vectors are split into {@code subspaces} contiguous sub-vectors and each sub-vector is replaced by
+ * the index of the closest of 256 centroids learnt for its subspace with k-means, so a vector is encoded with one byte per
+ * subspace.
+ * <p>
+ * Queries are compared to the codes with asymmetric distance computation: the dot product of each query sub-vector with
+ * every centroid of its subspace is computed once per query, after which scoring a vector only takes one table lookup per
+ * subspace.
+ *
+ * @see <a href="https://ieeexplore.ieee.org/document/5432202">Product quantization for nearest neighbor search</a>
+ */
+final class ProductQuantizer {
+
+    static final int CENTROIDS = 256;
+
+    private static final int ITERATIONS = 10;
+
+    private final int subspaces;
+    private final int subDimension;
+    // [subspace][centroid][subDimension] flattened
+    private final float[] centroids;
+
+    private ProductQuantizer(int subspaces, int subDimension, float[] centroids) {
+        this.subspaces = subspaces;
+        this.subDimension = subDimension;
+        this.centroids = centroids;
+    }
+
+    /**
+     * Learns the centroids of each subspace from a sample of the vectors. Subspaces are trained in parallel.
+     */
+    static ProductQuantizer train(List<float[]> samples, int dimension, int subspaces) {
+        int subDimension = dimension / subspaces;
+        float[] centroids = new float[subspaces * CENTROIDS * subDimension];
+        IntStream.range(0, subspaces).parallel().forEach(new IntConsumer() {
+            @Override
+            public void accept(int subspace) {
+                kMeans(samples, subspace * subDimension, subDimension, centroids, subspace * CENTROIDS * subDimension);
+            }
+        });
+        return new ProductQuantizer(subspaces, subDimension, centroids);
+    }
+
+    private static void kMeans(List<float[]> samples, int from, int subDimension, float[] centroids, int centroidsOffset) {
+        Random random = new Random(from);
+        int n = samples.size();
+        // initialize with distinct samples when there are enough of them
+        int[] order = IntStream.range(0, n).toArray();
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        for (int c = 0; c < CENTROIDS; c++) {
+            System.arraycopy(samples.get(order[c % n]), from, centroids, centroidsOffset + c * subDimension, subDimension);
+        }
+
+        int[] assignments = new int[n];
+        float[] sums = new float[CENTROIDS * subDimension];
+        int[] counts = new int[CENTROIDS];
+        for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            boolean changed = false;
+            for (int i = 0; i < n; i++) {
+                int closest = closest(samples.get(i), from, subDimension, centroids, centroidsOffset);
+                if (iteration == 0 || closest != assignments[i]) {
+                    assignments[i] = closest;
+                    changed = true;
+                }
+            }
+            if (!changed) {
+                break;
+            }
+            Arrays.fill(sums, 0);
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < n; i++) {
+                float[] sample = samples.get(i);
+                int c = assignments[i];
+                counts[c]++;
+                for (int d = 0; d < subDimension; d++) {
+                    sums[c * subDimension + d] += sample[from + d];
+                }
+            }
+            for (int c = 0; c < CENTROIDS; c++) {
+                if (counts[c] == 0) {
+                    // empty cluster: keep its previous centroid
+                    continue;
+                }
+                for (int d = 0; d < subDimension; d++) {
+                    centroids[centroidsOffset + c * subDimension + d] = sums[c * subDimension + d] / counts[c];
+                }
+            }
+        }
+    }
+
+    private static int closest(float[] vector, int from, int subDimension, float[] centroids, int centroidsOffset) {
+        int best = 0;
+        float bestDistance = Float.MAX_VALUE;
+        for (int c = 0; c < CENTROIDS; c++) {
+            int offset = centroidsOffset + c * subDimension;
+            float distance = 0;
+            for (int d = 0; d < subDimension; d++) {
+                float diff = vector[from + d] - centroids[offset + d];
+                distance += diff * diff;
+            }
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = c;
+            }
+        }
+        return best;
+    }
+
+    int subspaces() {
+        return subspaces;
+    }
+
+    void encode(float[] vector, byte[] code) {
+        for (int s = 0; s < subspaces; s++) {
+            code[s] = (byte) closest(vector, s * subDimension, subDimension, centroids, s * CENTROIDS * subDimension);
+        }
+    }
+
+    void decode(ByteBuffer codes, int offset, float[] vector) {
+        for (int s = 0; s < subspaces; s++) {
+            int centroid = codes.get(offset + s) & 0xFF;
+            System.arraycopy(centroids, (s * CENTROIDS + centroid) * subDimension, vector, s * subDimension, subDimension);
+        }
+    }
+
+    /**
+     * @return for each subspace and centroid, the dot product of the query sub-vector with the centroid
+     */
+    float[] dotProducts(float[] query) {
+        float[] table = new float[subspaces * CENTROIDS];
+        for (int s = 0; s < subspaces; s++) {
+            for (int c = 0; c < CENTROIDS; c++) {
+                table[s * CENTROIDS + c] = VectorMath.dot(query, s * subDimension, centroids,
+                        (s * CENTROIDS + c) * subDimension, subDimension);
+            }
+        }
+        return table;
+    }
+
+    static float score(float[] dotProducts, ByteBuffer codes, int offset, int subspaces) {
+        float s0 = 0, s1 = 0;
+        int s = 0;
+        for (; s + 1 < subspaces; s += 2) {
+            s0 += dotProducts[s * CENTROIDS + (codes.get(offset + s) & 0xFF)];
+            s1 += dotProducts[(s + 1) * CENTROIDS + (codes.get(offset + s + 1) & 0xFF)];
+        }
+        for (; s < subspaces; s++) {
+            s0 += dotProducts[s * CENTROIDS + (codes.get(offset + s) & 0xFF)];
+        }
+        return s0 + s1;
+    }
+}
@@ -0,0 +1,32 @@
+package io.quarkiverse.langchain4j.store;
+
+/**
+ * Symmetric int8 quantization of a vector: each component is divided by a per-vector scale so that the component with
+ * the largest magnitude maps to {@code 127}.
+ */
+final class ScalarQuantizer {
+
+    private ScalarQuantizer() {
+    }
+
+    /**
+     * @return the scale that needs to be passed to {@link #dequantize(byte[], float, float[])}
+     */
+    static float quantize(float[] vector, byte[] codes) {
+        float max = 0;
+        for (float value : vector) {
+            max = Math.max(max, Math.abs(value));
+        }
+        float scale = max == 0 ? 1 : max / 127;
+        for (int i = 0; i < vector.length; i++) {
+            codes[i] = (byte) Math.round(vector[i] / scale);
+        }
+        return scale;
+    }
+
+    static void dequantize(byte[] codes, float scale, float[] vector) {
+        for (int i = 0; i < codes.length; i++) {
+            vector[i] = codes[i] * scale;
+        }
+    }
+}
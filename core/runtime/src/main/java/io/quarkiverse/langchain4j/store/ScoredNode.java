@@ -0,0 +1,18 @@
+package io.quarkiverse.langchain4j.store;
+
+import java.util.Comparator;
+
+/**
+ * A vector position in an {@link OffHeapEmbeddingStore} together with its cosine similarity to a query.
+ */
+record ScoredNode(int node, float score) {
+
+    static final Comparator<ScoredNode> BEST_FIRST = new Comparator<>() {
+        @Override
+        public int compare(ScoredNode o1, ScoredNode o2) {
+            return Float.compare(o2.score, o1.score);
+        }
+    };
+
+    static final Comparator<ScoredNode> WORST_FIRST = BEST_FIRST.reversed();
+}
@@ -0,0 +1,118 @@
+package io.quarkiverse.langchain4j.store;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * Scoring kernels used by {@link OffHeapEmbeddingStore}.
+ * <p>
+ * The loops are unrolled with independent accumulators so that C2 can turn them into packed SIMD instructions without
+ * requiring the incubating {@code jdk.incubator.vector} module to be added to the application.
+ */
+final class VectorMath {
+
+    private VectorMath() {
+    }
+
+    static float dot(FloatBuffer vectors, int offset, float[] query) {
+        int dimension = query.length;
+        int bound = dimension & ~3;
+        float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        for (; i < bound; i += 4) {
+            s0 += vectors.get(offset + i) * query[i];
+            s1 += vectors.get(offset + i + 1) * query[i + 1];
+            s2 += vectors.get(offset + i + 2) * query[i + 2];
+            s3 += vectors.get(offset + i + 3) * query[i + 3];
+        }
+        for (; i < dimension; i++) {
+            s0 += vectors.get(offset + i) * query[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    static float dot(FloatBuffer a, int aOffset, FloatBuffer b, int bOffset, int dimension) {
+        int bound = dimension & ~3;
+        float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        for (; i < bound; i += 4) {
+            s0 += a.get(aOffset + i) * b.get(bOffset + i);
+            s1 += a.get(aOffset + i + 1) * b.get(bOffset + i + 1);
+            s2 += a.get(aOffset + i + 2) * b.get(bOffset + i + 2);
+            s3 += a.get(aOffset + i + 3) * b.get(bOffset + i + 3);
+        }
+        for (; i < dimension; i++) {
+            s0 += a.get(aOffset + i) * b.get(bOffset + i);
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    static float dot(ByteBuffer codes, int offset, float[] query) {
+        int dimension = query.length;
+        int bound = dimension & ~3;
+        float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        for (; i < bound; i += 4) {
+            s0 += codes.get(offset + i) * query[i];
+            s1 += codes.get(offset + i + 1) * query[i + 1];
+            s2 += codes.get(offset + i + 2) * query[i + 2];
+            s3 += codes.get(offset + i + 3) * query[i + 3];
+        }
+        for (; i < dimension; i++) {
+            s0 += codes.get(offset + i) * query[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    static float dot(ByteBuffer a, int aOffset, ByteBuffer b, int bOffset, int dimension) {
+        int bound = dimension & ~3;
+        int s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        for (; i < bound; i += 4) {
+            s0 += a.get(aOffset + i) * b.get(bOffset + i);
+            s1 += a.get(aOffset + i + 1) * b.get(bOffset + i + 1);
+            s2 += a.get(aOffset + i + 2) * b.get(bOffset + i + 2);
+            s3 += a.get(aOffset + i + 3) * b.get(bOffset + i + 3);
+        }
+        for (; i < dimension; i++) {
+            s0 += a.get(aOffset + i) * b.get(bOffset + i);
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    static float dot(float[] a, int aOffset, float[] b, int bOffset, int dimension) {
+        float s0 = 0, s1 = 0;
+        int i = 0;
+        for (; i + 1 < dimension; i += 2) {
+            s0 += a[aOffset + i] * b[bOffset + i];
+            s1 += a[aOffset + i + 1] * b[bOffset + i + 1];
+        }
+        for (; i < dimension; i++) {
+            s0 += a[aOffset + i] * b[bOffset + i];
+        }
+        return s0 + s1;
+    }
+
+    static float inverseNorm(float[] vector) {
+        float s0 = 0, s1 = 0;
+        int i = 0;
+        for (; i + 1 < vector.length; i += 2) {
+            s0 += vector[i] * vector[i];
+            s1 += vector[i + 1] * vector[i + 1];
+        }
+        for (; i < vector.length; i++) {
+            s0 += vector[i] * vector[i];
+        }
+        float norm = (float) Math.sqrt(s0 + s1);
+        return norm == 0 ? 0 : 1 / norm;
+    }
+
+    static float[] normalize(float[] vector) {
+        float inverseNorm = inverseNorm(vector);
+        float[] result = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            result[i] = vector[i] * inverseNorm;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,40 @@
+package io.quarkiverse.langchain4j.store;
+
+/**
+ * Append-only storage of the vectors of an {@link OffHeapEmbeddingStore}, either in full precision
+ * ({@link OffHeapVectors}) or quantized ({@link Int8Vectors}, {@link PqVectors}).
+ * <p>
+ * Implementations are not thread safe, {@link OffHeapEmbeddingStore} guards them with a read/write lock.
+ */
+interface Vectors {
+
+    int dimension();
+
+    int size();
+
+    /**
+     * @return the position of the vector
+     */
+    int add(float[] vector);
+
+    /**
+     * @return the stored vector, or its reconstruction when the storage is lossy
+     */
+    float[] get(int index);
+
+    /**
+     * Cosine similarity between two stored vectors
+     */
+    float cosine(int first, int second);
+
+    /**
+     * @return a scorer of the cosine similarity between the stored vectors and the given query, which must already be
+     *         normalized. Scorers are immutable and can be shared between threads as long as no vector is added.
+     */
+    Scorer scorer(float[] normalizedQuery);
+
+    interface Scorer {
+
+        float score(int index);
+    }
+}
@@ -9,6 +9,7 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 
 import org.eclipse.microprofile.rest.client.annotation.ClientHeaderParam;
+import org.jboss.resteasy.reactive.RestStreamElementType;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -18,6 +19,7 @@ import dev.langchain4j.model.huggingface.client.TextGenerationResponse;
 import io.quarkiverse.langchain4j.QuarkusJsonCodecFactory;
 import io.quarkus.rest.client.reactive.NotBody;
 import io.quarkus.rest.client.reactive.jackson.ClientObjectMapper;
+import io.smallrye.mutiny.Multi;
 
 /**
  * This Microprofile REST client is used as the building block of all the API calls to HuggingFace.
@@ -33,6 +35,11 @@ public interface HuggingFaceRestApi {
     @POST
     List<TextGenerationResponse> generate(TextGenerationRequest request, @NotBody String token);
 
+    @POST
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    Multi<StreamingTextGenerationResponse> streamingGenerate(StreamingTextGenerationRequest request, @NotBody String token);
+
     @POST
     List<float[]> embed(EmbeddingRequest request, @NotBody String token);
 
@@ -14,25 +14,34 @@ import java.util.OptionalInt;
 import dev.langchain4j.agent.tool.ToolSpecification;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
 import dev.langchain4j.model.chat.ChatLanguageModel;
-import dev.langchain4j.model.huggingface.client.HuggingFaceClient;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
 import dev.langchain4j.model.huggingface.client.Options;
 import dev.langchain4j.model.huggingface.client.Parameters;
 import dev.langchain4j.model.huggingface.client.TextGenerationRequest;
 import dev.langchain4j.model.huggingface.client.TextGenerationResponse;
 import dev.langchain4j.model.huggingface.spi.HuggingFaceClientFactory;
+import dev.langchain4j.model.output.FinishReason;
 import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import io.quarkiverse.langchain4j.huggingface.StreamingTextGenerationResponse.Details;
+import io.quarkiverse.langchain4j.huggingface.StreamingTextGenerationResponse.Token;
+import io.quarkiverse.langchain4j.runtime.StreamingResponseSubscriber;
 
 /**
  * This is a Quarkus specific version of the HuggingFace model.
  * <p>
  * TODO: remove this in the future when the stock {@link dev.langchain4j.model.huggingface.HuggingFaceChatModel}
  * has been updated to fit our needs (i.e. allowing {@code returnFullText} to be null and making {code accessToken} optional)
+ * <p>
+ * As a {@link StreamingChatLanguageModel}, the text is generated token by token, which requires an endpoint served by
+ * text-generation-inference, such as a deployed inference endpoint or a local TGI container.
  */
-public class QuarkusHuggingFaceChatModel implements ChatLanguageModel {
+public class QuarkusHuggingFaceChatModel implements ChatLanguageModel, StreamingChatLanguageModel {
 
     public static final QuarkusHuggingFaceClientFactory CLIENT_FACTORY = new QuarkusHuggingFaceClientFactory();
-    private final HuggingFaceClient client;
+    private final QuarkusHuggingFaceClientFactory.QuarkusHuggingFaceClient client;
     private final Double temperature;
     private final Integer maxNewTokens;
     private final Boolean returnFullText;
@@ -76,26 +85,10 @@ public class QuarkusHuggingFaceChatModel implements ChatLanguageModel {
     @Override
     public Response<AiMessage> generate(List<ChatMessage> messages) {
 
-        Parameters.Builder builder = Parameters.builder()
-                .temperature(temperature)
-                .maxNewTokens(maxNewTokens)
-                .returnFullText(returnFullText);
-
-        doSample.ifPresent(builder::doSample);
-        topK.ifPresent(builder::topK);
-        topP.ifPresent(builder::topP);
-        repetitionPenalty.ifPresent(builder::repetitionPenalty);
-
-        Parameters parameters = builder
-                .build();
         TextGenerationRequest request = TextGenerationRequest.builder()
-                .inputs(messages.stream()
-                        .map(ChatMessage::text)
-                        .collect(joining("\n")))
-                .parameters(parameters)
-                .options(Options.builder()
-                        .waitForModel(waitForModel)
-                        .build())
+                .inputs(toInputs(messages))
+                .parameters(toParameters())
+                .options(toOptions())
                 .build();
 
         TextGenerationResponse textGenerationResponse = client.chat(request);
@@ -103,6 +96,38 @@ public class QuarkusHuggingFaceChatModel implements ChatLanguageModel {
         return Response.from(AiMessage.from(textGenerationResponse.generatedText()));
     }
 
+    @Override
+    public void generate(List<ChatMessage> messages, StreamingResponseHandler<AiMessage> handler) {
+
+        StreamingTextGenerationRequest request = new StreamingTextGenerationRequest(toInputs(messages), toParameters(),
+                toOptions());
+
+        new StreamingResponseSubscriber<StreamingTextGenerationResponse>(handler) {
+
+            private Details details;
+
+            @Override
+            protected String onEvent(StreamingTextGenerationResponse response) {
+                if (response.details() != null)
+                    details = response.details();
+
+                // The special tokens, such as the end of sequence, are not part of the generated text.
+                Token token = response.token();
+                return token == null || token.special() ? null : token.text();
+            }
+
+            @Override
+            protected Response<AiMessage> toResponse(AiMessage message) {
+                if (details == null) {
+                    return Response.from(message);
+                }
+                // The input tokens are only counted when the details of the prompt are requested.
+                return Response.from(message, new TokenUsage(null, details.generatedTokens()),
+                        toFinishReason(details.finishReason()));
+            }
+        }.subscribe(client.streamingGenerate(request));
+    }
+
     @Override
     public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
         throw new IllegalArgumentException("Tools are currently not supported for HuggingFace models");
@@ -113,6 +138,60 @@ public class QuarkusHuggingFaceChatModel implements ChatLanguageModel {
         throw new IllegalArgumentException("Tools are currently not supported for HuggingFace models");
     }
 
+    @Override
+    public void generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications,
+            StreamingResponseHandler<AiMessage> handler) {
+        throw new IllegalArgumentException("Tools are currently not supported for HuggingFace models");
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, ToolSpecification toolSpecification,
+            StreamingResponseHandler<AiMessage> handler) {
+        throw new IllegalArgumentException("Tools are currently not supported for HuggingFace models");
+    }
+
+    private static String toInputs(List<ChatMessage> messages) {
+        return messages.stream()
+                .map(ChatMessage::text)
+                .collect(joining("\n"));
+    }
+
+    private Parameters toParameters() {
+        Parameters.Builder builder = Parameters.builder()
+                .temperature(temperature)
+                .maxNewTokens(maxNewTokens)
+                .returnFullText(returnFullText);
+
+        doSample.ifPresent(builder::doSample);
+        topK.ifPresent(builder::topK);
+        topP.ifPresent(builder::topP);
+        repetitionPenalty.ifPresent(builder::repetitionPenalty);
+
+        return builder
+                .build();
+    }
+
+    private Options toOptions() {
+        return Options.builder()
+                .waitForModel(waitForModel)
+                .build();
+    }
+
+    private static FinishReason toFinishReason(String reason) {
+        if (reason == null) {
+            return null;
+        }
+        switch (reason) {
+            case "length":
+                return FinishReason.LENGTH;
+            case "eos_token":
+            case "stop_sequence":
+                return FinishReason.STOP;
+            default:
+                return FinishReason.OTHER;
+        }
+    }
+
     public static final class Builder {
 
         private String accessToken;
@@ -19,6 +19,7 @@ import dev.langchain4j.model.huggingface.client.TextGenerationRequest;
 import dev.langchain4j.model.huggingface.client.TextGenerationResponse;
 import dev.langchain4j.model.huggingface.spi.HuggingFaceClientFactory;
 import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
+import io.smallrye.mutiny.Multi;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
@@ -32,7 +33,7 @@ public class QuarkusHuggingFaceClientFactory implements HuggingFaceClientFactory
         throw new UnsupportedOperationException("Should not be called");
     }
 
-    public HuggingFaceClient create(QuarkusHuggingFaceChatModel.Builder config, Input input, URI url) {
+    public QuarkusHuggingFaceClient create(QuarkusHuggingFaceChatModel.Builder config, Input input, URI url) {
         QuarkusRestClientBuilder builder = QuarkusRestClientBuilder.newBuilder()
                 .baseUri(url)
                 .connectTimeout(input.timeout().toSeconds(), TimeUnit.SECONDS)
@@ -79,6 +80,13 @@ public class QuarkusHuggingFaceClientFactory implements HuggingFaceClientFactory
             }
         }
 
+        /**
+         * Generates the text token by token, which requires an endpoint served by text-generation-inference.
+         */
+        public Multi<StreamingTextGenerationResponse> streamingGenerate(StreamingTextGenerationRequest request) {
+            return restApi.streamingGenerate(request, token);
+        }
+
         @Override
         public List<float[]> embed(EmbeddingRequest request) {
             return restApi.embed(request, token);
@@ -0,0 +1,15 @@
+package io.quarkiverse.langchain4j.huggingface;
+
+import dev.langchain4j.model.huggingface.client.Options;
+import dev.langchain4j.model.huggingface.client.Parameters;
+
+/**
+ * A text generation request asking text-generation-inference to send the tokens as server-sent events as soon as they are
+ * generated.
+ */
+public record StreamingTextGenerationRequest(String inputs, Parameters parameters, Options options, boolean stream) {
+
+    public StreamingTextGenerationRequest(String inputs, Parameters parameters, Options options) {
+        this(inputs, parameters, options, true);
+    }
+}
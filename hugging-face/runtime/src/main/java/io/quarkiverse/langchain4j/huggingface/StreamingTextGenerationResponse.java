@@ -0,0 +1,19 @@
+package io.quarkiverse.langchain4j.huggingface;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+/**
+ * One of the events sent by text-generation-inference while streaming. The {@code generatedText} and the {@code details}
+ * are only set by the last event.
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record StreamingTextGenerationResponse(Token token, String generatedText, Details details) {
+
+    public record Token(String text, boolean special) {
+    }
+
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record Details(String finishReason, Integer generatedTokens) {
+    }
+}
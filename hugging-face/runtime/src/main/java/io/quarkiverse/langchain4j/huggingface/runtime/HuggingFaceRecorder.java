@@ -10,6 +10,7 @@ import io.quarkiverse.langchain4j.huggingface.QuarkusHuggingFaceEmbeddingModel;
 import io.quarkiverse.langchain4j.huggingface.runtime.config.ChatModelConfig;
 import io.quarkiverse.langchain4j.huggingface.runtime.config.EmbeddingModelConfig;
 import io.quarkiverse.langchain4j.huggingface.runtime.config.Langchain4jHuggingFaceConfig;
+import io.quarkiverse.langchain4j.runtime.CachingEmbeddingModel;
 import io.quarkiverse.langchain4j.runtime.NamedModelUtil;
 import io.quarkus.runtime.annotations.Recorder;
 import io.smallrye.config.ConfigValidationException;
@@ -85,7 +86,7 @@ public class HuggingFaceRecorder {
         return new Supplier<>() {
             @Override
             public Object get() {
-                return builder.build();
+                return CachingEmbeddingModel.decorate(builder.build(), "huggingface:" + url.toExternalForm());
             }
         };
     }
@@ -2,7 +2,9 @@ package io.quarkiverse.langchain4j.ollama.deployment;
 
 import static io.quarkiverse.langchain4j.deployment.Langchain4jDotNames.CHAT_MODEL;
 import static io.quarkiverse.langchain4j.deployment.Langchain4jDotNames.EMBEDDING_MODEL;
+import static io.quarkiverse.langchain4j.deployment.Langchain4jDotNames.STREAMING_CHAT_MODEL;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -18,11 +20,14 @@ import io.quarkiverse.langchain4j.ollama.runtime.OllamaRecorder;
 import io.quarkiverse.langchain4j.ollama.runtime.config.Langchain4jOllamaConfig;
 import io.quarkiverse.langchain4j.runtime.NamedModelUtil;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
+import io.quarkus.arc.deployment.SyntheticBeansRuntimeInitBuildItem;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.Consume;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 
 public class OllamaProcessor {
 
@@ -66,6 +71,15 @@ public class OllamaProcessor {
                         .supplier(recorder.chatModel(config, modelName));
                 addQualifierIfNecessary(builder, modelName);
                 beanProducer.produce(builder.done());
+
+                var streamingBuilder = SyntheticBeanBuildItem
+                        .configure(STREAMING_CHAT_MODEL)
+                        .setRuntimeInit()
+                        .defaultBean()
+                        .scope(ApplicationScoped.class)
+                        .supplier(recorder.streamingChatModel(config, modelName));
+                addQualifierIfNecessary(streamingBuilder, modelName);
+                beanProducer.produce(streamingBuilder.done());
             }
         }
 
@@ -84,6 +98,29 @@ public class OllamaProcessor {
         }
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @Consume(SyntheticBeansRuntimeInitBuildItem.class)
+    ServiceStartBuildItem warmUp(OllamaRecorder recorder,
+            List<SelectedChatModelProviderBuildItem> selectedChatItem,
+            List<SelectedEmbeddingModelCandidateBuildItem> selectedEmbedding,
+            Langchain4jOllamaConfig config) {
+        List<String> chatModelNames = new ArrayList<>();
+        for (var selected : selectedChatItem) {
+            if (PROVIDER.equals(selected.getProvider())) {
+                chatModelNames.add(selected.getModelName());
+            }
+        }
+        List<String> embeddingModelNames = new ArrayList<>();
+        for (var selected : selectedEmbedding) {
+            if (PROVIDER.equals(selected.getProvider())) {
+                embeddingModelNames.add(selected.getModelName());
+            }
+        }
+        recorder.warmUp(config, chatModelNames, embeddingModelNames);
+        return new ServiceStartBuildItem(FEATURE);
+    }
+
     private void addQualifierIfNecessary(SyntheticBeanBuildItem.ExtendedBeanConfigurator builder, String modelName) {
         if (!NamedModelUtil.isDefault(modelName)) {
             builder.addQualifier(AnnotationInstance.builder(ModelName.class).add("value", modelName).build());
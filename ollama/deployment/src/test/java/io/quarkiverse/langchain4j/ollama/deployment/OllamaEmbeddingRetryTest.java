@@ -0,0 +1,87 @@
+package io.quarkiverse.langchain4j.ollama.deployment;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.WebApplicationException;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class OllamaEmbeddingRetryTest {
+
+    private static final int WIREMOCK_PORT = 8089;
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.ollama.base-url", "http://localhost:" + WIREMOCK_PORT)
+            .overrideRuntimeConfigKey("quarkus.langchain4j.ollama.embedding-model.max-retries", "2");
+
+    static WireMockServer wireMockServer;
+
+    @BeforeAll
+    static void beforeAll() {
+        wireMockServer = new WireMockServer(options().port(WIREMOCK_PORT));
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        wireMockServer.stop();
+    }
+
+    @BeforeEach
+    void reset() {
+        wireMockServer.resetAll();
+    }
+
+    @Inject
+    EmbeddingModel model;
+
+    @Test
+    void should_retry_the_server_errors() {
+        wireMockServer.stubFor(post(urlEqualTo("/api/embeddings")).inScenario("retry")
+                .whenScenarioStateIs(STARTED)
+                .willReturn(aResponse().withStatus(503))
+                .willSetStateTo("unavailable"));
+        wireMockServer.stubFor(post(urlEqualTo("/api/embeddings")).inScenario("retry")
+                .whenScenarioStateIs("unavailable")
+                .willReturn(aResponse().withStatus(500))
+                .willSetStateTo("available"));
+        wireMockServer.stubFor(post(urlEqualTo("/api/embeddings")).inScenario("retry")
+                .whenScenarioStateIs("available")
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"embedding\": [0.1, 0.2]}")));
+
+        assertThat(model.embed("Hello").content().vector()).containsExactly(0.1f, 0.2f);
+        wireMockServer.verify(3, postRequestedFor(urlEqualTo("/api/embeddings")));
+    }
+
+    @Test
+    void should_not_retry_the_client_errors() {
+        wireMockServer.stubFor(post(urlEqualTo("/api/embeddings"))
+                .willReturn(aResponse().withStatus(404)));
+
+        assertThatThrownBy(() -> model.embed("Hello")).isInstanceOf(WebApplicationException.class);
+        wireMockServer.verify(1, postRequestedFor(urlEqualTo("/api/embeddings")));
+    }
+}
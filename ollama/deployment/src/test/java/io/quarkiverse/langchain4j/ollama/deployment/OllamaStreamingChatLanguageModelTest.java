@@ -0,0 +1,107 @@
+package io.quarkiverse.langchain4j.ollama.deployment;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class OllamaStreamingChatLanguageModelTest {
+
+    private static final int WIREMOCK_PORT = 8089;
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.ollama.base-url", "http://localhost:" + WIREMOCK_PORT);
+
+    static WireMockServer wireMockServer;
+
+    @BeforeAll
+    static void beforeAll() {
+        wireMockServer = new WireMockServer(options().port(WIREMOCK_PORT));
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        wireMockServer.stop();
+    }
+
+    @Inject
+    StreamingChatLanguageModel model;
+
+    @Test
+    void should_stream_the_tokens_of_the_chat_api() throws Exception {
+        wireMockServer.stubFor(post(urlEqualTo("/api/chat"))
+                .withRequestBody(equalToJson("""
+                        {
+                          "model": "latest",
+                          "stream": true,
+                          "messages": [
+                            {"role": "system", "content": "Be brief"},
+                            {"role": "user", "content": "Hi"}
+                          ]
+                        }
+                        """, true, true))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/x-ndjson")
+                        .withBody(
+                                """
+                                        {"model":"llama2","message":{"role":"assistant","content":"Hello"},"done":false}
+                                        {"model":"llama2","message":{"role":"assistant","content":" there"},"done":false}
+                                        {"model":"llama2","message":{"role":"assistant","content":""},"done":true,"prompt_eval_count":12,"eval_count":2}
+                                        """)));
+
+        List<String> tokens = new CopyOnWriteArrayList<>();
+        CompletableFuture<Response<AiMessage>> future = new CompletableFuture<>();
+        model.generate(List.of(SystemMessage.from("Be brief"), UserMessage.from("Hi")),
+                new StreamingResponseHandler<>() {
+                    @Override
+                    public void onNext(String token) {
+                        tokens.add(token);
+                    }
+
+                    @Override
+                    public void onComplete(Response<AiMessage> response) {
+                        future.complete(response);
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        future.completeExceptionally(error);
+                    }
+                });
+
+        Response<AiMessage> response = future.get(10, TimeUnit.SECONDS);
+        assertThat(tokens).containsExactly("Hello", " there");
+        assertThat(response.content().text()).isEqualTo("Hello there");
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(12);
+        assertThat(response.tokenUsage().outputTokenCount()).isEqualTo(2);
+    }
+}
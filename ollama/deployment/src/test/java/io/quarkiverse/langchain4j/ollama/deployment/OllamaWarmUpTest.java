@@ -0,0 +1,83 @@
+package io.quarkiverse.langchain4j.ollama.deployment;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class OllamaWarmUpTest {
+
+    private static final int WIREMOCK_PORT = 8089;
+
+    // the models are loaded during the startup of the application, so Ollama must be available before
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class))
+            .setBeforeAllCustomizer(OllamaWarmUpTest::startOllama)
+            .setAfterAllCustomizer(OllamaWarmUpTest::stopOllama)
+            .overrideRuntimeConfigKey("quarkus.langchain4j.ollama.base-url", "http://localhost:" + WIREMOCK_PORT)
+            .overrideRuntimeConfigKey("quarkus.langchain4j.ollama.warm-up", "true")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.ollama.keep-alive", "1h")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.ollama.chat-model.model-id", "llama2")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.ollama.embedding-model.model-id", "nomic-embed-text");
+
+    static WireMockServer wireMockServer;
+
+    static void startOllama() {
+        wireMockServer = new WireMockServer(options().port(WIREMOCK_PORT));
+        wireMockServer.start();
+        wireMockServer.stubFor(post(urlEqualTo("/api/generate"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("""
+                                {"model":"llama2","response":"","done":true}
+                                """)));
+        wireMockServer.stubFor(post(urlEqualTo("/api/embeddings"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("""
+                                {"embedding":[]}
+                                """)));
+    }
+
+    static void stopOllama() {
+        wireMockServer.stop();
+    }
+
+    // only the models used by the application are loaded
+    @Inject
+    ChatLanguageModel chatModel;
+
+    @Inject
+    EmbeddingModel embeddingModel;
+
+    @Test
+    void should_load_the_models_at_startup() {
+        // the test runs in the class loader of the application, the server is reached through its admin API
+        WireMock ollama = new WireMock(WIREMOCK_PORT);
+        ollama.verifyThat(1, postRequestedFor(urlEqualTo("/api/generate"))
+                .withRequestBody(equalToJson("""
+                        {"model": "llama2", "keep_alive": "1h", "stream": false}
+                        """)));
+        ollama.verifyThat(1, postRequestedFor(urlEqualTo("/api/embeddings"))
+                .withRequestBody(equalToJson("""
+                        {"model": "nomic-embed-text", "keep_alive": "1h", "prompt": ""}
+                        """)));
+    }
+}
@@ -0,0 +1,87 @@
+package io.quarkiverse.langchain4j.ollama;
+
+import java.util.List;
+
+public class ChatRequest {
+
+    private final String model;
+    private final List<Message> messages;
+    private final Options options;
+    private final Boolean stream;
+    private final String keepAlive;
+
+    private ChatRequest(Builder builder) {
+        model = builder.model;
+        messages = builder.messages;
+        options = builder.options;
+        stream = builder.stream;
+        keepAlive = builder.keepAlive;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public List<Message> getMessages() {
+        return messages;
+    }
+
+    public Options getOptions() {
+        return options;
+    }
+
+    public Boolean getStream() {
+        return stream;
+    }
+
+    public String getKeepAlive() {
+        return keepAlive;
+    }
+
+    public static final class Builder {
+        private String model = "llama2";
+        private List<Message> messages;
+        private Options options;
+        private Boolean stream = false;
+        private String keepAlive;
+
+        private Builder() {
+        }
+
+        public Builder model(String val) {
+            model = val;
+            return this;
+        }
+
+        public Builder messages(List<Message> val) {
+            messages = val;
+            return this;
+        }
+
+        public Builder options(Options val) {
+            options = val;
+            return this;
+        }
+
+        public Builder stream(Boolean val) {
+            stream = val;
+            return this;
+        }
+
+        /**
+         * How long the model stays loaded after the request, {@code null} to use the setting of the server
+         */
+        public Builder keepAlive(String val) {
+            keepAlive = val;
+            return this;
+        }
+
+        public ChatRequest build() {
+            return new ChatRequest(this);
+        }
+    }
+}
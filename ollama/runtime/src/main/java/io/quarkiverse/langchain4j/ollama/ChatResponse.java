@@ -0,0 +1,103 @@
+package io.quarkiverse.langchain4j.ollama;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
+/**
+ * A response of the chat API, or one of the lines of the response when it is streamed. The last line has {@code done} set
+ * and holds the token counts.
+ */
+@JsonDeserialize(builder = ChatResponse.Builder.class)
+public class ChatResponse {
+
+    private final String model;
+    private final String createdAt;
+    private final Message message;
+    private final Boolean done;
+    private final Integer promptEvalCount;
+    private final Integer evalCount;
+
+    private ChatResponse(Builder builder) {
+        model = builder.model;
+        createdAt = builder.createdAt;
+        message = builder.message;
+        done = builder.done;
+        promptEvalCount = builder.promptEvalCount;
+        evalCount = builder.evalCount;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public Message getMessage() {
+        return message;
+    }
+
+    public Boolean getDone() {
+        return done;
+    }
+
+    public Integer getPromptEvalCount() {
+        return promptEvalCount;
+    }
+
+    public Integer getEvalCount() {
+        return evalCount;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    public static final class Builder {
+        private String model;
+        private String createdAt;
+        private Message message;
+        private Boolean done;
+        private Integer promptEvalCount;
+        private Integer evalCount;
+
+        private Builder() {
+        }
+
+        public Builder model(String val) {
+            model = val;
+            return this;
+        }
+
+        public Builder createdAt(String val) {
+            createdAt = val;
+            return this;
+        }
+
+        public Builder message(Message val) {
+            message = val;
+            return this;
+        }
+
+        public Builder done(Boolean val) {
+            done = val;
+            return this;
+        }
+
+        public Builder promptEvalCount(Integer val) {
+            promptEvalCount = val;
+            return this;
+        }
+
+        public Builder evalCount(Integer val) {
+            evalCount = val;
+            return this;
+        }
+
+        public ChatResponse build() {
+            return new ChatResponse(this);
+        }
+    }
+}
@@ -6,12 +6,14 @@ public class CompletionRequest {
     private final String prompt;
     private final Options options;
     private final Boolean stream;
+    private final String keepAlive;
 
     private CompletionRequest(Builder builder) {
         model = builder.model;
         prompt = builder.prompt;
         options = builder.options;
         stream = builder.stream;
+        keepAlive = builder.keepAlive;
     }
 
     public static Builder builder() {
@@ -34,11 +36,16 @@ public class CompletionRequest {
         return stream;
     }
 
+    public String getKeepAlive() {
+        return keepAlive;
+    }
+
     public static final class Builder {
         private String model = "llama2";
         private String prompt;
         private Options options;
         private Boolean stream = false;
+        private String keepAlive;
 
         private Builder() {
         }
@@ -63,6 +70,14 @@ public class CompletionRequest {
             return this;
         }
 
+        /**
+         * How long the model stays loaded after the request, {@code null} to use the setting of the server
+         */
+        public Builder keepAlive(String val) {
+            keepAlive = val;
+            return this;
+        }
+
         public CompletionRequest build() {
             return new CompletionRequest(this);
         }
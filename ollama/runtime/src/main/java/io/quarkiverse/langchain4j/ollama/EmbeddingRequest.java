@@ -4,10 +4,12 @@ public class EmbeddingRequest {
 
     private final String model;
     private final String prompt;
+    private final String keepAlive;
 
     private EmbeddingRequest(Builder builder) {
         model = builder.model;
         prompt = builder.prompt;
+        keepAlive = builder.keepAlive;
     }
 
     public static Builder builder() {
@@ -22,9 +24,14 @@ public class EmbeddingRequest {
         return prompt;
     }
 
+    public String getKeepAlive() {
+        return keepAlive;
+    }
+
     public static final class Builder {
         private String model = "llama2";
         private String prompt;
+        private String keepAlive;
 
         private Builder() {
         }
@@ -39,6 +46,14 @@ public class EmbeddingRequest {
             return this;
         }
 
+        /**
+         * How long the model stays loaded after the request, {@code null} to use the setting of the server
+         */
+        public Builder keepAlive(String val) {
+            keepAlive = val;
+            return this;
+        }
+
         public EmbeddingRequest build() {
             return new EmbeddingRequest(this);
         }
@@ -0,0 +1,51 @@
+package io.quarkiverse.langchain4j.ollama;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
+@JsonDeserialize(builder = Message.Builder.class)
+public class Message {
+
+    private final Role role;
+    private final String content;
+
+    private Message(Builder builder) {
+        role = builder.role;
+        content = builder.content;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    public static final class Builder {
+        private Role role;
+        private String content;
+
+        private Builder() {
+        }
+
+        public Builder role(Role val) {
+            role = val;
+            return this;
+        }
+
+        public Builder content(String val) {
+            content = val;
+            return this;
+        }
+
+        public Message build() {
+            return new Message(this);
+        }
+    }
+}
@@ -15,11 +15,13 @@ public class OllamaChatLanguageModel implements ChatLanguageModel {
 
     private final OllamaClient client;
     private final String model;
+    private final String keepAlive;
     private final Options options;
 
     private OllamaChatLanguageModel(Builder builder) {
         client = new OllamaClient(builder.baseUrl, builder.timeout, builder.logRequests, builder.logResponses);
         model = builder.model;
+        keepAlive = builder.keepAlive;
         options = builder.options;
     }
 
@@ -34,6 +36,7 @@ public class OllamaChatLanguageModel implements ChatLanguageModel {
                         .map(ChatMessage::text)
                         .collect(joining("\n")))
                 .model(model)
+                .keepAlive(keepAlive)
                 .options(options)
                 .build();
 
@@ -55,6 +58,7 @@ public class OllamaChatLanguageModel implements ChatLanguageModel {
         private String baseUrl = "http://localhost:11434";
         private Duration timeout = Duration.ofSeconds(10);
         private String model;
+        private String keepAlive;
         private Options options;
 
         private boolean logRequests = false;
@@ -83,6 +87,15 @@ public class OllamaChatLanguageModel implements ChatLanguageModel {
             return this;
         }
 
+        /**
+         * How long Ollama keeps the model loaded after a request, for example {@code 5m} or {@code -1} to keep it loaded
+         * indefinitely
+         */
+        public Builder keepAlive(String val) {
+            keepAlive = val;
+            return this;
+        }
+
         public Builder logRequests(boolean logRequests) {
             this.logRequests = logRequests;
             return this;
@@ -1,5 +1,7 @@
 package io.quarkiverse.langchain4j.ollama;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Duration;
@@ -8,8 +10,10 @@ import java.util.concurrent.TimeUnit;
 import org.jboss.resteasy.reactive.client.api.LoggingScope;
 
 import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 
-public class OllamaClient {
+public class OllamaClient implements Closeable {
 
     private final OllamaRestApi restApi;
 
@@ -35,7 +39,29 @@ public class OllamaClient {
         return restApi.generate(request);
     }
 
+    public Uni<CompletionResponse> completionAsync(CompletionRequest request) {
+        return restApi.asyncGenerate(request);
+    }
+
+    public Multi<ChatResponse> streamingChat(ChatRequest request) {
+        return restApi.streamingChat(request);
+    }
+
     public EmbeddingResponse embedding(EmbeddingRequest request) {
         return restApi.embeddings(request);
     }
+
+    public Uni<EmbeddingResponse> embeddingAsync(EmbeddingRequest request) {
+        return restApi.asyncEmbeddings(request);
+    }
+
+    /**
+     * Releases the connections of the client, which must not be used afterwards
+     */
+    @Override
+    public void close() throws IOException {
+        if (restApi instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
 }
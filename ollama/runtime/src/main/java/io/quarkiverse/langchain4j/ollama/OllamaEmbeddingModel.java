@@ -1,22 +1,44 @@
 package io.quarkiverse.langchain4j.ollama;
 
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
+
+import jakarta.ws.rs.WebApplicationException;
 
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.runtime.BatchDispatcher;
 
 public class OllamaEmbeddingModel implements EmbeddingModel {
 
     private final OllamaClient client;
     private final String model;
+    private final String keepAlive;
+    private final BatchDispatcher dispatcher;
 
     private OllamaEmbeddingModel(Builder builder) {
         client = new OllamaClient(builder.baseUrl, builder.timeout, builder.logRequests, builder.logResponses);
         model = builder.model;
+        keepAlive = builder.keepAlive;
+        // the embeddings API only accepts a single prompt, so the only way to speed things up is to send several at once
+        dispatcher = BatchDispatcher.builder()
+                .maxBatchSize(1)
+                .maxConcurrency(builder.maxConcurrency)
+                .maxRetries(builder.maxRetries)
+                .retryable(new Predicate<>() {
+                    @Override
+                    public boolean test(Throwable failure) {
+                        if (failure instanceof WebApplicationException e) {
+                            int status = e.getResponse().getStatus();
+                            return status == 429 || status >= 500;
+                        }
+                        return BatchDispatcher.isTransient(failure);
+                    }
+                })
+                .build();
     }
 
     public static Builder builder() {
@@ -25,17 +47,14 @@ public class OllamaEmbeddingModel implements EmbeddingModel {
 
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
-        List<Embedding> embeddings = new ArrayList<>();
-
-        textSegments.forEach(textSegment -> {
+        List<Embedding> embeddings = dispatcher.dispatch(textSegments, batch -> {
             EmbeddingRequest request = EmbeddingRequest.builder()
                     .model(model)
-                    .prompt(textSegment.text())
+                    .keepAlive(keepAlive)
+                    .prompt(batch.get(0).text())
                     .build();
 
-            EmbeddingResponse response = client.embedding(request);
-
-            embeddings.add(Embedding.from(response.getEmbedding()));
+            return client.embeddingAsync(request).map(response -> List.of(Embedding.from(response.getEmbedding())));
         });
 
         return Response.from(embeddings);
@@ -45,6 +64,9 @@ public class OllamaEmbeddingModel implements EmbeddingModel {
         private String baseUrl = "http://localhost:11434";
         private Duration timeout = Duration.ofSeconds(10);
         private String model;
+        private String keepAlive;
+        private int maxConcurrency = 4;
+        private int maxRetries = 3;
 
         private boolean logRequests = false;
         private boolean logResponses = false;
@@ -67,6 +89,31 @@ public class OllamaEmbeddingModel implements EmbeddingModel {
             return this;
         }
 
+        /**
+         * The maximum number of embedding requests sent concurrently by {@link OllamaEmbeddingModel#embedAll(List)}
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * How many times an embedding request failing with a transient error is retried
+         */
+        public Builder maxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * How long Ollama keeps the model loaded after a request, for example {@code 5m} or {@code -1} to keep it loaded
+         * indefinitely
+         */
+        public Builder keepAlive(String val) {
+            keepAlive = val;
+            return this;
+        }
+
         public Builder logRequests(boolean logRequests) {
             this.logRequests = logRequests;
             return this;
@@ -10,12 +10,15 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.RestStreamElementType;
 import org.jboss.resteasy.reactive.client.api.ClientLogger;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.quarkiverse.langchain4j.QuarkusJsonCodecFactory;
 import io.quarkus.rest.client.reactive.jackson.ClientObjectMapper;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
@@ -36,10 +39,26 @@ public interface OllamaRestApi {
     @POST
     CompletionResponse generate(CompletionRequest request);
 
+    @Path("/api/generate")
+    @POST
+    Uni<CompletionResponse> asyncGenerate(CompletionRequest request);
+
+    /**
+     * Ollama streams the response as newline-delimited JSON, each line being deserialized as soon as it is received
+     */
+    @Path("/api/chat")
+    @POST
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    Multi<ChatResponse> streamingChat(ChatRequest request);
+
     @Path("/api/embeddings")
     @POST
     EmbeddingResponse embeddings(EmbeddingRequest request);
 
+    @Path("/api/embeddings")
+    @POST
+    Uni<EmbeddingResponse> asyncEmbeddings(EmbeddingRequest request);
+
     @ClientObjectMapper
     static ObjectMapper objectMapper(ObjectMapper defaultObjectMapper) {
         return QuarkusJsonCodecFactory.SnakeCaseObjectMapperHolder.MAPPER;
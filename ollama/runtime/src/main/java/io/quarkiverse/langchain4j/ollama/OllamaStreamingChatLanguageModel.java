@@ -0,0 +1,160 @@
+package io.quarkiverse.langchain4j.ollama;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import io.quarkiverse.langchain4j.runtime.StreamingResponseSubscriber;
+
+/**
+ * Streams the response of the chat API of Ollama, so that the tokens are handed over as soon as they are generated.
+ * <p>
+ * Unlike {@link OllamaChatLanguageModel}, the messages are sent with their role instead of being flattened into a single
+ * prompt, so that the template of the model is applied.
+ */
+public class OllamaStreamingChatLanguageModel implements StreamingChatLanguageModel {
+
+    private final OllamaClient client;
+    private final String model;
+    private final String keepAlive;
+    private final Options options;
+
+    private OllamaStreamingChatLanguageModel(Builder builder) {
+        client = new OllamaClient(builder.baseUrl, builder.timeout, builder.logRequests, builder.logResponses);
+        model = builder.model;
+        keepAlive = builder.keepAlive;
+        options = builder.options;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, StreamingResponseHandler<AiMessage> handler) {
+        ChatRequest request = ChatRequest.builder()
+                .model(model)
+                .keepAlive(keepAlive)
+                .messages(toOllamaMessages(messages))
+                .options(options)
+                .stream(true)
+                .build();
+
+        new StreamingResponseSubscriber<ChatResponse>(handler) {
+
+            private ChatResponse last;
+
+            @Override
+            protected String onEvent(ChatResponse response) {
+                last = response;
+                Message message = response.getMessage();
+                return message == null ? null : message.getContent();
+            }
+
+            @Override
+            protected Response<AiMessage> toResponse(AiMessage message) {
+                TokenUsage tokenUsage = null;
+                if ((last != null) && Boolean.TRUE.equals(last.getDone())) {
+                    tokenUsage = new TokenUsage(last.getPromptEvalCount(), last.getEvalCount());
+                }
+                return Response.from(message, tokenUsage);
+            }
+        }.subscribe(client.streamingChat(request));
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications,
+            StreamingResponseHandler<AiMessage> handler) {
+        throw new IllegalArgumentException("Tools are currently not supported for Ollama models");
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, ToolSpecification toolSpecification,
+            StreamingResponseHandler<AiMessage> handler) {
+        throw new IllegalArgumentException("Tools are currently not supported for Ollama models");
+    }
+
+    private static List<Message> toOllamaMessages(List<ChatMessage> messages) {
+        List<Message> result = new ArrayList<>(messages.size());
+        for (ChatMessage message : messages) {
+            Role role;
+            if (message instanceof SystemMessage) {
+                role = Role.SYSTEM;
+            } else if (message instanceof UserMessage) {
+                role = Role.USER;
+            } else if (message instanceof AiMessage) {
+                role = Role.ASSISTANT;
+            } else {
+                throw new IllegalArgumentException("Tools are currently not supported for Ollama models");
+            }
+            result.add(Message.builder().role(role).content(message.text()).build());
+        }
+        return result;
+    }
+
+    public static final class Builder {
+        private String baseUrl = "http://localhost:11434";
+        private Duration timeout = Duration.ofSeconds(10);
+        private String model;
+        private String keepAlive;
+        private Options options;
+
+        private boolean logRequests = false;
+        private boolean logResponses = false;
+
+        private Builder() {
+        }
+
+        public Builder baseUrl(String val) {
+            baseUrl = val;
+            return this;
+        }
+
+        public Builder timeout(Duration val) {
+            this.timeout = val;
+            return this;
+        }
+
+        public Builder model(String val) {
+            model = val;
+            return this;
+        }
+
+        public Builder options(Options val) {
+            options = val;
+            return this;
+        }
+
+        /**
+         * How long Ollama keeps the model loaded after a request, for example {@code 5m} or {@code -1} to keep it loaded
+         * indefinitely
+         */
+        public Builder keepAlive(String val) {
+            keepAlive = val;
+            return this;
+        }
+
+        public Builder logRequests(boolean logRequests) {
+            this.logRequests = logRequests;
+            return this;
+        }
+
+        public Builder logResponses(boolean logResponses) {
+            this.logResponses = logResponses;
+            return this;
+        }
+
+        public OllamaStreamingChatLanguageModel build() {
+            return new OllamaStreamingChatLanguageModel(this);
+        }
+    }
+}
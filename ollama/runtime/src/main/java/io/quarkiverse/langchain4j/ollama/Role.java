@@ -0,0 +1,16 @@
+package io.quarkiverse.langchain4j.ollama;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The author of a {@link Message} of the chat API
+ */
+public enum Role {
+
+    @JsonProperty("system")
+    SYSTEM,
+    @JsonProperty("user")
+    USER,
+    @JsonProperty("assistant")
+    ASSISTANT
+}
@@ -1,37 +1,47 @@
 package io.quarkiverse.langchain4j.ollama.runtime;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.jboss.logging.Logger;
+
+import io.quarkiverse.langchain4j.ollama.CompletionRequest;
+import io.quarkiverse.langchain4j.ollama.EmbeddingRequest;
 import io.quarkiverse.langchain4j.ollama.OllamaChatLanguageModel;
+import io.quarkiverse.langchain4j.ollama.OllamaClient;
 import io.quarkiverse.langchain4j.ollama.OllamaEmbeddingModel;
+import io.quarkiverse.langchain4j.ollama.OllamaStreamingChatLanguageModel;
 import io.quarkiverse.langchain4j.ollama.Options;
 import io.quarkiverse.langchain4j.ollama.runtime.config.ChatModelConfig;
 import io.quarkiverse.langchain4j.ollama.runtime.config.EmbeddingModelConfig;
 import io.quarkiverse.langchain4j.ollama.runtime.config.Langchain4jOllamaConfig;
+import io.quarkiverse.langchain4j.runtime.CachingEmbeddingModel;
 import io.quarkiverse.langchain4j.runtime.NamedModelUtil;
 import io.quarkus.runtime.annotations.Recorder;
+import io.smallrye.mutiny.Uni;
 
 @Recorder
 public class OllamaRecorder {
 
+    private static final Logger log = Logger.getLogger(OllamaRecorder.class);
+
     public Supplier<?> chatModel(Langchain4jOllamaConfig runtimeConfig, String modelName) {
         Langchain4jOllamaConfig.OllamaConfig ollamaConfig = correspondingOllamaConfig(runtimeConfig, modelName);
         ChatModelConfig chatModelConfig = ollamaConfig.chatModel();
-        Options.Builder optionsBuilder = Options.builder()
-                .temperature(chatModelConfig.temperature())
-                .topK(chatModelConfig.topK())
-                .topP(chatModelConfig.topP())
-                .numPredict(chatModelConfig.numPredict());
-        if (chatModelConfig.stop().isPresent()) {
-            optionsBuilder.stop(chatModelConfig.stop().get());
-        }
         var builder = OllamaChatLanguageModel.builder()
                 .baseUrl(ollamaConfig.baseUrl())
                 .timeout(ollamaConfig.timeout())
                 .logRequests(ollamaConfig.logRequests())
                 .logResponses(ollamaConfig.logResponses())
                 .model(chatModelConfig.modelId())
-                .options(optionsBuilder.build());
+                .keepAlive(ollamaConfig.keepAlive().orElse(null))
+                .options(chatOptions(chatModelConfig));
 
         return new Supplier<>() {
             @Override
@@ -41,6 +51,38 @@ public class OllamaRecorder {
         };
     }
 
+    public Supplier<?> streamingChatModel(Langchain4jOllamaConfig runtimeConfig, String modelName) {
+        Langchain4jOllamaConfig.OllamaConfig ollamaConfig = correspondingOllamaConfig(runtimeConfig, modelName);
+        ChatModelConfig chatModelConfig = ollamaConfig.chatModel();
+        var builder = OllamaStreamingChatLanguageModel.builder()
+                .baseUrl(ollamaConfig.baseUrl())
+                .timeout(ollamaConfig.timeout())
+                .logRequests(ollamaConfig.logRequests())
+                .logResponses(ollamaConfig.logResponses())
+                .model(chatModelConfig.modelId())
+                .keepAlive(ollamaConfig.keepAlive().orElse(null))
+                .options(chatOptions(chatModelConfig));
+
+        return new Supplier<>() {
+            @Override
+            public Object get() {
+                return builder.build();
+            }
+        };
+    }
+
+    private Options chatOptions(ChatModelConfig chatModelConfig) {
+        Options.Builder optionsBuilder = Options.builder()
+                .temperature(chatModelConfig.temperature())
+                .topK(chatModelConfig.topK())
+                .topP(chatModelConfig.topP())
+                .numPredict(chatModelConfig.numPredict());
+        if (chatModelConfig.stop().isPresent()) {
+            optionsBuilder.stop(chatModelConfig.stop().get());
+        }
+        return optionsBuilder.build();
+    }
+
     public Supplier<?> embeddingModel(Langchain4jOllamaConfig runtimeConfig, String modelName) {
         Langchain4jOllamaConfig.OllamaConfig ollamaConfig = correspondingOllamaConfig(runtimeConfig, modelName);
         EmbeddingModelConfig embeddingModelConfig = ollamaConfig.embeddingModel();
@@ -55,16 +97,99 @@ public class OllamaRecorder {
         var builder = OllamaEmbeddingModel.builder()
                 .baseUrl(ollamaConfig.baseUrl())
                 .timeout(ollamaConfig.timeout())
-                .model(embeddingModelConfig.modelId());
+                .model(embeddingModelConfig.modelId())
+                .keepAlive(ollamaConfig.keepAlive().orElse(null))
+                .maxConcurrency(embeddingModelConfig.maxConcurrency())
+                .maxRetries(embeddingModelConfig.maxRetries());
 
         return new Supplier<>() {
             @Override
             public Object get() {
-                return builder.build();
+                return CachingEmbeddingModel.decorate(builder.build(), "ollama:" + embeddingModelConfig.modelId());
             }
         };
     }
 
+    /**
+     * Loads the chat and embedding models of the configurations having {@code warm-up} enabled, by sending them a request
+     * without a prompt, so that the application only becomes ready once Ollama can serve the first requests without a cold
+     * load. A model that cannot be loaded in time does not fail the startup, it is loaded by the first request instead.
+     */
+    public void warmUp(Langchain4jOllamaConfig runtimeConfig, List<String> chatModelNames,
+            List<String> embeddingModelNames) {
+        // one client per configuration, closed once the models are loaded
+        Map<Langchain4jOllamaConfig.OllamaConfig, OllamaClient> clients = new IdentityHashMap<>();
+        List<Uni<Void>> loads = new ArrayList<>();
+        try {
+            for (String modelName : chatModelNames) {
+                Langchain4jOllamaConfig.OllamaConfig ollamaConfig = correspondingOllamaConfig(runtimeConfig, modelName);
+                if (ollamaConfig.warmUp()) {
+                    String modelId = ollamaConfig.chatModel().modelId();
+                    CompletionRequest request = CompletionRequest.builder()
+                            .model(modelId)
+                            .keepAlive(ollamaConfig.keepAlive().orElse(null))
+                            .build();
+                    loads.add(logFailure(client(clients, ollamaConfig).completionAsync(request), modelId));
+                }
+            }
+            for (String modelName : embeddingModelNames) {
+                Langchain4jOllamaConfig.OllamaConfig ollamaConfig = correspondingOllamaConfig(runtimeConfig, modelName);
+                if (ollamaConfig.warmUp()) {
+                    String modelId = ollamaConfig.embeddingModel().modelId();
+                    EmbeddingRequest request = EmbeddingRequest.builder()
+                            .model(modelId)
+                            .keepAlive(ollamaConfig.keepAlive().orElse(null))
+                            .prompt("")
+                            .build();
+                    loads.add(logFailure(client(clients, ollamaConfig).embeddingAsync(request), modelId));
+                }
+            }
+            if (!loads.isEmpty()) {
+                // the models are loaded concurrently, each request being bounded by the warm-up timeout of its configuration
+                Uni.join().all(loads).andCollectFailures().await().indefinitely();
+            }
+        } finally {
+            for (OllamaClient client : clients.values()) {
+                try {
+                    client.close();
+                } catch (IOException e) {
+                    log.debug("Unable to close the Ollama client used to load the models", e);
+                }
+            }
+        }
+    }
+
+    private static OllamaClient client(Map<Langchain4jOllamaConfig.OllamaConfig, OllamaClient> clients,
+            Langchain4jOllamaConfig.OllamaConfig ollamaConfig) {
+        OllamaClient client = clients.get(ollamaConfig);
+        if (client == null) {
+            client = new OllamaClient(ollamaConfig.baseUrl(), ollamaConfig.warmUpTimeout(), ollamaConfig.logRequests(),
+                    ollamaConfig.logResponses());
+            clients.put(ollamaConfig, client);
+        }
+        return client;
+    }
+
+    private static Uni<Void> logFailure(Uni<?> load, String modelId) {
+        long start = System.nanoTime();
+        return load
+                .onItem().invoke(new Runnable() {
+                    @Override
+                    public void run() {
+                        log.debugf("Ollama model %s loaded in %d ms", modelId,
+                                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    }
+                })
+                .replaceWithVoid()
+                .onFailure().recoverWithItem(new Function<Throwable, Void>() {
+                    @Override
+                    public Void apply(Throwable failure) {
+                        log.warnf(failure, "Unable to load the Ollama model %s at startup", modelId);
+                        return null;
+                    }
+                });
+    }
+
     private Langchain4jOllamaConfig.OllamaConfig correspondingOllamaConfig(Langchain4jOllamaConfig runtimeConfig,
             String modelName) {
         Langchain4jOllamaConfig.OllamaConfig ollamaConfig;
@@ -49,4 +49,18 @@ public interface EmbeddingModelConfig {
      */
     @WithDefault("40")
     Integer topK();
+
+    /**
+     * The maximum number of embedding requests sent concurrently when embedding several texts at once. Ollama embeds a
+     * single text per request.
+     */
+    @WithDefault("4")
+    Integer maxConcurrency();
+
+    /**
+     * How many times an embedding request failing with a transient error, such as a timeout, a connection error or a
+     * {@code 5xx} response, is retried
+     */
+    @WithDefault("3")
+    Integer maxRetries();
 }
@@ -4,6 +4,7 @@ import static io.quarkus.runtime.annotations.ConfigPhase.RUN_TIME;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigDocSection;
@@ -45,6 +46,27 @@ public interface Langchain4jOllamaConfig {
         @WithDefault("10s")
         Duration timeout();
 
+        /**
+         * How long Ollama keeps the chat and embedding models loaded in memory after a request, for example {@code 5m},
+         * {@code 1h}, or {@code -1} to keep them loaded indefinitely. When not set, the setting of the Ollama server applies,
+         * which unloads a model after 5 minutes without requests by default.
+         */
+        Optional<String> keepAlive();
+
+        /**
+         * Whether the chat and embedding models are loaded into memory when the application starts, so that the first
+         * requests do not wait for Ollama to load them. The startup waits at most for {@code warm-up-timeout}.
+         */
+        @WithDefault("false")
+        Boolean warmUp();
+
+        /**
+         * How long the startup waits for Ollama to load the models when {@code warm-up} is enabled. Loading a large model
+         * from disk takes much longer than a request, which is why this is not bounded by {@code timeout}.
+         */
+        @WithDefault("2m")
+        Duration warmUpTimeout();
+
         /**
          * Whether the Ollama client should log requests
          */
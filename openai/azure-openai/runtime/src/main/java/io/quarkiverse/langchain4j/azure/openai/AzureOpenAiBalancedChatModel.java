@@ -0,0 +1,59 @@
+package io.quarkiverse.langchain4j.azure.openai;
+
+import java.util.List;
+import java.util.function.Function;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.TokenCountEstimator;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * A chat model balancing its requests between several Azure OpenAI deployments with an {@link AzureOpenAiLoadBalancer}
+ */
+public class AzureOpenAiBalancedChatModel implements ChatLanguageModel, TokenCountEstimator {
+
+    private final AzureOpenAiLoadBalancer<AzureOpenAiChatModel> loadBalancer;
+
+    public AzureOpenAiBalancedChatModel(AzureOpenAiLoadBalancer<AzureOpenAiChatModel> loadBalancer) {
+        this.loadBalancer = loadBalancer;
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        return loadBalancer.execute(new Function<AzureOpenAiChatModel, Response<AiMessage>>() {
+            @Override
+            public Response<AiMessage> apply(AzureOpenAiChatModel model) {
+                return model.generate(messages);
+            }
+        });
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        return loadBalancer.execute(new Function<AzureOpenAiChatModel, Response<AiMessage>>() {
+            @Override
+            public Response<AiMessage> apply(AzureOpenAiChatModel model) {
+                return model.generate(messages, toolSpecifications);
+            }
+        });
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+        return loadBalancer.execute(new Function<AzureOpenAiChatModel, Response<AiMessage>>() {
+            @Override
+            public Response<AiMessage> apply(AzureOpenAiChatModel model) {
+                return model.generate(messages, toolSpecification);
+            }
+        });
+    }
+
+    @Override
+    public int estimateTokenCount(List<ChatMessage> messages) {
+        // all the deployments use the same tokenizer
+        return loadBalancer.deployments().get(0).model().estimateTokenCount(messages);
+    }
+}
@@ -0,0 +1,39 @@
+package io.quarkiverse.langchain4j.azure.openai;
+
+import java.util.List;
+import java.util.function.Function;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.TokenCountEstimator;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * An embedding model balancing its requests between several Azure OpenAI deployments with an
+ * {@link AzureOpenAiLoadBalancer}, all the batches of a call to {@link #embedAll(List)} are sent to the same deployment
+ */
+public class AzureOpenAiBalancedEmbeddingModel implements EmbeddingModel, TokenCountEstimator {
+
+    private final AzureOpenAiLoadBalancer<AzureOpenAiEmbeddingModel> loadBalancer;
+
+    public AzureOpenAiBalancedEmbeddingModel(AzureOpenAiLoadBalancer<AzureOpenAiEmbeddingModel> loadBalancer) {
+        this.loadBalancer = loadBalancer;
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        return loadBalancer.execute(new Function<AzureOpenAiEmbeddingModel, Response<List<Embedding>>>() {
+            @Override
+            public Response<List<Embedding>> apply(AzureOpenAiEmbeddingModel model) {
+                return model.embedAll(textSegments);
+            }
+        });
+    }
+
+    @Override
+    public int estimateTokenCount(String text) {
+        // all the deployments use the same tokenizer
+        return loadBalancer.deployments().get(0).model().estimateTokenCount(text);
+    }
+}
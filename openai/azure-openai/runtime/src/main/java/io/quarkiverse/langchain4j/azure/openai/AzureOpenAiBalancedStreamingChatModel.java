@@ -0,0 +1,62 @@
+package io.quarkiverse.langchain4j.azure.openai;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.chat.TokenCountEstimator;
+
+/**
+ * A streaming chat model balancing its requests between several Azure OpenAI deployments with an
+ * {@link AzureOpenAiLoadBalancer}, a request is only sent to another deployment if it failed before streaming any token
+ */
+public class AzureOpenAiBalancedStreamingChatModel implements StreamingChatLanguageModel, TokenCountEstimator {
+
+    private final AzureOpenAiLoadBalancer<AzureOpenAiStreamingChatModel> loadBalancer;
+
+    public AzureOpenAiBalancedStreamingChatModel(AzureOpenAiLoadBalancer<AzureOpenAiStreamingChatModel> loadBalancer) {
+        this.loadBalancer = loadBalancer;
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, StreamingResponseHandler<AiMessage> handler) {
+        loadBalancer.stream(new BiConsumer<AzureOpenAiStreamingChatModel, StreamingResponseHandler<AiMessage>>() {
+            @Override
+            public void accept(AzureOpenAiStreamingChatModel model, StreamingResponseHandler<AiMessage> deploymentHandler) {
+                model.generate(messages, deploymentHandler);
+            }
+        }, handler);
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications,
+            StreamingResponseHandler<AiMessage> handler) {
+        loadBalancer.stream(new BiConsumer<AzureOpenAiStreamingChatModel, StreamingResponseHandler<AiMessage>>() {
+            @Override
+            public void accept(AzureOpenAiStreamingChatModel model, StreamingResponseHandler<AiMessage> deploymentHandler) {
+                model.generate(messages, toolSpecifications, deploymentHandler);
+            }
+        }, handler);
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, ToolSpecification toolSpecification,
+            StreamingResponseHandler<AiMessage> handler) {
+        loadBalancer.stream(new BiConsumer<AzureOpenAiStreamingChatModel, StreamingResponseHandler<AiMessage>>() {
+            @Override
+            public void accept(AzureOpenAiStreamingChatModel model, StreamingResponseHandler<AiMessage> deploymentHandler) {
+                model.generate(messages, toolSpecification, deploymentHandler);
+            }
+        }, handler);
+    }
+
+    @Override
+    public int estimateTokenCount(List<ChatMessage> messages) {
+        // all the deployments use the same tokenizer
+        return loadBalancer.deployments().get(0).model().estimateTokenCount(messages);
+    }
+}
@@ -1,6 +1,5 @@
 package io.quarkiverse.langchain4j.azure.openai;
 
-import static dev.langchain4j.internal.RetryUtils.withRetry;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.model.openai.InternalOpenAiHelper.*;
@@ -11,7 +10,6 @@ import java.net.Proxy;
 import java.time.Duration;
 import java.util.List;
 
-import dev.ai4j.openai4j.OpenAiClient;
 import dev.ai4j.openai4j.chat.ChatCompletionRequest;
 import dev.ai4j.openai4j.chat.ChatCompletionResponse;
 import dev.langchain4j.agent.tool.ToolSpecification;
@@ -21,6 +19,8 @@ import dev.langchain4j.model.Tokenizer;
 import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.model.chat.TokenCountEstimator;
 import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.openai.OpenAiRateLimiter;
+import io.quarkiverse.langchain4j.openai.QuarkusOpenAiClient;
 
 /**
  * Represents an OpenAI language model, hosted on Azure, that has a chat completion interface, such as gpt-3.5-turbo.
@@ -43,13 +43,12 @@ import dev.langchain4j.model.output.Response;
  */
 public class AzureOpenAiChatModel implements ChatLanguageModel, TokenCountEstimator {
 
-    private final OpenAiClient client;
+    private final QuarkusOpenAiClient client;
     private final Double temperature;
     private final Double topP;
     private final Integer maxTokens;
     private final Double presencePenalty;
     private final Double frequencyPenalty;
-    private final Integer maxRetries;
     private final Tokenizer tokenizer;
 
     public AzureOpenAiChatModel(String endpoint,
@@ -65,11 +64,12 @@ public class AzureOpenAiChatModel implements ChatLanguageModel, TokenCountEstima
             Integer maxRetries,
             Proxy proxy,
             Boolean logRequests,
-            Boolean logResponses) {
+            Boolean logResponses,
+            OpenAiRateLimiter.Options rateLimiter) {
 
         timeout = getOrDefault(timeout, ofSeconds(60));
 
-        this.client = OpenAiClient.builder()
+        this.client = QuarkusOpenAiClient.builder()
                 .baseUrl(ensureNotBlank(endpoint, "endpoint"))
                 .azureApiKey(apiKey)
                 .apiVersion(apiVersion)
@@ -80,13 +80,15 @@ public class AzureOpenAiChatModel implements ChatLanguageModel, TokenCountEstima
                 .proxy(proxy)
                 .logRequests(logRequests)
                 .logResponses(logResponses)
+                // same number of attempts as the other models
+                .maxRetries(Math.max(getOrDefault(maxRetries, 3) - 1, 0))
+                .rateLimiter(rateLimiter)
                 .build();
         this.temperature = getOrDefault(temperature, 0.7);
         this.topP = topP;
         this.maxTokens = maxTokens;
         this.presencePenalty = presencePenalty;
         this.frequencyPenalty = frequencyPenalty;
-        this.maxRetries = getOrDefault(maxRetries, 3);
         this.tokenizer = tokenizer;
     }
 
@@ -125,7 +127,7 @@ public class AzureOpenAiChatModel implements ChatLanguageModel, TokenCountEstima
 
         ChatCompletionRequest request = requestBuilder.build();
 
-        ChatCompletionResponse response = withRetry(() -> client.chatCompletion(request).execute(), maxRetries);
+        ChatCompletionResponse response = client.chatCompletion(request).execute();
 
         return Response.from(
                 aiMessageFrom(response),
@@ -158,6 +160,7 @@ public class AzureOpenAiChatModel implements ChatLanguageModel, TokenCountEstima
         private Proxy proxy;
         private Boolean logRequests;
         private Boolean logResponses;
+        private OpenAiRateLimiter.Options rateLimiter;
 
         /**
          * Sets the Azure OpenAI endpoint. This is a mandatory parameter.
@@ -248,6 +251,17 @@ public class AzureOpenAiChatModel implements ChatLanguageModel, TokenCountEstima
             return this;
         }
 
+        /**
+         * Holds back the requests that would exceed the rate limits reported by the deployment.
+         *
+         * @param rateLimiter {@code null} to send all the requests right away
+         * @return builder
+         */
+        public Builder rateLimiter(OpenAiRateLimiter.Options rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
         public AzureOpenAiChatModel build() {
             return new AzureOpenAiChatModel(endpoint,
                     apiVersion,
@@ -262,7 +276,8 @@ public class AzureOpenAiChatModel implements ChatLanguageModel, TokenCountEstima
                     maxRetries,
                     proxy,
                     logRequests,
-                    logResponses);
+                    logResponses,
+                    rateLimiter);
         }
     }
 }
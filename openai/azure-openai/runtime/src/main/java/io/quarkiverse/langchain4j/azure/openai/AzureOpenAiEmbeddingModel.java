@@ -1,26 +1,24 @@
 package io.quarkiverse.langchain4j.azure.openai;
 
-import static dev.langchain4j.internal.RetryUtils.withRetry;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.model.openai.OpenAiModelName.TEXT_EMBEDDING_ADA_002;
 import static java.time.Duration.ofSeconds;
-import static java.util.stream.Collectors.toList;
 
 import java.net.Proxy;
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.List;
 
-import dev.ai4j.openai4j.OpenAiClient;
-import dev.ai4j.openai4j.embedding.EmbeddingRequest;
-import dev.ai4j.openai4j.embedding.EmbeddingResponse;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.Tokenizer;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.embedding.TokenCountEstimator;
+import dev.langchain4j.model.openai.OpenAiTokenizer;
 import dev.langchain4j.model.output.Response;
-import dev.langchain4j.model.output.TokenUsage;
+import io.quarkiverse.langchain4j.openai.OpenAiEmbeddingDispatcher;
+import io.quarkiverse.langchain4j.openai.OpenAiRateLimiter;
+import io.quarkiverse.langchain4j.openai.QuarkusOpenAiClient;
 
 /**
  * Represents an OpenAI embedding model, hosted on Azure, such as text-embedding-ada-002.
@@ -43,9 +41,8 @@ public class AzureOpenAiEmbeddingModel implements EmbeddingModel, TokenCountEsti
 
     private static final int BATCH_SIZE = 16;
 
-    private final OpenAiClient client;
-    private final Integer maxRetries;
     private final Tokenizer tokenizer;
+    private final OpenAiEmbeddingDispatcher dispatcher;
 
     public AzureOpenAiEmbeddingModel(String endpoint,
             String apiVersion,
@@ -55,11 +52,14 @@ public class AzureOpenAiEmbeddingModel implements EmbeddingModel, TokenCountEsti
             Integer maxRetries,
             Proxy proxy,
             Boolean logRequests,
-            Boolean logResponses) {
+            Boolean logResponses,
+            Integer maxConcurrency,
+            Integer maxBatchTokens,
+            OpenAiRateLimiter.Options rateLimiter) {
 
         timeout = getOrDefault(timeout, ofSeconds(60));
 
-        this.client = OpenAiClient.builder()
+        QuarkusOpenAiClient client = QuarkusOpenAiClient.builder()
                 .baseUrl(ensureNotBlank(endpoint, "endpoint"))
                 .azureApiKey(apiKey)
                 .apiVersion(apiVersion)
@@ -70,13 +70,22 @@ public class AzureOpenAiEmbeddingModel implements EmbeddingModel, TokenCountEsti
                 .proxy(proxy)
                 .logRequests(logRequests)
                 .logResponses(logResponses)
+                .rateLimiter(rateLimiter)
+                .build();
+        this.tokenizer = getOrDefault(tokenizer, new OpenAiTokenizer(TEXT_EMBEDDING_ADA_002));
+        this.dispatcher = OpenAiEmbeddingDispatcher.builder()
+                .client(client)
+                .tokenCountEstimator(this)
+                .maxBatchSize(BATCH_SIZE)
+                .maxBatchTokens(getOrDefault(maxBatchTokens, 8191))
+                .maxConcurrency(getOrDefault(maxConcurrency, 4))
+                .maxRetries(getOrDefault(maxRetries, 3))
                 .build();
-        this.maxRetries = getOrDefault(maxRetries, 3);
-        this.tokenizer = tokenizer;
     }
 
     /**
-     * Embeds the provided text segments, processing a maximum of 16 segments at a time.
+     * Embeds the provided text segments, processing a maximum of 16 segments, and at most {@code maxBatchTokens} estimated
+     * tokens, per request. Up to {@code maxConcurrency} requests are sent concurrently.
      * For more information, refer to the documentation <a href=
      * "https://learn.microsoft.com/en-us/azure/ai-services/openai/faq#i-am-trying-to-use-embeddings-and-received-the-error--invalidrequesterror--too-many-inputs--the-max-number-of-inputs-is-1---how-do-i-fix-this-">here</a>.
      *
@@ -85,39 +94,7 @@ public class AzureOpenAiEmbeddingModel implements EmbeddingModel, TokenCountEsti
      */
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
-
-        List<String> texts = textSegments.stream()
-                .map(TextSegment::text)
-                .collect(toList());
-
-        return embedTexts(texts);
-    }
-
-    private Response<List<Embedding>> embedTexts(List<String> texts) {
-
-        List<Embedding> embeddings = new ArrayList<>();
-
-        int inputTokenCount = 0;
-        for (int i = 0; i < texts.size(); i += BATCH_SIZE) {
-
-            List<String> batch = texts.subList(i, Math.min(i + BATCH_SIZE, texts.size()));
-
-            EmbeddingRequest request = EmbeddingRequest.builder()
-                    .input(batch)
-                    .build();
-
-            EmbeddingResponse response = withRetry(() -> client.embedding(request).execute(), maxRetries);
-
-            embeddings.addAll(response.data().stream()
-                    .map(openAiEmbedding -> Embedding.from(openAiEmbedding.embedding()))
-                    .collect(toList()));
-
-            inputTokenCount += response.usage().promptTokens();
-        }
-
-        return Response.from(
-                embeddings,
-                new TokenUsage(inputTokenCount));
+        return dispatcher.embedAll(textSegments);
     }
 
     @Override
@@ -140,6 +117,9 @@ public class AzureOpenAiEmbeddingModel implements EmbeddingModel, TokenCountEsti
         private Proxy proxy;
         private Boolean logRequests;
         private Boolean logResponses;
+        private Integer maxConcurrency;
+        private Integer maxBatchTokens;
+        private OpenAiRateLimiter.Options rateLimiter;
 
         /**
          * Sets the Azure OpenAI endpoint. This is a mandatory parameter.
@@ -205,6 +185,40 @@ public class AzureOpenAiEmbeddingModel implements EmbeddingModel, TokenCountEsti
             return this;
         }
 
+        /**
+         * Sets the maximum number of embedding requests sent concurrently by a single {@code embedAll} call.
+         *
+         * @param maxConcurrency defaults to 4
+         * @return builder
+         */
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Sets the maximum estimated number of tokens sent in a single embedding request.
+         *
+         * @param maxBatchTokens defaults to 8191, the maximum number of tokens of a request to the embedding models of
+         *        Azure OpenAI
+         * @return builder
+         */
+        public Builder maxBatchTokens(Integer maxBatchTokens) {
+            this.maxBatchTokens = maxBatchTokens;
+            return this;
+        }
+
+        /**
+         * Holds back the requests that would exceed the rate limits reported by the deployment.
+         *
+         * @param rateLimiter {@code null} to send all the requests right away
+         * @return builder
+         */
+        public Builder rateLimiter(OpenAiRateLimiter.Options rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
         public AzureOpenAiEmbeddingModel build() {
             return new AzureOpenAiEmbeddingModel(endpoint,
                     apiVersion,
@@ -214,7 +228,10 @@ public class AzureOpenAiEmbeddingModel implements EmbeddingModel, TokenCountEsti
                     maxRetries,
                     proxy,
                     logRequests,
-                    logResponses);
+                    logResponses,
+                    maxConcurrency,
+                    maxBatchTokens,
+                    rateLimiter);
         }
     }
 }
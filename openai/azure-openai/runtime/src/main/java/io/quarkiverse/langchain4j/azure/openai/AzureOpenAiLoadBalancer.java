@@ -0,0 +1,243 @@
+package io.quarkiverse.langchain4j.azure.openai;
+
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.jboss.logging.Logger;
+
+import dev.ai4j.openai4j.OpenAiHttpException;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.openai.OpenAiRateLimitException;
+import io.quarkiverse.langchain4j.openai.OpenAiRequestRejectedException;
+
+/**
+ * Balances the requests of a model between several Azure OpenAI deployments of the same model, typically in different
+ * regions, so that the throughput grows with the number of deployments.
+ * <p>
+ * Each request is sent to the deployment with the fewest outstanding requests relative to its weight. A deployment that
+ * rate limits a request ({@code 429}), fails with a server error ({@code 5xx}) or cannot be connected to is ejected: it
+ * receives no request until it tells it will accept them again, or for the eject duration, and the request is sent to
+ * another deployment instead. When the client of a deployment limits its rate, the requests it would hold back too long are
+ * sent to another deployment as well, which routes the requests to the deployments having quota left.
+ * <p>
+ * When all the deployments are ejected, the one coming back first is still used rather than failing the requests.
+ *
+ * @param <M> the type of the model of each deployment
+ */
+public final class AzureOpenAiLoadBalancer<M> {
+
+    private static final Logger log = Logger.getLogger(AzureOpenAiLoadBalancer.class);
+
+    private final List<Deployment<M>> deployments;
+    private final Duration ejectDuration;
+    private final int maxAttempts;
+
+    /**
+     * @param ejectDuration how long a failing deployment is ejected when it does not tell when to send requests again
+     * @param maxAttempts how many deployments a request is sent to before its failure is reported
+     */
+    public AzureOpenAiLoadBalancer(List<Deployment<M>> deployments, Duration ejectDuration, int maxAttempts) {
+        if (deployments.isEmpty()) {
+            throw new IllegalArgumentException("At least one deployment is required");
+        }
+        this.deployments = new ArrayList<>(deployments);
+        this.ejectDuration = ejectDuration;
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    public List<Deployment<M>> deployments() {
+        return deployments;
+    }
+
+    /**
+     * Sends a blocking request to the least loaded deployment, and to the next one when it fails in a way another
+     * deployment may not
+     */
+    public <T> T execute(Function<M, T> request) {
+        Set<Deployment<M>> tried = new HashSet<>();
+        RuntimeException failure = null;
+        while (tried.size() < maxAttempts) {
+            Deployment<M> deployment = select(tried);
+            if (deployment == null) {
+                break;
+            }
+            tried.add(deployment);
+            deployment.outstanding.incrementAndGet();
+            try {
+                return request.apply(deployment.model);
+            } catch (RuntimeException e) {
+                if (!eject(deployment, e)) {
+                    throw e;
+                }
+                failure = e;
+            } finally {
+                deployment.outstanding.decrementAndGet();
+            }
+        }
+        throw failure;
+    }
+
+    /**
+     * Sends a streaming request to the least loaded deployment, and to the next one when it fails before streaming any
+     * token in a way another deployment may not
+     */
+    public <T> void stream(BiConsumer<M, StreamingResponseHandler<T>> request, StreamingResponseHandler<T> handler) {
+        stream(request, handler, new HashSet<>());
+    }
+
+    private <T> void stream(BiConsumer<M, StreamingResponseHandler<T>> request, StreamingResponseHandler<T> handler,
+            Set<Deployment<M>> tried) {
+        Deployment<M> deployment = select(tried);
+        tried.add(deployment);
+        deployment.outstanding.incrementAndGet();
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicBoolean streaming = new AtomicBoolean();
+        StreamingResponseHandler<T> deploymentHandler = new StreamingResponseHandler<T>() {
+            @Override
+            public void onNext(String token) {
+                streaming.set(true);
+                handler.onNext(token);
+            }
+
+            @Override
+            public void onComplete(Response<T> response) {
+                if (done.compareAndSet(false, true)) {
+                    deployment.outstanding.decrementAndGet();
+                }
+                handler.onComplete(response);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                if (done.compareAndSet(false, true)) {
+                    deployment.outstanding.decrementAndGet();
+                }
+                // the tokens already streamed cannot be taken back
+                if (eject(deployment, error) && !streaming.get() && tried.size() < maxAttempts
+                        && select(tried) != null) {
+                    stream(request, handler, tried);
+                    return;
+                }
+                handler.onError(error);
+            }
+        };
+        try {
+            request.accept(deployment.model, deploymentHandler);
+        } catch (RuntimeException e) {
+            // failing before sending the request, such as being rejected by the rate limiter, is handled as any failure
+            deploymentHandler.onError(e);
+        }
+    }
+
+    /**
+     * @return the deployment with the fewest outstanding requests relative to its weight among the ones not ejected and not
+     *         tried yet, the one coming back first if they are all ejected, or {@code null} if they were all tried
+     */
+    private Deployment<M> select(Set<Deployment<M>> tried) {
+        long now = System.currentTimeMillis();
+        Deployment<M> selected = null;
+        double selectedLoad = Double.MAX_VALUE;
+        Deployment<M> firstBack = null;
+        // the deployments having the same load are picked at random
+        int start = ThreadLocalRandom.current().nextInt(deployments.size());
+        for (int i = 0; i < deployments.size(); i++) {
+            Deployment<M> deployment = deployments.get((start + i) % deployments.size());
+            if (tried.contains(deployment)) {
+                continue;
+            }
+            if (deployment.ejectedUntil > now) {
+                if (firstBack == null || deployment.ejectedUntil < firstBack.ejectedUntil) {
+                    firstBack = deployment;
+                }
+                continue;
+            }
+            double load = (deployment.outstanding.get() + 1) / (double) deployment.weight;
+            if (load < selectedLoad) {
+                selected = deployment;
+                selectedLoad = load;
+            }
+        }
+        return selected != null ? selected : firstBack;
+    }
+
+    /**
+     * Ejects the deployment if the failure tells it should not receive requests for a while
+     *
+     * @return whether the deployment was ejected, the request can then be sent to another deployment
+     */
+    private boolean eject(Deployment<M> deployment, Throwable failure) {
+        Duration duration = ejectDuration(failure);
+        if (duration == null) {
+            return false;
+        }
+        log.warnf("Ejecting the Azure OpenAI deployment %s for %d ms: %s", deployment.endpoint, duration.toMillis(),
+                failure.getMessage());
+        deployment.ejectedUntil = Math.max(deployment.ejectedUntil, System.currentTimeMillis() + duration.toMillis());
+        return true;
+    }
+
+    Duration ejectDuration(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OpenAiRequestRejectedException rejected) {
+                return rejected.retryAfter();
+            }
+            if (cause instanceof OpenAiRateLimitException rateLimited) {
+                return rateLimited.retryAfter().orElse(ejectDuration);
+            }
+            if (cause instanceof OpenAiHttpException httpException) {
+                return httpException.code() >= 500 ? ejectDuration : null;
+            }
+            if (cause instanceof ConnectException || cause instanceof NoRouteToHostException
+                    || cause instanceof UnknownHostException) {
+                return ejectDuration;
+            }
+        }
+        return null;
+    }
+
+    public static final class Deployment<M> {
+
+        private final String endpoint;
+        private final M model;
+        private final int weight;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        // wall clock time until which no request is sent to the deployment
+        private volatile long ejectedUntil;
+
+        /**
+         * @param weight the share of the requests sent to the deployment, relative to the weights of the other deployments
+         */
+        public Deployment(String endpoint, M model, int weight) {
+            this.endpoint = endpoint;
+            this.model = model;
+            this.weight = Math.max(1, weight);
+        }
+
+        public String endpoint() {
+            return endpoint;
+        }
+
+        public M model() {
+            return model;
+        }
+
+        /**
+         * @return the number of requests sent to the deployment and not completed yet
+         */
+        public int outstanding() {
+            return outstanding.get();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import static dev.langchain4j.internal.Utils.isNullOrEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.model.openai.InternalOpenAiHelper.toFunctions;
 import static dev.langchain4j.model.openai.InternalOpenAiHelper.toOpenAiMessages;
+import static dev.langchain4j.model.openai.OpenAiModelName.GPT_3_5_TURBO;
 import static java.time.Duration.ofSeconds;
 import static java.util.Collections.singletonList;
 
@@ -25,7 +26,9 @@ import dev.langchain4j.model.Tokenizer;
 import dev.langchain4j.model.chat.StreamingChatLanguageModel;
 import dev.langchain4j.model.chat.TokenCountEstimator;
 import dev.langchain4j.model.openai.OpenAiStreamingResponseBuilder;
+import dev.langchain4j.model.openai.OpenAiTokenizer;
 import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.runtime.CachingTokenizer;
 
 /**
  * Represents an OpenAI language model, hosted on Azure, that has a chat completion interface, such as gpt-3.5-turbo.
@@ -49,18 +52,22 @@ import dev.langchain4j.model.output.Response;
  */
 public class AzureOpenAiStreamingChatModel implements StreamingChatLanguageModel, TokenCountEstimator {
 
+    private static final int TOKEN_COUNT_CACHE_SIZE = 10_000;
+
     private final OpenAiClient client;
     private final Double temperature;
     private final Double topP;
     private final Integer maxTokens;
     private final Double presencePenalty;
     private final Double frequencyPenalty;
+
     private final Tokenizer tokenizer;
 
     public AzureOpenAiStreamingChatModel(String endpoint,
             String apiVersion,
             String apiKey,
             Tokenizer tokenizer,
+            Integer tokenCountCacheSize,
             Double temperature,
             Double topP,
             Integer maxTokens,
@@ -90,7 +97,10 @@ public class AzureOpenAiStreamingChatModel implements StreamingChatLanguageModel
         this.maxTokens = maxTokens;
         this.presencePenalty = presencePenalty;
         this.frequencyPenalty = frequencyPenalty;
-        this.tokenizer = tokenizer;
+        tokenizer = getOrDefault(tokenizer, new OpenAiTokenizer(GPT_3_5_TURBO));
+        tokenCountCacheSize = getOrDefault(tokenCountCacheSize, TOKEN_COUNT_CACHE_SIZE);
+        // the messages of a conversation are sent again on every turn, so their token count is kept
+        this.tokenizer = tokenCountCacheSize > 0 ? new CachingTokenizer(tokenizer, tokenCountCacheSize) : tokenizer;
     }
 
     @Override
@@ -183,6 +193,7 @@ public class AzureOpenAiStreamingChatModel implements StreamingChatLanguageModel
         private String apiVersion;
         private String apiKey;
         private Tokenizer tokenizer;
+        private Integer tokenCountCacheSize;
         private Double temperature;
         private Double topP;
         private Integer maxTokens;
@@ -232,6 +243,18 @@ public class AzureOpenAiStreamingChatModel implements StreamingChatLanguageModel
             return this;
         }
 
+        /**
+         * Sets the maximum number of messages whose token count is kept to estimate the token count of conversations, 0
+         * disabling the cache. Defaults to 10,000.
+         *
+         * @param tokenCountCacheSize The maximum number of messages whose token count is kept.
+         * @return builder
+         */
+        public Builder tokenCountCacheSize(Integer tokenCountCacheSize) {
+            this.tokenCountCacheSize = tokenCountCacheSize;
+            return this;
+        }
+
         public Builder temperature(Double temperature) {
             this.temperature = temperature;
             return this;
@@ -282,6 +305,7 @@ public class AzureOpenAiStreamingChatModel implements StreamingChatLanguageModel
                     apiVersion,
                     apiKey,
                     tokenizer,
+                    tokenCountCacheSize,
                     temperature,
                     topP,
                     maxTokens,
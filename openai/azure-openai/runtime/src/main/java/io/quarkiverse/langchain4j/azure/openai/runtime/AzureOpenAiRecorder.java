@@ -3,19 +3,30 @@ package io.quarkiverse.langchain4j.azure.openai.runtime;
 import static io.quarkiverse.langchain4j.runtime.OptionalUtil.firstOrDefault;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
 import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.model.chat.StreamingChatLanguageModel;
 import dev.langchain4j.model.embedding.EmbeddingModel;
+import io.quarkiverse.langchain4j.azure.openai.AzureOpenAiBalancedChatModel;
+import io.quarkiverse.langchain4j.azure.openai.AzureOpenAiBalancedEmbeddingModel;
+import io.quarkiverse.langchain4j.azure.openai.AzureOpenAiBalancedStreamingChatModel;
 import io.quarkiverse.langchain4j.azure.openai.AzureOpenAiChatModel;
 import io.quarkiverse.langchain4j.azure.openai.AzureOpenAiEmbeddingModel;
+import io.quarkiverse.langchain4j.azure.openai.AzureOpenAiLoadBalancer;
 import io.quarkiverse.langchain4j.azure.openai.AzureOpenAiStreamingChatModel;
 import io.quarkiverse.langchain4j.azure.openai.runtime.config.ChatModelConfig;
+import io.quarkiverse.langchain4j.azure.openai.runtime.config.DeploymentConfig;
 import io.quarkiverse.langchain4j.azure.openai.runtime.config.EmbeddingModelConfig;
 import io.quarkiverse.langchain4j.azure.openai.runtime.config.Langchain4jAzureOpenAiConfig;
+import io.quarkiverse.langchain4j.azure.openai.runtime.config.RateLimiterConfig;
+import io.quarkiverse.langchain4j.openai.OpenAiRateLimiter;
 import io.quarkiverse.langchain4j.openai.QuarkusOpenAiClient;
+import io.quarkiverse.langchain4j.runtime.CachingEmbeddingModel;
 import io.quarkiverse.langchain4j.runtime.NamedModelUtil;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
@@ -32,16 +43,11 @@ public class AzureOpenAiRecorder {
     public Supplier<ChatLanguageModel> chatModel(Langchain4jAzureOpenAiConfig runtimeConfig, String modelName) {
         Langchain4jAzureOpenAiConfig.AzureAiConfig azureAiConfig = correspondingAzureOpenAiConfig(runtimeConfig, modelName);
         ChatModelConfig chatModelConfig = azureAiConfig.chatModel();
-        String apiKey = azureAiConfig.apiKey();
-        if (DUMMY_KEY.equals(apiKey)) {
-            throw new ConfigValidationException(createApiKeyConfigProblem(modelName));
-        }
         var builder = AzureOpenAiChatModel.builder()
-                .endpoint(getEndpoint(azureAiConfig, modelName))
-                .apiKey(apiKey)
                 .apiVersion(azureAiConfig.apiVersion())
                 .timeout(azureAiConfig.timeout())
                 .maxRetries(azureAiConfig.maxRetries())
+                .rateLimiter(rateLimiter(azureAiConfig.rateLimiter()))
                 .logRequests(firstOrDefault(false, chatModelConfig.logRequests(), azureAiConfig.logRequests()))
                 .logResponses(firstOrDefault(false, chatModelConfig.logResponses(), azureAiConfig.logResponses()))
 
@@ -54,6 +60,32 @@ public class AzureOpenAiRecorder {
             builder.maxTokens(chatModelConfig.maxTokens().get());
         }
 
+        if (!azureAiConfig.deployments().isEmpty()) {
+            validateDeployments(azureAiConfig, modelName);
+            // the load balancer sends the failed requests to another deployment instead of retrying them,
+            // the max retries of the chat model is the number of attempts, hence 1 (the embedding model uses 0 retries)
+            builder.maxRetries(1);
+            return new Supplier<>() {
+                @Override
+                public ChatLanguageModel get() {
+                    return new AzureOpenAiBalancedChatModel(loadBalancer(azureAiConfig,
+                            new BiFunction<String, String, AzureOpenAiChatModel>() {
+                                @Override
+                                public AzureOpenAiChatModel apply(String endpoint, String apiKey) {
+                                    return builder.endpoint(endpoint).apiKey(apiKey).build();
+                                }
+                            }));
+                }
+            };
+        }
+
+        String apiKey = azureAiConfig.apiKey();
+        if (DUMMY_KEY.equals(apiKey)) {
+            throw new ConfigValidationException(createApiKeyConfigProblem(modelName));
+        }
+        builder.endpoint(getEndpoint(azureAiConfig, modelName))
+                .apiKey(apiKey);
+
         return new Supplier<>() {
             @Override
             public ChatLanguageModel get() {
@@ -66,13 +98,7 @@ public class AzureOpenAiRecorder {
             String modelName) {
         Langchain4jAzureOpenAiConfig.AzureAiConfig azureAiConfig = correspondingAzureOpenAiConfig(runtimeConfig, modelName);
         ChatModelConfig chatModelConfig = azureAiConfig.chatModel();
-        String apiKey = azureAiConfig.apiKey();
-        if (DUMMY_KEY.equals(apiKey)) {
-            throw new ConfigValidationException(createApiKeyConfigProblem(modelName));
-        }
         var builder = AzureOpenAiStreamingChatModel.builder()
-                .endpoint(getEndpoint(azureAiConfig, modelName))
-                .apiKey(apiKey)
                 .apiVersion(azureAiConfig.apiVersion())
                 .timeout(azureAiConfig.timeout())
                 .logRequests(firstOrDefault(false, chatModelConfig.logRequests(), azureAiConfig.logRequests()))
@@ -81,12 +107,36 @@ public class AzureOpenAiRecorder {
                 .temperature(chatModelConfig.temperature())
                 .topP(chatModelConfig.topP())
                 .presencePenalty(chatModelConfig.presencePenalty())
-                .frequencyPenalty(chatModelConfig.frequencyPenalty());
+                .frequencyPenalty(chatModelConfig.frequencyPenalty())
+                .tokenCountCacheSize(chatModelConfig.tokenCountCacheSize());
 
         if (chatModelConfig.maxTokens().isPresent()) {
             builder.maxTokens(chatModelConfig.maxTokens().get());
         }
 
+        if (!azureAiConfig.deployments().isEmpty()) {
+            validateDeployments(azureAiConfig, modelName);
+            return new Supplier<>() {
+                @Override
+                public StreamingChatLanguageModel get() {
+                    return new AzureOpenAiBalancedStreamingChatModel(loadBalancer(azureAiConfig,
+                            new BiFunction<String, String, AzureOpenAiStreamingChatModel>() {
+                                @Override
+                                public AzureOpenAiStreamingChatModel apply(String endpoint, String apiKey) {
+                                    return builder.endpoint(endpoint).apiKey(apiKey).build();
+                                }
+                            }));
+                }
+            };
+        }
+
+        String apiKey = azureAiConfig.apiKey();
+        if (DUMMY_KEY.equals(apiKey)) {
+            throw new ConfigValidationException(createApiKeyConfigProblem(modelName));
+        }
+        builder.endpoint(getEndpoint(azureAiConfig, modelName))
+                .apiKey(apiKey);
+
         return new Supplier<>() {
             @Override
             public StreamingChatLanguageModel get() {
@@ -98,27 +148,89 @@ public class AzureOpenAiRecorder {
     public Supplier<EmbeddingModel> embeddingModel(Langchain4jAzureOpenAiConfig runtimeConfig, String modelName) {
         Langchain4jAzureOpenAiConfig.AzureAiConfig azureAiConfig = correspondingAzureOpenAiConfig(runtimeConfig, modelName);
         EmbeddingModelConfig embeddingModelConfig = azureAiConfig.embeddingModel();
-        String apiKey = azureAiConfig.apiKey();
-        if (DUMMY_KEY.equals(apiKey)) {
-            throw new ConfigValidationException(createApiKeyConfigProblem(modelName));
-        }
         var builder = AzureOpenAiEmbeddingModel.builder()
-                .endpoint(getEndpoint(azureAiConfig, modelName))
-                .apiKey(apiKey)
                 .apiVersion(azureAiConfig.apiVersion())
                 .timeout(azureAiConfig.timeout())
                 .maxRetries(azureAiConfig.maxRetries())
+                .rateLimiter(rateLimiter(azureAiConfig.rateLimiter()))
                 .logRequests(firstOrDefault(false, embeddingModelConfig.logRequests(), azureAiConfig.logRequests()))
-                .logResponses(firstOrDefault(false, embeddingModelConfig.logResponses(), azureAiConfig.logResponses()));
+                .logResponses(firstOrDefault(false, embeddingModelConfig.logResponses(), azureAiConfig.logResponses()))
+                .maxConcurrency(embeddingModelConfig.maxConcurrency())
+                .maxBatchTokens(embeddingModelConfig.maxBatchTokens());
+
+        if (!azureAiConfig.deployments().isEmpty()) {
+            validateDeployments(azureAiConfig, modelName);
+            // the load balancer sends the failed requests to another deployment instead of retrying them,
+            // the max retries of the embedding model is the number of retries, hence 0 (the chat model uses 1 attempt)
+            builder.maxRetries(0);
+            List<String> endpoints = new ArrayList<>();
+            for (DeploymentConfig deployment : azureAiConfig.deployments().values()) {
+                endpoints.add(deployment.endpoint());
+            }
+            Collections.sort(endpoints);
+            return new Supplier<>() {
+                @Override
+                public EmbeddingModel get() {
+                    return CachingEmbeddingModel.decorate(new AzureOpenAiBalancedEmbeddingModel(loadBalancer(azureAiConfig,
+                            new BiFunction<String, String, AzureOpenAiEmbeddingModel>() {
+                                @Override
+                                public AzureOpenAiEmbeddingModel apply(String endpoint, String apiKey) {
+                                    return builder.endpoint(endpoint).apiKey(apiKey).build();
+                                }
+                            })), "azure-openai:" + String.join(",", endpoints));
+                }
+            };
+        }
+
+        String apiKey = azureAiConfig.apiKey();
+        if (DUMMY_KEY.equals(apiKey)) {
+            throw new ConfigValidationException(createApiKeyConfigProblem(modelName));
+        }
+        String endpoint = getEndpoint(azureAiConfig, modelName);
+        builder.endpoint(endpoint)
+                .apiKey(apiKey);
 
         return new Supplier<>() {
             @Override
             public EmbeddingModel get() {
-                return builder.build();
+                return CachingEmbeddingModel.decorate(builder.build(), "azure-openai:" + endpoint);
             }
         };
     }
 
+    private OpenAiRateLimiter.Options rateLimiter(RateLimiterConfig rateLimiterConfig) {
+        if (!rateLimiterConfig.enabled()) {
+            return null;
+        }
+        return new OpenAiRateLimiter.Options(rateLimiterConfig.maxWait(), rateLimiterConfig.maxQueueSize());
+    }
+
+    /**
+     * Checks that an API key is set for every deployment, either its own or the one of the model
+     */
+    private void validateDeployments(Langchain4jAzureOpenAiConfig.AzureAiConfig azureAiConfig, String modelName) {
+        List<Problem> configProblems = new ArrayList<>();
+        for (Map.Entry<String, DeploymentConfig> deployment : azureAiConfig.deployments().entrySet()) {
+            String apiKey = deployment.getValue().apiKey().orElse(azureAiConfig.apiKey());
+            if (DUMMY_KEY.equals(apiKey)) {
+                configProblems.add(createConfigProblem("deployments." + deployment.getKey() + ".api-key", modelName));
+            }
+        }
+        if (!configProblems.isEmpty()) {
+            throw new ConfigValidationException(configProblems.toArray(EMPTY_PROBLEMS));
+        }
+    }
+
+    private <M> AzureOpenAiLoadBalancer<M> loadBalancer(Langchain4jAzureOpenAiConfig.AzureAiConfig azureAiConfig,
+            BiFunction<String, String, M> modelFactory) {
+        List<AzureOpenAiLoadBalancer.Deployment<M>> deployments = new ArrayList<>();
+        for (DeploymentConfig deployment : azureAiConfig.deployments().values()) {
+            M model = modelFactory.apply(deployment.endpoint(), deployment.apiKey().orElse(azureAiConfig.apiKey()));
+            deployments.add(new AzureOpenAiLoadBalancer.Deployment<>(deployment.endpoint(), model, deployment.weight()));
+        }
+        return new AzureOpenAiLoadBalancer<>(deployments, azureAiConfig.ejectDuration(), azureAiConfig.maxRetries());
+    }
+
     static String getEndpoint(Langchain4jAzureOpenAiConfig.AzureAiConfig azureAiConfig, String modelName) {
         var endpoint = azureAiConfig.endpoint();
 
@@ -51,6 +51,13 @@ public interface ChatModelConfig {
     @WithDefault("0")
     Double frequencyPenalty();
 
+    /**
+     * The maximum number of messages whose token count is kept by the streaming chat model to estimate the token count of
+     * the conversations, which are sent again on every turn. Set to 0 to disable the cache.
+     */
+    @WithDefault("10000")
+    Integer tokenCountCacheSize();
+
     /**
      * Whether chat model requests should be logged
      */
@@ -0,0 +1,27 @@
+package io.quarkiverse.langchain4j.azure.openai.runtime.config;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface DeploymentConfig {
+
+    /**
+     * The endpoint of the deployment, in the format
+     * {@code https://${resource-name}.openai.azure.com/openai/deployments/${deployment-name}}
+     */
+    String endpoint();
+
+    /**
+     * The API key of the resource of the deployment, if not set the API key of the model is used
+     */
+    Optional<String> apiKey();
+
+    /**
+     * The share of the requests sent to the deployment, relative to the weights of the other deployments of the model
+     */
+    @WithDefault("1")
+    int weight();
+}
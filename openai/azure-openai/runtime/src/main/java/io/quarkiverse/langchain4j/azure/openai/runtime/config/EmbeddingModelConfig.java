@@ -4,6 +4,7 @@ import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigDocDefault;
 import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
 
 @ConfigGroup
 public interface EmbeddingModelConfig {
@@ -19,4 +20,18 @@ public interface EmbeddingModelConfig {
      */
     @ConfigDocDefault("false")
     Optional<Boolean> logResponses();
+
+    /**
+     * The maximum number of embedding requests sent concurrently when embedding many text segments at once
+     */
+    @WithDefault("4")
+    Integer maxConcurrency();
+
+    /**
+     * The maximum estimated number of tokens sent in a single embedding request. Text segments are packed into
+     * requests up to this number of tokens (and at most 16 segments), a longer segment is sent in a request of its own.
+     * The default is the maximum number of tokens of a request Azure OpenAI documents for its embedding models
+     */
+    @WithDefault("8191")
+    Integer maxBatchTokens();
 }
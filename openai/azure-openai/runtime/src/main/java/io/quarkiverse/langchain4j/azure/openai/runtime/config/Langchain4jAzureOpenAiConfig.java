@@ -104,6 +104,31 @@ public interface Langchain4jAzureOpenAiConfig {
         @ConfigDocDefault("false")
         Optional<Boolean> logResponses();
 
+        /**
+         * Client-side rate limiting related settings
+         */
+        RateLimiterConfig rateLimiter();
+
+        /**
+         * The deployments the requests of the model are balanced between, instead of being all sent to the single
+         * deployment set by {@code quarkus.langchain4j.azure-openai.endpoint}, or by
+         * {@code quarkus.langchain4j.azure-openai.resource-name} and {@code quarkus.langchain4j.azure-openai.deployment-name}.
+         * <p>
+         * Each request is sent to the deployment with the fewest outstanding requests relative to its weight, and to another
+         * deployment if it is rate limited, fails with a server error or cannot connect.
+         * </p>
+         */
+        @ConfigDocSection
+        @ConfigDocMapKey("deployment")
+        Map<String, DeploymentConfig> deployments();
+
+        /**
+         * How long a deployment receives no request after it rate limited one, failed with a server error or could not be
+         * connected to, unless it tells when to send requests again. Only used when the model has several deployments.
+         */
+        @WithDefault("30s")
+        Duration ejectDuration();
+
         /**
          * Chat model related settings
          */
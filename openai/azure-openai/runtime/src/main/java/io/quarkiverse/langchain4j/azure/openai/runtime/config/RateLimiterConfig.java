@@ -0,0 +1,32 @@
+package io.quarkiverse.langchain4j.azure.openai.runtime.config;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface RateLimiterConfig {
+
+    /**
+     * Whether the requests that would exceed the rate limits reported by the Azure OpenAI deployment should be held back
+     * until the limits are reset, instead of being sent and rejected with a {@code 429 Too Many Requests} response.
+     * The streaming requests are never held back.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * How long a request can wait for the rate limits to be reset, it is rejected without being sent if it would wait
+     * longer
+     */
+    @WithDefault("10s")
+    Duration maxWait();
+
+    /**
+     * How many requests can wait for the rate limits to be reset at the same time, the other requests are rejected without
+     * being sent
+     */
+    @WithDefault("100")
+    int maxQueueSize();
+}
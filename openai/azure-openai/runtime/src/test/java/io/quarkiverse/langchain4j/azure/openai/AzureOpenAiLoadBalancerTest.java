@@ -0,0 +1,180 @@
+package io.quarkiverse.langchain4j.azure.openai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import dev.ai4j.openai4j.OpenAiHttpException;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.openai.OpenAiRateLimitException;
+
+class AzureOpenAiLoadBalancerTest {
+
+    @Test
+    void should_send_the_requests_to_the_least_loaded_deployment() {
+        AzureOpenAiLoadBalancer<String> loadBalancer = loadBalancer("east", "west");
+        List<String> used = new ArrayList<>();
+
+        loadBalancer.execute(outer -> {
+            used.add(outer);
+            // the first deployment still has an outstanding request
+            return loadBalancer.execute(inner -> used.add(inner));
+        });
+
+        assertThat(used).containsExactlyInAnyOrder("east", "west");
+    }
+
+    @Test
+    void should_fail_over_and_eject_rate_limited_deployments() {
+        AzureOpenAiLoadBalancer<String> loadBalancer = loadBalancer("east", "west");
+        List<String> used = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalancer.<String> execute(deployment -> {
+                used.add(deployment);
+                if (deployment.equals("east")) {
+                    throw new OpenAiRateLimitException(429, "Rate limit reached", Duration.ofMinutes(1));
+                }
+                return deployment;
+            })).isEqualTo("west");
+        }
+
+        // only sent once to the rate limited deployment
+        assertThat(used).filteredOn("east"::equals).hasSizeLessThanOrEqualTo(1);
+        assertThat(used).filteredOn("west"::equals).hasSize(10);
+    }
+
+    @Test
+    void should_fail_over_on_connection_errors() {
+        AzureOpenAiLoadBalancer<String> loadBalancer = loadBalancer("east", "west");
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(loadBalancer.<String> execute(deployment -> {
+                if (deployment.equals("west")) {
+                    throw new RuntimeException(new ConnectException("Connection refused"));
+                }
+                return deployment;
+            })).isEqualTo("east");
+        }
+    }
+
+    @Test
+    void should_not_fail_over_on_client_errors() {
+        AzureOpenAiLoadBalancer<String> loadBalancer = loadBalancer("east", "west");
+        List<String> used = new ArrayList<>();
+
+        assertThatThrownBy(() -> loadBalancer.execute(deployment -> {
+            used.add(deployment);
+            throw new OpenAiHttpException(400, "Invalid request");
+        })).isInstanceOf(OpenAiHttpException.class);
+
+        assertThat(used).hasSize(1);
+    }
+
+    @Test
+    void should_report_the_failure_when_all_the_deployments_fail() {
+        AzureOpenAiLoadBalancer<String> loadBalancer = loadBalancer("east", "west");
+        List<String> used = new ArrayList<>();
+
+        assertThatThrownBy(() -> loadBalancer.execute(deployment -> {
+            used.add(deployment);
+            throw new OpenAiHttpException(503, "Service unavailable");
+        })).isInstanceOf(OpenAiHttpException.class);
+        assertThat(used).containsExactlyInAnyOrder("east", "west");
+
+        // the deployment coming back first is still used
+        assertThat(loadBalancer.<String> execute(deployment -> deployment)).isIn("east", "west");
+    }
+
+    @Test
+    void should_fail_over_streaming_requests_before_the_first_token() {
+        AzureOpenAiLoadBalancer<String> loadBalancer = loadBalancer("east", "west");
+        StringBuilder tokens = new StringBuilder();
+        AtomicReference<Response<String>> completed = new AtomicReference<>();
+        AtomicReference<Throwable> failed = new AtomicReference<>();
+
+        loadBalancer.<String> stream((deployment, handler) -> {
+            if (deployment.equals("east")) {
+                handler.onError(new OpenAiHttpException(500, "Internal error"));
+                return;
+            }
+            handler.onNext("Hello");
+            handler.onComplete(Response.from("Hello"));
+        }, new StreamingResponseHandler<>() {
+            @Override
+            public void onNext(String token) {
+                tokens.append(token);
+            }
+
+            @Override
+            public void onComplete(Response<String> response) {
+                completed.set(response);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                failed.set(error);
+            }
+        });
+
+        assertThat(tokens.toString()).isEqualTo("Hello");
+        assertThat(completed.get().content()).isEqualTo("Hello");
+        assertThat(failed.get()).isNull();
+    }
+
+    @Test
+    void should_fail_over_streaming_requests_failing_synchronously() {
+        AzureOpenAiLoadBalancer<String> loadBalancer = loadBalancer("east", "west");
+        List<String> used = new ArrayList<>();
+        AtomicReference<Response<String>> completed = new AtomicReference<>();
+        AtomicReference<Throwable> failed = new AtomicReference<>();
+
+        for (int i = 0; i < 4; i++) {
+            completed.set(null);
+            loadBalancer.<String> stream((deployment, handler) -> {
+                used.add(deployment);
+                if (deployment.equals("east")) {
+                    throw new OpenAiRateLimitException(429, "Rate limit reached", Duration.ofMinutes(1));
+                }
+                handler.onComplete(Response.from(deployment));
+            }, new StreamingResponseHandler<>() {
+                @Override
+                public void onNext(String token) {
+                }
+
+                @Override
+                public void onComplete(Response<String> response) {
+                    completed.set(response);
+                }
+
+                @Override
+                public void onError(Throwable error) {
+                    failed.set(error);
+                }
+            });
+
+            assertThat(completed.get().content()).isEqualTo("west");
+        }
+
+        assertThat(failed.get()).isNull();
+        // the rate limited deployment is ejected, and its outstanding request released
+        assertThat(used).filteredOn("east"::equals).hasSizeLessThanOrEqualTo(1);
+        assertThat(loadBalancer.<String> execute(deployment -> deployment)).isEqualTo("west");
+    }
+
+    private static AzureOpenAiLoadBalancer<String> loadBalancer(String... endpoints) {
+        List<AzureOpenAiLoadBalancer.Deployment<String>> deployments = new ArrayList<>();
+        for (String endpoint : endpoints) {
+            deployments.add(new AzureOpenAiLoadBalancer.Deployment<>(endpoint, endpoint, 1));
+        }
+        return new AzureOpenAiLoadBalancer<>(deployments, Duration.ofSeconds(30), 3);
+    }
+}
@@ -10,8 +10,10 @@ import java.util.Optional;
 import org.junit.jupiter.api.Test;
 
 import io.quarkiverse.langchain4j.azure.openai.runtime.config.ChatModelConfig;
+import io.quarkiverse.langchain4j.azure.openai.runtime.config.DeploymentConfig;
 import io.quarkiverse.langchain4j.azure.openai.runtime.config.EmbeddingModelConfig;
 import io.quarkiverse.langchain4j.azure.openai.runtime.config.Langchain4jAzureOpenAiConfig;
+import io.quarkiverse.langchain4j.azure.openai.runtime.config.RateLimiterConfig;
 import io.quarkiverse.langchain4j.runtime.NamedModelUtil;
 import io.smallrye.config.ConfigValidationException;
 import io.smallrye.config.ConfigValidationException.Problem;
@@ -170,6 +172,36 @@ class AzureOpenAiRecorderEndpointTests {
             return Optional.empty();
         }
 
+        @Override
+        public RateLimiterConfig rateLimiter() {
+            return new RateLimiterConfig() {
+                @Override
+                public boolean enabled() {
+                    return false;
+                }
+
+                @Override
+                public Duration maxWait() {
+                    return null;
+                }
+
+                @Override
+                public int maxQueueSize() {
+                    return 0;
+                }
+            };
+        }
+
+        @Override
+        public Map<String, DeploymentConfig> deployments() {
+            return Map.of();
+        }
+
+        @Override
+        public Duration ejectDuration() {
+            return null;
+        }
+
         @Override
         public ChatModelConfig chatModel() {
             return new ChatModelConfig() {
@@ -198,6 +230,11 @@ class AzureOpenAiRecorderEndpointTests {
                     return null;
                 }
 
+                @Override
+                public Integer tokenCountCacheSize() {
+                    return 10_000;
+                }
+
                 @Override
                 public Optional<Boolean> logRequests() {
                     return Optional.empty();
@@ -222,6 +259,16 @@ class AzureOpenAiRecorderEndpointTests {
                 public Optional<Boolean> logResponses() {
                     return Optional.empty();
                 }
+
+                @Override
+                public Integer maxConcurrency() {
+                    return 4;
+                }
+
+                @Override
+                public Integer maxBatchTokens() {
+                    return 8191;
+                }
             };
         }
     }
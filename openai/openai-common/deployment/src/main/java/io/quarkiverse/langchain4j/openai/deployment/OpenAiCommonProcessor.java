@@ -8,6 +8,7 @@ import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Optional;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.stream.Collectors;
@@ -15,10 +16,15 @@ import java.util.zip.ZipEntry;
 
 import com.knuddels.jtokkit.Encodings;
 
+import io.quarkiverse.langchain4j.openai.OpenAiRateLimiterMetrics;
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.processor.DotNames;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 public class OpenAiCommonProcessor {
 
@@ -27,6 +33,18 @@ public class OpenAiCommonProcessor {
         producer.produce(new IndexDependencyBuildItem("dev.ai4j", "openai4j"));
     }
 
+    @BuildStep
+    void metrics(Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeanProducer) {
+        if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER)) {
+            additionalBeanProducer.produce(AdditionalBeanBuildItem.builder()
+                    .addBeanClass(OpenAiRateLimiterMetrics.class)
+                    .setUnremovable()
+                    .setDefaultScope(DotNames.SINGLETON)
+                    .build());
+        }
+    }
+
     @BuildStep
     void nativeImageSupport(BuildProducer<NativeImageResourceBuildItem> resourcesProducer) {
         registerJtokkitResources(resourcesProducer);
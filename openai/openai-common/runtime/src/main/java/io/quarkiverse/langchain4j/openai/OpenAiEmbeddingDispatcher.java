@@ -0,0 +1,173 @@
+package io.quarkiverse.langchain4j.openai;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import dev.ai4j.openai4j.embedding.EmbeddingRequest;
+import dev.ai4j.openai4j.embedding.EmbeddingResponse;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.TokenCountEstimator;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import io.quarkiverse.langchain4j.runtime.BatchDispatcher;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Sends the texts of an {@code embedAll} call to the embeddings endpoint of OpenAI or Azure OpenAI.
+ * <p>
+ * The texts are packed into requests by their estimated number of tokens rather than by a fixed count, and several
+ * requests are in flight at the same time using the non-blocking {@link OpenAiRestApi#embedding} call.
+ * When the API rate limits a request, no request is sent until the delay it asked for has elapsed, so that a large
+ * ingestion runs close to the tokens per minute limit of the deployment without being throttled over and over.
+ */
+public class OpenAiEmbeddingDispatcher {
+
+    private final QuarkusOpenAiClient client;
+    private final String modelName;
+    private final String user;
+    private final BatchDispatcher dispatcher;
+
+    private OpenAiEmbeddingDispatcher(Builder builder) {
+        this.client = builder.client;
+        this.modelName = builder.modelName;
+        this.user = builder.user;
+        TokenCountEstimator tokenCountEstimator = builder.tokenCountEstimator;
+        this.dispatcher = BatchDispatcher.builder()
+                .maxBatchSize(builder.maxBatchSize)
+                .maxBatchWeight(builder.maxBatchTokens, new ToIntFunction<String>() {
+                    @Override
+                    public int applyAsInt(String text) {
+                        return tokenCountEstimator.estimateTokenCount(text);
+                    }
+                })
+                .maxConcurrency(builder.maxConcurrency)
+                .maxRetries(builder.maxRetries)
+                .retryable(new Predicate<>() {
+                    @Override
+                    public boolean test(Throwable failure) {
+                        return OpenAiRetryPolicy.isRetryable(failure);
+                    }
+                })
+                .retryAfter(new Function<>() {
+                    @Override
+                    public Duration apply(Throwable failure) {
+                        return OpenAiRetryPolicy.retryAfter(failure);
+                    }
+                })
+                .build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        List<String> texts = new ArrayList<>(textSegments.size());
+        for (TextSegment textSegment : textSegments) {
+            texts.add(textSegment.text());
+        }
+
+        AtomicInteger inputTokenCount = new AtomicInteger();
+        List<Embedding> embeddings = dispatcher.dispatch(texts, new Function<List<String>, Uni<List<Embedding>>>() {
+            @Override
+            public Uni<List<Embedding>> apply(List<String> batch) {
+                EmbeddingRequest.Builder request = EmbeddingRequest.builder().input(batch);
+                if (modelName != null) {
+                    request.model(modelName);
+                }
+                if (user != null) {
+                    request.user(user);
+                }
+                return client.embeddingAsync(request.build()).map(new Function<EmbeddingResponse, List<Embedding>>() {
+                    @Override
+                    public List<Embedding> apply(EmbeddingResponse response) {
+                        if (response.usage() != null && response.usage().promptTokens() != null) {
+                            inputTokenCount.addAndGet(response.usage().promptTokens());
+                        }
+                        List<dev.ai4j.openai4j.embedding.Embedding> data = new ArrayList<>(response.data());
+                        data.sort(Comparator.comparing(dev.ai4j.openai4j.embedding.Embedding::index,
+                                Comparator.nullsLast(Comparator.naturalOrder())));
+                        List<Embedding> embeddings = new ArrayList<>(data.size());
+                        for (dev.ai4j.openai4j.embedding.Embedding embedding : data) {
+                            embeddings.add(Embedding.from(embedding.embedding()));
+                        }
+                        return embeddings;
+                    }
+                });
+            }
+        });
+        return Response.from(embeddings, new TokenUsage(inputTokenCount.get()));
+    }
+
+    public static class Builder {
+
+        private QuarkusOpenAiClient client;
+        private String modelName;
+        private String user;
+        private TokenCountEstimator tokenCountEstimator;
+        private int maxBatchSize = 2048;
+        private int maxBatchTokens = 300_000;
+        private int maxConcurrency = 4;
+        private int maxRetries = 3;
+
+        public Builder client(QuarkusOpenAiClient client) {
+            this.client = client;
+            return this;
+        }
+
+        public Builder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        public Builder user(String user) {
+            this.user = user;
+            return this;
+        }
+
+        /**
+         * Estimates the number of tokens of each text, used to pack the texts into requests
+         */
+        public Builder tokenCountEstimator(TokenCountEstimator tokenCountEstimator) {
+            this.tokenCountEstimator = tokenCountEstimator;
+            return this;
+        }
+
+        /**
+         * The maximum number of texts the API accepts in a single request
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * The maximum estimated number of tokens, summed across all the texts, sent in a single request
+         */
+        public Builder maxBatchTokens(int maxBatchTokens) {
+            this.maxBatchTokens = maxBatchTokens;
+            return this;
+        }
+
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        public Builder maxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public OpenAiEmbeddingDispatcher build() {
+            return new OpenAiEmbeddingDispatcher(this);
+        }
+    }
+}
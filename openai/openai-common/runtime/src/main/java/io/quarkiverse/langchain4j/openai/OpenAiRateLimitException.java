@@ -0,0 +1,109 @@
+package io.quarkiverse.langchain4j.openai;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.ws.rs.core.HttpHeaders;
+
+import dev.ai4j.openai4j.OpenAiHttpException;
+import io.quarkiverse.langchain4j.runtime.RetryPolicy;
+
+/**
+ * Thrown when OpenAI (or Azure OpenAI) rejects a request with {@code 429 Too Many Requests}, carries the delay the API asked
+ * to wait before sending new requests, if any.
+ */
+public class OpenAiRateLimitException extends OpenAiHttpException {
+
+    private static final Pattern RESET_PATTERN = Pattern
+            .compile("(?:(\\d+(?:\\.\\d+)?)h)?(?:(\\d+(?:\\.\\d+)?)m(?!s))?(?:(\\d+(?:\\.\\d+)?)s)?(?:(\\d+(?:\\.\\d+)?)ms)?");
+
+    private final Duration retryAfter;
+
+    public OpenAiRateLimitException(int code, String message, Duration retryAfter) {
+        super(code, message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Optional<Duration> retryAfter() {
+        return Optional.ofNullable(retryAfter);
+    }
+
+    /**
+     * Reads the delay from the {@code retry-after-ms} header sent by Azure OpenAI, or from the standard
+     * {@code Retry-After} header which is either a number of seconds or an HTTP date.
+     *
+     * @return {@code null} if none of the headers is present or valid
+     */
+    static Duration parseRetryAfter(String retryAfterMs, String retryAfter) {
+        if (retryAfterMs != null) {
+            try {
+                return Duration.ofMillis(Math.max(0, (long) Double.parseDouble(retryAfterMs.trim())));
+            } catch (NumberFormatException e) {
+                // fall back to the standard header
+            }
+        }
+        return RetryPolicy.parseRetryAfter(retryAfter);
+    }
+
+    /**
+     * Reads the delay from the {@code retry-after-ms} or {@code Retry-After} headers, or when none of them is present from
+     * the {@code x-ratelimit-reset-requests} and {@code x-ratelimit-reset-tokens} headers sent by OpenAI. Only the resets of
+     * the exhausted limits are considered, when the response tells which ones are.
+     *
+     * @return {@code null} if none of the headers is present or valid
+     */
+    static Duration parseRetryAfter(Function<String, String> headers) {
+        Duration retryAfter = parseRetryAfter(headers.apply("retry-after-ms"), headers.apply(HttpHeaders.RETRY_AFTER));
+        if (retryAfter != null) {
+            return retryAfter;
+        }
+        Duration requestsReset = parseReset(headers.apply("x-ratelimit-reset-requests"));
+        Duration tokensReset = parseReset(headers.apply("x-ratelimit-reset-tokens"));
+        boolean requestsExhausted = "0".equals(headers.apply("x-ratelimit-remaining-requests"));
+        boolean tokensExhausted = "0".equals(headers.apply("x-ratelimit-remaining-tokens"));
+        if (requestsExhausted || tokensExhausted) {
+            return longest(requestsExhausted ? requestsReset : null, tokensExhausted ? tokensReset : null);
+        }
+        return longest(requestsReset, tokensReset);
+    }
+
+    /**
+     * Reads a reset such as {@code 1s}, {@code 6m0s} or {@code 20ms}
+     */
+    static Duration parseReset(String reset) {
+        if (reset == null || reset.isBlank()) {
+            return null;
+        }
+        Matcher matcher = RESET_PATTERN.matcher(reset.trim());
+        if (!matcher.matches()) {
+            return null;
+        }
+        double millis = 0;
+        if (matcher.group(1) != null) {
+            millis += Double.parseDouble(matcher.group(1)) * 3_600_000;
+        }
+        if (matcher.group(2) != null) {
+            millis += Double.parseDouble(matcher.group(2)) * 60_000;
+        }
+        if (matcher.group(3) != null) {
+            millis += Double.parseDouble(matcher.group(3)) * 1000;
+        }
+        if (matcher.group(4) != null) {
+            millis += Double.parseDouble(matcher.group(4));
+        }
+        return Duration.ofMillis((long) millis);
+    }
+
+    private static Duration longest(Duration first, Duration second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+}
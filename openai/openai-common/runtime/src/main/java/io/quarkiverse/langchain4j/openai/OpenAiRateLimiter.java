@@ -0,0 +1,387 @@
+package io.quarkiverse.langchain4j.openai;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import dev.ai4j.openai4j.chat.AssistantMessage;
+import dev.ai4j.openai4j.chat.ChatCompletionRequest;
+import dev.ai4j.openai4j.chat.Message;
+import dev.ai4j.openai4j.chat.SystemMessage;
+import dev.ai4j.openai4j.chat.ToolMessage;
+import dev.ai4j.openai4j.chat.UserMessage;
+import dev.ai4j.openai4j.completion.CompletionRequest;
+import dev.ai4j.openai4j.embedding.EmbeddingRequest;
+import dev.ai4j.openai4j.moderation.ModerationRequest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Holds back the requests sent to an OpenAI (or Azure OpenAI) endpoint that would exceed its rate limits, instead of
+ * sending them only to have them rejected with {@code 429 Too Many Requests}.
+ * <p>
+ * The API reports in the {@code x-ratelimit-remaining-requests} and {@code x-ratelimit-remaining-tokens} headers of every
+ * response how many requests and tokens can still be sent, and OpenAI reports when these budgets are reset in the
+ * {@code x-ratelimit-reset-*} headers. Every request estimates the tokens it uses and takes them from the remaining
+ * budget: when the budget is exhausted, the request waits without blocking a thread until it is reset. A request that
+ * would wait longer than the maximum wait, or that would exceed the maximum number of waiting requests, is rejected with an
+ * {@link OpenAiRequestRejectedException} without being sent.
+ * <p>
+ * The rate limits belong to an Azure OpenAI deployment, or to an OpenAI organization and model, so there is one limiter per
+ * endpoint and API, and for OpenAI per account and model as well, shared by all the clients sending requests to them.
+ */
+public final class OpenAiRateLimiter {
+
+    private static final Logger log = Logger.getLogger(OpenAiRateLimiter.class);
+
+    // Azure OpenAI does not tell when the budgets are reset, they are then trusted for that long
+    private static final long DEFAULT_RESET_MILLIS = 1000;
+    // the overhead of the role and of the delimiters of a chat message
+    private static final int TOKENS_PER_MESSAGE = 4;
+
+    private static final ConcurrentMap<String, OpenAiRateLimiter> limiters = new ConcurrentHashMap<>();
+    private static final List<Consumer<OpenAiRateLimiter>> listeners = new CopyOnWriteArrayList<>();
+
+    private final String endpoint;
+    private final String account;
+    private final String api;
+    private final String model;
+    private final long maxWaitMillis;
+    private final int maxQueueSize;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    // the remaining budgets, negative when unknown, and when they are reset, guarded by this
+    private long remainingRequests = -1;
+    private long remainingTokens = -1;
+    private long requestsResetAt;
+    private long tokensResetAt;
+
+    private OpenAiRateLimiter(String endpoint, String account, String api, String model, Options options) {
+        this.endpoint = endpoint;
+        this.account = account;
+        this.api = api;
+        this.model = model;
+        this.maxWaitMillis = options.maxWait().toMillis();
+        this.maxQueueSize = options.maxQueueSize();
+    }
+
+    /**
+     * @param endpoint the base URL of an Azure OpenAI deployment or of the OpenAI API
+     * @param account the OpenAI organization, or the fingerprint of the API key, {@code null} for Azure OpenAI
+     * @param api the path of the API relative to the endpoint
+     * @param model the model of the requests, {@code null} for Azure OpenAI or if the requests do not name one
+     * @return the limiter of the requests sent to the API, created with the given options if there is none yet
+     */
+    static OpenAiRateLimiter get(String endpoint, String account, String api, String model, Options options) {
+        String key = key(endpoint, account, api, model);
+        OpenAiRateLimiter limiter = limiters.get(key);
+        if (limiter != null) {
+            return limiter;
+        }
+        OpenAiRateLimiter created = new OpenAiRateLimiter(endpoint, account, api, model, options);
+        limiter = limiters.putIfAbsent(key, created);
+        if (limiter != null) {
+            return limiter;
+        }
+        for (Consumer<OpenAiRateLimiter> listener : listeners) {
+            listener.accept(created);
+        }
+        return created;
+    }
+
+    /**
+     * @return the limiter of the requests sent to the API, or {@code null} if no request was sent to it yet
+     */
+    static OpenAiRateLimiter find(String endpoint, String account, String api, String model) {
+        return limiters.get(key(endpoint, account, api, model));
+    }
+
+    private static String key(String endpoint, String account, String api, String model) {
+        return endpoint + ' ' + account + ' ' + api + ' ' + model;
+    }
+
+    /**
+     * @return the model named by a request sent to the API, {@code null} if it does not name one
+     */
+    static String model(Object request) {
+        if (request instanceof ChatCompletionRequest chatCompletionRequest) {
+            return chatCompletionRequest.model();
+        }
+        if (request instanceof CompletionRequest completionRequest) {
+            return completionRequest.model();
+        }
+        if (request instanceof EmbeddingRequest embeddingRequest) {
+            return embeddingRequest.model();
+        }
+        if (request instanceof ModerationRequest moderationRequest) {
+            return moderationRequest.model();
+        }
+        return null;
+    }
+
+    /**
+     * @return a digest identifying the API key without revealing it, {@code null} if there is no key
+     */
+    static String fingerprint(String apiKey) {
+        if (apiKey == null) {
+            return null;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(apiKey.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Calls the listener with every limiter, those already created and those created later
+     */
+    public static void forEach(Consumer<OpenAiRateLimiter> listener) {
+        listeners.add(listener);
+        for (OpenAiRateLimiter limiter : limiters.values()) {
+            listener.accept(limiter);
+        }
+    }
+
+    static void clear() {
+        limiters.clear();
+        listeners.clear();
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @return the OpenAI organization, or the fingerprint of the API key, {@code null} for Azure OpenAI
+     */
+    public String account() {
+        return account;
+    }
+
+    public String api() {
+        return api;
+    }
+
+    /**
+     * @return the model of the requests, {@code null} for Azure OpenAI or if the requests do not name one
+     */
+    public String model() {
+        return model;
+    }
+
+    /**
+     * @return the number of requests waiting for the rate limits to be reset
+     */
+    public int queueDepth() {
+        return queued.get();
+    }
+
+    /**
+     * @return the number of requests rejected without being sent
+     */
+    public long rejected() {
+        return rejected.get();
+    }
+
+    /**
+     * @return the given request, only subscribed to once the estimated tokens fit in the remaining budget
+     */
+    public <T> Uni<T> apply(Uni<T> request, int estimatedTokens) {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Void>>() {
+            @Override
+            public Uni<? extends Void> get() {
+                return acquire(estimatedTokens);
+            }
+        }).onItem().transformToUni(new Function<Void, Uni<? extends T>>() {
+            @Override
+            public Uni<? extends T> apply(Void unused) {
+                return request;
+            }
+        });
+    }
+
+    private Uni<Void> acquire(int tokens) {
+        long wait = reserve(tokens);
+        if (wait == 0) {
+            return Uni.createFrom().voidItem();
+        }
+        if (wait > maxWaitMillis) {
+            return reject(wait, "the rate limit of %s is not reset before %d ms".formatted(endpoint, maxWaitMillis));
+        }
+        if (queued.incrementAndGet() > maxQueueSize) {
+            queued.decrementAndGet();
+            return reject(wait, "%d requests to %s are already waiting for the rate limit".formatted(maxQueueSize, endpoint));
+        }
+        long deadline = System.currentTimeMillis() + maxWaitMillis;
+        return waitFor(tokens, wait, deadline)
+                .onTermination().invoke(new Runnable() {
+                    @Override
+                    public void run() {
+                        queued.decrementAndGet();
+                    }
+                });
+    }
+
+    private Uni<Void> waitFor(int tokens, long wait, long deadline) {
+        log.debugf("Delaying a request to %s by %d ms to stay within the rate limit", endpoint, wait);
+        return Uni.createFrom().item(wait)
+                .onItem().delayIt().by(Duration.ofMillis(wait))
+                .onItem().transformToUni(new Function<Long, Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> apply(Long waited) {
+                        // the budget may have been taken by the other waiting requests meanwhile
+                        long next = reserve(tokens);
+                        if (next == 0) {
+                            return Uni.createFrom().voidItem();
+                        }
+                        if (System.currentTimeMillis() + next > deadline) {
+                            return reject(next,
+                                    "the rate limit of %s is not reset before %d ms".formatted(endpoint, maxWaitMillis));
+                        }
+                        return waitFor(tokens, next, deadline);
+                    }
+                });
+    }
+
+    private Uni<Void> reject(long wait, String reason) {
+        rejected.incrementAndGet();
+        return Uni.createFrom()
+                .failure(new OpenAiRequestRejectedException("Request not sent: " + reason, Duration.ofMillis(wait)));
+    }
+
+    /**
+     * Takes the tokens and a request from the remaining budgets if they are sufficient or unknown
+     *
+     * @return {@code 0} if the budgets were taken, otherwise how long to wait for them to be reset
+     */
+    private synchronized long reserve(int tokens) {
+        long now = System.currentTimeMillis();
+        if (now >= requestsResetAt) {
+            remainingRequests = -1;
+        }
+        if (now >= tokensResetAt) {
+            remainingTokens = -1;
+        }
+        long wait = 0;
+        if (remainingRequests == 0) {
+            wait = requestsResetAt - now;
+        }
+        if (remainingTokens >= 0 && remainingTokens < tokens) {
+            wait = Math.max(wait, tokensResetAt - now);
+        }
+        if (wait > 0) {
+            return wait;
+        }
+        if (remainingRequests > 0) {
+            remainingRequests--;
+        }
+        if (remainingTokens > 0) {
+            remainingTokens = Math.max(0, remainingTokens - tokens);
+        }
+        return 0;
+    }
+
+    /**
+     * Replaces the estimated budgets by the ones reported by the headers of a response
+     */
+    void update(Function<String, String> headers) {
+        Long requests = parseRemaining(headers.apply("x-ratelimit-remaining-requests"));
+        Long tokens = parseRemaining(headers.apply("x-ratelimit-remaining-tokens"));
+        Duration requestsReset = OpenAiRateLimitException.parseReset(headers.apply("x-ratelimit-reset-requests"));
+        Duration tokensReset = OpenAiRateLimitException.parseReset(headers.apply("x-ratelimit-reset-tokens"));
+        if (requests == null && tokens == null) {
+            return;
+        }
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            if (requests != null) {
+                remainingRequests = requests;
+                requestsResetAt = now + (requestsReset == null ? DEFAULT_RESET_MILLIS : requestsReset.toMillis());
+            }
+            if (tokens != null) {
+                remainingTokens = tokens;
+                tokensResetAt = now + (tokensReset == null ? DEFAULT_RESET_MILLIS : tokensReset.toMillis());
+            }
+        }
+    }
+
+    private static Long parseRemaining(String remaining) {
+        if (remaining == null || remaining.isBlank()) {
+            return null;
+        }
+        try {
+            return Math.max(0, Long.parseLong(remaining.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Estimates the tokens counted by the rate limit for a chat completion: the prompt, at about four characters per token,
+     * and the tokens that may be generated
+     */
+    static int estimateTokens(ChatCompletionRequest request) {
+        int tokens = 0;
+        if (request.messages() != null) {
+            for (Message message : request.messages()) {
+                tokens += TOKENS_PER_MESSAGE + estimateTokens(content(message));
+            }
+        }
+        return tokens + (request.maxTokens() == null ? 0 : request.maxTokens());
+    }
+
+    static int estimateTokens(CompletionRequest request) {
+        return estimateTokens(request.prompt()) + (request.maxTokens() == null ? 0 : request.maxTokens());
+    }
+
+    static int estimateTokens(List<String> inputs) {
+        int tokens = 0;
+        if (inputs != null) {
+            for (String input : inputs) {
+                tokens += estimateTokens(input);
+            }
+        }
+        return tokens;
+    }
+
+    private static int estimateTokens(String text) {
+        return text == null ? 0 : (text.length() + 3) / 4;
+    }
+
+    private static String content(Message message) {
+        if (message instanceof SystemMessage systemMessage) {
+            return systemMessage.content();
+        }
+        if (message instanceof UserMessage userMessage) {
+            return userMessage.content() == null ? null : userMessage.content().toString();
+        }
+        if (message instanceof AssistantMessage assistantMessage) {
+            return assistantMessage.content();
+        }
+        if (message instanceof ToolMessage toolMessage) {
+            return toolMessage.content();
+        }
+        return null;
+    }
+
+    /**
+     * @param maxWait how long a request can wait for the rate limits to be reset before being rejected
+     * @param maxQueueSize how many requests can wait at the same time, the others are rejected
+     */
+    public record Options(Duration maxWait, int maxQueueSize) {
+    }
+}
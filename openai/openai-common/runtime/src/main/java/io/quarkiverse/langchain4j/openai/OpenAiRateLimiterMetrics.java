@@ -0,0 +1,57 @@
+package io.quarkiverse.langchain4j.openai;
+
+import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes the number of requests waiting for the rate limits of each endpoint, API, account and model and the number of
+ * requests rejected by
+ * the {@link OpenAiRateLimiter}s, only registered when Micrometer is present
+ */
+public class OpenAiRateLimiterMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // the limiters are created with the models, possibly after the registry is bound
+        OpenAiRateLimiter.forEach(new Consumer<OpenAiRateLimiter>() {
+            @Override
+            public void accept(OpenAiRateLimiter limiter) {
+                Gauge.builder("langchain4j.openai.rate.limiter.queue", limiter, new ToDoubleFunction<>() {
+                    @Override
+                    public double applyAsDouble(OpenAiRateLimiter limiter) {
+                        return limiter.queueDepth();
+                    }
+                })
+                        .description("The number of requests waiting for the rate limits to be reset")
+                        .tags(tags(limiter))
+                        .register(registry);
+                FunctionCounter.builder("langchain4j.openai.rate.limiter.rejected", limiter, new ToDoubleFunction<>() {
+                    @Override
+                    public double applyAsDouble(OpenAiRateLimiter limiter) {
+                        return limiter.rejected();
+                    }
+                })
+                        .description("The number of requests rejected without being sent to stay within the rate limits")
+                        .tags(tags(limiter))
+                        .register(registry);
+            }
+        });
+    }
+
+    private static Tags tags(OpenAiRateLimiter limiter) {
+        Tags tags = Tags.of("endpoint", limiter.endpoint(), "api", limiter.api());
+        if (limiter.account() != null) {
+            tags = tags.and("account", limiter.account());
+        }
+        if (limiter.model() != null) {
+            tags = tags.and("model", limiter.model());
+        }
+        return tags;
+    }
+}
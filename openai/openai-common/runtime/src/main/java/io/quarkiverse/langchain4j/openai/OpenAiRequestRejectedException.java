@@ -0,0 +1,24 @@
+package io.quarkiverse.langchain4j.openai;
+
+import java.time.Duration;
+
+/**
+ * Thrown when the {@link OpenAiRateLimiter} of a client rejects a request without sending it, as the rate limit would not
+ * be reset soon enough or too many requests are already waiting for it.
+ */
+public class OpenAiRequestRejectedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public OpenAiRequestRejectedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return how long the request would have had to wait for the rate limit to be reset
+     */
+    public Duration retryAfter() {
+        return retryAfter;
+    }
+}
@@ -10,6 +10,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -164,6 +165,15 @@ public interface OpenAiRestApi {
 
     @ClientExceptionMapper
     static RuntimeException toException(Response response) {
+        if (response.getStatus() == 429) {
+            return new OpenAiRateLimitException(response.getStatus(), response.readEntity(String.class),
+                    OpenAiRateLimitException.parseRetryAfter(new Function<String, String>() {
+                        @Override
+                        public String apply(String name) {
+                            return response.getHeaderString(name);
+                        }
+                    }));
+        }
         if (response.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL) {
             return new OpenAiHttpException(response.getStatus(), response.readEntity(String.class));
         }
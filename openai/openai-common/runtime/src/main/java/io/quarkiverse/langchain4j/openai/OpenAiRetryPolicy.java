@@ -0,0 +1,71 @@
+package io.quarkiverse.langchain4j.openai;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import dev.ai4j.openai4j.OpenAiHttpException;
+import io.quarkiverse.langchain4j.runtime.RetryPolicy;
+
+/**
+ * Decides which failures of OpenAI (or Azure OpenAI) requests are retried, and for how long to wait when the API rate
+ * limited them.
+ */
+public final class OpenAiRetryPolicy {
+
+    private OpenAiRetryPolicy() {
+    }
+
+    /**
+     * @param maxRetries how many times a failed request is retried
+     */
+    public static RetryPolicy create(int maxRetries) {
+        return RetryPolicy.builder()
+                .maxRetries(maxRetries)
+                .retryable(new Predicate<>() {
+                    @Override
+                    public boolean test(Throwable failure) {
+                        return isRetryable(failure);
+                    }
+                })
+                .retryAfter(new Function<>() {
+                    @Override
+                    public Duration apply(Throwable failure) {
+                        return retryAfter(failure);
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Client errors are not retried as sending the same request again would fail the same way, except for rate limiting.
+     * The requests rejected by the rate limiter of the client are not retried either, they were held back long enough.
+     */
+    static boolean isRetryable(Throwable failure) {
+        if (find(failure, OpenAiRequestRejectedException.class) != null) {
+            return false;
+        }
+        OpenAiHttpException httpException = find(failure, OpenAiHttpException.class);
+        if (httpException == null) {
+            return find(failure, OpenAiApiException.class) == null;
+        }
+        return httpException.code() == 429 || httpException.code() >= 500;
+    }
+
+    static Duration retryAfter(Throwable failure) {
+        OpenAiRateLimitException rateLimitException = find(failure, OpenAiRateLimitException.class);
+        return rateLimitException == null ? null : rateLimitException.retryAfter().orElse(null);
+    }
+
+    private static <T extends Throwable> T find(Throwable failure, Class<T> type) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (type.isInstance(t)) {
+                return type.cast(t);
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return null;
+    }
+}
@@ -12,8 +12,13 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+
 import org.jboss.resteasy.reactive.client.api.LoggingScope;
 import org.jboss.resteasy.reactive.common.NotImplementedYet;
 
@@ -38,6 +43,7 @@ import dev.ai4j.openai4j.moderation.ModerationRequest;
 import dev.ai4j.openai4j.moderation.ModerationResponse;
 import dev.ai4j.openai4j.moderation.ModerationResult;
 import dev.ai4j.openai4j.spi.OpenAiClientBuilderFactory;
+import io.quarkiverse.langchain4j.runtime.RetryPolicy;
 import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
@@ -54,9 +60,20 @@ public class QuarkusOpenAiClient extends OpenAiClient {
     private final String organizationId;
 
     private final OpenAiRestApi restApi;
+    private final RetryPolicy retryPolicy;
+    private final String endpoint;
+    private final String account;
+    private final OpenAiRateLimiter.Options rateLimiter;
 
     private static final Map<Builder, OpenAiRestApi> cache = new ConcurrentHashMap<>();
 
+    // the paths of the APIs, relative to the base URL, each API having its own rate limits
+    private static final String COMPLETIONS = "completions";
+    private static final String CHAT_COMPLETIONS = "chat/completions";
+    private static final String EMBEDDINGS = "embeddings";
+    private static final String MODERATIONS = "moderations";
+    private static final String IMAGES_GENERATIONS = "images/generations";
+
     public QuarkusOpenAiClient(String openaiApiKey) {
         this(new Builder().openAiApiKey(openaiApiKey));
     }
@@ -67,6 +84,7 @@ public class QuarkusOpenAiClient extends OpenAiClient {
 
     public static void clearCache() {
         cache.clear();
+        OpenAiRateLimiter.clear();
     }
 
     private QuarkusOpenAiClient(Builder builder) {
@@ -74,6 +92,11 @@ public class QuarkusOpenAiClient extends OpenAiClient {
         this.openaiApiKey = builder.openAiApiKey;
         this.apiVersion = builder.apiVersion;
         this.organizationId = builder.organizationId;
+        // the retry budget belongs to the client, not to the shared REST client
+        this.retryPolicy = OpenAiRetryPolicy.create(builder.maxRetries);
+        this.endpoint = endpoint(builder.baseUrl);
+        this.account = account(builder);
+        this.rateLimiter = builder.rateLimiter;
         // cache the client the builder could be called with the same parameters from multiple models
         this.restApi = cache.compute(builder, new BiFunction<Builder, OpenAiRestApi, OpenAiRestApi>() {
             @Override
@@ -98,6 +121,30 @@ public class QuarkusOpenAiClient extends OpenAiClient {
                         InetSocketAddress socketAddress = (InetSocketAddress) builder.proxy.address();
                         restApiBuilder.proxyAddress(socketAddress.getHostName(), socketAddress.getPort());
                     }
+                    // the rate limiters belong to the clients, not to the shared REST client, so the budgets reported by
+                    // every response, successful or not, are tracked whether or not the client creating it limits its rate
+                    String basePath = URI.create(endpoint).getPath();
+                    restApiBuilder.register(new ClientResponseFilter() {
+                        @Override
+                        public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) {
+                            String path = requestContext.getUri().getPath();
+                            if (!path.startsWith(basePath + "/")) {
+                                return;
+                            }
+                            String api = path.substring(basePath.length() + 1);
+                            // the clients sharing this REST client are built the same way, so have the same account
+                            OpenAiRateLimiter limiter = OpenAiRateLimiter.find(endpoint, account, api,
+                                    account == null ? null : OpenAiRateLimiter.model(requestContext.getEntity()));
+                            if (limiter != null) {
+                                limiter.update(new Function<String, String>() {
+                                    @Override
+                                    public String apply(String name) {
+                                        return responseContext.getHeaderString(name);
+                                    }
+                                });
+                            }
+                        }
+                    });
 
                     return restApiBuilder.build(OpenAiRestApi.class);
                 } catch (URISyntaxException e) {
@@ -108,19 +155,54 @@ public class QuarkusOpenAiClient extends OpenAiClient {
 
     }
 
+    private static String endpoint(String baseUrl) {
+        return baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    /**
+     * The rate limits of Azure OpenAI belong to the deployment, which is part of the endpoint, while those of OpenAI belong
+     * to the organization, the API key standing for the default organization of its owner when none is set, and the model.
+     *
+     * @return the organization, or a fingerprint of the API key, of an OpenAI client, {@code null} for Azure OpenAI
+     */
+    private static String account(Builder builder) {
+        if (builder.azureApiKey != null) {
+            return null;
+        }
+        if (builder.organizationId != null) {
+            return builder.organizationId;
+        }
+        return OpenAiRateLimiter.fingerprint(builder.openAiApiKey);
+    }
+
+    /**
+     * Holds back the request until the rate limits of the API are expected to allow it, when the client limits its rate
+     *
+     * @param model the model the request is sent to, {@code null} when the request does not name one
+     */
+    private <T> Uni<T> limited(String api, String model, Uni<T> request, int estimatedTokens) {
+        if (rateLimiter == null) {
+            return request;
+        }
+        return OpenAiRateLimiter.get(endpoint, account, api, account == null ? null : model, rateLimiter)
+                .apply(request, estimatedTokens);
+    }
+
     @Override
     public SyncOrAsyncOrStreaming<CompletionResponse> completion(CompletionRequest request) {
         return new SyncOrAsyncOrStreaming<>() {
             @Override
             public CompletionResponse execute() {
-                return restApi.blockingCompletion(
+                return retryPolicy.apply(limited(COMPLETIONS, request.model(), restApi.completion(
                         CompletionRequest.builder().from(request).stream(null).build(),
                         OpenAiRestApi.ApiMetadata.builder()
                                 .azureApiKey(azureApiKey)
                                 .openAiApiKey(openaiApiKey)
                                 .apiVersion(apiVersion)
                                 .organizationId(organizationId)
-                                .build());
+                                .build()),
+                        OpenAiRateLimiter.estimateTokens(request)))
+                        .await().indefinitely();
             }
 
             @Override
@@ -129,13 +211,14 @@ public class QuarkusOpenAiClient extends OpenAiClient {
                         new Supplier<>() {
                             @Override
                             public Uni<CompletionResponse> get() {
-                                return restApi.completion(request,
+                                return retryPolicy.apply(limited(COMPLETIONS, request.model(), restApi.completion(request,
                                         OpenAiRestApi.ApiMetadata.builder()
                                                 .azureApiKey(azureApiKey)
                                                 .openAiApiKey(openaiApiKey)
                                                 .apiVersion(apiVersion)
                                                 .organizationId(organizationId)
-                                                .build());
+                                                .build()),
+                                        OpenAiRateLimiter.estimateTokens(request)));
                             }
                         },
                         responseHandler);
@@ -171,14 +254,16 @@ public class QuarkusOpenAiClient extends OpenAiClient {
         return new SyncOrAsyncOrStreaming<>() {
             @Override
             public ChatCompletionResponse execute() {
-                return restApi.blockingChatCompletion(
+                return retryPolicy.apply(limited(CHAT_COMPLETIONS, request.model(), restApi.createChatCompletion(
                         ChatCompletionRequest.builder().from(request).stream(null).build(),
                         OpenAiRestApi.ApiMetadata.builder()
                                 .azureApiKey(azureApiKey)
                                 .openAiApiKey(openaiApiKey)
                                 .apiVersion(apiVersion)
                                 .organizationId(organizationId)
-                                .build());
+                                .build()),
+                        OpenAiRateLimiter.estimateTokens(request)))
+                        .await().indefinitely();
             }
 
             @Override
@@ -187,13 +272,15 @@ public class QuarkusOpenAiClient extends OpenAiClient {
                         new Supplier<>() {
                             @Override
                             public Uni<ChatCompletionResponse> get() {
-                                return restApi.createChatCompletion(request,
-                                        OpenAiRestApi.ApiMetadata.builder()
-                                                .azureApiKey(azureApiKey)
-                                                .openAiApiKey(openaiApiKey)
-                                                .apiVersion(apiVersion)
-                                                .organizationId(organizationId)
-                                                .build());
+                                return retryPolicy.apply(limited(
+                                        CHAT_COMPLETIONS, request.model(), restApi.createChatCompletion(request,
+                                                OpenAiRestApi.ApiMetadata.builder()
+                                                        .azureApiKey(azureApiKey)
+                                                        .openAiApiKey(openaiApiKey)
+                                                        .apiVersion(apiVersion)
+                                                        .organizationId(organizationId)
+                                                        .build()),
+                                        OpenAiRateLimiter.estimateTokens(request)));
                             }
                         },
                         responseHandler);
@@ -295,18 +382,35 @@ public class QuarkusOpenAiClient extends OpenAiClient {
         };
     }
 
+    /**
+     * Perform a non-blocking request to get the embeddings of the input texts, the request is only sent when the returned
+     * {@link Uni} is subscribed to
+     */
+    public Uni<EmbeddingResponse> embeddingAsync(EmbeddingRequest request) {
+        return retryPolicy.apply(limited(EMBEDDINGS, request.model(), restApi.embedding(request,
+                OpenAiRestApi.ApiMetadata.builder()
+                        .azureApiKey(azureApiKey)
+                        .openAiApiKey(openaiApiKey)
+                        .apiVersion(apiVersion)
+                        .organizationId(organizationId)
+                        .build()),
+                OpenAiRateLimiter.estimateTokens(request.input())));
+    }
+
     @Override
     public SyncOrAsync<EmbeddingResponse> embedding(EmbeddingRequest request) {
         return new SyncOrAsync<>() {
             @Override
             public EmbeddingResponse execute() {
-                return restApi.blockingEmbedding(request,
+                return retryPolicy.apply(limited(EMBEDDINGS, request.model(), restApi.embedding(request,
                         OpenAiRestApi.ApiMetadata.builder()
                                 .azureApiKey(azureApiKey)
                                 .openAiApiKey(openaiApiKey)
                                 .apiVersion(apiVersion)
                                 .organizationId(organizationId)
-                                .build());
+                                .build()),
+                        OpenAiRateLimiter.estimateTokens(request.input())))
+                        .await().indefinitely();
             }
 
             @Override
@@ -315,13 +419,14 @@ public class QuarkusOpenAiClient extends OpenAiClient {
                         new Supplier<>() {
                             @Override
                             public Uni<EmbeddingResponse> get() {
-                                return restApi.embedding(request,
+                                return retryPolicy.apply(limited(EMBEDDINGS, request.model(), restApi.embedding(request,
                                         OpenAiRestApi.ApiMetadata.builder()
                                                 .azureApiKey(azureApiKey)
                                                 .openAiApiKey(openaiApiKey)
                                                 .apiVersion(apiVersion)
                                                 .organizationId(organizationId)
-                                                .build());
+                                                .build()),
+                                        OpenAiRateLimiter.estimateTokens(request.input())));
                             }
                         },
                         responseHandler);
@@ -368,18 +473,35 @@ public class QuarkusOpenAiClient extends OpenAiClient {
         };
     }
 
+    /**
+     * Perform a non-blocking request to moderate the input texts, the request is only sent when the returned {@link Uni} is
+     * subscribed to
+     */
+    public Uni<ModerationResponse> moderationAsync(ModerationRequest request) {
+        return retryPolicy.apply(limited(MODERATIONS, request.model(), restApi.moderation(request,
+                OpenAiRestApi.ApiMetadata.builder()
+                        .azureApiKey(azureApiKey)
+                        .openAiApiKey(openaiApiKey)
+                        .apiVersion(apiVersion)
+                        .organizationId(organizationId)
+                        .build()),
+                OpenAiRateLimiter.estimateTokens(request.input())));
+    }
+
     @Override
     public SyncOrAsync<ModerationResponse> moderation(ModerationRequest request) {
         return new SyncOrAsync<>() {
             @Override
             public ModerationResponse execute() {
-                return restApi.blockingModeration(request,
+                return retryPolicy.apply(limited(MODERATIONS, request.model(), restApi.moderation(request,
                         OpenAiRestApi.ApiMetadata.builder()
                                 .azureApiKey(azureApiKey)
                                 .openAiApiKey(openaiApiKey)
                                 .apiVersion(apiVersion)
                                 .organizationId(organizationId)
-                                .build());
+                                .build()),
+                        OpenAiRateLimiter.estimateTokens(request.input())))
+                        .await().indefinitely();
             }
 
             @Override
@@ -388,13 +510,14 @@ public class QuarkusOpenAiClient extends OpenAiClient {
                         new Supplier<>() {
                             @Override
                             public Uni<ModerationResponse> get() {
-                                return restApi.moderation(request,
+                                return retryPolicy.apply(limited(MODERATIONS, request.model(), restApi.moderation(request,
                                         OpenAiRestApi.ApiMetadata.builder()
                                                 .azureApiKey(azureApiKey)
                                                 .openAiApiKey(openaiApiKey)
                                                 .apiVersion(apiVersion)
                                                 .organizationId(organizationId)
-                                                .build());
+                                                .build()),
+                                        OpenAiRateLimiter.estimateTokens(request.input())));
                             }
                         },
                         responseHandler);
@@ -447,13 +570,15 @@ public class QuarkusOpenAiClient extends OpenAiClient {
         return new SyncOrAsync<GenerateImagesResponse>() {
             @Override
             public GenerateImagesResponse execute() {
-                return restApi.blockingImagesGenerations(generateImagesRequest,
+                return retryPolicy.apply(limited(IMAGES_GENERATIONS, null, restApi.imagesGenerations(generateImagesRequest,
                         OpenAiRestApi.ApiMetadata.builder()
                                 .azureApiKey(azureApiKey)
                                 .openAiApiKey(openaiApiKey)
                                 .apiVersion(apiVersion)
                                 .organizationId(organizationId)
-                                .build());
+                                .build()),
+                        0))
+                        .await().indefinitely();
             }
 
             @Override
@@ -462,13 +587,15 @@ public class QuarkusOpenAiClient extends OpenAiClient {
                         new Supplier<>() {
                             @Override
                             public Uni<GenerateImagesResponse> get() {
-                                return restApi.imagesGenerations(generateImagesRequest,
-                                        OpenAiRestApi.ApiMetadata.builder()
-                                                .azureApiKey(azureApiKey)
-                                                .openAiApiKey(openaiApiKey)
-                                                .apiVersion(apiVersion)
-                                                .organizationId(organizationId)
-                                                .build());
+                                return retryPolicy.apply(limited(
+                                        IMAGES_GENERATIONS, null, restApi.imagesGenerations(generateImagesRequest,
+                                                OpenAiRestApi.ApiMetadata.builder()
+                                                        .azureApiKey(azureApiKey)
+                                                        .openAiApiKey(openaiApiKey)
+                                                        .apiVersion(apiVersion)
+                                                        .organizationId(organizationId)
+                                                        .build()),
+                                        0));
                             }
                         },
                         responseHandler);
@@ -491,6 +618,27 @@ public class QuarkusOpenAiClient extends OpenAiClient {
 
     public static class Builder extends OpenAiClient.Builder<QuarkusOpenAiClient, Builder> {
 
+        private int maxRetries;
+        private OpenAiRateLimiter.Options rateLimiter;
+
+        /**
+         * How many times the failed non-streaming requests are retried by the client, not retried by default as the
+         * models of langchain4j retry the requests themselves
+         */
+        public Builder maxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * Holds back the non-streaming requests that would exceed the rate limits reported by the API, {@code null} to send
+         * all the requests right away
+         */
+        public Builder rateLimiter(OpenAiRateLimiter.Options rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
         @Override
         public QuarkusOpenAiClient build() {
             return new QuarkusOpenAiClient(this);
@@ -0,0 +1,108 @@
+package io.quarkiverse.langchain4j.openai.test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.runtime.CachingEmbeddingModel;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CachingEmbeddingModelTest {
+
+    private static final int WIREMOCK_PORT = 8089;
+    private static final String EMBEDDINGS_URL = "/v1/embeddings";
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(WiremockUtils.class))
+            .overrideConfigKey("quarkus.langchain4j.embedding-cache.enabled", "true")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.api-key", "whatever")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.base-url", "http://localhost:" + WIREMOCK_PORT + "/v1");
+
+    static WireMockServer wireMockServer;
+    static ObjectMapper mapper;
+
+    @Inject
+    EmbeddingModel model;
+
+    @BeforeAll
+    static void beforeAll() {
+        wireMockServer = new WireMockServer(options().port(WIREMOCK_PORT));
+        wireMockServer.start();
+        mapper = new ObjectMapper();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void should_only_embed_the_texts_missing_from_the_cache() throws Exception {
+        assertThat(ClientProxy.unwrap(model)).isInstanceOf(CachingEmbeddingModel.class);
+        stub(List.of("one", "two"), List.of(1f, 2f));
+        stub(List.of("three"), List.of(3f));
+
+        Response<List<Embedding>> response = model.embedAll(List.of(TextSegment.from("one"), TextSegment.from("two")));
+        assertThat(vectors(response)).containsExactly(1f, 2f);
+        wireMockServer.verify(1, postRequestedFor(urlEqualTo(EMBEDDINGS_URL)));
+
+        // the missing texts are sent in a single request, once each
+        response = model.embedAll(List.of(TextSegment.from("two"), TextSegment.from("three"), TextSegment.from("one"),
+                TextSegment.from("three")));
+        assertThat(vectors(response)).containsExactly(2f, 3f, 1f, 3f);
+        wireMockServer.verify(2, postRequestedFor(urlEqualTo(EMBEDDINGS_URL)));
+
+        assertThat(model.embed("three").content().vector()[0]).isEqualTo(3f);
+        wireMockServer.verify(2, postRequestedFor(urlEqualTo(EMBEDDINGS_URL)));
+    }
+
+    private void stub(List<String> input, List<Float> vectors) throws Exception {
+        List<Map<String, Object>> data = new ArrayList<>();
+        for (int i = 0; i < vectors.size(); i++) {
+            data.add(Map.of("object", "embedding", "index", i, "embedding", List.of(vectors.get(i))));
+        }
+        wireMockServer.stubFor(post(urlEqualTo(EMBEDDINGS_URL))
+                .withRequestBody(equalToJson(mapper.writeValueAsString(Map.of("input", input)), false, true))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(mapper.writeValueAsString(Map.of(
+                                "object", "list",
+                                "model", "text-embedding-ada-002",
+                                "data", data,
+                                "usage", Map.of("prompt_tokens", 1, "total_tokens", 1))))));
+    }
+
+    private static List<Float> vectors(Response<List<Embedding>> response) {
+        List<Float> result = new ArrayList<>();
+        for (Embedding embedding : response.content()) {
+            result.add(embedding.vector()[0]);
+        }
+        return result;
+    }
+}
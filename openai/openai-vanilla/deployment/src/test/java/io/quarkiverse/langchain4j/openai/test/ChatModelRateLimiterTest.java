@@ -0,0 +1,147 @@
+package io.quarkiverse.langchain4j.openai.test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Optional;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import io.quarkiverse.langchain4j.ModelName;
+import io.quarkiverse.langchain4j.openai.OpenAiRequestRejectedException;
+import io.quarkus.test.QuarkusUnitTest;
+
+// the rate limit exhausted by the last test is not reset before the end of the test
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ChatModelRateLimiterTest {
+
+    private static final int WIREMOCK_PORT = 8089;
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(WiremockUtils.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.api-key", "whatever")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.base-url", "http://localhost:" + WIREMOCK_PORT + "/v1")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.rate-limiter.enabled", "true")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.rate-limiter.max-wait", "3s")
+            // the same account, but another model, which has its own rate limits
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.gpt4.api-key", "whatever")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.gpt4.base-url", "http://localhost:" + WIREMOCK_PORT + "/v1")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.gpt4.chat-model.model-name", "gpt-4")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.gpt4.rate-limiter.enabled", "true")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.gpt4.rate-limiter.max-wait", "3s");
+
+    static WireMockServer wireMockServer;
+
+    @Inject
+    ChatLanguageModel model;
+
+    @Inject
+    @ModelName("gpt4")
+    ChatLanguageModel gpt4Model;
+
+    @BeforeAll
+    static void beforeAll() {
+        wireMockServer = new WireMockServer(options().port(WIREMOCK_PORT));
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        wireMockServer.stop();
+    }
+
+    @BeforeEach
+    void setup() {
+        wireMockServer.resetAll();
+    }
+
+    @Test
+    @Order(1)
+    void should_wait_for_the_rate_limit_reset_before_sending() {
+        wireMockServer.stubFor(WiremockUtils.chatCompletionMapping(WiremockUtils.DEFAULT_TOKEN)
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("x-ratelimit-remaining-requests", "0")
+                        .withHeader("x-ratelimit-reset-requests", "1s")
+                        .withBody(chatResponse())));
+
+        assertThat(model.generate("Hi")).isEqualTo("Hello");
+        wireMockServer.resetAll();
+        wireMockServer.stubFor(WiremockUtils.chatCompletionsMessageContent(Optional.empty(), "Hello again"));
+
+        long start = System.nanoTime();
+        assertThat(model.generate("Hi")).isEqualTo("Hello again");
+
+        // the request was held back instead of being rejected by the API
+        assertThat(System.nanoTime() - start).isBetween(500_000_000L, 3_000_000_000L);
+        wireMockServer.verify(1, WiremockUtils.chatCompletionRequestPattern(WiremockUtils.DEFAULT_TOKEN));
+    }
+
+    @Test
+    @Order(2)
+    void should_reject_the_requests_waiting_too_long() {
+        wireMockServer.stubFor(WiremockUtils.chatCompletionMapping(WiremockUtils.DEFAULT_TOKEN)
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("x-ratelimit-remaining-requests", "100")
+                        .withHeader("x-ratelimit-remaining-tokens", "0")
+                        .withHeader("x-ratelimit-reset-tokens", "1m0s")
+                        .withBody(chatResponse())));
+
+        assertThat(model.generate("Hi")).isEqualTo("Hello");
+
+        assertThatThrownBy(() -> model.generate("Hi")).isInstanceOf(OpenAiRequestRejectedException.class);
+        wireMockServer.verify(1, WiremockUtils.chatCompletionRequestPattern(WiremockUtils.DEFAULT_TOKEN));
+    }
+
+    @Test
+    @Order(3)
+    void should_not_hold_back_the_requests_to_another_model() {
+        wireMockServer.stubFor(WiremockUtils.chatCompletionsMessageContent(Optional.empty(), "Hello from gpt-4"));
+
+        // the token budget of the default model is exhausted for a minute
+        assertThatThrownBy(() -> model.generate("Hi")).isInstanceOf(OpenAiRequestRejectedException.class);
+        assertThat(gpt4Model.generate("Hi")).isEqualTo("Hello from gpt-4");
+    }
+
+    private static String chatResponse() {
+        return """
+                {
+                  "id": "chatcmpl-123",
+                  "object": "chat.completion",
+                  "created": 1677652288,
+                  "model": "gpt-3.5-turbo",
+                  "choices": [{
+                    "index": 0,
+                    "message": {
+                      "role": "assistant",
+                      "content": "Hello"
+                    },
+                    "finish_reason": "stop"
+                  }],
+                  "usage": {
+                    "prompt_tokens": 9,
+                    "completion_tokens": 12,
+                    "total_tokens": 21
+                  }
+                }
+                """;
+    }
+}
@@ -0,0 +1,93 @@
+package io.quarkiverse.langchain4j.openai.test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Optional;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+
+import dev.ai4j.openai4j.OpenAiHttpException;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ChatModelRetryTest {
+
+    private static final int WIREMOCK_PORT = 8089;
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(WiremockUtils.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.api-key", "whatever")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.base-url", "http://localhost:" + WIREMOCK_PORT + "/v1");
+
+    static WireMockServer wireMockServer;
+
+    @Inject
+    ChatLanguageModel model;
+
+    @BeforeAll
+    static void beforeAll() {
+        wireMockServer = new WireMockServer(options().port(WIREMOCK_PORT));
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        wireMockServer.stop();
+    }
+
+    @BeforeEach
+    void setup() {
+        wireMockServer.resetAll();
+    }
+
+    @Test
+    void should_wait_for_the_rate_limit_reset() {
+        wireMockServer.stubFor(WiremockUtils.chatCompletionMapping(WiremockUtils.DEFAULT_TOKEN)
+                .inScenario("rate-limit")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willSetStateTo("limited")
+                .willReturn(aResponse()
+                        .withStatus(429)
+                        .withHeader("x-ratelimit-remaining-requests", "0")
+                        .withHeader("x-ratelimit-reset-requests", "1s")
+                        .withHeader("x-ratelimit-remaining-tokens", "1000")
+                        .withHeader("x-ratelimit-reset-tokens", "6m0s")
+                        .withBody("Rate limit reached")));
+        wireMockServer.stubFor(WiremockUtils.chatCompletionsMessageContent(Optional.empty(), "Hello")
+                .inScenario("rate-limit")
+                .whenScenarioStateIs("limited"));
+
+        long start = System.nanoTime();
+        assertThat(model.generate("Hi")).isEqualTo("Hello");
+
+        // only the exhausted limit is waited for
+        assertThat(System.nanoTime() - start).isBetween(1_000_000_000L, 60_000_000_000L);
+        wireMockServer.verify(2, WiremockUtils.chatCompletionRequestPattern(WiremockUtils.DEFAULT_TOKEN));
+    }
+
+    @Test
+    void should_not_retry_client_errors() {
+        wireMockServer.stubFor(WiremockUtils.chatCompletionMapping(WiremockUtils.DEFAULT_TOKEN)
+                .willReturn(aResponse()
+                        .withStatus(400)
+                        .withBody("Invalid request")));
+
+        assertThatThrownBy(() -> model.generate("Hi")).isInstanceOf(OpenAiHttpException.class);
+        wireMockServer.verify(1, WiremockUtils.chatCompletionRequestPattern(WiremockUtils.DEFAULT_TOKEN));
+    }
+}
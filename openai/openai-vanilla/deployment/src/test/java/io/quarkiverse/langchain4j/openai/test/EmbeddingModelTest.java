@@ -0,0 +1,160 @@
+package io.quarkiverse.langchain4j.openai.test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.TokenCountEstimator;
+import dev.langchain4j.model.output.Response;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class EmbeddingModelTest {
+
+    private static final int WIREMOCK_PORT = 8089;
+    private static final String EMBEDDINGS_URL = "/v1/embeddings";
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(WiremockUtils.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.api-key", "whatever")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.base-url", "http://localhost:" + WIREMOCK_PORT + "/v1")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.embedding-model.max-batch-tokens", "20");
+
+    static WireMockServer wireMockServer;
+    static ObjectMapper mapper;
+
+    @Inject
+    EmbeddingModel model;
+
+    @BeforeAll
+    static void beforeAll() {
+        wireMockServer = new WireMockServer(options().port(WIREMOCK_PORT));
+        wireMockServer.start();
+        mapper = new ObjectMapper();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        wireMockServer.stop();
+    }
+
+    @BeforeEach
+    void setup() {
+        wireMockServer.resetAll();
+    }
+
+    @Test
+    void should_pack_requests_by_tokens_and_keep_order() throws Exception {
+        List<TextSegment> segments = new ArrayList<>();
+        List<Integer> tokens = new ArrayList<>();
+        for (String text : List.of("one", "two three", "four five six seven eight", "nine", "ten eleven twelve",
+                "thirteen fourteen fifteen sixteen seventeen eighteen nineteen twenty")) {
+            segments.add(TextSegment.from(text));
+            tokens.add(((TokenCountEstimator) ClientProxy.unwrap(model)).estimateTokenCount(text));
+        }
+
+        // same packing as the model: texts are added to a request as long as it stays within 20 tokens
+        List<List<Integer>> batches = new ArrayList<>();
+        List<Integer> current = new ArrayList<>();
+        int weight = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            if (!current.isEmpty() && weight + tokens.get(i) > 20) {
+                batches.add(current);
+                current = new ArrayList<>();
+                weight = 0;
+            }
+            current.add(i);
+            weight += tokens.get(i);
+        }
+        batches.add(current);
+        assertThat(batches).hasSizeGreaterThan(1);
+        for (List<Integer> batch : batches) {
+            stubBatch(segments, batch);
+        }
+
+        Response<List<Embedding>> response = model.embedAll(segments);
+
+        assertThat(response.content()).hasSize(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            assertThat(response.content().get(i).vector()[0]).isEqualTo(i);
+        }
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(batches.size());
+        wireMockServer.verify(batches.size(), postRequestedFor(urlEqualTo(EMBEDDINGS_URL)));
+    }
+
+    @Test
+    void should_wait_for_retry_after_when_rate_limited() throws Exception {
+        wireMockServer.stubFor(post(urlEqualTo(EMBEDDINGS_URL))
+                .inScenario("rate-limit")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willSetStateTo("limited")
+                .willReturn(aResponse()
+                        .withStatus(429)
+                        .withHeader("Retry-After", "1")
+                        .withBody("Rate limit reached")));
+        wireMockServer.stubFor(post(urlEqualTo(EMBEDDINGS_URL))
+                .inScenario("rate-limit")
+                .whenScenarioStateIs("limited")
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(responseBody(List.of(0)))));
+
+        long start = System.nanoTime();
+        Response<Embedding> response = model.embed("rate limited");
+
+        assertThat(response.content().vector()[0]).isEqualTo(0);
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(1_000_000_000L);
+        wireMockServer.verify(2, postRequestedFor(urlEqualTo(EMBEDDINGS_URL)));
+    }
+
+    private void stubBatch(List<TextSegment> segments, List<Integer> batch) throws Exception {
+        List<String> input = new ArrayList<>();
+        for (int index : batch) {
+            input.add(segments.get(index).text());
+        }
+        wireMockServer.stubFor(post(urlEqualTo(EMBEDDINGS_URL))
+                .withRequestBody(equalToJson(mapper.writeValueAsString(Map.of("input", input)), false, true))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(responseBody(batch))));
+    }
+
+    private String responseBody(List<Integer> batch) throws Exception {
+        List<Map<String, Object>> data = new ArrayList<>();
+        // the API does not guarantee that the embeddings are sorted
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            data.add(Map.of("object", "embedding", "index", i, "embedding", List.of((float) batch.get(i))));
+        }
+        return mapper.writeValueAsString(Map.of(
+                "object", "list",
+                "model", "text-embedding-ada-002",
+                "data", data,
+                "usage", Map.of("prompt_tokens", 1, "total_tokens", 1)));
+    }
+}
@@ -0,0 +1,159 @@
+package org.acme.examples.aiservices;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.service.MemoryId;
+import dev.langchain4j.service.UserMessage;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import io.quarkiverse.langchain4j.ChatMemoryEvictionListener;
+import io.quarkiverse.langchain4j.ChatMemoryRemover;
+import io.quarkiverse.langchain4j.RegisterAiService;
+import io.quarkiverse.langchain4j.openai.test.WiremockUtils;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class BoundedChatMemoryTest {
+
+    private static final int WIREMOCK_PORT = 8089;
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(
+                    () -> ShrinkWrap.create(JavaArchive.class).addClasses(WiremockUtils.class, MessageAssertUtils.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.api-key", "whatever")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.base-url", "http://localhost:" + WIREMOCK_PORT + "/v1")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.chat-memory.registry.max-entries", "2");
+
+    static WireMockServer wireMockServer;
+
+    @BeforeAll
+    static void beforeAll() {
+        wireMockServer = new WireMockServer(options().port(WIREMOCK_PORT));
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        wireMockServer.stop();
+    }
+
+    @BeforeEach
+    void setup() {
+        wireMockServer.resetAll();
+        wireMockServer.stubFor(WiremockUtils.defaultChatCompletionsStub());
+    }
+
+    @RegisterAiService
+    interface ChatWithSeparateMemoryForEachUser {
+
+        String chat(@MemoryId int memoryId, @UserMessage String userMessage);
+    }
+
+    @Singleton
+    public static class RecordingEvictionListener implements ChatMemoryEvictionListener {
+
+        final List<Object> evicted = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onEviction(Object memoryId, ChatMemory chatMemory) {
+            evicted.add(memoryId);
+        }
+    }
+
+    @Singleton
+    public static class Conversations {
+
+        @Inject
+        ChatWithSeparateMemoryForEachUser chat;
+
+        @ActivateRequestContext
+        void chatInRequest(int... memoryIds) {
+            for (int memoryId : memoryIds) {
+                chat.chat(memoryId, "Hello");
+            }
+        }
+    }
+
+    @Inject
+    ChatWithSeparateMemoryForEachUser chat;
+
+    @Inject
+    Conversations conversations;
+
+    @Inject
+    ChatMemoryStore chatMemoryStore;
+
+    @Inject
+    RecordingEvictionListener listener;
+
+    @Test
+    @ActivateRequestContext
+    void should_evict_least_recently_used_memory_without_losing_messages() {
+        listener.evicted.clear();
+        chat.chat(1, "Hello from the first user");
+        chat.chat(2, "Hello from the second user");
+        assertThat(listener.evicted).isEmpty();
+
+        chat.chat(3, "Hello from the third user");
+        assertThat(listener.evicted).containsExactly(1);
+
+        // the memory of the first user is created again from the store
+        assertThat(chatMemoryStore.getMessages(1)).hasSize(2);
+        chat.chat(1, "Hello again");
+        assertThat(chatMemoryStore.getMessages(1)).hasSize(4);
+        assertThat(listener.evicted).containsExactly(1, 2);
+    }
+
+    @Test
+    @ActivateRequestContext
+    void should_remove_the_messages_of_evicted_memories() {
+        chat.chat(21, "Hello");
+        chat.chat(22, "Hello");
+        chat.chat(23, "Hello");
+        assertThat(chatMemoryStore.getMessages(21)).hasSize(2);
+
+        ChatMemoryRemover.remove(chat, 21);
+        assertThat(chatMemoryStore.getMessages(21)).isEmpty();
+    }
+
+    @Test
+    void should_clear_the_evicted_memories_when_the_service_is_closed() {
+        conversations.chatInRequest(31, 32, 33);
+
+        assertThat(chatMemoryStore.getMessages(31)).isEmpty();
+        assertThat(chatMemoryStore.getMessages(32)).isEmpty();
+        assertThat(chatMemoryStore.getMessages(33)).isEmpty();
+    }
+
+    @Test
+    void should_only_remember_the_last_evicted_memories() {
+        conversations.chatInRequest(41, 42, 43, 44, 45, 46);
+
+        // only the IDs of as many evicted memories as the registry holds are kept
+        assertThat(chatMemoryStore.getMessages(41)).hasSize(2);
+        assertThat(chatMemoryStore.getMessages(42)).hasSize(2);
+        for (int memoryId = 43; memoryId <= 46; memoryId++) {
+            assertThat(chatMemoryStore.getMessages(memoryId)).isEmpty();
+        }
+        chatMemoryStore.deleteMessages(41);
+        chatMemoryStore.deleteMessages(42);
+    }
+}
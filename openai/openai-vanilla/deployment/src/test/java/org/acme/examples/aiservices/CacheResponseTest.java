@@ -0,0 +1,101 @@
+package org.acme.examples.aiservices;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+import dev.langchain4j.service.MemoryId;
+import dev.langchain4j.service.UserMessage;
+import io.quarkiverse.langchain4j.CacheResponse;
+import io.quarkiverse.langchain4j.RegisterAiService;
+import io.quarkiverse.langchain4j.openai.test.WiremockUtils;
+import io.quarkiverse.langchain4j.runtime.aiservice.ResponseCacheSupport;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CacheResponseTest {
+
+    private static final int WIREMOCK_PORT = 8089;
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(
+                    () -> ShrinkWrap.create(JavaArchive.class).addClasses(WiremockUtils.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.api-key", "whatever")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.base-url", "http://localhost:" + WIREMOCK_PORT + "/v1");
+
+    static WireMockServer wireMockServer;
+
+    @BeforeAll
+    static void beforeAll() {
+        wireMockServer = new WireMockServer(options().port(WIREMOCK_PORT));
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        wireMockServer.stop();
+    }
+
+    @BeforeEach
+    void setup() {
+        wireMockServer.resetAll();
+        wireMockServer.stubFor(WiremockUtils.chatCompletionsMessageContent(Optional.empty(), "POSITIVE"));
+    }
+
+    @RegisterAiService
+    interface TriageService {
+
+        @CacheResponse
+        String triage(@MemoryId int memoryId, @UserMessage String review);
+
+        String triageWithoutCache(@MemoryId int memoryId, @UserMessage String review);
+    }
+
+    @Inject
+    TriageService triageService;
+
+    @Inject
+    ResponseCacheSupport responseCacheSupport;
+
+    @Test
+    @ActivateRequestContext
+    void should_only_call_the_model_once_for_the_same_messages() {
+        long hits = responseCacheSupport.hits();
+        long misses = responseCacheSupport.misses();
+
+        // each call uses its own memory, so that the messages sent to the model are the same
+        assertThat(triageService.triage(1, "Great product")).isEqualTo("POSITIVE");
+        assertThat(triageService.triage(2, "Great product")).isEqualTo("POSITIVE");
+        wireMockServer.verify(1, postRequestedFor(urlEqualTo("/v1/chat/completions")));
+
+        assertThat(triageService.triage(3, "Awful product")).isEqualTo("POSITIVE");
+        wireMockServer.verify(2, postRequestedFor(urlEqualTo("/v1/chat/completions")));
+
+        assertThat(responseCacheSupport.hits() - hits).isEqualTo(1);
+        assertThat(responseCacheSupport.misses() - misses).isEqualTo(2);
+    }
+
+    @Test
+    @ActivateRequestContext
+    void should_not_cache_methods_without_annotation() {
+        triageService.triageWithoutCache(1, "Great product");
+        triageService.triageWithoutCache(2, "Great product");
+        wireMockServer.verify(2, postRequestedFor(urlEqualTo("/v1/chat/completions")));
+    }
+}
@@ -0,0 +1,182 @@
+package org.acme.examples.aiservices;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.memory.chat.ChatMemoryProvider;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.retriever.Retriever;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import io.quarkiverse.langchain4j.RegisterAiService;
+import io.quarkiverse.langchain4j.openai.test.WiremockUtils;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ConcurrentRetrievalTest {
+
+    private static final int WIREMOCK_PORT = 8089;
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(
+                    () -> ShrinkWrap.create(JavaArchive.class).addClasses(WiremockUtils.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.api-key", "whatever")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.base-url", "http://localhost:" + WIREMOCK_PORT + "/v1");
+
+    static WireMockServer wireMockServer;
+
+    /**
+     * Counted down when the conversation is read from the store
+     */
+    static final CountDownLatch MEMORY_LOADED = new CountDownLatch(1);
+
+    @BeforeAll
+    static void beforeAll() {
+        wireMockServer = new WireMockServer(options().port(WIREMOCK_PORT));
+        wireMockServer.start();
+        wireMockServer.stubFor(WiremockUtils.chatCompletionsMessageContent(Optional.empty(), "Hello"));
+    }
+
+    @AfterAll
+    static void afterAll() {
+        wireMockServer.stop();
+    }
+
+    /**
+     * Only returns the relevant documents if the conversation is loaded while it waits
+     */
+    @Singleton
+    public static class WaitingRetriever implements Retriever<TextSegment> {
+
+        volatile boolean memoryLoadedMeanwhile;
+
+        @Override
+        public List<TextSegment> findRelevant(String text) {
+            try {
+                memoryLoadedMeanwhile = MEMORY_LOADED.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(TextSegment.from("relevant"));
+        }
+    }
+
+    public static class MemoryProviderSupplier implements Supplier<ChatMemoryProvider> {
+
+        @Override
+        public ChatMemoryProvider get() {
+            ChatMemoryStore store = new ChatMemoryStore() {
+
+                private final Map<Object, List<ChatMessage>> messages = new ConcurrentHashMap<>();
+
+                @Override
+                public List<ChatMessage> getMessages(Object memoryId) {
+                    MEMORY_LOADED.countDown();
+                    return messages.getOrDefault(memoryId, new ArrayList<>());
+                }
+
+                @Override
+                public void updateMessages(Object memoryId, List<ChatMessage> updated) {
+                    messages.put(memoryId, updated);
+                }
+
+                @Override
+                public void deleteMessages(Object memoryId) {
+                    messages.remove(memoryId);
+                }
+            };
+            return new ChatMemoryProvider() {
+                @Override
+                public ChatMemory get(Object memoryId) {
+                    return MessageWindowChatMemory.builder()
+                            .id(memoryId)
+                            .maxMessages(10)
+                            .chatMemoryStore(store)
+                            .build();
+                }
+            };
+        }
+    }
+
+    /**
+     * Remembers whether it was called, in the request of the caller
+     */
+    @RequestScoped
+    public static class RequestScopedRetriever implements Retriever<TextSegment> {
+
+        private boolean called;
+
+        @Override
+        public List<TextSegment> findRelevant(String text) {
+            called = true;
+            return List.of(TextSegment.from("relevant"));
+        }
+
+        public boolean isCalled() {
+            return called;
+        }
+    }
+
+    @RegisterAiService(retriever = WaitingRetriever.class, chatMemoryProviderSupplier = MemoryProviderSupplier.class)
+    interface Assistant {
+
+        String chat(String message);
+    }
+
+    @RegisterAiService(retriever = RequestScopedRetriever.class, chatMemoryProviderSupplier = MemoryProviderSupplier.class)
+    interface RequestScopedAssistant {
+
+        String chat(String message);
+    }
+
+    @Inject
+    Assistant assistant;
+
+    @Inject
+    WaitingRetriever retriever;
+
+    @Inject
+    RequestScopedAssistant requestScopedAssistant;
+
+    @Inject
+    RequestScopedRetriever requestScopedRetriever;
+
+    @Test
+    @ActivateRequestContext
+    void should_load_the_memory_while_retrieving_the_relevant_documents() {
+        assertThat(assistant.chat("Hi")).isEqualTo("Hello");
+        assertThat(retriever.memoryLoadedMeanwhile).isTrue();
+    }
+
+    @Test
+    @ActivateRequestContext
+    void should_retrieve_in_the_request_of_the_caller() {
+        assertThat(requestScopedAssistant.chat("Hi")).isEqualTo("Hello");
+        assertThat(requestScopedRetriever.isCalled()).isTrue();
+    }
+}
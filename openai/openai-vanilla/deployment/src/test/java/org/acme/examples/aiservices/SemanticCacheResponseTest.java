@@ -0,0 +1,192 @@
+package org.acme.examples.aiservices;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.service.MemoryId;
+import dev.langchain4j.service.Moderate;
+import dev.langchain4j.service.ModerationException;
+import dev.langchain4j.service.SystemMessage;
+import dev.langchain4j.service.UserMessage;
+import io.quarkiverse.langchain4j.RegisterAiService;
+import io.quarkiverse.langchain4j.SemanticCacheResponse;
+import io.quarkiverse.langchain4j.openai.test.WiremockUtils;
+import io.quarkiverse.langchain4j.runtime.aiservice.SemanticResponseCacheSupport;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class SemanticCacheResponseTest {
+
+    private static final int WIREMOCK_PORT = 8089;
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(
+                    () -> ShrinkWrap.create(JavaArchive.class).addClasses(WiremockUtils.class, KeywordEmbeddingModel.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.api-key", "whatever")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openai.base-url", "http://localhost:" + WIREMOCK_PORT + "/v1")
+            .overrideRuntimeConfigKey("quarkus.langchain4j.response-cache.semantic.min-similarity", "0.9");
+
+    static WireMockServer wireMockServer;
+
+    @BeforeAll
+    static void beforeAll() {
+        wireMockServer = new WireMockServer(options().port(WIREMOCK_PORT));
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        wireMockServer.stop();
+    }
+
+    @BeforeEach
+    void setup() {
+        wireMockServer.resetAll();
+        wireMockServer.stubFor(WiremockUtils.chatCompletionsMessageContent(Optional.empty(), "Use the reset link"));
+    }
+
+    @RegisterAiService
+    interface FaqService {
+
+        @SemanticCacheResponse
+        @SystemMessage("You answer the questions of the customers")
+        String answer(@MemoryId int memoryId, @UserMessage String question);
+
+        @SemanticCacheResponse
+        @SystemMessage("You answer the questions of the employees")
+        String answerEmployee(@MemoryId int memoryId, @UserMessage String question);
+    }
+
+    @RegisterAiService(moderationModelSupplier = RegisterAiService.BeanModerationModelSupplier.class)
+    interface ModeratedFaqService {
+
+        @Moderate
+        @SemanticCacheResponse
+        @SystemMessage("You answer the questions of the visitors")
+        String answer(@MemoryId int memoryId, @UserMessage String question);
+    }
+
+    /**
+     * Embeds a text by the keywords it contains, so that texts with the same keywords have the same embedding
+     */
+    @Singleton
+    public static class KeywordEmbeddingModel implements EmbeddingModel {
+
+        private static final List<String> KEYWORDS = List.of("password", "reset", "hours", "opening");
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            List<Embedding> embeddings = new ArrayList<>();
+            for (TextSegment textSegment : textSegments) {
+                String text = textSegment.text().toLowerCase();
+                float[] vector = new float[KEYWORDS.size() + 1];
+                // avoids zero vectors
+                vector[KEYWORDS.size()] = 0.1f;
+                for (int i = 0; i < KEYWORDS.size(); i++) {
+                    if (text.contains(KEYWORDS.get(i))) {
+                        vector[i] = 1;
+                    }
+                }
+                embeddings.add(Embedding.from(vector));
+            }
+            return Response.from(embeddings);
+        }
+    }
+
+    @Inject
+    FaqService faqService;
+
+    @Inject
+    ModeratedFaqService moderatedFaqService;
+
+    @Inject
+    SemanticResponseCacheSupport semanticResponseCacheSupport;
+
+    @Test
+    @ActivateRequestContext
+    void should_answer_similar_questions_from_the_cache() {
+        long hits = semanticResponseCacheSupport.hits();
+
+        assertThat(faqService.answer(1, "How do I reset my password?")).isEqualTo("Use the reset link");
+        assertThat(faqService.answer(2, "I need to reset the password of my account"))
+                .isEqualTo("Use the reset link");
+        wireMockServer.verify(1, postRequestedFor(urlEqualTo("/v1/chat/completions")));
+        assertThat(semanticResponseCacheSupport.hits() - hits).isEqualTo(1);
+
+        // not similar enough
+        faqService.answer(3, "What are your opening hours?");
+        wireMockServer.verify(2, postRequestedFor(urlEqualTo("/v1/chat/completions")));
+
+        // another system message is another scope
+        faqService.answerEmployee(4, "How do I reset my password?");
+        wireMockServer.verify(3, postRequestedFor(urlEqualTo("/v1/chat/completions")));
+    }
+
+    @Test
+    @ActivateRequestContext
+    void should_not_answer_from_the_cache_once_the_conversation_started() {
+        faqService.answer(20, "What are your hours?");
+        int requests = wireMockServer.findAll(postRequestedFor(urlEqualTo("/v1/chat/completions"))).size();
+
+        faqService.answer(20, "Tell me your hours");
+        wireMockServer.verify(requests + 1, postRequestedFor(urlEqualTo("/v1/chat/completions")));
+    }
+
+    @Test
+    @ActivateRequestContext
+    void should_moderate_the_questions_answered_from_the_cache() {
+        wireMockServer.stubFor(WiremockUtils.moderationMapping(WiremockUtils.DEFAULT_TOKEN)
+                .willReturn(moderationResponse(false)));
+        moderatedFaqService.answer(30, "How do I reset my password?");
+
+        wireMockServer.stubFor(WiremockUtils.moderationMapping(WiremockUtils.DEFAULT_TOKEN)
+                .willReturn(moderationResponse(true)));
+        assertThatThrownBy(() -> moderatedFaqService.answer(31, "Reset the password or else!"))
+                .isInstanceOf(ModerationException.class);
+        wireMockServer.verify(1, postRequestedFor(urlEqualTo("/v1/chat/completions")));
+        wireMockServer.verify(2, postRequestedFor(urlEqualTo("/v1/moderations")));
+    }
+
+    private static ResponseDefinitionBuilder moderationResponse(boolean flagged) {
+        return aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody("""
+                        {
+                            "id": "modr-8Bmx2bYNsgzuAsSuxaQRDCMKHgJbC",
+                            "model": "text-moderation-006",
+                            "results": [
+                                {
+                                    "flagged": %s
+                                }
+                            ]
+                        }
+                        """.formatted(flagged));
+    }
+}
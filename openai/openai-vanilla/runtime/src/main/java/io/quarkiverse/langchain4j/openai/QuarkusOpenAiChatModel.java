@@ -0,0 +1,208 @@
+package io.quarkiverse.langchain4j.openai;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.model.openai.InternalOpenAiHelper.aiMessageFrom;
+import static dev.langchain4j.model.openai.InternalOpenAiHelper.finishReasonFrom;
+import static dev.langchain4j.model.openai.InternalOpenAiHelper.toOpenAiMessages;
+import static dev.langchain4j.model.openai.InternalOpenAiHelper.toTools;
+import static dev.langchain4j.model.openai.InternalOpenAiHelper.tokenUsageFrom;
+import static dev.langchain4j.model.openai.OpenAiModelName.GPT_3_5_TURBO;
+import static java.time.Duration.ofSeconds;
+import static java.util.Collections.singletonList;
+
+import java.time.Duration;
+import java.util.List;
+
+import dev.ai4j.openai4j.chat.ChatCompletionRequest;
+import dev.ai4j.openai4j.chat.ChatCompletionResponse;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.openai.OpenAiChatModel;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * An {@link OpenAiChatModel} retrying the failed requests with the {@link OpenAiRetryPolicy} of its client instead of
+ * blocking the calling thread between the attempts, and waiting as long as OpenAI asks when the requests are rate limited.
+ * <p>
+ * The client sending the requests is built with the same parameters as the one of the upstream model, which only differ by
+ * their retries and rate limiter, so both share the same REST client.
+ */
+public class QuarkusOpenAiChatModel extends OpenAiChatModel {
+
+    private final QuarkusOpenAiClient client;
+    private final String modelName;
+    private final Double temperature;
+    private final Double topP;
+    private final Integer maxTokens;
+    private final Double presencePenalty;
+    private final Double frequencyPenalty;
+
+    public QuarkusOpenAiChatModel(String baseUrl, String apiKey, String organizationId, String modelName,
+            Double temperature, Double topP, Integer maxTokens, Double presencePenalty, Double frequencyPenalty,
+            Duration timeout, Integer maxRetries, Boolean logRequests, Boolean logResponses,
+            OpenAiRateLimiter.Options rateLimiter) {
+        super(baseUrl, apiKey, organizationId, modelName, temperature, topP, null, maxTokens, presencePenalty,
+                frequencyPenalty, null, null, null, null, timeout, maxRetries, null, logRequests, logResponses, null);
+
+        timeout = getOrDefault(timeout, ofSeconds(60));
+        this.client = QuarkusOpenAiClient.builder()
+                .baseUrl(baseUrl)
+                .openAiApiKey(apiKey)
+                .organizationId(organizationId)
+                .callTimeout(timeout)
+                .connectTimeout(timeout)
+                .readTimeout(timeout)
+                .writeTimeout(timeout)
+                .logRequests(getOrDefault(logRequests, false))
+                .logResponses(getOrDefault(logResponses, false))
+                // same number of attempts as the other models
+                .maxRetries(Math.max(getOrDefault(maxRetries, 3) - 1, 0))
+                .rateLimiter(rateLimiter)
+                .build();
+        this.modelName = getOrDefault(modelName, GPT_3_5_TURBO);
+        this.temperature = getOrDefault(temperature, 0.7);
+        this.topP = topP;
+        this.maxTokens = maxTokens;
+        this.presencePenalty = presencePenalty;
+        this.frequencyPenalty = frequencyPenalty;
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        return generate(messages, null, null);
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        return generate(messages, toolSpecifications, null);
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+        return generate(messages, singletonList(toolSpecification), toolSpecification);
+    }
+
+    private Response<AiMessage> generate(List<ChatMessage> messages,
+            List<ToolSpecification> toolSpecifications,
+            ToolSpecification toolThatMustBeExecuted) {
+        ChatCompletionRequest.Builder requestBuilder = ChatCompletionRequest.builder()
+                .model(modelName)
+                .messages(toOpenAiMessages(messages))
+                .temperature(temperature)
+                .topP(topP)
+                .maxTokens(maxTokens)
+                .presencePenalty(presencePenalty)
+                .frequencyPenalty(frequencyPenalty);
+
+        if (toolSpecifications != null && !toolSpecifications.isEmpty()) {
+            requestBuilder.tools(toTools(toolSpecifications));
+        }
+        if (toolThatMustBeExecuted != null) {
+            requestBuilder.toolChoice(toolThatMustBeExecuted.name());
+        }
+
+        ChatCompletionResponse response = client.chatCompletion(requestBuilder.build()).execute();
+
+        return Response.from(
+                aiMessageFrom(response),
+                tokenUsageFrom(response.usage()),
+                finishReasonFrom(response.choices().get(0).finishReason()));
+    }
+
+    public static Builder quarkusBuilder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private String baseUrl;
+        private String apiKey;
+        private String organizationId;
+        private String modelName;
+        private Double temperature;
+        private Double topP;
+        private Integer maxTokens;
+        private Double presencePenalty;
+        private Double frequencyPenalty;
+        private Duration timeout;
+        private Integer maxRetries;
+        private Boolean logRequests;
+        private Boolean logResponses;
+        private OpenAiRateLimiter.Options rateLimiter;
+
+        public Builder baseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+            return this;
+        }
+
+        public Builder apiKey(String apiKey) {
+            this.apiKey = apiKey;
+            return this;
+        }
+
+        public Builder organizationId(String organizationId) {
+            this.organizationId = organizationId;
+            return this;
+        }
+
+        public Builder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        public Builder temperature(Double temperature) {
+            this.temperature = temperature;
+            return this;
+        }
+
+        public Builder topP(Double topP) {
+            this.topP = topP;
+            return this;
+        }
+
+        public Builder maxTokens(Integer maxTokens) {
+            this.maxTokens = maxTokens;
+            return this;
+        }
+
+        public Builder presencePenalty(Double presencePenalty) {
+            this.presencePenalty = presencePenalty;
+            return this;
+        }
+
+        public Builder frequencyPenalty(Double frequencyPenalty) {
+            this.frequencyPenalty = frequencyPenalty;
+            return this;
+        }
+
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public Builder maxRetries(Integer maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public Builder logRequests(Boolean logRequests) {
+            this.logRequests = logRequests;
+            return this;
+        }
+
+        public Builder logResponses(Boolean logResponses) {
+            this.logResponses = logResponses;
+            return this;
+        }
+
+        public Builder rateLimiter(OpenAiRateLimiter.Options rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        public QuarkusOpenAiChatModel build() {
+            return new QuarkusOpenAiChatModel(baseUrl, apiKey, organizationId, modelName, temperature, topP, maxTokens,
+                    presencePenalty, frequencyPenalty, timeout, maxRetries, logRequests, logResponses, rateLimiter);
+        }
+    }
+}
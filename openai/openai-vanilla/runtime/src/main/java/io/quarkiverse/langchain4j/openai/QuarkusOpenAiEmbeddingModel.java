@@ -0,0 +1,153 @@
+package io.quarkiverse.langchain4j.openai;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static java.time.Duration.ofSeconds;
+
+import java.time.Duration;
+import java.util.List;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.openai.OpenAiEmbeddingModel;
+import dev.langchain4j.model.output.Response;
+
+/**
+ * An {@link OpenAiEmbeddingModel} that sends the texts of {@link #embedAll(List)} in requests packed by their estimated
+ * number of tokens, with several requests in flight at the same time, and that pauses when OpenAI rate limits it.
+ * <p>
+ * The client of the dispatcher is built with the same parameters as the one of the upstream model, which only differ by
+ * their rate limiter, so both share the same REST client.
+ */
+public class QuarkusOpenAiEmbeddingModel extends OpenAiEmbeddingModel {
+
+    /**
+     * The maximum number of inputs of a single request accepted by OpenAI
+     */
+    private static final int MAX_BATCH_SIZE = 2048;
+
+    /**
+     * The maximum number of tokens, summed across all the inputs, of a single request accepted by OpenAI
+     */
+    private static final int MAX_BATCH_TOKENS = 300_000;
+
+    private final OpenAiEmbeddingDispatcher dispatcher;
+
+    public QuarkusOpenAiEmbeddingModel(String baseUrl, String apiKey, String organizationId, String modelName, String user,
+            Duration timeout, Integer maxRetries, Boolean logRequests, Boolean logResponses, Integer maxConcurrency,
+            Integer maxBatchTokens, OpenAiRateLimiter.Options rateLimiter) {
+        super(baseUrl, apiKey, organizationId, modelName, user, timeout, maxRetries, null, logRequests, logResponses, null);
+
+        timeout = getOrDefault(timeout, ofSeconds(60));
+        QuarkusOpenAiClient client = QuarkusOpenAiClient.builder()
+                .baseUrl(baseUrl)
+                .openAiApiKey(apiKey)
+                .organizationId(organizationId)
+                .callTimeout(timeout)
+                .connectTimeout(timeout)
+                .readTimeout(timeout)
+                .writeTimeout(timeout)
+                .logRequests(getOrDefault(logRequests, false))
+                .logResponses(getOrDefault(logResponses, false))
+                .rateLimiter(rateLimiter)
+                .build();
+        this.dispatcher = OpenAiEmbeddingDispatcher.builder()
+                .client(client)
+                .modelName(modelName)
+                .user(user)
+                .tokenCountEstimator(this)
+                .maxBatchSize(MAX_BATCH_SIZE)
+                .maxBatchTokens(getOrDefault(maxBatchTokens, MAX_BATCH_TOKENS))
+                .maxConcurrency(getOrDefault(maxConcurrency, 4))
+                .maxRetries(getOrDefault(maxRetries, 3))
+                .build();
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        return dispatcher.embedAll(textSegments);
+    }
+
+    public static Builder quarkusBuilder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private String baseUrl;
+        private String apiKey;
+        private String organizationId;
+        private String modelName;
+        private String user;
+        private Duration timeout;
+        private Integer maxRetries;
+        private Boolean logRequests;
+        private Boolean logResponses;
+        private Integer maxConcurrency;
+        private Integer maxBatchTokens;
+        private OpenAiRateLimiter.Options rateLimiter;
+
+        public Builder baseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+            return this;
+        }
+
+        public Builder apiKey(String apiKey) {
+            this.apiKey = apiKey;
+            return this;
+        }
+
+        public Builder organizationId(String organizationId) {
+            this.organizationId = organizationId;
+            return this;
+        }
+
+        public Builder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        public Builder user(String user) {
+            this.user = user;
+            return this;
+        }
+
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public Builder maxRetries(Integer maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public Builder logRequests(Boolean logRequests) {
+            this.logRequests = logRequests;
+            return this;
+        }
+
+        public Builder logResponses(Boolean logResponses) {
+            this.logResponses = logResponses;
+            return this;
+        }
+
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        public Builder maxBatchTokens(Integer maxBatchTokens) {
+            this.maxBatchTokens = maxBatchTokens;
+            return this;
+        }
+
+        public Builder rateLimiter(OpenAiRateLimiter.Options rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        public QuarkusOpenAiEmbeddingModel build() {
+            return new QuarkusOpenAiEmbeddingModel(baseUrl, apiKey, organizationId, modelName, user, timeout, maxRetries,
+                    logRequests, logResponses, maxConcurrency, maxBatchTokens, rateLimiter);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package io.quarkiverse.langchain4j.openai;
 
-import static dev.langchain4j.internal.RetryUtils.withRetry;
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.model.openai.OpenAiModelName.DALL_E_2;
 
 import java.io.IOException;
@@ -33,7 +33,6 @@ public class QuarkusOpenAiImageModel implements ImageModel {
     private final String style;
     private final Optional<String> user;
     private final String responseFormat;
-    private final Integer maxRetries;
     private final Optional<Path> persistDirectory;
 
     private final QuarkusOpenAiClient client;
@@ -41,14 +40,13 @@ public class QuarkusOpenAiImageModel implements ImageModel {
     public QuarkusOpenAiImageModel(String baseUrl, String apiKey, String organizationId, String modelName, String size,
             String quality, String style, Optional<String> user, String responseFormat, Duration timeout,
             Integer maxRetries, Boolean logRequests, Boolean logResponses,
-            Optional<Path> persistDirectory) {
+            Optional<Path> persistDirectory, OpenAiRateLimiter.Options rateLimiter) {
         this.modelName = modelName;
         this.size = size;
         this.quality = quality;
         this.style = style;
         this.user = user;
         this.responseFormat = responseFormat;
-        this.maxRetries = maxRetries;
         this.persistDirectory = persistDirectory;
 
         this.client = QuarkusOpenAiClient.builder()
@@ -61,6 +59,9 @@ public class QuarkusOpenAiImageModel implements ImageModel {
                 .writeTimeout(timeout)
                 .logRequests(logRequests)
                 .logResponses(logResponses)
+                // same number of attempts as the other models
+                .maxRetries(Math.max(getOrDefault(maxRetries, 3) - 1, 0))
+                .rateLimiter(rateLimiter)
                 .build();
     }
 
@@ -68,7 +69,7 @@ public class QuarkusOpenAiImageModel implements ImageModel {
     public Response<Image> generate(String prompt) {
         GenerateImagesRequest request = requestBuilder(prompt).build();
 
-        GenerateImagesResponse response = withRetry(() -> client.imagesGeneration(request), maxRetries).execute();
+        GenerateImagesResponse response = client.imagesGeneration(request).execute();
         persistIfNecessary(response);
 
         return Response.from(fromImageData(response.data().get(0)));
@@ -78,7 +79,7 @@ public class QuarkusOpenAiImageModel implements ImageModel {
     public Response<List<Image>> generate(String prompt, int n) {
         GenerateImagesRequest request = requestBuilder(prompt).n(n).build();
 
-        GenerateImagesResponse response = withRetry(() -> client.imagesGeneration(request), maxRetries).execute();
+        GenerateImagesResponse response = client.imagesGeneration(request).execute();
         persistIfNecessary(response);
 
         return Response.from(
@@ -149,6 +150,7 @@ public class QuarkusOpenAiImageModel implements ImageModel {
         private Boolean logRequests;
         private Boolean logResponses;
         private Optional<Path> persistDirectory;
+        private OpenAiRateLimiter.Options rateLimiter;
 
         public Builder baseUrl(String baseUrl) {
             this.baseUrl = baseUrl;
@@ -220,10 +222,15 @@ public class QuarkusOpenAiImageModel implements ImageModel {
             return this;
         }
 
+        public Builder rateLimiter(OpenAiRateLimiter.Options rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
         public QuarkusOpenAiImageModel build() {
             return new QuarkusOpenAiImageModel(baseUrl, apiKey, organizationId, modelName, size, quality, style, user,
                     responseFormat, timeout, maxRetries, logRequests, logResponses,
-                    persistDirectory);
+                    persistDirectory, rateLimiter);
         }
     }
 
@@ -0,0 +1,140 @@
+package io.quarkiverse.langchain4j.openai;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static java.time.Duration.ofSeconds;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import dev.ai4j.openai4j.moderation.ModerationRequest;
+import dev.ai4j.openai4j.moderation.ModerationResponse;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.moderation.Moderation;
+import dev.langchain4j.model.openai.OpenAiModerationModel;
+import io.quarkiverse.langchain4j.ReactiveModerationModel;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * An {@link OpenAiModerationModel} that can also moderate messages with the non-blocking API of the client, so that the
+ * moderation requested by an AI service does not occupy a worker thread.
+ */
+public class QuarkusOpenAiModerationModel extends OpenAiModerationModel implements ReactiveModerationModel {
+
+    private final QuarkusOpenAiClient client;
+    private final String modelName;
+
+    public QuarkusOpenAiModerationModel(String baseUrl, String apiKey, String organizationId, String modelName,
+            Duration timeout, Integer maxRetries, Boolean logRequests, Boolean logResponses,
+            OpenAiRateLimiter.Options rateLimiter) {
+        super(baseUrl, apiKey, organizationId, modelName, timeout, maxRetries, null, logRequests, logResponses);
+
+        timeout = getOrDefault(timeout, ofSeconds(60));
+        this.client = QuarkusOpenAiClient.builder()
+                .baseUrl(baseUrl)
+                .openAiApiKey(apiKey)
+                .organizationId(organizationId)
+                .callTimeout(timeout)
+                .connectTimeout(timeout)
+                .readTimeout(timeout)
+                .writeTimeout(timeout)
+                .logRequests(getOrDefault(logRequests, false))
+                .logResponses(getOrDefault(logResponses, false))
+                // same number of attempts as the blocking API
+                .maxRetries(Math.max(getOrDefault(maxRetries, 3) - 1, 0))
+                .rateLimiter(rateLimiter)
+                .build();
+        this.modelName = getOrDefault(modelName, "text-moderation-latest");
+    }
+
+    @Override
+    public Uni<Moderation> moderateAsync(List<ChatMessage> messages) {
+        List<String> inputs = new ArrayList<>(messages.size());
+        for (ChatMessage message : messages) {
+            inputs.add(message.text());
+        }
+        ModerationRequest request = ModerationRequest.builder()
+                .model(modelName)
+                .input(inputs)
+                .build();
+        return client.moderationAsync(request)
+                .map(new Function<ModerationResponse, Moderation>() {
+                    @Override
+                    public Moderation apply(ModerationResponse response) {
+                        for (int i = 0; i < response.results().size(); i++) {
+                            if (response.results().get(i).isFlagged()) {
+                                return Moderation.flagged(inputs.get(i));
+                            }
+                        }
+                        return Moderation.notFlagged();
+                    }
+                });
+    }
+
+    public static Builder quarkusBuilder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private String baseUrl;
+        private String apiKey;
+        private String organizationId;
+        private String modelName;
+        private Duration timeout;
+        private Integer maxRetries;
+        private Boolean logRequests;
+        private Boolean logResponses;
+        private OpenAiRateLimiter.Options rateLimiter;
+
+        public Builder baseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+            return this;
+        }
+
+        public Builder apiKey(String apiKey) {
+            this.apiKey = apiKey;
+            return this;
+        }
+
+        public Builder organizationId(String organizationId) {
+            this.organizationId = organizationId;
+            return this;
+        }
+
+        public Builder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public Builder maxRetries(Integer maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public Builder logRequests(Boolean logRequests) {
+            this.logRequests = logRequests;
+            return this;
+        }
+
+        public Builder logResponses(Boolean logResponses) {
+            this.logResponses = logResponses;
+            return this;
+        }
+
+        public Builder rateLimiter(OpenAiRateLimiter.Options rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        public QuarkusOpenAiModerationModel build() {
+            return new QuarkusOpenAiModerationModel(baseUrl, apiKey, organizationId, modelName, timeout, maxRetries,
+                    logRequests, logResponses, rateLimiter);
+        }
+    }
+}
@@ -7,17 +7,20 @@ import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.function.Supplier;
 
-import dev.langchain4j.model.openai.OpenAiChatModel;
-import dev.langchain4j.model.openai.OpenAiEmbeddingModel;
-import dev.langchain4j.model.openai.OpenAiModerationModel;
 import dev.langchain4j.model.openai.OpenAiStreamingChatModel;
+import io.quarkiverse.langchain4j.openai.OpenAiRateLimiter;
+import io.quarkiverse.langchain4j.openai.QuarkusOpenAiChatModel;
 import io.quarkiverse.langchain4j.openai.QuarkusOpenAiClient;
+import io.quarkiverse.langchain4j.openai.QuarkusOpenAiEmbeddingModel;
 import io.quarkiverse.langchain4j.openai.QuarkusOpenAiImageModel;
+import io.quarkiverse.langchain4j.openai.QuarkusOpenAiModerationModel;
 import io.quarkiverse.langchain4j.openai.runtime.config.ChatModelConfig;
 import io.quarkiverse.langchain4j.openai.runtime.config.EmbeddingModelConfig;
 import io.quarkiverse.langchain4j.openai.runtime.config.ImageModelConfig;
 import io.quarkiverse.langchain4j.openai.runtime.config.Langchain4jOpenAiConfig;
 import io.quarkiverse.langchain4j.openai.runtime.config.ModerationModelConfig;
+import io.quarkiverse.langchain4j.openai.runtime.config.RateLimiterConfig;
+import io.quarkiverse.langchain4j.runtime.CachingEmbeddingModel;
 import io.quarkiverse.langchain4j.runtime.NamedModelUtil;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
@@ -35,11 +38,12 @@ public class OpenAiRecorder {
             throw new ConfigValidationException(createApiKeyConfigProblems(modelName));
         }
         ChatModelConfig chatModelConfig = openAiConfig.chatModel();
-        var builder = OpenAiChatModel.builder()
+        var builder = QuarkusOpenAiChatModel.quarkusBuilder()
                 .baseUrl(openAiConfig.baseUrl())
                 .apiKey(apiKey)
                 .timeout(openAiConfig.timeout())
                 .maxRetries(openAiConfig.maxRetries())
+                .rateLimiter(rateLimiter(openAiConfig.rateLimiter()))
                 .logRequests(firstOrDefault(false, chatModelConfig.logRequests(), openAiConfig.logRequests()))
                 .logResponses(firstOrDefault(false, chatModelConfig.logResponses(), openAiConfig.logResponses()))
                 .modelName(chatModelConfig.modelName())
@@ -102,14 +106,17 @@ public class OpenAiRecorder {
             throw new ConfigValidationException(createApiKeyConfigProblems(modelName));
         }
         EmbeddingModelConfig embeddingModelConfig = openAiConfig.embeddingModel();
-        var builder = OpenAiEmbeddingModel.builder()
+        var builder = QuarkusOpenAiEmbeddingModel.quarkusBuilder()
                 .baseUrl(openAiConfig.baseUrl())
                 .apiKey(apiKeyOpt)
                 .timeout(openAiConfig.timeout())
                 .maxRetries(openAiConfig.maxRetries())
+                .rateLimiter(rateLimiter(openAiConfig.rateLimiter()))
                 .logRequests(firstOrDefault(false, embeddingModelConfig.logRequests(), openAiConfig.logRequests()))
                 .logResponses(firstOrDefault(false, embeddingModelConfig.logResponses(), openAiConfig.logResponses()))
-                .modelName(embeddingModelConfig.modelName());
+                .modelName(embeddingModelConfig.modelName())
+                .maxConcurrency(embeddingModelConfig.maxConcurrency())
+                .maxBatchTokens(embeddingModelConfig.maxBatchTokens());
 
         if (embeddingModelConfig.user().isPresent()) {
             builder.user(embeddingModelConfig.user().get());
@@ -120,7 +127,7 @@ public class OpenAiRecorder {
         return new Supplier<>() {
             @Override
             public Object get() {
-                return builder.build();
+                return CachingEmbeddingModel.decorate(builder.build(), "openai:" + embeddingModelConfig.modelName());
             }
         };
     }
@@ -132,11 +139,12 @@ public class OpenAiRecorder {
             throw new ConfigValidationException(createApiKeyConfigProblems(modelName));
         }
         ModerationModelConfig moderationModelConfig = openAiConfig.moderationModel();
-        var builder = OpenAiModerationModel.builder()
+        var builder = QuarkusOpenAiModerationModel.quarkusBuilder()
                 .baseUrl(openAiConfig.baseUrl())
                 .apiKey(apiKey)
                 .timeout(openAiConfig.timeout())
                 .maxRetries(openAiConfig.maxRetries())
+                .rateLimiter(rateLimiter(openAiConfig.rateLimiter()))
                 .logRequests(firstOrDefault(false, moderationModelConfig.logRequests(), openAiConfig.logRequests()))
                 .logResponses(firstOrDefault(false, moderationModelConfig.logResponses(), openAiConfig.logResponses()))
                 .modelName(moderationModelConfig.modelName());
@@ -163,6 +171,7 @@ public class OpenAiRecorder {
                 .apiKey(apiKey)
                 .timeout(openAiConfig.timeout())
                 .maxRetries(openAiConfig.maxRetries())
+                .rateLimiter(rateLimiter(openAiConfig.rateLimiter()))
                 .logRequests(firstOrDefault(false, imageModelConfig.logRequests(), openAiConfig.logRequests()))
                 .logResponses(firstOrDefault(false, imageModelConfig.logResponses(), openAiConfig.logResponses()))
                 .modelName(imageModelConfig.modelName())
@@ -204,6 +213,13 @@ public class OpenAiRecorder {
 
     }
 
+    private OpenAiRateLimiter.Options rateLimiter(RateLimiterConfig rateLimiterConfig) {
+        if (!rateLimiterConfig.enabled()) {
+            return null;
+        }
+        return new OpenAiRateLimiter.Options(rateLimiterConfig.maxWait(), rateLimiterConfig.maxQueueSize());
+    }
+
     private Langchain4jOpenAiConfig.OpenAiConfig correspondingOpenAiConfig(Langchain4jOpenAiConfig runtimeConfig,
             String modelName) {
         Langchain4jOpenAiConfig.OpenAiConfig openAiConfig;
@@ -31,4 +31,19 @@ public interface EmbeddingModelConfig {
      * A unique identifier representing your end-user, which can help OpenAI to monitor and detect abuse.
      */
     Optional<String> user();
+
+    /**
+     * The maximum number of embedding requests sent concurrently when embedding many text segments at once
+     */
+    @WithDefault("4")
+    Integer maxConcurrency();
+
+    /**
+     * The maximum estimated number of tokens, summed across all the text segments, sent in a single embedding request.
+     * Text segments are packed into requests up to this number of tokens, a longer segment is sent in a request of its
+     * own. The default is the limit of a request accepted by OpenAI, each segment being additionally limited by the
+     * model to 8191 tokens
+     */
+    @WithDefault("300000")
+    Integer maxBatchTokens();
 }
@@ -79,6 +79,11 @@ public interface Langchain4jOpenAiConfig {
         @ConfigDocDefault("false")
         Optional<Boolean> logResponses();
 
+        /**
+         * Client-side rate limiting related settings
+         */
+        RateLimiterConfig rateLimiter();
+
         /**
          * Chat model related settings
          */
@@ -1,6 +1,7 @@
 package io.quarkiverse.langchain4j.openshift.ai.deployment;
 
 import static io.quarkiverse.langchain4j.deployment.Langchain4jDotNames.CHAT_MODEL;
+import static io.quarkiverse.langchain4j.deployment.Langchain4jDotNames.STREAMING_CHAT_MODEL;
 
 import java.util.List;
 
@@ -20,6 +21,7 @@ import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 
 public class OpenshiftAiProcessor {
 
@@ -51,18 +53,34 @@ public class OpenshiftAiProcessor {
         for (var selected : selectedChatItem) {
             if (PROVIDER.equals(selected.getProvider())) {
                 String modelName = selected.getModelName();
+                var chatModel = recorder.chatModel(config, modelName);
                 var builder = SyntheticBeanBuildItem
                         .configure(CHAT_MODEL)
                         .setRuntimeInit()
                         .defaultBean()
                         .scope(ApplicationScoped.class)
-                        .supplier(recorder.chatModel(config, modelName));
+                        .supplier(chatModel);
                 addQualifierIfNecessary(builder, modelName);
                 beanProducer.produce(builder.done());
+
+                var streamingBuilder = SyntheticBeanBuildItem
+                        .configure(STREAMING_CHAT_MODEL)
+                        .setRuntimeInit()
+                        .defaultBean()
+                        .scope(ApplicationScoped.class)
+                        .supplier(chatModel);
+                addQualifierIfNecessary(streamingBuilder, modelName);
+                beanProducer.produce(streamingBuilder.done());
             }
         }
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void cleanUp(OpenshiftAiRecorder recorder, ShutdownContextBuildItem shutdown) {
+        recorder.cleanUp(shutdown);
+    }
+
     private void addQualifierIfNecessary(SyntheticBeanBuildItem.ExtendedBeanConfigurator builder, String modelName) {
         if (!NamedModelUtil.isDefault(modelName)) {
             builder.addQualifier(AnnotationInstance.builder(ModelName.class).add("value", modelName).build());
@@ -0,0 +1,108 @@
+package io.quarkiverse.langchain4j.openshift.ai.deployment;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.Response;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StreamingChatModelTest {
+
+    private static final int WIREMOCK_PORT = 8089;
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class))
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openshift-ai.base-url", "http://localhost:" + WIREMOCK_PORT)
+            .overrideRuntimeConfigKey("quarkus.langchain4j.openshift-ai.chat-model.model-id", "flan-t5");
+
+    static WireMockServer wireMockServer;
+
+    @Inject
+    StreamingChatLanguageModel model;
+
+    @BeforeAll
+    static void beforeAll() {
+        wireMockServer = new WireMockServer(options().port(WIREMOCK_PORT));
+        wireMockServer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void generate() throws Exception {
+        wireMockServer.stubFor(
+                post(urlEqualTo("/v1/task/server-streaming-text-generation"))
+                        .withRequestBody(equalToJson("""
+                                {
+                                  "model_id": "flan-t5",
+                                  "inputs": "Hi"
+                                }
+                                """))
+                        .willReturn(aResponse()
+                                .withHeader("Content-Type", "text/event-stream")
+                                .withBody(
+                                        """
+                                                data:{"generated_text":"","details":{"finish_reason":"NOT_FINISHED","generated_tokens":0,"input_token_count":2}}
+
+                                                data:{"generated_text":"Hello","details":{"finish_reason":"NOT_FINISHED","generated_tokens":1}}
+
+                                                data:{"generated_text":" world","details":{"finish_reason":"EOS_TOKEN","generated_tokens":3}}
+
+                                                """)));
+
+        List<String> tokens = new CopyOnWriteArrayList<>();
+        CompletableFuture<Response<AiMessage>> future = new CompletableFuture<>();
+        model.generate("Hi", new StreamingResponseHandler<>() {
+
+            @Override
+            public void onNext(String token) {
+                tokens.add(token);
+            }
+
+            @Override
+            public void onComplete(Response<AiMessage> response) {
+                future.complete(response);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                future.completeExceptionally(error);
+            }
+        });
+
+        Response<AiMessage> response = future.get(10, TimeUnit.SECONDS);
+        assertThat(tokens).containsExactly("Hello", " world");
+        assertThat(response.content().text()).isEqualTo("Hello world");
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(2);
+        assertThat(response.tokenUsage().outputTokenCount()).isEqualTo(3);
+        assertThat(response.finishReason()).isEqualTo(FinishReason.STOP);
+    }
+}
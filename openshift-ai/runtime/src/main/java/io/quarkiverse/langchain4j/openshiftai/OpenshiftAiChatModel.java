@@ -1,39 +1,72 @@
 package io.quarkiverse.langchain4j.openshiftai;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.time.Duration;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
+import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.client.api.LoggingScope;
 
 import dev.langchain4j.agent.tool.ToolSpecification;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
 import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.output.FinishReason;
 import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.openshiftai.TextGenerationStreamResponse.Details;
+import io.quarkiverse.langchain4j.runtime.StreamingResponseSubscriber;
 import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
 
-public class OpenshiftAiChatModel implements ChatLanguageModel {
+/**
+ * An OpenShift AI model generating text either at once, as a {@link ChatLanguageModel}, or token by token, as a
+ * {@link StreamingChatLanguageModel}.
+ * <p>
+ * The models using the same endpoint with the same settings share a single REST client, and thus a single pool of
+ * connections, however many models are configured.
+ */
+public class OpenshiftAiChatModel implements ChatLanguageModel, StreamingChatLanguageModel {
+    private static final Logger log = Logger.getLogger(OpenshiftAiChatModel.class);
+
     public static final String TLS_TRUST_ALL = "quarkus.tls.trust-all";
+    private static final String NOT_FINISHED = "NOT_FINISHED";
+
+    private static final Map<ClientKey, OpenshiftAiRestApi> cache = new ConcurrentHashMap<>();
+
     private final String modelId;
     private final OpenshiftAiRestApi client;
 
     public OpenshiftAiChatModel(Builder config) {
-        QuarkusRestClientBuilder builder = QuarkusRestClientBuilder.newBuilder()
-                .baseUri(config.url)
-                .connectTimeout(config.timeout.toSeconds(), TimeUnit.SECONDS)
-                .readTimeout(config.timeout.toSeconds(), TimeUnit.SECONDS);
-
-        if (config.logRequests || config.logResponses) {
-            builder.loggingScope(LoggingScope.REQUEST_RESPONSE);
-            builder.clientLogger(new OpenshiftAiRestApi.OpenshiftAiClientLogger(config.logRequests,
-                    config.logResponses));
-        }
-
-        this.client = builder.build(OpenshiftAiRestApi.class);
+        this.client = cache.computeIfAbsent(
+                new ClientKey(config.url, config.timeout, config.logRequests, config.logResponses),
+                new Function<ClientKey, OpenshiftAiRestApi>() {
+                    @Override
+                    public OpenshiftAiRestApi apply(ClientKey key) {
+                        QuarkusRestClientBuilder builder = QuarkusRestClientBuilder.newBuilder()
+                                .baseUri(key.url())
+                                .connectTimeout(key.timeout().toSeconds(), TimeUnit.SECONDS)
+                                .readTimeout(key.timeout().toSeconds(), TimeUnit.SECONDS);
+
+                        if (key.logRequests() || key.logResponses()) {
+                            builder.loggingScope(LoggingScope.REQUEST_RESPONSE);
+                            builder.clientLogger(new OpenshiftAiRestApi.OpenshiftAiClientLogger(key.logRequests(),
+                                    key.logResponses()));
+                        }
+
+                        return builder.build(OpenshiftAiRestApi.class);
+                    }
+                });
         this.modelId = config.modelId;
     }
 
@@ -41,16 +74,57 @@ public class OpenshiftAiChatModel implements ChatLanguageModel {
         return new Builder();
     }
 
+    /**
+     * Closes the shared REST clients, releasing their connections
+     */
+    public static void clearCache() {
+        Iterator<OpenshiftAiRestApi> clients = cache.values().iterator();
+        while (clients.hasNext()) {
+            OpenshiftAiRestApi client = clients.next();
+            clients.remove();
+            if (client instanceof Closeable closeable) {
+                try {
+                    closeable.close();
+                } catch (IOException e) {
+                    log.debug("Unable to close the OpenShift AI REST client", e);
+                }
+            }
+        }
+    }
+
     @Override
     public Response<AiMessage> generate(List<ChatMessage> messages) {
 
-        TextGenerationRequest request = new TextGenerationRequest(modelId, messages.get(0).text());
-
-        TextGenerationResponse textGenerationResponse = client.chat(request);
+        TextGenerationResponse textGenerationResponse = client.chat(toRequest(messages));
 
         return Response.from(AiMessage.from(textGenerationResponse.generatedText()));
     }
 
+    @Override
+    public void generate(List<ChatMessage> messages, StreamingResponseHandler<AiMessage> handler) {
+
+        new StreamingResponseSubscriber<TextGenerationStreamResponse>(handler) {
+
+            private String finishReason;
+
+            @Override
+            protected String onEvent(TextGenerationStreamResponse response) {
+                Details details = response.details();
+                if (details != null) {
+                    countTokens(details.inputTokenCount(), details.generatedTokens());
+                    if (details.finishReason() != null && !NOT_FINISHED.equalsIgnoreCase(details.finishReason()))
+                        finishReason = details.finishReason();
+                }
+                return response.generatedText();
+            }
+
+            @Override
+            protected Response<AiMessage> toResponse(AiMessage message) {
+                return Response.from(message, tokenUsage(), toFinishReason(finishReason));
+            }
+        }.subscribe(client.streamingChat(toRequest(messages)));
+    }
+
     @Override
     public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
         throw new IllegalArgumentException("Tools are currently not supported for OpenShift AI models");
@@ -61,6 +135,41 @@ public class OpenshiftAiChatModel implements ChatLanguageModel {
         throw new IllegalArgumentException("Tools are currently not supported for OpenShift AI models");
     }
 
+    @Override
+    public void generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications,
+            StreamingResponseHandler<AiMessage> handler) {
+        throw new IllegalArgumentException("Tools are currently not supported for OpenShift AI models");
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, ToolSpecification toolSpecification,
+            StreamingResponseHandler<AiMessage> handler) {
+        throw new IllegalArgumentException("Tools are currently not supported for OpenShift AI models");
+    }
+
+    private TextGenerationRequest toRequest(List<ChatMessage> messages) {
+        return new TextGenerationRequest(modelId, messages.get(0).text());
+    }
+
+    private static FinishReason toFinishReason(String reason) {
+        if (reason == null) {
+            return null;
+        }
+        switch (reason.toUpperCase(Locale.ROOT)) {
+            case "MAX_TOKENS":
+            case "TOKEN_LIMIT":
+                return FinishReason.LENGTH;
+            case "EOS_TOKEN":
+            case "STOP_SEQUENCE":
+                return FinishReason.STOP;
+            default:
+                return FinishReason.OTHER;
+        }
+    }
+
+    private record ClientKey(URI url, Duration timeout, boolean logRequests, boolean logResponses) {
+    }
+
     public static final class Builder {
 
         private String modelId;
@@ -0,0 +1,12 @@
+package io.quarkiverse.langchain4j.openshiftai;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record TextGenerationStreamResponse(String generatedText, Details details) {
+
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record Details(String finishReason, Integer generatedTokens, Integer inputTokenCount) {
+    }
+}
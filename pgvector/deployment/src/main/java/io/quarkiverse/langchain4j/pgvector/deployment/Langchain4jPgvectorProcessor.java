@@ -12,12 +12,15 @@ import com.pgvector.PGvector;
 
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
 import io.agroal.api.AgroalDataSource;
 import io.quarkiverse.langchain4j.deployment.EmbeddingStoreBuildItem;
+import io.quarkiverse.langchain4j.pgvector.PgVectorChatMemoryStore;
 import io.quarkiverse.langchain4j.pgvector.PgVectorEmbeddingStore;
 import io.quarkiverse.langchain4j.pgvector.runtime.PgVectorEmbeddingStoreConfig;
 import io.quarkiverse.langchain4j.pgvector.runtime.PgVectorEmbeddingStoreRecorder;
 import io.quarkus.agroal.DataSource;
+import io.quarkus.arc.BeanDestroyer;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -29,6 +32,7 @@ import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 class Langchain4jPgvectorProcessor {
 
     public static final DotName PGVECTOR_EMBEDDING_STORE = DotName.createSimple(PgVectorEmbeddingStore.class);
+    public static final DotName PGVECTOR_CHAT_MEMORY_STORE = DotName.createSimple(PgVectorChatMemoryStore.class);
 
     private static final String FEATURE = "langchain4j-pgvector";
 
@@ -46,15 +50,7 @@ class Langchain4jPgvectorProcessor {
             PgVectorEmbeddingStoreBuildTimeConfig buildTimeConfig,
             BuildProducer<EmbeddingStoreBuildItem> embeddingStoreProducer) {
         String datasourceName = buildTimeConfig.datasource().orElse(null);
-        AnnotationInstance datasourceQualifier;
-        if (datasourceName == null) {
-            datasourceQualifier = AnnotationInstance.builder(Default.class).build();
-
-        } else {
-            datasourceQualifier = AnnotationInstance.builder(DataSource.class)
-                    .add("value", datasourceName)
-                    .build();
-        }
+        AnnotationInstance datasourceQualifier = datasourceQualifier(datasourceName);
         beanProducer.produce(SyntheticBeanBuildItem
                 .configure(PGVECTOR_EMBEDDING_STORE)
                 .types(ClassType.create(EmbeddingStore.class),
@@ -68,6 +64,39 @@ class Langchain4jPgvectorProcessor {
         embeddingStoreProducer.produce(new EmbeddingStoreBuildItem());
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void createChatMemoryStoreBean(
+            BuildProducer<SyntheticBeanBuildItem> beanProducer,
+            PgVectorEmbeddingStoreRecorder recorder,
+            PgVectorEmbeddingStoreConfig config,
+            PgVectorEmbeddingStoreBuildTimeConfig buildTimeConfig) {
+        if (!buildTimeConfig.chatMemoryStore().enabled()) {
+            return;
+        }
+        String datasourceName = buildTimeConfig.datasource().orElse(null);
+        // not a default bean, so that it replaces the in-memory store provided by the core extension
+        beanProducer.produce(SyntheticBeanBuildItem
+                .configure(PGVECTOR_CHAT_MEMORY_STORE)
+                .types(ClassType.create(ChatMemoryStore.class))
+                .setRuntimeInit()
+                .scope(ApplicationScoped.class)
+                .destroyer(BeanDestroyer.CloseableDestroyer.class)
+                .createWith(recorder.chatMemoryStoreFunction(config, datasourceName))
+                .addInjectionPoint(ClassType.create(DotName.createSimple(AgroalDataSource.class)),
+                        datasourceQualifier(datasourceName))
+                .done());
+    }
+
+    private static AnnotationInstance datasourceQualifier(String datasourceName) {
+        if (datasourceName == null) {
+            return AnnotationInstance.builder(Default.class).build();
+        }
+        return AnnotationInstance.builder(DataSource.class)
+                .add("value", datasourceName)
+                .build();
+    }
+
     @BuildStep
     public ReflectiveClassBuildItem reflectiveClass() {
         return ReflectiveClassBuildItem.builder(PGvector.class).build();
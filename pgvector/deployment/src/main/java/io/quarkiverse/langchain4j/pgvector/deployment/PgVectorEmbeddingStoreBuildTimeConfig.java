@@ -4,8 +4,10 @@ import static io.quarkus.runtime.annotations.ConfigPhase.BUILD_TIME;
 
 import java.util.Optional;
 
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
 
 @ConfigRoot(phase = BUILD_TIME)
 @ConfigMapping(prefix = "quarkus.langchain4j.pgvector")
@@ -17,4 +19,19 @@ public interface PgVectorEmbeddingStoreBuildTimeConfig {
      */
     Optional<String> datasource();
 
+    /**
+     * Build time configuration of the chat memory store
+     */
+    ChatMemoryStoreBuildConfig chatMemoryStore();
+
+    @ConfigGroup
+    interface ChatMemoryStoreBuildConfig {
+
+        /**
+         * Whether a {@link dev.langchain4j.store.memory.chat.ChatMemoryStore} keeping the messages in the datasource
+         * replaces the in-memory store provided by default
+         */
+        @WithDefault("false")
+        boolean enabled();
+    }
 }
@@ -0,0 +1,114 @@
+package io.quarkiverse.langchain4j.pgvector.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import io.agroal.api.AgroalDataSource;
+import io.quarkiverse.langchain4j.pgvector.PgVectorChatMemoryStore;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PgVectorChatMemoryStoreTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(new StringAsset("quarkus.langchain4j.pgvector.dimension=384\n" +
+                            "quarkus.datasource.devservices.image-name=ankane/pgvector:v0.5.1\n" +
+                            "quarkus.langchain4j.pgvector.chat-memory-store.enabled=true"),
+                            "application.properties"));
+
+    @Inject
+    ChatMemoryStore chatMemoryStore;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @AfterEach
+    public void cleanup() throws SQLException {
+        ((PgVectorChatMemoryStore) ClientProxy.unwrap(chatMemoryStore)).deleteAll();
+    }
+
+    @Test
+    void should_keep_one_row_per_message_of_the_window() throws SQLException {
+        assertThat(ClientProxy.unwrap(chatMemoryStore)).isInstanceOf(PgVectorChatMemoryStore.class);
+
+        ChatMemory memory = MessageWindowChatMemory.builder()
+                .id("window")
+                .maxMessages(3)
+                .chatMemoryStore(chatMemoryStore)
+                .build();
+        memory.add(SystemMessage.from("You are a helpful assistant"));
+        for (int i = 0; i < 4; i++) {
+            memory.add(UserMessage.from("question " + i));
+            memory.add(AiMessage.from("answer " + i));
+        }
+
+        List<ChatMessage> expected = List.of(SystemMessage.from("You are a helpful assistant"),
+                UserMessage.from("question 3"), AiMessage.from("answer 3"));
+        assertThat(chatMemoryStore.getMessages("window")).isEqualTo(expected);
+        // the system message kept its row and the other messages were inserted once each
+        assertThat(sequences("window")).containsExactly(0L, 7L, 8L);
+    }
+
+    @Test
+    void should_rewrite_conversation_modified_elsewhere() throws SQLException {
+        chatMemoryStore.updateMessages("shared", List.of(UserMessage.from("hello")));
+
+        // another instance of the application appends a message
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO chat_messages (memory_id, seq, message) "
+                    + "VALUES ('shared', 1, '{\"type\":\"AI\",\"text\":\"from elsewhere\"}')");
+        }
+
+        List<ChatMessage> messages = List.of(UserMessage.from("hello"), AiMessage.from("hi"));
+        chatMemoryStore.updateMessages("shared", messages);
+
+        assertThat(chatMemoryStore.getMessages("shared")).isEqualTo(messages);
+    }
+
+    @Test
+    void should_delete_conversation() throws SQLException {
+        chatMemoryStore.updateMessages("deleted", List.of(UserMessage.from("hello")));
+        chatMemoryStore.deleteMessages("deleted");
+
+        assertThat(chatMemoryStore.getMessages("deleted")).isEmpty();
+        assertThat(sequences("deleted")).isEmpty();
+    }
+
+    private List<Long> sequences(String memoryId) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(
+                        "SELECT seq FROM chat_messages WHERE memory_id = '" + memoryId + "' ORDER BY seq")) {
+            List<Long> sequences = new ArrayList<>();
+            while (resultSet.next()) {
+                sequences.add(resultSet.getLong(1));
+            }
+            return sequences;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package io.quarkiverse.langchain4j.pgvector.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import io.agroal.api.AgroalDataSource;
+import io.quarkiverse.langchain4j.pgvector.PgVectorChatMemoryStore;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PgVectorWriteBehindChatMemoryStoreTest {
+
+    // the changes are only written when the tests flush them
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(new StringAsset("quarkus.langchain4j.pgvector.dimension=384\n" +
+                            "quarkus.datasource.devservices.image-name=ankane/pgvector:v0.5.1\n" +
+                            "quarkus.langchain4j.pgvector.chat-memory-store.enabled=true\n" +
+                            "quarkus.langchain4j.pgvector.chat-memory-store.flush-interval=1h\n" +
+                            "quarkus.langchain4j.pgvector.chat-memory-store.local-cache-max-entries=2"),
+                            "application.properties"));
+
+    @Inject
+    ChatMemoryStore chatMemoryStore;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @AfterEach
+    public void cleanup() throws SQLException {
+        store().deleteAll();
+    }
+
+    @Test
+    void should_write_the_changes_of_all_the_conversations_on_flush() throws SQLException {
+        List<ChatMessage> first = List.of(UserMessage.from("hello"), AiMessage.from("hi"));
+        List<ChatMessage> second = List.of(UserMessage.from("bonjour"));
+        chatMemoryStore.updateMessages("first", first);
+        chatMemoryStore.updateMessages("second", second);
+
+        // read from memory until they are flushed
+        assertThat(sequences("first")).isEmpty();
+        assertThat(sequences("second")).isEmpty();
+        assertThat(chatMemoryStore.getMessages("first")).isEqualTo(first);
+
+        store().flush();
+
+        assertThat(sequences("first")).containsExactly(0L, 1L);
+        assertThat(sequences("second")).containsExactly(0L);
+
+        // only the changes of the next interval are written
+        chatMemoryStore.updateMessages("first", List.of(AiMessage.from("hi"), UserMessage.from("how are you?")));
+        store().flush();
+        assertThat(sequences("first")).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void should_write_the_pending_changes_on_close() throws SQLException {
+        PgVectorChatMemoryStore store = new PgVectorChatMemoryStore(dataSource, "chat_messages", false,
+                Duration.ofHours(1), 10);
+        store.updateMessages("closed", List.of(UserMessage.from("hello")));
+        assertThat(sequences("closed")).isEmpty();
+
+        store.close();
+
+        assertThat(sequences("closed")).containsExactly(0L);
+        assertThat(chatMemoryStore.getMessages("closed")).containsExactly(UserMessage.from("hello"));
+    }
+
+    @Test
+    void should_read_the_evicted_conversations_again() throws SQLException {
+        List<ChatMessage> evicted = List.of(UserMessage.from("hello"), AiMessage.from("hi"));
+        chatMemoryStore.updateMessages("evicted", evicted);
+        chatMemoryStore.updateMessages("second", List.of(UserMessage.from("bonjour")));
+        chatMemoryStore.updateMessages("third", List.of(UserMessage.from("hola")));
+
+        // the conversations with unwritten changes are not evicted
+        assertThat(chatMemoryStore.getMessages("evicted")).isEqualTo(evicted);
+        store().flush();
+
+        // the least recently used conversations are evicted once written
+        chatMemoryStore.getMessages("second");
+        chatMemoryStore.getMessages("third");
+        chatMemoryStore.updateMessages("fourth", List.of(UserMessage.from("ciao")));
+        assertThat(chatMemoryStore.getMessages("evicted")).isEqualTo(evicted);
+
+        // the rows read again are the ones the next changes are computed from
+        List<ChatMessage> updated = List.of(AiMessage.from("hi"), UserMessage.from("how are you?"));
+        chatMemoryStore.updateMessages("evicted", updated);
+        store().flush();
+        assertThat(sequences("evicted")).containsExactly(1L, 2L);
+        assertThat(chatMemoryStore.getMessages("evicted")).isEqualTo(updated);
+    }
+
+    private PgVectorChatMemoryStore store() {
+        return (PgVectorChatMemoryStore) ClientProxy.unwrap(chatMemoryStore);
+    }
+
+    private List<Long> sequences(String memoryId) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(
+                        "SELECT seq FROM chat_messages WHERE memory_id = '" + memoryId + "' ORDER BY seq")) {
+            List<Long> sequences = new ArrayList<>();
+            while (resultSet.next()) {
+                sequences.add(resultSet.getLong(1));
+            }
+            return sequences;
+        }
+    }
+}
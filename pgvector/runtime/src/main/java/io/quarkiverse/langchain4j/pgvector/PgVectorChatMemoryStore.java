@@ -0,0 +1,550 @@
+package io.quarkiverse.langchain4j.pgvector;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import io.agroal.api.AgroalDataSource;
+import io.quarkiverse.langchain4j.QuarkusJsonCodecFactory;
+
+/**
+ * A {@link ChatMemoryStore} keeping one row per message in a PostgreSQL table, ordered by a sequence number within each
+ * conversation.
+ * <p>
+ * Chat memories call {@link #updateMessages(Object, List)} with the whole conversation every time a message is added. The
+ * store keeps the rows of the conversations it has read or written, and only inserts the new messages and deletes the
+ * range of rows of the messages that left the memory window, so that the number of rows written is proportional to the
+ * number of messages rather than to the length of the conversation.
+ * <p>
+ * When a flush interval is set, the changes are not written immediately: the changes of all the conversations are written
+ * together every interval, with a single multi-row insert. The messages of a conversation with unwritten changes are read
+ * from memory, so this mode is only suitable when a conversation is handled by a single instance of the application, and
+ * the changes of the last interval are lost if the application crashes.
+ * <p>
+ * When another instance of the application inserted messages in a conversation in the meantime, the conversation is
+ * rewritten: the last update wins.
+ */
+public class PgVectorChatMemoryStore implements ChatMemoryStore, Closeable {
+
+    private static final Logger log = Logger.getLogger(PgVectorChatMemoryStore.class);
+
+    // PostgreSQL limits the number of parameters of a statement to 32767
+    private static final int MAX_ROWS_PER_INSERT = 10_000;
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private final AgroalDataSource datasource;
+    private final String table;
+    private final int localCacheMaxEntries;
+    private final ScheduledExecutorService flusher;
+    // flushes are serialized, so that a conversation is never written by two of them at the same time
+    private final Object flushLock = new Object();
+    // access ordered, the eldest entry is the least recently used one
+    private final LinkedHashMap<String, Conversation> conversations = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * @param datasource the datasource object
+     * @param table the database table
+     * @param createTable whether the table should be created if it does not exist
+     * @param flushInterval how often the changes are written, {@code null} to write them immediately
+     * @param localCacheMaxEntries the maximum number of conversations whose rows are kept in memory
+     */
+    public PgVectorChatMemoryStore(AgroalDataSource datasource, String table, boolean createTable, Duration flushInterval,
+            int localCacheMaxEntries) {
+        this.datasource = datasource;
+        this.table = ensureNotBlank(table, "table");
+        this.localCacheMaxEntries = localCacheMaxEntries;
+        if (createTable) {
+            try (Connection connection = datasource.getConnection();
+                    Statement statement = connection.createStatement()) {
+                statement.executeUpdate(String.format(
+                        "CREATE TABLE IF NOT EXISTS %s (" +
+                                "memory_id TEXT NOT NULL, " +
+                                "seq BIGINT NOT NULL, " +
+                                "message JSON NOT NULL, " +
+                                "PRIMARY KEY (memory_id, seq)" +
+                                ")",
+                        table));
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        if (flushInterval == null || flushInterval.isZero()) {
+            this.flusher = null;
+        } else {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "langchain4j-chat-memory-flusher");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            long interval = flushInterval.toMillis();
+            flusher.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    flush();
+                }
+            }, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public List<ChatMessage> getMessages(Object memoryId) {
+        String id = memoryId.toString();
+        Conversation conversation = flusher != null ? cached(id) : null;
+        if (conversation == null) {
+            conversation = load(id);
+        }
+        List<ChatMessage> messages;
+        synchronized (conversation) {
+            messages = new ArrayList<>(conversation.rows.size());
+            for (Row row : conversation.rows) {
+                messages.add(fromJson(row.message));
+            }
+        }
+        return messages;
+    }
+
+    @Override
+    public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+        String id = memoryId.toString();
+        List<String> updated = new ArrayList<>(messages.size());
+        for (ChatMessage message : messages) {
+            updated.add(toJson(message));
+        }
+        Conversation conversation = cached(id);
+        if (conversation == null) {
+            conversation = load(id);
+        }
+        synchronized (conversation) {
+            Changes changes = conversation.update(updated);
+            if (flusher != null) {
+                conversation.pending.merge(changes);
+                conversation.dirty = conversation.dirty || !changes.isEmpty();
+                return;
+            }
+            if (changes.isEmpty()) {
+                return;
+            }
+            try (Connection connection = datasource.getConnection()) {
+                connection.setAutoCommit(false);
+                try {
+                    write(connection, List.of(changes));
+                    connection.commit();
+                } catch (SQLException e) {
+                    connection.rollback();
+                    if (!UNIQUE_VIOLATION.equals(e.getSQLState())) {
+                        throw e;
+                    }
+                    log.debugf("Chat memory '%s' was modified concurrently, rewriting it", id);
+                    rewrite(connection, conversation);
+                }
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    @Override
+    public void deleteMessages(Object memoryId) {
+        String id = memoryId.toString();
+        synchronized (conversations) {
+            conversations.remove(id);
+        }
+        try (Connection connection = datasource.getConnection();
+                PreparedStatement statement = connection
+                        .prepareStatement(String.format("DELETE FROM %s WHERE memory_id = ?", table))) {
+            statement.setString(1, id);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Writes the pending changes of all the conversations
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            doFlush();
+        }
+    }
+
+    private void doFlush() {
+        List<Conversation> dirty = new ArrayList<>();
+        synchronized (conversations) {
+            for (Conversation conversation : conversations.values()) {
+                if (conversation.dirty) {
+                    dirty.add(conversation);
+                }
+            }
+        }
+        if (dirty.isEmpty()) {
+            return;
+        }
+        List<Conversation> updated = new ArrayList<>(dirty.size());
+        List<Conversation> rewritten = new ArrayList<>();
+        List<Changes> changes = new ArrayList<>(dirty.size());
+        for (Conversation conversation : dirty) {
+            synchronized (conversation) {
+                if (conversation.stale) {
+                    rewritten.add(conversation);
+                } else {
+                    // the conversation stays dirty until the changes are committed, so that it is not evicted meanwhile
+                    updated.add(conversation);
+                    changes.add(conversation.pending);
+                    conversation.pending = new Changes(conversation.memoryId);
+                }
+            }
+        }
+        try (Connection connection = datasource.getConnection()) {
+            connection.setAutoCommit(false);
+            if (!changes.isEmpty()) {
+                try {
+                    write(connection, changes);
+                    connection.commit();
+                    for (Conversation conversation : updated) {
+                        synchronized (conversation) {
+                            // unless it was updated again during the flush
+                            conversation.dirty = !conversation.pending.isEmpty();
+                        }
+                    }
+                } catch (SQLException e) {
+                    connection.rollback();
+                    log.debugf(e, "Failed to write the changes of %d chat memories, rewriting them", changes.size());
+                    rewritten.addAll(updated);
+                }
+            }
+            for (Conversation conversation : rewritten) {
+                synchronized (conversation) {
+                    try {
+                        rewrite(connection, conversation);
+                        conversation.pending = new Changes(conversation.memoryId);
+                        conversation.stale = false;
+                        conversation.dirty = false;
+                    } catch (RuntimeException e) {
+                        // retried on the next flush
+                        conversation.stale = true;
+                        conversation.dirty = true;
+                        log.errorf(e, "Failed to write chat memory '%s'", conversation.memoryId);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            log.errorf(e, "Failed to write the changes of %d chat memories", dirty.size());
+            for (Conversation conversation : updated) {
+                synchronized (conversation) {
+                    conversation.stale = true;
+                    conversation.dirty = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops the periodic flush, waiting for a running one to complete, and writes the pending changes
+     */
+    @Override
+    public void close() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                if (!flusher.awaitTermination(1, TimeUnit.MINUTES)) {
+                    log.warn("The periodic flush of the chat memories did not complete in time");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flush();
+        }
+    }
+
+    /**
+     * Deletes all the messages of all conversations
+     */
+    public void deleteAll() throws SQLException {
+        synchronized (conversations) {
+            conversations.clear();
+        }
+        try (Connection connection = datasource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.executeUpdate(String.format("TRUNCATE TABLE %s", table));
+        }
+    }
+
+    private Conversation cached(String id) {
+        synchronized (conversations) {
+            return conversations.get(id);
+        }
+    }
+
+    private Conversation load(String id) {
+        List<Row> rows = new ArrayList<>();
+        try (Connection connection = datasource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(
+                        String.format("SELECT seq, message FROM %s WHERE memory_id = ? ORDER BY seq", table))) {
+            statement.setString(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    rows.add(new Row(resultSet.getLong(1), resultSet.getString(2)));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+        synchronized (conversations) {
+            Conversation conversation = conversations.get(id);
+            if (conversation != null && conversation.dirty) {
+                // the rows in memory have not been written yet
+                return conversation;
+            }
+            if (conversation == null) {
+                conversation = new Conversation(id);
+                conversations.put(id, conversation);
+                evict();
+            }
+            synchronized (conversation) {
+                conversation.rows = rows;
+            }
+            return conversation;
+        }
+    }
+
+    private void evict() {
+        Iterator<Conversation> it = conversations.values().iterator();
+        while (conversations.size() > localCacheMaxEntries && it.hasNext()) {
+            // conversations with unwritten changes are kept until they are flushed
+            if (!it.next().dirty) {
+                it.remove();
+            }
+        }
+    }
+
+    private void write(Connection connection, List<Changes> changes) throws SQLException {
+        try (PreparedStatement delete = connection.prepareStatement(
+                String.format("DELETE FROM %s WHERE memory_id = ? AND seq BETWEEN ? AND ?", table))) {
+            boolean batched = false;
+            for (Changes change : changes) {
+                for (long[] range : change.deletions) {
+                    delete.setString(1, change.memoryId);
+                    delete.setLong(2, range[0]);
+                    delete.setLong(3, range[1]);
+                    delete.addBatch();
+                    batched = true;
+                }
+            }
+            if (batched) {
+                delete.executeBatch();
+            }
+        }
+        List<String> ids = new ArrayList<>();
+        List<Row> rows = new ArrayList<>();
+        for (Changes change : changes) {
+            for (Row row : change.insertions) {
+                ids.add(change.memoryId);
+                rows.add(row);
+            }
+        }
+        for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_INSERT) {
+            int to = Math.min(from + MAX_ROWS_PER_INSERT, rows.size());
+            insert(connection, ids.subList(from, to), rows.subList(from, to));
+        }
+    }
+
+    private void insert(Connection connection, List<String> ids, List<Row> rows) throws SQLException {
+        StringBuilder sql = new StringBuilder(String.format("INSERT INTO %s (memory_id, seq, message) VALUES ", table));
+        for (int i = 0; i < rows.size(); i++) {
+            sql.append(i == 0 ? "(?, ?, ?::json)" : ", (?, ?, ?::json)");
+        }
+        try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+            int parameter = 1;
+            for (int i = 0; i < rows.size(); i++) {
+                statement.setString(parameter++, ids.get(i));
+                statement.setLong(parameter++, rows.get(i).seq);
+                statement.setString(parameter++, rows.get(i).message);
+            }
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Replaces the rows of the conversation with the ones in memory, numbered after the ones in the table so that the
+     * copies of the conversation held by other instances of the application do not match them
+     */
+    private void rewrite(Connection connection, Conversation conversation) {
+        try {
+            long next = 0;
+            try (PreparedStatement statement = connection.prepareStatement(
+                    String.format("SELECT MAX(seq) FROM %s WHERE memory_id = ?", table))) {
+                statement.setString(1, conversation.memoryId);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (resultSet.next()) {
+                        next = resultSet.getLong(1) + 1;
+                    }
+                }
+            }
+            Changes changes = new Changes(conversation.memoryId);
+            changes.deletions.add(new long[] { Long.MIN_VALUE, Long.MAX_VALUE });
+            List<Row> renumbered = new ArrayList<>(conversation.rows.size());
+            for (Row row : conversation.rows) {
+                renumbered.add(new Row(next++, row.message));
+            }
+            changes.insertions.addAll(renumbered);
+            write(connection, List.of(changes));
+            connection.commit();
+            conversation.rows = renumbered;
+        } catch (SQLException e) {
+            try {
+                connection.rollback();
+            } catch (SQLException ignored) {
+            }
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String toJson(ChatMessage message) {
+        try {
+            return QuarkusJsonCodecFactory.ObjectMapperHolder.MAPPER.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static ChatMessage fromJson(String message) {
+        try {
+            return QuarkusJsonCodecFactory.ObjectMapperHolder.MAPPER.readValue(message, ChatMessage.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static final class Row {
+        private final long seq;
+        private final String message;
+
+        private Row(long seq, String message) {
+            this.seq = seq;
+            this.message = message;
+        }
+    }
+
+    /**
+     * The rows to delete and to insert to bring a conversation up to date
+     */
+    private static final class Changes {
+        private final String memoryId;
+        // inclusive ranges of sequence numbers
+        private final List<long[]> deletions = new ArrayList<>();
+        private final List<Row> insertions = new ArrayList<>();
+
+        private Changes(String memoryId) {
+            this.memoryId = memoryId;
+        }
+
+        private void delete(long from, long to) {
+            // rows that have not been inserted yet are simply not inserted
+            Iterator<Row> it = insertions.iterator();
+            while (it.hasNext()) {
+                Row row = it.next();
+                if (row.seq >= from && row.seq <= to) {
+                    it.remove();
+                }
+            }
+            deletions.add(new long[] { from, to });
+        }
+
+        private boolean isEmpty() {
+            return deletions.isEmpty() && insertions.isEmpty();
+        }
+
+        private void merge(Changes changes) {
+            for (long[] range : changes.deletions) {
+                delete(range[0], range[1]);
+            }
+            insertions.addAll(changes.insertions);
+        }
+    }
+
+    private static final class Conversation {
+        private final String memoryId;
+        private List<Row> rows = new ArrayList<>();
+        private Changes pending;
+        // whether changes have not been written yet
+        private volatile boolean dirty;
+        // whether the changes could not be written, so the whole conversation has to be
+        private boolean stale;
+
+        private Conversation(String memoryId) {
+            this.memoryId = memoryId;
+            this.pending = new Changes(memoryId);
+        }
+
+        /**
+         * Replaces the rows with the updated messages
+         *
+         * @return the changes to apply to the table
+         */
+        private Changes update(List<String> updated) {
+            Changes changes = new Changes(memoryId);
+            // the leading messages that did not change, typically the system message
+            int kept = 0;
+            while (kept < rows.size() && kept < updated.size() && rows.get(kept).message.equals(updated.get(kept))) {
+                kept++;
+            }
+            // the fewest rows to delete after them so that the remaining rows start the rest of the updated messages,
+            // deleting all of them is always a solution
+            int dropped = 0;
+            while (!startsWith(updated, kept, kept + dropped)) {
+                dropped++;
+            }
+            if (dropped > 0) {
+                changes.delete(rows.get(kept).seq, rows.get(kept + dropped - 1).seq);
+            }
+            int retained = rows.size() - dropped;
+            List<Row> result = new ArrayList<>(updated.size());
+            result.addAll(rows.subList(0, kept));
+            result.addAll(rows.subList(kept + dropped, rows.size()));
+            long next = rows.isEmpty() ? 0 : rows.get(rows.size() - 1).seq + 1;
+            for (String message : updated.subList(retained, updated.size())) {
+                Row row = new Row(next++, message);
+                result.add(row);
+                changes.insertions.add(row);
+            }
+            rows = result;
+            return changes;
+        }
+
+        private boolean startsWith(List<String> updated, int offset, int from) {
+            if (rows.size() - from > updated.size() - offset) {
+                return false;
+            }
+            for (int i = from; i < rows.size(); i++) {
+                if (!rows.get(i).message.equals(updated.get(offset + i - from))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -2,6 +2,10 @@ package io.quarkiverse.langchain4j.pgvector.runtime;
 
 import static io.quarkus.runtime.annotations.ConfigPhase.RUN_TIME;
 
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
@@ -48,4 +52,39 @@ public interface PgVectorEmbeddingStoreConfig {
     @WithDefault("false")
     Boolean dropTableFirst();
 
+    /**
+     * Configuration of the chat memory store, which is only used if
+     * {@code quarkus.langchain4j.pgvector.chat-memory-store.enabled} is {@code true}.
+     */
+    ChatMemoryStoreConfig chatMemoryStore();
+
+    @ConfigGroup
+    interface ChatMemoryStoreConfig {
+
+        /**
+         * The table name for storing the messages of the conversations
+         */
+        @WithDefault("chat_messages")
+        String table();
+
+        /**
+         * Create table or not
+         */
+        @WithDefault("true")
+        Boolean createTable();
+
+        /**
+         * When set, the messages are not written when a conversation is updated but together for all the conversations at
+         * this interval. The messages of the last interval are lost if the application crashes, and a conversation must
+         * only be used by a single instance of the application.
+         */
+        Optional<Duration> flushInterval();
+
+        /**
+         * The maximum number of conversations whose messages are kept in memory, to only write the changes when a
+         * conversation is updated.
+         */
+        @WithDefault("10000")
+        Integer localCacheMaxEntries();
+    }
 }
@@ -5,6 +5,7 @@ import java.util.function.Function;
 import jakarta.enterprise.inject.Default;
 
 import io.agroal.api.AgroalDataSource;
+import io.quarkiverse.langchain4j.pgvector.PgVectorChatMemoryStore;
 import io.quarkiverse.langchain4j.pgvector.PgVectorEmbeddingStore;
 import io.quarkus.agroal.DataSource.DataSourceLiteral;
 import io.quarkus.arc.SyntheticCreationalContext;
@@ -30,4 +31,22 @@ public class PgVectorEmbeddingStoreRecorder {
         };
     }
 
+    public Function<SyntheticCreationalContext<PgVectorChatMemoryStore>, PgVectorChatMemoryStore> chatMemoryStoreFunction(
+            PgVectorEmbeddingStoreConfig config, String datasourceName) {
+        return new Function<>() {
+            @Override
+            public PgVectorChatMemoryStore apply(SyntheticCreationalContext<PgVectorChatMemoryStore> context) {
+                AgroalDataSource dataSource;
+                if (datasourceName == null) {
+                    dataSource = context.getInjectedReference(AgroalDataSource.class, new Default.Literal());
+                } else {
+                    dataSource = context.getInjectedReference(AgroalDataSource.class, new DataSourceLiteral(datasourceName));
+                }
+                PgVectorEmbeddingStoreConfig.ChatMemoryStoreConfig storeConfig = config.chatMemoryStore();
+                return new PgVectorChatMemoryStore(dataSource, storeConfig.table(), storeConfig.createTable(),
+                        storeConfig.flushInterval().orElse(null), storeConfig.localCacheMaxEntries());
+            }
+        };
+    }
+
 }
@@ -4,8 +4,10 @@ import static io.quarkus.runtime.annotations.ConfigPhase.BUILD_TIME;
 
 import java.util.Optional;
 
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
 
 @ConfigRoot(phase = BUILD_TIME)
 @ConfigMapping(prefix = "quarkus.langchain4j.redis")
@@ -16,4 +18,54 @@ public interface RedisEmbeddingStoreBuildTimeConfig {
      * If unspecified, it will use the default Redis client.
      */
     Optional<String> clientName();
+
+    /**
+     * Build time configuration of the Redis chat memory store
+     */
+    ChatMemoryStoreBuildConfig chatMemoryStore();
+
+    /**
+     * Build time configuration of the Redis response cache
+     */
+    ResponseCacheBuildConfig responseCache();
+
+    /**
+     * Build time configuration of the Redis embedding cache
+     */
+    EmbeddingCacheBuildConfig embeddingCache();
+
+    @ConfigGroup
+    interface ChatMemoryStoreBuildConfig {
+
+        /**
+         * Whether a {@link dev.langchain4j.store.memory.chat.ChatMemoryStore} keeping the conversations in Redis replaces the
+         * in-memory store provided by default, so that the instances of the application share the conversations.
+         */
+        @WithDefault("false")
+        boolean enabled();
+    }
+
+    @ConfigGroup
+    interface ResponseCacheBuildConfig {
+
+        /**
+         * Whether the responses of the AI service methods annotated with {@link io.quarkiverse.langchain4j.CacheResponse} are
+         * cached in Redis instead of the local cache provided by default, so that the instances of the application share
+         * them.
+         */
+        @WithDefault("false")
+        boolean enabled();
+    }
+
+    @ConfigGroup
+    interface EmbeddingCacheBuildConfig {
+
+        /**
+         * Whether the vectors computed by the {@link dev.langchain4j.model.embedding.EmbeddingModel} beans are cached in
+         * Redis, so that the instances of the application share them. Enabling it enables the caching of the vectors, even
+         * if {@code quarkus.langchain4j.embedding-cache.enabled} is {@code false}.
+         */
+        @WithDefault("false")
+        boolean enabled();
+    }
 }
@@ -10,9 +10,13 @@ import org.jboss.jandex.ParameterizedType;
 
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import io.quarkiverse.langchain4j.cache.EmbeddingCache;
+import io.quarkiverse.langchain4j.cache.ResponseCache;
 import io.quarkiverse.langchain4j.deployment.EmbeddingStoreBuildItem;
 import io.quarkiverse.langchain4j.redis.runtime.RedisEmbeddingStoreConfig;
 import io.quarkiverse.langchain4j.redis.runtime.RedisEmbeddingStoreRecorder;
+import io.quarkiverse.langchain4j.runtime.aiservice.ResponseCacheConfig;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -27,6 +31,9 @@ import io.quarkus.redis.runtime.client.config.RedisConfig;
 public class RedisEmbeddingStoreProcessor {
 
     public static final DotName REDIS_EMBEDDING_STORE = DotName.createSimple(RedisEmbeddingStore.class);
+    public static final DotName REDIS_CHAT_MEMORY_STORE = DotName.createSimple(RedisChatMemoryStore.class);
+    public static final DotName REDIS_RESPONSE_CACHE = DotName.createSimple(RedisResponseCache.class);
+    public static final DotName REDIS_EMBEDDING_CACHE = DotName.createSimple(RedisEmbeddingCache.class);
 
     private static final String FEATURE = "langchain4j-redis";
 
@@ -49,14 +56,7 @@ public class RedisEmbeddingStoreProcessor {
             BuildProducer<EmbeddingStoreBuildItem> embeddingStoreProducer,
             RedisEmbeddingStoreBuildTimeConfig buildTimeConfig) {
         String clientName = buildTimeConfig.clientName().orElse(null);
-        AnnotationInstance redisClientQualifier;
-        if (clientName == null) {
-            redisClientQualifier = AnnotationInstance.builder(Default.class).build();
-        } else {
-            redisClientQualifier = AnnotationInstance.builder(RedisClientName.class)
-                    .add("value", clientName)
-                    .build();
-        }
+        AnnotationInstance redisClientQualifier = redisClientQualifier(clientName);
         beanProducer.produce(SyntheticBeanBuildItem
                 .configure(REDIS_EMBEDDING_STORE)
                 .types(ClassType.create(EmbeddingStore.class),
@@ -71,4 +71,85 @@ public class RedisEmbeddingStoreProcessor {
         embeddingStoreProducer.produce(new EmbeddingStoreBuildItem());
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void createChatMemoryStoreBean(
+            BuildProducer<SyntheticBeanBuildItem> beanProducer,
+            RedisEmbeddingStoreRecorder recorder,
+            RedisEmbeddingStoreConfig config,
+            RedisEmbeddingStoreBuildTimeConfig buildTimeConfig) {
+        if (!buildTimeConfig.chatMemoryStore().enabled()) {
+            return;
+        }
+        String clientName = buildTimeConfig.clientName().orElse(null);
+        // not a default bean, so that it replaces the in-memory store provided by the core extension
+        beanProducer.produce(SyntheticBeanBuildItem
+                .configure(REDIS_CHAT_MEMORY_STORE)
+                .types(ClassType.create(ChatMemoryStore.class))
+                .setRuntimeInit()
+                .scope(ApplicationScoped.class)
+                .addInjectionPoint(ClassType.create(DotName.createSimple(ReactiveRedisDataSource.class)),
+                        redisClientQualifier(clientName))
+                .createWith(recorder.chatMemoryStoreFunction(config, clientName))
+                .done());
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void createResponseCacheBean(
+            BuildProducer<SyntheticBeanBuildItem> beanProducer,
+            RedisEmbeddingStoreRecorder recorder,
+            RedisEmbeddingStoreConfig config,
+            ResponseCacheConfig responseCacheConfig,
+            RedisEmbeddingStoreBuildTimeConfig buildTimeConfig) {
+        if (!buildTimeConfig.responseCache().enabled()) {
+            return;
+        }
+        String clientName = buildTimeConfig.clientName().orElse(null);
+        // not a default bean, so that it replaces the local cache provided by the core extension
+        beanProducer.produce(SyntheticBeanBuildItem
+                .configure(REDIS_RESPONSE_CACHE)
+                .types(ClassType.create(ResponseCache.class))
+                .setRuntimeInit()
+                .scope(ApplicationScoped.class)
+                .addInjectionPoint(ClassType.create(DotName.createSimple(ReactiveRedisDataSource.class)),
+                        redisClientQualifier(clientName))
+                .createWith(recorder.responseCacheFunction(config, responseCacheConfig, clientName))
+                .done());
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void createEmbeddingCacheBean(
+            BuildProducer<SyntheticBeanBuildItem> beanProducer,
+            RedisEmbeddingStoreRecorder recorder,
+            RedisEmbeddingStoreConfig config,
+            RedisEmbeddingStoreBuildTimeConfig buildTimeConfig) {
+        if (!buildTimeConfig.embeddingCache().enabled()) {
+            return;
+        }
+        String clientName = buildTimeConfig.clientName().orElse(null);
+        // not a default bean, so that it replaces the local cache provided by the core extension, and unremovable, as it is
+        // looked up when the embedding models are created
+        beanProducer.produce(SyntheticBeanBuildItem
+                .configure(REDIS_EMBEDDING_CACHE)
+                .types(ClassType.create(EmbeddingCache.class))
+                .setRuntimeInit()
+                .unremovable()
+                .scope(ApplicationScoped.class)
+                .addInjectionPoint(ClassType.create(DotName.createSimple(ReactiveRedisDataSource.class)),
+                        redisClientQualifier(clientName))
+                .createWith(recorder.embeddingCacheFunction(config, clientName))
+                .done());
+    }
+
+    private static AnnotationInstance redisClientQualifier(String clientName) {
+        if (clientName == null) {
+            return AnnotationInstance.builder(Default.class).build();
+        }
+        return AnnotationInstance.builder(RedisClientName.class)
+                .add("value", clientName)
+                .build();
+    }
+
 }
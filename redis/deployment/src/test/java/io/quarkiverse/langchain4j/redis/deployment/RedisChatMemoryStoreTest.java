@@ -0,0 +1,115 @@
+package io.quarkiverse.langchain4j.redis.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import io.quarkiverse.langchain4j.redis.RedisChatMemoryStore;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RedisChatMemoryStoreTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(new StringAsset("quarkus.langchain4j.redis.dimension=384\n" +
+                            "quarkus.redis.devservices.image-name=redis/redis-stack:latest\n" +
+                            "quarkus.langchain4j.redis.chat-memory-store.enabled=true\n" +
+                            "quarkus.langchain4j.redis.chat-memory-store.read-cache-ttl=0"),
+                            "application.properties"));
+
+    @Inject
+    ChatMemoryStore chatMemoryStore;
+
+    @Inject
+    RedisDataSource redis;
+
+    @Test
+    public void should_replace_default_store() {
+        assertThat(ClientProxy.unwrap(chatMemoryStore)).isInstanceOf(RedisChatMemoryStore.class);
+    }
+
+    @Test
+    public void should_keep_window_in_redis() {
+        ChatMemory memory = MessageWindowChatMemory.builder()
+                .id("window")
+                .maxMessages(3)
+                .chatMemoryStore(chatMemoryStore)
+                .build();
+        memory.add(SystemMessage.from("You are a helpful assistant"));
+        for (int i = 0; i < 4; i++) {
+            memory.add(UserMessage.from("question " + i));
+            memory.add(AiMessage.from("answer " + i));
+        }
+
+        List<ChatMessage> expected = List.of(SystemMessage.from("You are a helpful assistant"),
+                UserMessage.from("question 3"), AiMessage.from("answer 3"));
+        assertThat(chatMemoryStore.getMessages("window")).isEqualTo(expected);
+        assertThat(redis.list(String.class).llen("chat-memory:window")).isEqualTo(3L);
+        assertThat(redis.key().pttl("chat-memory:window")).isPositive();
+    }
+
+    @Test
+    public void should_rewrite_conversation_modified_elsewhere() {
+        List<ChatMessage> messages = new ArrayList<>();
+        messages.add(UserMessage.from("hello"));
+        chatMemoryStore.updateMessages("shared", messages);
+
+        // another instance of the application appends a message
+        redis.list(String.class).rpush("chat-memory:shared", "{\"type\":\"AI\",\"text\":\"from elsewhere\"}");
+
+        messages.add(AiMessage.from("hi"));
+        chatMemoryStore.updateMessages("shared", messages);
+
+        assertThat(chatMemoryStore.getMessages("shared")).isEqualTo(messages);
+    }
+
+    @Test
+    public void should_reset_the_time_to_live_of_an_unchanged_conversation() {
+        List<ChatMessage> messages = List.of(UserMessage.from("hello"));
+        chatMemoryStore.updateMessages("unchanged", messages);
+        redis.key().persist("chat-memory:unchanged");
+
+        chatMemoryStore.updateMessages("unchanged", messages);
+
+        assertThat(redis.key().pttl("chat-memory:unchanged")).isPositive();
+    }
+
+    @Test
+    public void should_rewrite_an_unchanged_conversation_deleted_elsewhere() {
+        List<ChatMessage> messages = List.of(UserMessage.from("hello"));
+        chatMemoryStore.updateMessages("expired", messages);
+        redis.key().del("chat-memory:expired");
+
+        chatMemoryStore.updateMessages("expired", messages);
+
+        assertThat(redis.list(String.class).llen("chat-memory:expired")).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_delete_conversation() {
+        chatMemoryStore.updateMessages("deleted", List.of(UserMessage.from("hello")));
+        chatMemoryStore.deleteMessages("deleted");
+
+        assertThat(chatMemoryStore.getMessages("deleted")).isEmpty();
+        assertThat(redis.key().exists("chat-memory:deleted")).isFalse();
+    }
+}
@@ -0,0 +1,310 @@
+package io.quarkiverse.langchain4j.redis;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import io.quarkiverse.langchain4j.QuarkusJsonCodecFactory;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * A {@link ChatMemoryStore} keeping each conversation in a Redis list, one JSON encoded message per element.
+ * <p>
+ * Chat memories call {@link #updateMessages(Object, List)} with the whole conversation every time a message is added, so
+ * rewriting the list would send every message again on each turn. Instead, the store remembers the last version of each
+ * conversation it has written or read and only sends the difference: the appended messages, and how many of the oldest
+ * messages the memory window dropped (after the leading messages it kept, such as the system message). The list is
+ * trimmed on the Redis side by a script, which also checks that the list is still the one the store remembers. When it is
+ * not, because another instance of the application updated the conversation, the whole list is rewritten.
+ * <p>
+ * The remembered conversations also serve as a short-lived read cache, and every update resets the time to live of the
+ * conversation. The calls to Redis fail after the configured timeout rather than blocking the caller forever.
+ */
+public class RedisChatMemoryStore implements ChatMemoryStore {
+
+    private static final Logger LOG = Logger.getLogger(RedisChatMemoryStore.class);
+
+    // pushing in chunks keeps the number of arguments of unpack() below the Lua stack limit
+    private static final String PUSH = "for i = %1$d, #ARGV, 1000 do "
+            + "redis.call('RPUSH', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV))) end ";
+
+    /**
+     * ARGV: expected length, expected last message, time to live in ms, number of leading messages kept, number of messages
+     * dropped after them, messages to append
+     */
+    private static final String UPDATE_SCRIPT = "local length = tonumber(ARGV[1]) "
+            + "if redis.call('LLEN', KEYS[1]) ~= length "
+            + "or (length > 0 and redis.call('LINDEX', KEYS[1], -1) ~= ARGV[2]) then return 0 end "
+            + "local kept = tonumber(ARGV[4]) "
+            + "local dropped = tonumber(ARGV[5]) "
+            + "if dropped > 0 then "
+            + "local head = {} "
+            + "if kept > 0 then head = redis.call('LRANGE', KEYS[1], 0, kept - 1) end "
+            + "redis.call('LTRIM', KEYS[1], kept + dropped, -1) "
+            + "for i = #head, 1, -1 do redis.call('LPUSH', KEYS[1], head[i]) end "
+            + "end "
+            + String.format(PUSH, 6)
+            + "if tonumber(ARGV[3]) > 0 then redis.call('PEXPIRE', KEYS[1], ARGV[3]) end "
+            + "return 1";
+
+    /**
+     * ARGV: time to live in ms, messages
+     */
+    private static final String REPLACE_SCRIPT = "redis.call('DEL', KEYS[1]) "
+            + String.format(PUSH, 2)
+            + "if tonumber(ARGV[1]) > 0 then redis.call('PEXPIRE', KEYS[1], ARGV[1]) end "
+            + "return 1";
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ReactiveRedisDataSource ds;
+    private final String prefix;
+    private final long ttlMillis;
+    private final long readCacheTtlNanos;
+    private final int localCacheMaxEntries;
+    private final Duration timeout;
+    // access ordered, the eldest entry is the least recently used one
+    private final LinkedHashMap<String, Snapshot> snapshots = new LinkedHashMap<>(16, 0.75f, true);
+
+    public RedisChatMemoryStore(ReactiveRedisDataSource ds, String prefix, Duration ttl, Duration readCacheTtl,
+            int localCacheMaxEntries, Duration timeout) {
+        this.ds = ds;
+        this.prefix = prefix.endsWith(":") ? prefix : prefix + ":";
+        this.ttlMillis = ttl == null ? 0 : ttl.toMillis();
+        this.readCacheTtlNanos = readCacheTtl == null ? 0 : readCacheTtl.toNanos();
+        this.localCacheMaxEntries = localCacheMaxEntries;
+        this.timeout = timeout == null ? DEFAULT_TIMEOUT : timeout;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public List<ChatMessage> getMessages(Object memoryId) {
+        String key = key(memoryId);
+        Snapshot snapshot = snapshot(key);
+        if (snapshot == null || System.nanoTime() - snapshot.createdAt >= readCacheTtlNanos) {
+            List<String> stored = ds.list(String.class).lrange(key, 0, -1).await().atMost(timeout);
+            snapshot = new Snapshot(stored);
+            remember(key, snapshot);
+        }
+        List<ChatMessage> messages = new ArrayList<>(snapshot.messages.size());
+        for (String message : snapshot.messages) {
+            messages.add(fromJson(message));
+        }
+        return messages;
+    }
+
+    @Override
+    public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+        String key = key(memoryId);
+        if (messages.isEmpty()) {
+            deleteMessages(memoryId);
+            return;
+        }
+        List<String> updated = new ArrayList<>(messages.size());
+        for (ChatMessage message : messages) {
+            updated.add(toJson(message));
+        }
+        Snapshot previous = snapshot(key);
+        if (previous == null || !update(key, previous.messages, updated)) {
+            Request replace = script(REPLACE_SCRIPT, key).arg(ttlMillis);
+            for (String message : updated) {
+                replace.arg(message);
+            }
+            ds.getRedis().send(replace).await().atMost(timeout);
+        }
+        remember(key, new Snapshot(updated));
+    }
+
+    @Override
+    public void deleteMessages(Object memoryId) {
+        String key = key(memoryId);
+        ds.key().del(key).await().atMost(timeout);
+        synchronized (snapshots) {
+            snapshots.remove(key);
+        }
+    }
+
+    /**
+     * Sends the difference between the previous and the updated conversation
+     *
+     * @return {@code false} if the list stored in Redis is not the previous conversation
+     */
+    private boolean update(String key, List<String> previous, List<String> updated) {
+        // the leading messages that did not change, typically the system message
+        int kept = 0;
+        while (kept < previous.size() && kept < updated.size() && previous.get(kept).equals(updated.get(kept))) {
+            kept++;
+        }
+        // the fewest messages to drop after them so that the rest of the previous conversation starts the remainder of
+        // the updated one, dropping all of them is always a solution
+        int dropped = 0;
+        while (!startsWith(updated, kept, previous, kept + dropped)) {
+            dropped++;
+        }
+        int retained = previous.size() - dropped;
+        if (dropped == 0 && retained == updated.size()) {
+            // nothing to send, but the time to live is still reset
+            return ttlMillis <= 0 || previous.isEmpty() || expire(key);
+        }
+
+        Request update = script(UPDATE_SCRIPT, key)
+                .arg(previous.size())
+                .arg(previous.isEmpty() ? "" : previous.get(previous.size() - 1))
+                .arg(ttlMillis)
+                .arg(kept)
+                .arg(dropped);
+        for (String message : updated.subList(retained, updated.size())) {
+            update.arg(message);
+        }
+        Response response = ds.getRedis().send(update).await().atMost(timeout);
+        if (response.toInteger() == 0) {
+            LOG.debugf("Chat memory '%s' was modified concurrently, rewriting it", key);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Resets the time to live of the conversation
+     *
+     * @return {@code false} if the list does not exist in Redis anymore
+     */
+    private boolean expire(String key) {
+        Request expire = Request.cmd(Command.PEXPIRE).arg(key).arg(ttlMillis);
+        Response response = ds.getRedis().send(expire).await().atMost(timeout);
+        if (response.toInteger() == 0) {
+            LOG.debugf("Chat memory '%s' was deleted concurrently, rewriting it", key);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return whether {@code previous} from {@code from} is a prefix of {@code updated} from {@code offset}
+     */
+    private static boolean startsWith(List<String> updated, int offset, List<String> previous, int from) {
+        if (previous.size() - from > updated.size() - offset) {
+            return false;
+        }
+        for (int i = from; i < previous.size(); i++) {
+            if (!previous.get(i).equals(updated.get(offset + i - from))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Request script(String script, String key) {
+        return Request.cmd(Command.EVAL).arg(script).arg(1).arg(key);
+    }
+
+    private String key(Object memoryId) {
+        return prefix + memoryId;
+    }
+
+    private Snapshot snapshot(String key) {
+        synchronized (snapshots) {
+            return snapshots.get(key);
+        }
+    }
+
+    private void remember(String key, Snapshot snapshot) {
+        synchronized (snapshots) {
+            snapshots.put(key, snapshot);
+            if (snapshots.size() > localCacheMaxEntries) {
+                snapshots.remove(snapshots.keySet().iterator().next());
+            }
+        }
+    }
+
+    private static String toJson(ChatMessage message) {
+        try {
+            return QuarkusJsonCodecFactory.ObjectMapperHolder.MAPPER.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static ChatMessage fromJson(String message) {
+        try {
+            return QuarkusJsonCodecFactory.ObjectMapperHolder.MAPPER.readValue(message, ChatMessage.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * The last known content of a conversation in Redis
+     */
+    private static final class Snapshot {
+        private final List<String> messages;
+        private final long createdAt;
+
+        private Snapshot(List<String> messages) {
+            this.messages = Collections.unmodifiableList(messages);
+            this.createdAt = System.nanoTime();
+        }
+    }
+
+    public static class Builder {
+
+        private ReactiveRedisDataSource dataSource;
+        private String prefix = "chat-memory:";
+        private Duration ttl;
+        private Duration readCacheTtl;
+        private int localCacheMaxEntries = 10_000;
+        private Duration timeout;
+
+        public Builder dataSource(ReactiveRedisDataSource dataSource) {
+            this.dataSource = dataSource;
+            return this;
+        }
+
+        public Builder prefix(String prefix) {
+            this.prefix = prefix;
+            return this;
+        }
+
+        public Builder ttl(Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        public Builder readCacheTtl(Duration readCacheTtl) {
+            this.readCacheTtl = readCacheTtl;
+            return this;
+        }
+
+        public Builder localCacheMaxEntries(int localCacheMaxEntries) {
+            this.localCacheMaxEntries = localCacheMaxEntries;
+            return this;
+        }
+
+        /**
+         * How long to wait for Redis before failing a call, 10 seconds by default
+         */
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public RedisChatMemoryStore build() {
+            return new RedisChatMemoryStore(dataSource, prefix, ttl, readCacheTtl, localCacheMaxEntries, timeout);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.quarkiverse.langchain4j.redis;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import io.quarkiverse.langchain4j.cache.EmbeddingCache;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+
+/**
+ * An {@link EmbeddingCache} keeping the vectors in Redis, so that the instances of the application share them.
+ * <p>
+ * Each vector is stored as the Base64 encoding of its little-endian floats, under the concatenation of the prefix and the
+ * key of the text. The vectors of a batch are read with a single {@code MGET} and written without waiting for Redis, as
+ * the caller already has them. A lookup Redis does not answer within the timeout fails, so that the vectors are computed
+ * by the model instead.
+ */
+public class RedisEmbeddingCache implements EmbeddingCache {
+
+    private static final Logger LOG = Logger.getLogger(RedisEmbeddingCache.class);
+
+    private final ReactiveRedisDataSource ds;
+    private final String prefix;
+    private final long ttlMillis;
+    private final Duration timeout;
+
+    public RedisEmbeddingCache(ReactiveRedisDataSource ds, String prefix, Duration ttl, Duration timeout) {
+        this.ds = ds;
+        this.prefix = prefix.endsWith(":") ? prefix : prefix + ":";
+        this.ttlMillis = ttl.toMillis();
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Map<String, float[]> getAll(Collection<String> keys) {
+        String[] redisKeys = new String[keys.size()];
+        int i = 0;
+        for (String key : keys) {
+            redisKeys[i++] = prefix + key;
+        }
+        Map<String, String> values = ds.value(String.class).mget(redisKeys).await().atMost(timeout);
+        Map<String, float[]> result = new HashMap<>();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            if (entry.getValue() != null) {
+                result.put(entry.getKey().substring(prefix.length()), decode(entry.getValue()));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void putAll(Map<String, float[]> vectors) {
+        for (Map.Entry<String, float[]> entry : vectors.entrySet()) {
+            ds.value(String.class).psetex(prefix + entry.getKey(), ttlMillis, encode(entry.getValue()))
+                    .subscribe().with(new Consumer<Void>() {
+                        @Override
+                        public void accept(Void ignored) {
+                        }
+                    }, new Consumer<Throwable>() {
+                        @Override
+                        public void accept(Throwable failure) {
+                            LOG.warn("Unable to cache the embedding in Redis", failure);
+                        }
+                    });
+        }
+    }
+
+    private static String encode(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    private static float[] decode(String value) {
+        ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(value)).order(ByteOrder.LITTLE_ENDIAN);
+        float[] vector = new float[buffer.remaining() / Float.BYTES];
+        buffer.asFloatBuffer().get(vector);
+        return vector;
+    }
+}
@@ -0,0 +1,60 @@
+package io.quarkiverse.langchain4j.redis;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessageDeserializer;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import io.quarkiverse.langchain4j.cache.ResponseCache;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+
+/**
+ * A {@link ResponseCache} keeping the responses in Redis, so that the instances of the application share them.
+ * <p>
+ * Each response is stored as a JSON encoded string, under the concatenation of the prefix and the key of the request, and
+ * expires after the configured time to live. Responses are written without waiting for Redis, as the caller already has
+ * the response, and a lookup Redis does not answer within the timeout fails, so that the model is called instead.
+ */
+public class RedisResponseCache implements ResponseCache {
+
+    private static final Logger LOG = Logger.getLogger(RedisResponseCache.class);
+
+    private final ReactiveRedisDataSource ds;
+    private final String prefix;
+    private final long ttlMillis;
+    private final Duration timeout;
+
+    public RedisResponseCache(ReactiveRedisDataSource ds, String prefix, Duration ttl, Duration timeout) {
+        this.ds = ds;
+        this.prefix = prefix.endsWith(":") ? prefix : prefix + ":";
+        this.ttlMillis = ttl.toMillis();
+        this.timeout = timeout;
+    }
+
+    @Override
+    public AiMessage get(String key) {
+        String json = ds.value(String.class).get(prefix + key).await().atMost(timeout);
+        if (json == null) {
+            return null;
+        }
+        return (AiMessage) ChatMessageDeserializer.messageFromJson(json);
+    }
+
+    @Override
+    public void put(String key, AiMessage response) {
+        ds.value(String.class).psetex(prefix + key, ttlMillis, ChatMessageSerializer.messageToJson(response))
+                .subscribe().with(new Consumer<Void>() {
+                    @Override
+                    public void accept(Void ignored) {
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable failure) {
+                        LOG.warn("Unable to cache the response in Redis", failure);
+                    }
+                });
+    }
+}
@@ -2,11 +2,13 @@ package io.quarkiverse.langchain4j.redis.runtime;
 
 import static io.quarkus.runtime.annotations.ConfigPhase.RUN_TIME;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
 import io.quarkus.redis.datasource.search.DistanceMetric;
 import io.quarkus.redis.datasource.search.VectorAlgorithm;
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
@@ -74,4 +76,110 @@ public interface RedisEmbeddingStoreConfig {
     @WithDefault("HNSW")
     VectorAlgorithm vectorAlgorithm();
 
+    /**
+     * Configuration of the Redis chat memory store, which is only used if
+     * {@code quarkus.langchain4j.redis.chat-memory-store.enabled} is {@code true}.
+     */
+    ChatMemoryStoreConfig chatMemoryStore();
+
+    /**
+     * Configuration of the Redis response cache, which is only used if
+     * {@code quarkus.langchain4j.redis.response-cache.enabled} is {@code true}.
+     */
+    ResponseCacheConfig responseCache();
+
+    /**
+     * Configuration of the Redis embedding cache, which is only used if
+     * {@code quarkus.langchain4j.redis.embedding-cache.enabled} is {@code true}.
+     */
+    EmbeddingCacheConfig embeddingCache();
+
+    @ConfigGroup
+    interface ChatMemoryStoreConfig {
+
+        /**
+         * Prefix of the keys of the lists holding the conversations, which are stored under the concatenation of this prefix
+         * and the memory ID.
+         * <p>
+         * If the configured prefix does not ends with {@code :}, it will be added automatically to follow the Redis
+         * convention.
+         */
+        @WithDefault("chat-memory:")
+        String prefix();
+
+        /**
+         * How long a conversation is kept in Redis after it was last updated. A value of {@code 0} keeps conversations
+         * until they are deleted.
+         */
+        @WithDefault("1H")
+        Duration ttl();
+
+        /**
+         * How long the messages of a conversation read from or written to Redis are served from the local copy of the
+         * conversation. A value of {@code 0} reads the messages from Redis every time.
+         */
+        @WithDefault("1S")
+        Duration readCacheTtl();
+
+        /**
+         * The maximum number of conversations whose last known content is kept locally, to only send the new messages to
+         * Redis when a conversation is updated.
+         */
+        @WithDefault("10000")
+        int localCacheMaxEntries();
+
+        /**
+         * How long to wait for Redis when reading or writing a conversation, before failing the call
+         */
+        @WithDefault("10S")
+        Duration timeout();
+    }
+
+    @ConfigGroup
+    interface ResponseCacheConfig {
+
+        /**
+         * Prefix of the keys of the cached responses, which are stored under the concatenation of this prefix and the hash
+         * of the request. They expire after {@code quarkus.langchain4j.response-cache.ttl}.
+         * <p>
+         * If the configured prefix does not ends with {@code :}, it will be added automatically to follow the Redis
+         * convention.
+         */
+        @WithDefault("response-cache:")
+        String prefix();
+
+        /**
+         * How long to wait for Redis when looking up a response. The model is called instead when Redis does not answer in
+         * time.
+         */
+        @WithDefault("1S")
+        Duration timeout();
+    }
+
+    @ConfigGroup
+    interface EmbeddingCacheConfig {
+
+        /**
+         * Prefix of the keys of the cached vectors, which are stored under the concatenation of this prefix and the hash of
+         * the embedding model and of the text.
+         * <p>
+         * If the configured prefix does not ends with {@code :}, it will be added automatically to follow the Redis
+         * convention.
+         */
+        @WithDefault("embedding-cache:")
+        String prefix();
+
+        /**
+         * How long a vector is kept after it was cached
+         */
+        @WithDefault("7D")
+        Duration ttl();
+
+        /**
+         * How long to wait for Redis when looking up vectors. The model computes them instead when Redis does not answer in
+         * time.
+         */
+        @WithDefault("1S")
+        Duration timeout();
+    }
 }
@@ -5,7 +5,11 @@ import java.util.function.Function;
 
 import jakarta.enterprise.inject.Default;
 
+import io.quarkiverse.langchain4j.redis.RedisChatMemoryStore;
+import io.quarkiverse.langchain4j.redis.RedisEmbeddingCache;
 import io.quarkiverse.langchain4j.redis.RedisEmbeddingStore;
+import io.quarkiverse.langchain4j.redis.RedisResponseCache;
+import io.quarkiverse.langchain4j.runtime.aiservice.ResponseCacheConfig;
 import io.quarkus.arc.SyntheticCreationalContext;
 import io.quarkus.redis.client.RedisClientName;
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
@@ -45,4 +49,65 @@ public class RedisEmbeddingStoreRecorder {
             }
         };
     }
+
+    public Function<SyntheticCreationalContext<RedisChatMemoryStore>, RedisChatMemoryStore> chatMemoryStoreFunction(
+            RedisEmbeddingStoreConfig config, String clientName) {
+        return new Function<>() {
+            @Override
+            public RedisChatMemoryStore apply(SyntheticCreationalContext<RedisChatMemoryStore> context) {
+                ReactiveRedisDataSource dataSource;
+                if (clientName == null) {
+                    dataSource = context.getInjectedReference(ReactiveRedisDataSource.class, new Default.Literal());
+                } else {
+                    dataSource = context.getInjectedReference(ReactiveRedisDataSource.class,
+                            new RedisClientName.Literal(clientName));
+                }
+                RedisEmbeddingStoreConfig.ChatMemoryStoreConfig storeConfig = config.chatMemoryStore();
+                return RedisChatMemoryStore.builder()
+                        .dataSource(dataSource)
+                        .prefix(storeConfig.prefix())
+                        .ttl(storeConfig.ttl())
+                        .readCacheTtl(storeConfig.readCacheTtl())
+                        .localCacheMaxEntries(storeConfig.localCacheMaxEntries())
+                        .timeout(storeConfig.timeout())
+                        .build();
+            }
+        };
+    }
+
+    public Function<SyntheticCreationalContext<RedisResponseCache>, RedisResponseCache> responseCacheFunction(
+            RedisEmbeddingStoreConfig config, ResponseCacheConfig responseCacheConfig, String clientName) {
+        return new Function<>() {
+            @Override
+            public RedisResponseCache apply(SyntheticCreationalContext<RedisResponseCache> context) {
+                ReactiveRedisDataSource dataSource;
+                if (clientName == null) {
+                    dataSource = context.getInjectedReference(ReactiveRedisDataSource.class, new Default.Literal());
+                } else {
+                    dataSource = context.getInjectedReference(ReactiveRedisDataSource.class,
+                            new RedisClientName.Literal(clientName));
+                }
+                return new RedisResponseCache(dataSource, config.responseCache().prefix(), responseCacheConfig.ttl(),
+                        config.responseCache().timeout());
+            }
+        };
+    }
+
+    public Function<SyntheticCreationalContext<RedisEmbeddingCache>, RedisEmbeddingCache> embeddingCacheFunction(
+            RedisEmbeddingStoreConfig config, String clientName) {
+        return new Function<>() {
+            @Override
+            public RedisEmbeddingCache apply(SyntheticCreationalContext<RedisEmbeddingCache> context) {
+                ReactiveRedisDataSource dataSource;
+                if (clientName == null) {
+                    dataSource = context.getInjectedReference(ReactiveRedisDataSource.class, new Default.Literal());
+                } else {
+                    dataSource = context.getInjectedReference(ReactiveRedisDataSource.class,
+                            new RedisClientName.Literal(clientName));
+                }
+                RedisEmbeddingStoreConfig.EmbeddingCacheConfig cacheConfig = config.embeddingCache();
+                return new RedisEmbeddingCache(dataSource, cacheConfig.prefix(), cacheConfig.ttl(), cacheConfig.timeout());
+            }
+        };
+    }
 }
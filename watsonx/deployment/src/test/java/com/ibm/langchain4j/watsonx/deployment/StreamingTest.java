@@ -0,0 +1,144 @@
+package com.ibm.langchain4j.watsonx.deployment;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.Response;
+import io.quarkiverse.langchain4j.watsonx.bean.Parameters;
+import io.quarkiverse.langchain4j.watsonx.bean.TextGenerationRequest;
+import io.quarkiverse.langchain4j.watsonx.client.WatsonRestApi;
+import io.quarkiverse.langchain4j.watsonx.runtime.config.Langchain4jWatsonConfig;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StreamingTest {
+
+    static WireMockServer watsonxServer;
+    static WireMockServer iamServer;
+    static ObjectMapper mapper;
+
+    @Inject
+    Langchain4jWatsonConfig langchain4jWatsonConfig;
+
+    @Inject
+    StreamingChatLanguageModel model;
+
+    static WireMockUtil mockServers;
+
+    @RegisterExtension
+    static QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .overrideRuntimeConfigKey("quarkus.langchain4j.watsonx.base-url", WireMockUtil.URL_WATSONX_SERVER)
+            .overrideRuntimeConfigKey("quarkus.langchain4j.watsonx.iam.base-url", WireMockUtil.URL_IAM_SERVER)
+            .overrideRuntimeConfigKey("quarkus.langchain4j.watsonx.api-key", WireMockUtil.API_KEY)
+            .overrideRuntimeConfigKey("quarkus.langchain4j.watsonx.project-id", WireMockUtil.PROJECT_ID)
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClass(WireMockUtil.class));
+
+    @BeforeAll
+    static void beforeAll() {
+        mapper = WatsonRestApi.objectMapper(new ObjectMapper());
+
+        watsonxServer = new WireMockServer(options().port(WireMockUtil.PORT_WATSONX_SERVER));
+        watsonxServer.start();
+
+        iamServer = new WireMockServer(options().port(WireMockUtil.PORT_IAM_SERVER));
+        iamServer.start();
+
+        mockServers = new WireMockUtil(watsonxServer, iamServer);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        watsonxServer.stop();
+        iamServer.stop();
+    }
+
+    @Test
+    void generate() throws Exception {
+        var config = langchain4jWatsonConfig.defaultConfig();
+
+        Parameters parameters = Parameters.builder()
+                .decodingMethod(config.chatModel().decodingMethod())
+                .temperature(config.chatModel().temperature())
+                .minNewTokens(config.chatModel().minNewTokens())
+                .maxNewTokens(config.chatModel().maxNewTokens())
+                .build();
+
+        TextGenerationRequest body = new TextGenerationRequest(config.chatModel().modelId(), config.projectId(),
+                "TEST\n", parameters);
+
+        mockServers.mockIAMBuilder(200)
+                .response(WireMockUtil.BEARER_TOKEN, new Date())
+                .build();
+
+        mockServers.mockWatsonStreamingBuilder(200)
+                .body(mapper.writeValueAsString(body))
+                .response(
+                        """
+                                id: 1
+                                event: message
+                                data: {"model_id":"meta-llama/llama-2-70b-chat","results":[{"generated_text":"","generated_token_count":0,"input_token_count":50,"stop_reason":"not_finished"}]}
+
+                                id: 2
+                                event: message
+                                data: {"model_id":"meta-llama/llama-2-70b-chat","results":[{"generated_text":"Hello","generated_token_count":1,"input_token_count":0,"stop_reason":"not_finished"}]}
+
+                                id: 3
+                                event: message
+                                data: {"model_id":"meta-llama/llama-2-70b-chat","results":[{"generated_text":" world","generated_token_count":2,"input_token_count":0,"stop_reason":"not_finished"}]}
+
+                                id: 4
+                                event: message
+                                data: {"model_id":"meta-llama/llama-2-70b-chat","results":[{"generated_text":"","generated_token_count":3,"input_token_count":0,"stop_reason":"eos_token"}]}
+
+                                """)
+                .build();
+
+        List<String> tokens = new CopyOnWriteArrayList<>();
+        CompletableFuture<Response<AiMessage>> future = new CompletableFuture<>();
+        model.generate("TEST", new StreamingResponseHandler<>() {
+
+            @Override
+            public void onNext(String token) {
+                tokens.add(token);
+            }
+
+            @Override
+            public void onComplete(Response<AiMessage> response) {
+                future.complete(response);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                future.completeExceptionally(error);
+            }
+        });
+
+        Response<AiMessage> response = future.get(10, TimeUnit.SECONDS);
+        assertEquals(List.of("Hello", " world"), tokens);
+        assertEquals("Hello world", response.content().text());
+        assertEquals(50, response.tokenUsage().inputTokenCount());
+        assertEquals(3, response.tokenUsage().outputTokenCount());
+        assertEquals(FinishReason.STOP, response.finishReason());
+    }
+}
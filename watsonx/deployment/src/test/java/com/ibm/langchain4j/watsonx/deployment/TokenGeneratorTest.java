@@ -0,0 +1,166 @@
+package com.ibm.langchain4j.watsonx.deployment;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import io.quarkiverse.langchain4j.watsonx.TokenGenerator;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TokenGeneratorTest {
+
+    static WireMockServer watsonxServer;
+    static WireMockServer iamServer;
+    static WireMockUtil mockServers;
+
+    @Inject
+    ChatLanguageModel model;
+
+    @RegisterExtension
+    static QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .overrideRuntimeConfigKey("quarkus.langchain4j.watsonx.base-url", WireMockUtil.URL_WATSONX_SERVER)
+            .overrideRuntimeConfigKey("quarkus.langchain4j.watsonx.iam.base-url", WireMockUtil.URL_IAM_SERVER)
+            .overrideRuntimeConfigKey("quarkus.langchain4j.watsonx.api-key", WireMockUtil.API_KEY)
+            .overrideRuntimeConfigKey("quarkus.langchain4j.watsonx.project-id", WireMockUtil.PROJECT_ID)
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClass(WireMockUtil.class));
+
+    @BeforeAll
+    static void beforeAll() {
+        watsonxServer = new WireMockServer(options().port(WireMockUtil.PORT_WATSONX_SERVER));
+        watsonxServer.start();
+
+        iamServer = new WireMockServer(options().port(WireMockUtil.PORT_IAM_SERVER));
+        iamServer.start();
+
+        mockServers = new WireMockUtil(watsonxServer, iamServer);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        watsonxServer.stop();
+        iamServer.stop();
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        watsonxServer.resetAll();
+        iamServer.resetAll();
+    }
+
+    @Test
+    void concurrent_requests_generate_a_single_token() throws Exception {
+
+        // The requests are suspended by the filter while the token is generated.
+        mockServers.mockIAMBuilder(200)
+                .response(WireMockUtil.BEARER_TOKEN, new Date(System.currentTimeMillis() + 3_600_000))
+                .delay(500)
+                .build();
+
+        mockServers.mockWatsonBuilder(200)
+                .response("""
+                            {
+                                "model_id": "meta-llama/llama-2-70b-chat",
+                                "created_at": "2024-01-21T17:06:14.052Z",
+                                "results": [
+                                    {
+                                        "generated_text": "AI Response",
+                                        "generated_token_count": 5,
+                                        "input_token_count": 50,
+                                        "stop_reason": "eos_token",
+                                        "seed": 2123876088
+                                    }
+                                ]
+                            }
+                        """)
+                .build();
+
+        int requests = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            List<Future<String>> responses = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                responses.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() {
+                        return model.generate("message");
+                    }
+                }));
+            }
+            for (Future<String> response : responses) {
+                assertEquals("AI Response", response.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        iamServer.verify(1, postRequestedFor(urlEqualTo(WireMockUtil.URL_IAM_GENERATE_TOKEN)));
+        watsonxServer.verify(requests,
+                postRequestedFor(urlEqualTo(WireMockUtil.URL_WATSONX_CHAT_API.formatted(WireMockUtil.VERSION))));
+    }
+
+    @Test
+    void token_is_refreshed_before_it_expires() throws Exception {
+
+        // The expiration is in seconds, the first token expires exactly 5 seconds after the next whole second.
+        long expiresAt = (TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 6) * 1000;
+
+        mockServers.mockIAMBuilder(200)
+                .scenario(Scenario.STARTED, "refreshed")
+                .response("first_token", new Date(expiresAt))
+                .build();
+
+        mockServers.mockIAMBuilder(200)
+                .scenario("refreshed", "refreshed")
+                .response("second_token", new Date(System.currentTimeMillis() + 3_600_000))
+                .build();
+
+        TokenGenerator generator = new TokenGenerator(new URL(WireMockUtil.URL_IAM_SERVER), Duration.ofSeconds(10),
+                WireMockUtil.GRANT_TYPE, WireMockUtil.API_KEY);
+
+        assertEquals("first_token", generator.generate());
+        long generatedAt = System.currentTimeMillis();
+        assertEquals("first_token", generator.cachedToken());
+        iamServer.verify(1, postRequestedFor(urlEqualTo(WireMockUtil.URL_IAM_GENERATE_TOKEN)));
+
+        // Once 80% of the lifetime of the token has passed, it is still returned while the new one is generated.
+        long refreshAt = (long) (generatedAt + (expiresAt - generatedAt) * 0.8);
+        Thread.sleep(refreshAt - System.currentTimeMillis() + 100);
+        assertEquals("first_token", generator.cachedToken());
+
+        // The requests use the new token as soon as it is generated.
+        long deadline = System.currentTimeMillis() + 10_000;
+        String token = generator.cachedToken();
+        while (token.equals("first_token") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            token = generator.cachedToken();
+        }
+        assertEquals("second_token", token);
+        iamServer.verify(2, postRequestedFor(urlEqualTo(WireMockUtil.URL_IAM_GENERATE_TOKEN)));
+    }
+}
@@ -20,6 +20,7 @@ public class WireMockUtil {
     public static final int PORT_WATSONX_SERVER = 8089;
     public static final String URL_WATSONX_SERVER = "http://localhost:8089";
     public static final String URL_WATSONX_CHAT_API = "/ml/v1-beta/generation/text?version=%s";
+    public static final String URL_WATSONX_CHAT_STREAMING_API = "/ml/v1-beta/generation_stream?version=%s";
 
     public static final int PORT_IAM_SERVER = 8090;
     public static final String URL_IAM_SERVER = "http://localhost:8090";
@@ -186,6 +187,11 @@ public class WireMockUtil {
         return new WatsonBuilder(watsonServer, status, version);
     }
 
+    public WatsonBuilder mockWatsonStreamingBuilder(int status) {
+        return new WatsonBuilder(watsonServer, status, VERSION, URL_WATSONX_CHAT_STREAMING_API)
+                .responseMediaType(MediaType.SERVER_SENT_EVENTS);
+    }
+
     public static class WatsonBuilder {
 
         private MappingBuilder builder;
@@ -196,9 +202,13 @@ public class WireMockUtil {
         private WireMockServer watsonServer;
 
         protected WatsonBuilder(WireMockServer watsonServer, int status, String version) {
+            this(watsonServer, status, version, WireMockUtil.URL_WATSONX_CHAT_API);
+        }
+
+        protected WatsonBuilder(WireMockServer watsonServer, int status, String version, String url) {
             this.watsonServer = watsonServer;
             this.status = status;
-            this.builder = post(urlEqualTo(WireMockUtil.URL_WATSONX_CHAT_API.formatted(version)));
+            this.builder = post(urlEqualTo(url.formatted(version)));
         }
 
         protected WatsonBuilder(WireMockServer watsonServer, int status) {
@@ -253,6 +263,7 @@ public class WireMockUtil {
         private String responseMediaType = MediaType.APPLICATION_JSON;
         private String response = "";
         private int status;
+        private int delay;
         private WireMockServer iamServer;
 
         protected IAMBuilder(WireMockServer iamServer, int status) {
@@ -293,6 +304,11 @@ public class WireMockUtil {
             return this;
         }
 
+        public IAMBuilder delay(int milliseconds) {
+            this.delay = milliseconds;
+            return this;
+        }
+
         public void build() {
             iamServer.stubFor(
                     builder.withHeader("Content-Type", equalTo(MediaType.APPLICATION_FORM_URLENCODED))
@@ -301,6 +317,7 @@ public class WireMockUtil {
                             .willReturn(aResponse()
                                     .withStatus(status)
                                     .withHeader("Content-Type", responseMediaType)
+                                    .withFixedDelay(delay)
                                     .withBody(response)));
         }
     }
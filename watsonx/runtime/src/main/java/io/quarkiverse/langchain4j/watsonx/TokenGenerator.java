@@ -2,22 +2,39 @@ package io.quarkiverse.langchain4j.watsonx;
 
 import java.net.URL;
 import java.time.Duration;
-import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
 
 import io.quarkiverse.langchain4j.watsonx.bean.IdentityTokenRequest;
 import io.quarkiverse.langchain4j.watsonx.bean.IdentityTokenResponse;
 import io.quarkiverse.langchain4j.watsonx.client.IAMRestApi;
 import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
-
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Caches the bearer token generated by the IAM service.
+ * <p>
+ * The cached token is read without locking. When 80% of its lifetime has passed, the request reading it triggers the
+ * generation of a new one in the background, so that the requests do not wait for the IAM service while the token is still
+ * valid. Only one token is generated at a time, the requests needing a token while it is generated wait for it.
+ */
 public class TokenGenerator {
 
-    private static final ReentrantLock lock = new ReentrantLock();
+    private static final Logger log = Logger.getLogger(TokenGenerator.class);
+
+    private static final double REFRESH_RATIO = 0.8;
+
     private final IAMRestApi client;
     private final String apiKey;
     private final String grantType;
-    private IdentityTokenResponse token;
+    private volatile CachedToken token;
+    // the generation in progress, if any
+    private final AtomicReference<CompletableFuture<CachedToken>> generation = new AtomicReference<>();
 
     public TokenGenerator(URL url, Duration timeout, String grantType, String apiKey) {
 
@@ -31,27 +48,88 @@ public class TokenGenerator {
         this.apiKey = apiKey;
     }
 
+    /**
+     * Returns a valid token, waiting for a new one to be generated if needed.
+     */
     public String generate() {
 
+        String accessToken = cachedToken();
+        if (accessToken != null)
+            return accessToken;
+
         try {
+            return generation().join().accessToken();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a valid token without blocking the calling thread.
+     */
+    public Uni<String> generateAsync() {
 
-            lock.lock();
+        String accessToken = cachedToken();
+        if (accessToken != null)
+            return Uni.createFrom().item(accessToken);
 
-            if (token != null) {
+        return Uni.createFrom().completionStage(generation()).map(CachedToken::accessToken);
+    }
 
-                Date expiration = new Date(TimeUnit.SECONDS.toMillis(token.expiration()));
-                Date now = new Date();
+    /**
+     * @return the cached token if it is still valid, {@code null} otherwise
+     */
+    public String cachedToken() {
 
-                if (expiration.after(now))
-                    return token.accessToken();
-            }
+        CachedToken current = token;
+        if (current == null)
+            return null;
 
-            token = client.generateBearer(new IdentityTokenRequest(grantType, apiKey));
-            return token.accessToken();
+        long now = System.currentTimeMillis();
+        if (now >= current.expiresAt())
+            return null;
 
-        } finally {
-            lock.unlock();
+        if (now >= current.refreshAt()) {
+            // the token is still valid, the new one is not waited for
+            generation();
         }
+        return current.accessToken();
     }
 
+    private CompletableFuture<CachedToken> generation() {
+
+        CompletableFuture<CachedToken> future = new CompletableFuture<>();
+        CompletableFuture<CachedToken> inProgress = generation.compareAndExchange(null, future);
+        if (inProgress != null)
+            return inProgress;
+
+        long start = System.currentTimeMillis();
+        client.asyncGenerateBearer(new IdentityTokenRequest(grantType, apiKey))
+                .subscribe().with(
+                        new Consumer<IdentityTokenResponse>() {
+                            @Override
+                            public void accept(IdentityTokenResponse response) {
+                                long expiresAt = TimeUnit.SECONDS.toMillis(response.expiration());
+                                long refreshAt = start + (long) ((expiresAt - start) * REFRESH_RATIO);
+                                CachedToken generated = new CachedToken(response.accessToken(), refreshAt, expiresAt);
+                                token = generated;
+                                generation.set(null);
+                                future.complete(generated);
+                            }
+                        },
+                        new Consumer<Throwable>() {
+                            @Override
+                            public void accept(Throwable failure) {
+                                log.debug("Unable to generate the IAM token", failure);
+                                generation.set(null);
+                                future.completeExceptionally(failure);
+                            }
+                        });
+        return future;
+    }
+
+    private record CachedToken(String accessToken, long refreshAt, long expiresAt) {
+    }
 }
@@ -1,46 +1,53 @@
 package io.quarkiverse.langchain4j.watsonx;
 
-import java.util.Optional;
-import java.util.concurrent.Callable;
-
-import jakarta.ws.rs.WebApplicationException;
+import java.time.Duration;
 
 import io.quarkiverse.langchain4j.watsonx.bean.WatsonError;
 import io.quarkiverse.langchain4j.watsonx.exception.WatsonException;
 
 public class Utility {
 
-    public static <T> T retryOn(Callable<T> action) {
+    /**
+     * Whether the request can succeed if sent again: the bearer token expired, the rate limit has been hit or the server
+     * failed.
+     */
+    public static boolean isRetryable(Throwable failure) {
+
+        if (!(failure instanceof WatsonException e))
+            return false;
 
-        int maxAttempts = 1;
-        for (int i = 0; i <= maxAttempts; i++) {
+        if (isTokenExpired(e))
+            return true;
 
-            try {
+        return e.statusCode() != null && (e.statusCode() == 429 || e.statusCode() >= 500);
+    }
 
-                return action.call();
+    /**
+     * How long the API asked to wait before sending new requests, {@code null} if it did not.
+     */
+    public static Duration retryAfter(Throwable failure) {
 
-            } catch (WatsonException e) {
+        if (!(failure instanceof WatsonException e))
+            return null;
+
+        return e.retryAfter();
+    }
 
-                if (e.details() == null || e.details().errors() == null || e.details().errors().size() == 0)
-                    throw e;
+    /**
+     * Whether the request failed because the bearer token expired, in which case it can be sent again with a new token.
+     */
+    public static boolean isTokenExpired(Throwable failure) {
 
-                Optional<WatsonError.Code> optional = Optional.empty();
-                for (WatsonError.Error error : e.details().errors()) {
-                    if (WatsonError.Code.AUTHENTICATION_TOKEN_EXPIRED.equals(error.code())) {
-                        optional = Optional.of(error.code());
-                        break;
-                    }
-                }
+        if (!(failure instanceof WatsonException e))
+            return false;
 
-                if (!optional.isPresent())
-                    throw e;
+        if (e.details() == null || e.details().errors() == null)
+            return false;
 
-            } catch (WebApplicationException e) {
-                throw e;
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
+        for (WatsonError.Error error : e.details().errors()) {
+            if (WatsonError.Code.AUTHENTICATION_TOKEN_EXPIRED.equals(error.code()))
+                return true;
         }
-        throw new RuntimeException("Failed after " + maxAttempts + " attempts");
+        return false;
     }
 }
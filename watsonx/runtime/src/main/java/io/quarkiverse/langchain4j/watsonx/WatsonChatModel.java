@@ -1,7 +1,5 @@
 package io.quarkiverse.langchain4j.watsonx;
 
-import static io.quarkiverse.langchain4j.watsonx.Utility.retryOn;
-
 import java.net.URL;
 import java.time.Duration;
 import java.util.List;
@@ -12,18 +10,29 @@ import org.jboss.resteasy.reactive.client.api.LoggingScope;
 import dev.langchain4j.agent.tool.ToolSpecification;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
 import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
 import dev.langchain4j.model.output.FinishReason;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
+import io.quarkiverse.langchain4j.runtime.RetryPolicy;
+import io.quarkiverse.langchain4j.runtime.StreamingResponseSubscriber;
 import io.quarkiverse.langchain4j.watsonx.bean.Parameters;
 import io.quarkiverse.langchain4j.watsonx.bean.TextGenerationRequest;
+import io.quarkiverse.langchain4j.watsonx.bean.TextGenerationResponse;
 import io.quarkiverse.langchain4j.watsonx.bean.TextGenerationResponse.Result;
 import io.quarkiverse.langchain4j.watsonx.client.WatsonRestApi;
 import io.quarkiverse.langchain4j.watsonx.client.filter.BearerRequestFilter;
 import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
 
-public class WatsonChatModel implements ChatLanguageModel {
+/**
+ * A watsonx.ai model generating text either at once, as a {@link ChatLanguageModel}, or token by token, as a
+ * {@link StreamingChatLanguageModel}.
+ */
+public class WatsonChatModel implements ChatLanguageModel, StreamingChatLanguageModel {
+
+    private static final String NOT_FINISHED = "not_finished";
 
     private final String modelId;
     private final String version;
@@ -38,6 +47,7 @@ public class WatsonChatModel implements ChatLanguageModel {
     private final Integer topK;
     private Double repetitionPenalty;
     private final WatsonRestApi client;
+    private final RetryPolicy retryPolicy;
 
     public WatsonChatModel(Builder config) {
 
@@ -58,6 +68,11 @@ public class WatsonChatModel implements ChatLanguageModel {
         }
 
         this.client = builder.build(WatsonRestApi.class);
+        this.retryPolicy = RetryPolicy.builder()
+                .maxRetries(config.maxRetries)
+                .retryable(Utility::isRetryable)
+                .retryAfter(Utility::retryAfter)
+                .build();
         this.modelId = config.modelId;
         this.version = config.version;
         this.projectId = config.projectId;
@@ -79,22 +94,10 @@ public class WatsonChatModel implements ChatLanguageModel {
     @Override
     public Response<AiMessage> generate(List<ChatMessage> messages) {
 
-        Parameters parameters = Parameters.builder()
-                .decodingMethod(decodingMethod)
-                .minNewTokens(minNewTokens)
-                .maxNewTokens(maxNewTokens)
-                .randomSeed(randomSeed)
-                .stopSequences(stopSequences)
-                .temperature(temperature)
-                .topP(topP)
-                .topK(topK)
-                .repetitionPenalty(repetitionPenalty)
-                .build();
-
-        TextGenerationRequest request = new TextGenerationRequest(modelId, projectId, toInput(messages), parameters);
+        TextGenerationRequest request = toRequest(messages);
 
         // The response for will be always one.
-        Result result = retryOn(() -> client.chat(request, version)).results().get(0);
+        Result result = retryPolicy.apply(client.asyncChat(request, version)).await().indefinitely().results().get(0);
 
         var finishReason = toFinishReason(result.stopReason());
         var content = AiMessage.from(result.generatedText());
@@ -115,6 +118,63 @@ public class WatsonChatModel implements ChatLanguageModel {
         throw new IllegalArgumentException("Tools are currently not supported for Watsonx models");
     }
 
+    @Override
+    public void generate(List<ChatMessage> messages, StreamingResponseHandler<AiMessage> handler) {
+
+        new StreamingResponseSubscriber<TextGenerationResponse>(handler) {
+
+            private String stopReason;
+
+            @Override
+            protected String onEvent(TextGenerationResponse response) {
+                if (response.results() == null || response.results().isEmpty())
+                    return null;
+
+                Result result = response.results().get(0);
+                countTokens(result.inputTokenCount(), result.generatedTokenCount());
+                if (result.stopReason() != null && !NOT_FINISHED.equals(result.stopReason()))
+                    stopReason = result.stopReason();
+                return result.generatedText();
+            }
+
+            @Override
+            protected Response<AiMessage> toResponse(AiMessage message) {
+                return Response.from(message, tokenUsage(), stopReason == null ? null : toFinishReason(stopReason));
+            }
+        }.subscribe(client.streamingChat(toRequest(messages), version)
+                // The request is only sent again if it was rejected, so before any token is received.
+                .onFailure(Utility::isTokenExpired).retry().atMost(1));
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications,
+            StreamingResponseHandler<AiMessage> handler) {
+        throw new IllegalArgumentException("Tools are currently not supported for Watsonx models");
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, ToolSpecification toolSpecification,
+            StreamingResponseHandler<AiMessage> handler) {
+        throw new IllegalArgumentException("Tools are currently not supported for Watsonx models");
+    }
+
+    private TextGenerationRequest toRequest(List<ChatMessage> messages) {
+
+        Parameters parameters = Parameters.builder()
+                .decodingMethod(decodingMethod)
+                .minNewTokens(minNewTokens)
+                .maxNewTokens(maxNewTokens)
+                .randomSeed(randomSeed)
+                .stopSequences(stopSequences)
+                .temperature(temperature)
+                .topP(topP)
+                .topK(topK)
+                .repetitionPenalty(repetitionPenalty)
+                .build();
+
+        return new TextGenerationRequest(modelId, projectId, toInput(messages), parameters);
+    }
+
     private String toInput(List<ChatMessage> messages) {
         StringBuilder builder = new StringBuilder();
         for (ChatMessage message : messages) {
@@ -166,6 +226,7 @@ public class WatsonChatModel implements ChatLanguageModel {
         public boolean logResponses;
         public boolean logRequests;
         private TokenGenerator tokenGenerator;
+        private int maxRetries = 3;
 
         public Builder modelId(String modelId) {
             this.modelId = modelId;
@@ -257,6 +318,14 @@ public class WatsonChatModel implements ChatLanguageModel {
             return this;
         }
 
+        /**
+         * How many times a request failing because of an expired token, the rate limit or a server error is retried
+         */
+        public Builder maxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
         public WatsonChatModel build() {
             return new WatsonChatModel(this);
         }
@@ -2,8 +2,13 @@ package io.quarkiverse.langchain4j.watsonx.bean;
 
 import java.util.List;
 
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
 public record TextGenerationResponse(List<Result> results) {
 
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
     public record Result(
             String generatedText,
             int generatedTokenCount,
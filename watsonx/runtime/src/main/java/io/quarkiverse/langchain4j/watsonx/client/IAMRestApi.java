@@ -18,6 +18,7 @@ import io.quarkiverse.langchain4j.watsonx.bean.IdentityTokenRequest;
 import io.quarkiverse.langchain4j.watsonx.bean.IdentityTokenResponse;
 import io.quarkus.rest.client.reactive.ClientExceptionMapper;
 import io.quarkus.rest.client.reactive.jackson.ClientObjectMapper;
+import io.smallrye.mutiny.Uni;
 
 @Path("")
 @Consumes(MediaType.APPLICATION_FORM_URLENCODED)
@@ -28,6 +29,10 @@ public interface IAMRestApi {
     @Path("identity/token")
     IdentityTokenResponse generateBearer(IdentityTokenRequest request);
 
+    @POST
+    @Path("identity/token")
+    Uni<IdentityTokenResponse> asyncGenerateBearer(IdentityTokenRequest request);
+
     @ClientExceptionMapper
     static WebApplicationException toException(jakarta.ws.rs.core.Response response) {
 
@@ -3,6 +3,7 @@ package io.quarkiverse.langchain4j.watsonx.client;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.StreamSupport.stream;
 
+import java.time.Duration;
 import java.util.StringJoiner;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -12,20 +13,25 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.RestStreamElementType;
 import org.jboss.resteasy.reactive.client.api.ClientLogger;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.quarkiverse.langchain4j.QuarkusJsonCodecFactory;
+import io.quarkiverse.langchain4j.runtime.RetryPolicy;
 import io.quarkiverse.langchain4j.watsonx.bean.TextGenerationRequest;
 import io.quarkiverse.langchain4j.watsonx.bean.TextGenerationResponse;
 import io.quarkiverse.langchain4j.watsonx.bean.WatsonError;
 import io.quarkiverse.langchain4j.watsonx.exception.WatsonException;
 import io.quarkus.rest.client.reactive.ClientExceptionMapper;
 import io.quarkus.rest.client.reactive.jackson.ClientObjectMapper;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
@@ -46,8 +52,22 @@ public interface WatsonRestApi {
     @Path("generation/text")
     TextGenerationResponse chat(TextGenerationRequest request, @QueryParam("version") String version) throws WatsonException;
 
+    @POST
+    @Path("generation/text")
+    Uni<TextGenerationResponse> asyncChat(TextGenerationRequest request, @QueryParam("version") String version);
+
+    /**
+     * The generated text is sent as server-sent events, each of them holding the tokens generated since the previous one.
+     */
+    @POST
+    @Path("generation_stream")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    Multi<TextGenerationResponse> streamingChat(TextGenerationRequest request, @QueryParam("version") String version);
+
     @ClientExceptionMapper
     static WatsonException toException(jakarta.ws.rs.core.Response response) {
+        Duration retryAfter = RetryPolicy.parseRetryAfter(response.getHeaderString(HttpHeaders.RETRY_AFTER));
         MediaType mediaType = response.getMediaType();
         if ((mediaType != null) && mediaType.isCompatible(MediaType.APPLICATION_JSON_TYPE)) {
             try {
@@ -59,13 +79,13 @@ public interface WatsonRestApi {
                         joiner.add("%s: %s".formatted(error.code(), error.message()));
                 }
 
-                return new WatsonException(joiner.toString(), response.getStatus(), ex);
+                return new WatsonException(joiner.toString(), response.getStatus(), ex, retryAfter);
             } catch (Exception e) {
-                return new WatsonException(response.readEntity(String.class), response.getStatus());
+                return new WatsonException(response.readEntity(String.class), response.getStatus(), null, retryAfter);
             }
         }
 
-        return new WatsonException(response.readEntity(String.class), response.getStatus());
+        return new WatsonException(response.readEntity(String.class), response.getStatus(), null, retryAfter);
     }
 
     @ClientObjectMapper
@@ -1,13 +1,13 @@
 package io.quarkiverse.langchain4j.watsonx.client.filter;
 
-import java.io.IOException;
+import java.util.function.Consumer;
 
-import jakarta.ws.rs.client.ClientRequestContext;
-import jakarta.ws.rs.client.ClientRequestFilter;
+import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientRequestContext;
+import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientRequestFilter;
 
 import io.quarkiverse.langchain4j.watsonx.TokenGenerator;
 
-public class BearerRequestFilter implements ClientRequestFilter {
+public class BearerRequestFilter implements ResteasyReactiveClientRequestFilter {
 
     private final TokenGenerator tokenGenerator;
 
@@ -16,8 +16,33 @@ public class BearerRequestFilter implements ClientRequestFilter {
     }
 
     @Override
-    public void filter(ClientRequestContext requestContext) throws IOException {
-        String token = tokenGenerator.generate();
+    public void filter(ResteasyReactiveClientRequestContext requestContext) {
+        String token = tokenGenerator.cachedToken();
+        if (token != null) {
+            setToken(requestContext, token);
+            return;
+        }
+
+        // The request is sent once the token is generated, without blocking the thread sending it.
+        requestContext.suspend();
+        tokenGenerator.generateAsync()
+                .subscribe().with(
+                        new Consumer<String>() {
+                            @Override
+                            public void accept(String generated) {
+                                setToken(requestContext, generated);
+                                requestContext.resume();
+                            }
+                        },
+                        new Consumer<Throwable>() {
+                            @Override
+                            public void accept(Throwable failure) {
+                                requestContext.resume(failure);
+                            }
+                        });
+    }
+
+    private static void setToken(ResteasyReactiveClientRequestContext requestContext, String token) {
         requestContext.getHeaders().putSingle("Authorization", "Bearer %s".formatted(token));
     }
 }
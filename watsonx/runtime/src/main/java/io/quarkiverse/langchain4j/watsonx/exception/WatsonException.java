@@ -1,11 +1,14 @@
 package io.quarkiverse.langchain4j.watsonx.exception;
 
+import java.time.Duration;
+
 import io.quarkiverse.langchain4j.watsonx.bean.WatsonError;
 
 public class WatsonException extends RuntimeException {
 
     Integer statusCode;
     WatsonError details;
+    Duration retryAfter;
 
     public WatsonException(String message, Integer statusCode, WatsonError details) {
         super(message);
@@ -13,6 +16,11 @@ public class WatsonException extends RuntimeException {
         this.details = details;
     }
 
+    public WatsonException(String message, Integer statusCode, WatsonError details, Duration retryAfter) {
+        this(message, statusCode, details);
+        this.retryAfter = retryAfter;
+    }
+
     public WatsonException(String message, Integer statusCode) {
         super(message);
         this.statusCode = statusCode;
@@ -36,6 +44,13 @@ public class WatsonException extends RuntimeException {
         return details;
     }
 
+    /**
+     * @return how long the API asked to wait before sending new requests, {@code null} if it did not
+     */
+    public Duration retryAfter() {
+        return retryAfter;
+    }
+
     @Override
     public String toString() {
         return "WatsonException [statusCode=" + statusCode + ", details=" + details + "]";